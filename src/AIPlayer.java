@@ -1,5 +1,6 @@
 import java.awt.*;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
 
 /**
  * Represents an AI Player
@@ -8,50 +9,25 @@ import java.util.ArrayList;
  */
 public class AIPlayer implements Player {
     //AIPlayer constants
+    private static final int MAX_PAYBACK_ROLLS = 60; //The most opponent rolls a Property's fully built rent can take to pay back its price for it to be bought on its own
     private final String NAME; //Stores this Player's name. Used exclusively for UI purposes, has no internal uses
     private final int BOARD_SIZE; //Stores the size of the board
     private final int JAIL_POSITION; //Stores the position of the jail on the board
     private final int SALARY; //The amount of money the Player should get for passing go
     private final int TURNS_IN_JAIL; //The number of turns the Player should be sent to jail for
-    /**
-     * <ul>
-     * <li>PROMPTS[0] should prompt the user if they would like to use a get out of jail free Card</li>
-     * <li>PROMPTS[1] should prompt the user if they would like to Trade another Player for a get out of jail free Card</li>
-     * <li>PROMPTS[2] should prompt the user to pay their bail</li>
-     * <li>PROMPTS[3] should prompt the user if they would like to participate in an auction for a Property</li>
-     * <li>PROMPTS[4] should prompt the user if they would like to buy a Property</li>
-     * <li>PROMPTS[5] should prompt the user if they would like to sell constructions</li>
-     * <li>PROMPTS[6] should prompt the user if they would like to mortgage any Properties</li>
-     * <li>PROMPTS[7] should prompt the user if they would like to un-mortgage any Properties</li>
-     * <li>PROMPTS[8] should prompt the user if they would like to build any constructions</li>
-     * <li>PROMPTS[9] should prompt whoever is the currentOfferer in a Trade if they think the sender should offer any more Properties</li>
-     * <li>PROMPTS[10] should prompt whoever is the currentOfferer in a Trade if they think the sender should remove any Properties</li>
-     * <li>PROMPTS[11] should prompt the whoever is the currentOfferer in a Trade if they think the sender should offer any more Cards</li>
-     * <li>PROMPTS[12] should prompt whoever is the currentOfferer in a Trade if they think the sender should remove any Cards</li>
-     * <li>PROMPTS[13] should prompt whoever is the currentOfferer in a Trade if they think the sender should offer any more money</li>
-     * <li>PROMPTS[14] should prompt whoever is the currentOfferer in a Trade if they think the sender should remove any money</li>
-     * <li>PROMPTS[15] should prompt whoever is the currentOfferer in a Trade if they think the receiver should offer amy more Properties</li>
-     * <li>PROMPTS[16] should prompt whoever is the currentOfferer in a Trade if they think the receiver should remove any Properties</li>
-     * <li>PROMPTS[17] should prompt whoever is the currentOfferer in a Trade if they think the receiver should offer any more Cards</li>
-     * <li>PROMPTS[18] should prompt whoever is the currentOfferer in a Trade if they think the receiver should remove any Cards</li>
-     * <li>PROMPTS[19] should prompt whoever is the currentOfferer in a Trade if they think the receiver should offer any money</li>
-     * <li>PROMPTS[20] should prompt whoever is the currentOfferer in a Trade if they think the receiver should remove any money</li>
-     * <li>PROMPTS[21] should prompt the user to confirm a Trade</li>
-     * <li>PROMPTS[22] should prompt the user if they would like to trade anyone</li>
-     * <li>PROMPTS[23] should prompt the user to sell constructions when they're bankrupt</li>
-     * <li>PROMPTS[24] should prompt the user to mortgage Properties when they're bankrupt</li>
-     * <li>PROMPTS[25] should prompt the user to un-mortgage a Property that they inherit from someone who's bankrupt</li>
-     * <li>PROMPTS[26] should prompt the user to enter how much they want to bid in an Auction</li>
-     * </ul>
-     */
-    private final String[] PROMPTS; //Stores the prompts that are used during the Game
     private final Space[] GAME_BOARD; //Stores the game board. THIS CLASS SHOULD NEVER DIRECTLY MODIFY IT, ONLY READ IT
+    private final String[] COLOR_GROUPS; //Stores the color groups on the game board. THIS CLASS SHOULD ONLY READ IT
     private final Color COLOR; //Stores this Players color
 
     //AIPlayer fields
     private int wallet; //Stores the value of the Player's wallet
     private int position; //Stores the Player's current position on the board
     private int turnsInJail; //Stores the number of turns that the Player has left in jail
+    private BoardIndex boardIndex; //Stores the Game's board index, whose version tells us when values is out of date. This can be null
+    private int[] values; //Stores the values this AI last calculated for each Space. This can be null
+    private long valuesVersion; //Stores the version of boardIndex that values was calculated at
+    private RentAnalytics rentAnalytics; //Stores the expected rents of the board's Properties, which weight values and pick what to build on. This can be null
+    private SplittableRandom random; //Stores the generator used to vary bids. This is replaced by the Game's generator once the AI is in a Game
 
     /**
      * Constructor for AIPlayer
@@ -64,18 +40,17 @@ public class AIPlayer implements Player {
      * @param jailPosition     the position of the jail on the board. This must be on the board
      * @param salary           the salary the Player should be awarded for each turn
      * @param numTurnsInJail   the number of turns the Player should be sent to jail for when they are sent there
-     * @param prompts          the prompts that are used during the Game
      * @param gameBoard        the game board. This is read-only for this Class
      * @param colorGroups      the color groups on the game board. This is read-only for this Class
      * @param color            this Player's color
      * @throws IllegalArgumentException when the passed parameters are invalid
      */
     public AIPlayer(String name, int startingWallet, int startingPosition, int boardSize, int turnsJail,
-                    int jailPosition, int salary, int numTurnsInJail, String[] prompts, Space[] gameBoard,
+                    int jailPosition, int salary, int numTurnsInJail, Space[] gameBoard,
                     String[] colorGroups, Color color) {
         if (name != null && startingWallet >= 0 && startingPosition >= 0 && startingPosition < boardSize &&
                 turnsJail >= 0 && jailPosition >= 0 && jailPosition < boardSize && salary >= 0 && numTurnsInJail >= 0 &&
-                !(turnsJail > 0 && startingPosition != jailPosition) && prompts != null && prompts.length == 27 && gameBoard != null &&
+                !(turnsJail > 0 && startingPosition != jailPosition) && gameBoard != null &&
                 Game.validateGameBoard(gameBoard, colorGroups) && color != null) {
             NAME = name;
             wallet = startingWallet;
@@ -85,56 +60,40 @@ public class AIPlayer implements Player {
             JAIL_POSITION = jailPosition;
             SALARY = salary;
             TURNS_IN_JAIL = numTurnsInJail;
-            PROMPTS = prompts;
             GAME_BOARD = gameBoard;
-            //Stores the color groups on the game board
+            COLOR_GROUPS = colorGroups;
             COLOR = color;
+            boardIndex = null;
+            values = null;
+            valuesVersion = -1;
+            rentAnalytics = null;
+            random = new SplittableRandom();
         } else {
             throw new IllegalArgumentException("An invalid parameter was passed");
         }
     }
 
     /*
-    The following methods are static helper methods that help the AIPlayer recognize prompts and Properties, and assign values
+    The following methods are helper methods that help the AIPlayer recognize prompts and Properties, and assign values
      */
 
     /**
-     * Recognizes a prompt that is given to the AIPlayer
-     *
-     * @param prompts the prompts that are in use this Game
-     * @param prompt  the prompt to read
-     * @return the index of the recognized prompt
-     * @throws IllegalArgumentException when a null parameter is passed, or when the prompt isn't found
-     */
-    private static int recognizePrompt(String[] prompts, String prompt) {
-        if (prompts != null && prompt != null) {
-            for (int i = 0; i < prompts.length; i++) {
-                if (prompts[i] != null) {
-                    if (prompts[i].equals(prompt)) {
-                        return i;
-                    }
-                } else {
-                    throw new IllegalArgumentException("A null prompt was passed");
-                }
-            }
-
-            throw new IllegalArgumentException("The passed prompt was not found in the prompts Array");
-        } else {
-            throw new IllegalArgumentException("A null parameter was passed");
-        }
-    }
-
-    /**
-     * Finds the given Space on the game board
+     * Finds the given Space on the game board. Spaces and Properties know their own index, so this only searches the
+     * board if the passed one hasn't been placed on this board
      *
-     * @param spaces the Space to find
-     * @param space  the game board to read
+     * @param spaces the game board to read
+     * @param space  the Space to find
      * @param <T>    either Space or Property
      * @return the index of the given Space
-     * @throws IllegalArgumentException whne a null parameter is passed, or the given Space can not be found
+     * @throws IllegalArgumentException when a null parameter is passed, or the given Space can not be found
      */
     private static <T> int recognizeSpace(Space[] spaces, T space) {
         if (spaces != null && (space instanceof Property || space instanceof Space)) {
+            int index = space instanceof Space ? ((Space) space).getIndex() : ((Property) space).getIndex();
+            if (index >= 0 && index < spaces.length && (spaces[index] == space || spaces[index].getPROPERTY() == space)) {
+                return index;
+            }
+
             for (int i = 0; i < spaces.length; i++) {
                 if (spaces[i] != null) {
                     if (space instanceof Space) {
@@ -157,58 +116,95 @@ public class AIPlayer implements Player {
     }
 
     /**
-     * Gets the values the AI thinks each Property is worth on the game board
+     * Gets the values the AI thinks each Property is worth on the game board, weighted by the rent analytics if there
+     * are any. This is package-private so GameBenchmark can time it
+     *
+     * @param spaces        the game board to read
+     * @param groups        an index of the game board's color groups. This doesn't need to be attached
+     * @param thisPlayer    this AIPlayer
+     * @param rentAnalytics the expected rents of the board's Properties. This can be null
+     * @return the values the AI thinks each Property is worth
+     */
+    static int[] getValues(Space[] spaces, BoardIndex groups, Player thisPlayer, RentAnalytics rentAnalytics) {
+        int[] result = getValues(spaces, groups, thisPlayer);
+        if (rentAnalytics != null) { //A color group that earns more for its price is worth chasing harder, and giving up less readily
+            for (int i = 0; i < result.length; i++) {
+                if (result[i] > 0) {
+                    int price = spaces[i].getPROPERTY().getPRICE();
+                    double weight = rentAnalytics.getIncomeWeight(i);
+                    if (result[i] > price) {
+                        result[i] = price + (int) Math.round((result[i] - price) * weight);
+                    } else if (result[i] < price) {
+                        result[i] = Math.max(0, price - (int) Math.round((price - result[i]) / weight));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the values the AI thinks each Property is worth on the game board, from the prices and who owns what in
+     * each color group alone. Each color group is looked at once, through the board index's slots for it
      *
      * @param spaces     the game board to read
+     * @param groups     an index of the game board's color groups. This doesn't need to be attached
      * @param thisPlayer this AIPlayer
      * @return the values the AI thinks each Property is worth
      */
-    private static int[] getValues(Space[] spaces, Player thisPlayer) {
-        if (spaces != null && thisPlayer != null) {
+    static int[] getValues(Space[] spaces, BoardIndex groups, Player thisPlayer) {
+        if (spaces != null && groups != null && thisPlayer != null) {
             int[] result = new int[spaces.length];
-            for (int i = 0; i < spaces.length; i++) {
-                if (spaces[i] != null) {
-                    if (spaces[i].getPROPERTY() != null) {
-                        Player[] owners = getColorGroupOwners(spaces, spaces[i].getPROPERTY().getCOLOR_GROUP());
-                        if (owners.length == 0) { //If no-one owns Property in this color group, the value should be normal
-                            result[i] = spaces[i].getPROPERTY().getPRICE();
-                        } else if (owners.length == 1) {
-                            if (owners[0].equals(thisPlayer)) { //If this Player is the only owner, we should inflate values
-                                if (percentOwnedByPlayer(spaces, owners[0], spaces[i].getPROPERTY().getCOLOR_GROUP()) < .5) { //If this is the case the AI owns less than half of the Properties in a group, so its still not a guaranteed monopoly
-                                    result[i] = (int) Math.round(spaces[i].getPROPERTY().getPRICE() * 1.25);
-                                } else if (percentOwnedByPlayer(spaces, owners[0], spaces[i].getPROPERTY().
-                                        getCOLOR_GROUP()) < 1.0) { //If this is the case, the Player owns more than half of the Properties in a color group, so this is a monopoly very much worth perusing
-                                    result[i] = (int) Math.round(spaces[i].getPROPERTY().getPRICE() * 1.5);
-                                } else { //If this is the case, the Player owns all of the Properties in a color group
-                                    result[i] = (int) Math.round(spaces[i].getPROPERTY().getPRICE() * 2.0);
-                                    result[i] += spaces[i].getPROPERTY().getNumHouses() * spaces[i].getPROPERTY().getBUILD_PRICE(); //We should add value for every house on the Property
-                                }
-                            } else { //If someone else has the only Property, we should hold values constant to deny them a monopoly, but we shouldn't aggressively pursue
-                                result[i] = spaces[i].getPROPERTY().getPRICE();
-                            }
-                        } else { //If this is the case, at least two people have a stake in this color group
-                            boolean playerHasStake = false;
-                            for (Player player : owners) { //First we should find out if this Player has a stake in this Property
-                                if (player.equals(thisPlayer)) {
-                                    playerHasStake = true;
-                                    break;
-                                }
-                            }
-                            if (playerHasStake) {
-                                if (percentOwnedByPlayer(spaces, thisPlayer, spaces[i].getPROPERTY().getCOLOR_GROUP()) < .5) { //If the Player has less than half of the color group, odds are they aren't getting a monopoly
-                                    result[i] = (int) Math.round(spaces[i].getPROPERTY().getPRICE() * .75);
-                                } else { //If the Player has at least half of a color group, the odds that they get a monopoly are good
-                                    result[i] = (int) Math.round(spaces[i].getPROPERTY().getPRICE() * 1.25);
-                                }
-                            } else { //If this Player doesn't have a stake in this color group and there's no chance of someone getting a monopoly, this Property isn't worth very much
-                                result[i] = (int) Math.round(spaces[i].getPROPERTY().getPRICE() * .25);
+            Arrays.fill(result, -1); //Spaces without a Property aren't worth anything
+            for (int group = 0; group < groups.getNumGroups(); group++) {
+                Property[] properties = groups.getGroupProperties(group);
+                int numOwned = 0; //Stores the number of Properties this Player owns in the group
+                Player otherOwner = null; //Stores the first other Player found owning Property in the group
+                boolean manyOwners = false; //Stores whether at least two Players own Property in the group
+                for (Property property : properties) {
+                    Player owner = property.getOwner();
+                    if (owner == thisPlayer) {
+                        numOwned++;
+                    } else if (owner != null) {
+                        if (otherOwner == null) {
+                            otherOwner = owner;
+                        } else if (otherOwner != owner) {
+                            manyOwners = true;
+                        }
+                    }
+                }
+                int numOwners = (numOwned > 0 ? 1 : 0) + (otherOwner != null ? 1 : 0) + (manyOwners ? 1 : 0);
+                double percentOwned = (double) numOwned / properties.length;
+
+                int[] slots = groups.getGroupSlots(group);
+                for (int i = 0; i < slots.length; i++) {
+                    Property property = properties[i];
+                    int value;
+                    if (numOwners == 0) { //If no-one owns Property in this color group, the value should be normal
+                        value = property.getPRICE();
+                    } else if (numOwners == 1) {
+                        if (numOwned > 0) { //If this Player is the only owner, we should inflate values
+                            if (percentOwned < .5) { //If this is the case the AI owns less than half of the Properties in a group, so its still not a guaranteed monopoly
+                                value = (int) Math.round(property.getPRICE() * 1.25);
+                            } else if (percentOwned < 1.0) { //If this is the case, the Player owns more than half of the Properties in a color group, so this is a monopoly very much worth perusing
+                                value = (int) Math.round(property.getPRICE() * 1.5);
+                            } else { //If this is the case, the Player owns all of the Properties in a color group
+                                value = (int) Math.round(property.getPRICE() * 2.0);
+                                value += property.getNumHouses() * property.getBUILD_PRICE(); //We should add value for every house on the Property
                             }
+                        } else { //If someone else has the only Property, we should hold values constant to deny them a monopoly, but we shouldn't aggressively pursue
+                            value = property.getPRICE();
                         }
-                    } else {
-                        result[i] = -1;
+                    } else if (numOwned > 0) { //If this is the case, at least two people have a stake in this color group, including this Player
+                        if (percentOwned < .5) { //If the Player has less than half of the color group, odds are they aren't getting a monopoly
+                            value = (int) Math.round(property.getPRICE() * .75);
+                        } else { //If the Player has at least half of a color group, the odds that they get a monopoly are good
+                            value = (int) Math.round(property.getPRICE() * 1.25);
+                        }
+                    } else { //If this Player doesn't have a stake in this color group and there's no chance of someone getting a monopoly, this Property isn't worth very much
+                        value = (int) Math.round(property.getPRICE() * .25);
                     }
-                } else {
-                    throw new IllegalArgumentException("A null Space was passed");
+                    result[slots[i]] = value;
                 }
             }
             return result;
@@ -217,23 +213,76 @@ public class AIPlayer implements Player {
         }
     }
 
+    /**
+     * Gets the values the AI thinks each Property is worth. These are only recalculated when the board has changed
+     * since the last time they were calculated, or every time if this AI hasn't been given a board index
+     *
+     * @return the values the AI thinks each Property is worth. This shouldn't be modified
+     */
+    private int[] getCachedValues() {
+        if (boardIndex == null) { //Without the Game's index the color groups have to be indexed here
+            return getValues(GAME_BOARD, new BoardIndex(GAME_BOARD, COLOR_GROUPS), this, rentAnalytics);
+        }
+        if (values == null || valuesVersion != boardIndex.getVersion()) {
+            values = getValues(GAME_BOARD, boardIndex, this, rentAnalytics);
+            valuesVersion = boardIndex.getVersion();
+        }
+        return values;
+    }
+
     /**
      * Gets the value that the AI gives the passed Property
      *
-     * @param spaces     the game board to read
-     * @param thisPlayer this Player
-     * @param property   the Property to look for
+     * @param property the Property to look for
      * @return the value of the passed Property
      * @throws IllegalArgumentException when a null parameter is passed
      */
-    private static int getPropertyValue(Space[] spaces, Player thisPlayer, Property property) {
-        if (spaces != null && thisPlayer != null && property != null) {
-            return getValues(spaces, thisPlayer)[recognizeSpace(spaces, property)];
+    private int getPropertyValue(Property property) {
+        if (property != null) {
+            return getCachedValues()[recognizeSpace(GAME_BOARD, property)];
         } else {
             throw new IllegalArgumentException("A null parameter was passed");
         }
     }
 
+    /**
+     * Gets how much the AI wants to build on a Property. With rent analytics this is the expected return on the next
+     * house, and without them it's the Property's value
+     *
+     * @param property the Property to look for
+     * @return how much the AI wants to build there. Only comparisons between the results mean anything
+     */
+    private double getBuildValue(Property property) {
+        if (rentAnalytics != null) {
+            return rentAnalytics.getHouseReturn(property);
+        }
+        return getPropertyValue(property);
+    }
+
+    /**
+     * Determines if a Property earns enough to be worth its price. A Property in a color group that someone has
+     * already started is always worth it, as it either builds towards a monopoly or blocks one. Otherwise its expected
+     * rent once fully built has to pay its price back within MAX_PAYBACK_ROLLS opponent rolls. Without rent analytics
+     * every Property is worth it
+     *
+     * @param property the unowned Property
+     * @return whether or not the Property is worth buying
+     */
+    private boolean isWorthBuying(Property property) {
+        if (rentAnalytics == null) {
+            return true;
+        }
+        if (boardIndex != null) {
+            for (Property other : boardIndex.getGroupProperties(boardIndex.getSpaceGroup(property.getIndex()))) {
+                if (other.getOwner() != null) {
+                    return true;
+                }
+            }
+        }
+        double bestRent = rentAnalytics.getExpectedRent(property.getIndex(), property.getRENTS().length - 1);
+        return property.getPRICE() <= MAX_PAYBACK_ROLLS * bestRent;
+    }
+
     /**
      * Calculates the minimum wallet that the AI should have in order to be safe landing on any Space
      *
@@ -262,55 +311,22 @@ public class AIPlayer implements Player {
     }
 
     /**
-     * Gets the percentage (as a double) of Properties that the Player owns out of a color group
-     *
-     * @param spaces     the game board to read
-     * @param player     the Player to look for
-     * @param colorGroup the color group to look for
-     * @return the percentage of Properties that a Player owns out of a color group
-     */
-    private static double percentOwnedByPlayer(Space[] spaces, Player player, String colorGroup) {
-        return (double) Game.playerPropertiesInColorGroup(colorGroup, spaces, player).length /
-                Game.propertiesInColorGroup(colorGroup, spaces).length;
-    }
-
-    /**
-     * Gets the Players who own Properties in the provided color group
-     *
-     * @param spaces     the game board to read
-     * @param colorGroup the color group to look for
-     * @return the Players who own Properties in the provided color group
-     */
-    private static Player[] getColorGroupOwners(Space[] spaces, String colorGroup) {
-        ArrayList<Player> owners = new ArrayList<>();
-        for (Property property : Game.propertiesInColorGroup(colorGroup, spaces)) {
-            if (property.getOwner() != null && !owners.contains(property.getOwner())) {
-                owners.add(property.getOwner());
-            }
-        }
-        return owners.toArray(new Player[0]);
-    }
-
-    /**
-     * Analyzes a Trade. Returns the amount that it is in favor of the AI for
+     * Analyzes a Trade. Returns the amount that it is in favor of the AI for. GameBenchmark calls this directly
      *
-     * @param spaces     the game board to read
-     * @param trade      the Trade to analyze
-     * @param thisPlayer this Player
+     * @param trade the Trade to analyze
      * @return the amount that this Trade is in favor of the AI
      */
-    private static int analyzeTrade(Space[] spaces, Trade trade, Player thisPlayer) {
-        if (spaces != null && trade != null && (thisPlayer.equals(trade.getSENDER()) ||
-                thisPlayer.equals(trade.getRECEIVER()))) {
+    int analyzeTrade(Trade trade) {
+        if (trade != null && (equals(trade.getSENDER()) || equals(trade.getRECEIVER()))) {
             int senderValue = 0;
             int receiverValue = 0;
 
             for (Property property : trade.getSenderProperties()) { //This adds the AI's calculated worth of each Property to the values
-                senderValue += getPropertyValue(spaces, thisPlayer, property);
+                senderValue += getPropertyValue(property);
             }
 
             for (Property property : trade.getReceiverProperties()) { //This adds the AI's calculated worth of each Property to the values
-                receiverValue += getPropertyValue(spaces, thisPlayer, property);
+                receiverValue += getPropertyValue(property);
             }
 
             for (Card card : trade.getSenderCards()) { //Each get out of jail free Card the Player is offering is worth $25
@@ -330,7 +346,7 @@ public class AIPlayer implements Player {
             receiverValue += trade.getReceiverMoney(); //Finally, we'll add the raw value each Player is offering
 
 
-            if (thisPlayer.equals(trade.getSENDER())) { //Now we'll complete our analysis
+            if (equals(trade.getSENDER())) { //Now we'll complete our analysis
                 return receiverValue - senderValue;
             } else {
                 return senderValue - receiverValue;
@@ -381,14 +397,38 @@ public class AIPlayer implements Player {
     }
 
     /**
-     * Moves the Player forward by spaces
+     * Takes one turn off of the Players jail sentence
+     *
+     * @throws IllegalStateException when the Player isn't in jail
+     */
+    @Override
+    public void serveTurnInJail() {
+        if (turnsInJail > 0) {
+            turnsInJail--;
+        } else {
+            throw new IllegalStateException("The Player isn't in jail");
+        }
+    }
+
+    /**
+     * Releases the Player from jail, clearing whatever is left of their sentence
+     */
+    @Override
+    public void releaseFromJail() {
+        turnsInJail = 0;
+    }
+
+    /**
+     * Moves the Player by spaces
      *
-     * @param spaces the number of spaces to move the Player forward by
+     * @param spaces the number of spaces to move the Player by. Negative values move the Player backwards
      */
     @Override
     public void move(int spaces) {
-        if (spaces > 0) {
-            if (position + spaces < BOARD_SIZE) {
+        if (spaces != 0) {
+            if (spaces < 0) { //Moving backwards never passes go
+                position = Math.floorMod(position + spaces, BOARD_SIZE);
+            } else if (position + spaces < BOARD_SIZE) {
                 position += spaces;
             } else {
                 position += spaces;
@@ -403,53 +443,68 @@ public class AIPlayer implements Player {
     /**
      * Prompts the Player if they would like to do something
      *
+     * @param prompt      what the Player is being asked. This is all the AI reads to decide
      * @param description the description that should be shown to the Player
      * @param object      the object that is part of this prompt
      * @return the Players decision whether or not to buy the card
      * @throws IllegalArgumentException when a null or invalid prompt is passed
      */
     @Override
-    public <T> boolean promptBoolean(String description, T object) {
-        if (description != null) {
-            int index = recognizePrompt(PROMPTS, description);
-            if (index == 0 && object == null) {
-                return percentUnowned(GAME_BOARD) < .75; //If less than 75% of the board is unowned it's worth getting out
-            } else if (index == 2 && object == null) {
-                return percentUnowned(GAME_BOARD) < .75; //If less than 75% of the board is unowned it's worth getting out
-            } else if (index == 3 && object instanceof Property) { //It's always worth participating in an auction
-                if (GAME_BOARD[recognizeSpace(GAME_BOARD, object)].getPROPERTY() != null &&
-                        GAME_BOARD[recognizeSpace(GAME_BOARD, object)].getPROPERTY().getOwner() == null) { //This just validates the passed Space
-                    return true;
-                } else {
-                    throw new IllegalArgumentException("An invalid Property was passed");
+    public <T> boolean promptBoolean(PromptType prompt, String description, T object) {
+        if (prompt != null && description != null) {
+            switch (prompt) {
+                case USE_JAIL_CARD, PAY_BAIL -> {
+                    if (object == null) {
+                        return percentUnowned(GAME_BOARD) < .75; //If less than 75% of the board is unowned it's worth getting out
+                    }
                 }
-            } else if (index == 4 && object instanceof Property) { //It's usually worth buying a Property
-                Property property = GAME_BOARD[recognizeSpace(GAME_BOARD, object)].getPROPERTY(); //This just validates the passed Space
-                if (property != null && property.getOwner() == null) {
-                    return wallet - property.getPRICE() > calcMinWallet(GAME_BOARD, this);
-                } else {
-                    throw new IllegalArgumentException("An invalid Property was passed");
-                }
-            } else if (index == 22 && (object instanceof Player)) {
-                return true;
-            } else if (index == 25 && object instanceof Property) {
-                Property property = GAME_BOARD[recognizeSpace(GAME_BOARD, object)].getPROPERTY(); //This just validates the passed Space
-                if (property != null && property.getOwner() != null) {
-                    return wallet - property.getUnMORTGAGE() > calcMinWallet(GAME_BOARD, this);
-                } else {
-                    throw new IllegalArgumentException("An invalid Property was passed");
+                case JOIN_AUCTION -> {
+                    if (object instanceof Property) { //It's always worth participating in an auction
+                        if (GAME_BOARD[recognizeSpace(GAME_BOARD, object)].getPROPERTY() != null &&
+                                GAME_BOARD[recognizeSpace(GAME_BOARD, object)].getPROPERTY().getOwner() == null) { //This just validates the passed Space
+                            return true;
+                        } else {
+                            throw new IllegalArgumentException("An invalid Property was passed");
+                        }
+                    }
+                }
+                case BUY_PROPERTY -> {
+                    if (object instanceof Property) { //It's usually worth buying a Property
+                        Property property = GAME_BOARD[recognizeSpace(GAME_BOARD, object)].getPROPERTY(); //This just validates the passed Space
+                        if (property != null && property.getOwner() == null) {
+                            return wallet - property.getPRICE() > calcMinWallet(GAME_BOARD, this) &&
+                                    isWorthBuying(property);
+                        } else {
+                            throw new IllegalArgumentException("An invalid Property was passed");
+                        }
+                    }
+                }
+                case TRADE_FOR_JAIL_CARD, START_TRADE -> {
+                    if (object instanceof Player) { //It's always worth hearing out a Trade
+                        return true;
+                    }
+                }
+                case INHERIT_UN_MORTGAGE -> {
+                    if (object instanceof Property) {
+                        Property property = GAME_BOARD[recognizeSpace(GAME_BOARD, object)].getPROPERTY(); //This just validates the passed Space
+                        if (property != null && property.getOwner() != null) {
+                            return wallet - property.getUnMORTGAGE() > calcMinWallet(GAME_BOARD, this);
+                        } else {
+                            throw new IllegalArgumentException("An invalid Property was passed");
+                        }
+                    }
                 }
-            } else {
-                throw new IllegalArgumentException("An invalid prompt was passed");
             }
+            throw new IllegalArgumentException("An invalid prompt was passed");
         } else {
-            throw new IllegalArgumentException("A null description was passed");
+            throw new IllegalArgumentException("A null prompt or description was passed");
         }
     }
 
     /**
      * Prompts the Player for an integer value
      *
+     * @param prompt      what the Player is being asked. This is all the AI reads to decide
      * @param description the description that should be shown to the Player
      * @param min         the minimum value that the Player should be able to enter. Should be equal to none for none
      * @param max         the maximum value that the Player should be able to enter. Should be equal to none for none
@@ -459,448 +514,513 @@ public class AIPlayer implements Player {
      * @throws IllegalArgumentException when a null or invalid prompt is passed
      */
     @Override
-    public <T> int promptInt(String description, int min, int max, int none, T object) {
-        if (description != null) {
-            int index = recognizePrompt(PROMPTS, description);
-            if (index == 13 && object instanceof Trade) {
-                if (this.equals(((Trade) object).getSENDER())) { //If we're the sender we shouldn't add more money
-                    return none;
-                } else if (this.equals(((Trade) object).getRECEIVER())) {
-                    if (analyzeTrade(GAME_BOARD, (Trade) object, this) < 0) { //If we're the receiver and analyzeTrade calculates the Trade as not in our favor, we'll add the missing value back here
-                        return Math.min(-analyzeTrade(GAME_BOARD, (Trade) object, this), max); //This ensures that we don't add too much money
-                    } else {
-                        return none;
+    public <T> int promptInt(PromptType prompt, String description, int min, int max, int none, T object) {
+        if (prompt != null && description != null) {
+            switch (prompt) {
+                case SENDER_OFFER_MONEY -> {
+                    if (object instanceof Trade) {
+                        if (this.equals(((Trade) object).getSENDER())) { //If we're the sender we shouldn't add more money
+                            return none;
+                        } else if (this.equals(((Trade) object).getRECEIVER())) {
+                            if (analyzeTrade((Trade) object) < 0) { //If we're the receiver and analyzeTrade calculates the Trade as not in our favor, we'll add the missing value back here
+                                return Math.min(-analyzeTrade((Trade) object), max); //This ensures that we don't add too much money
+                            } else {
+                                return none;
+                            }
+                        } else {
+                            throw new IllegalArgumentException("An invalid prompt was passed");
+                        }
                     }
-                } else {
-                    throw new IllegalArgumentException("An invalid prompt was passed");
                 }
-            } else if (index == 14 && object instanceof Trade) {
-                if (this.equals(((Trade) object).getSENDER())) {
-                    if (analyzeTrade(GAME_BOARD, (Trade) object, this) < 0) { //If we're the sender and analyzeTrade calculates that we're on the loosing end then we should offer less money
-                        return Math.min(-analyzeTrade(GAME_BOARD, (Trade) object, this), max); //This ensures that we don't take away too much money
-                    } else {
-                        return none;
+                case SENDER_REMOVE_MONEY -> {
+                    if (object instanceof Trade) {
+                        if (this.equals(((Trade) object).getSENDER())) {
+                            if (analyzeTrade((Trade) object) < 0) { //If we're the sender and analyzeTrade calculates that we're on the loosing end then we should offer less money
+                                return Math.min(-analyzeTrade((Trade) object), max); //This ensures that we don't take away too much money
+                            } else {
+                                return none;
+                            }
+                        } else if (this.equals(((Trade) object).getRECEIVER())) { //If we're the receiver we shouldn't make the sender offer less
+                            return none;
+                        } else {
+                            throw new IllegalArgumentException("An invalid prompt was passed");
+                        }
                     }
-                } else if (this.equals(((Trade) object).getRECEIVER())) { //If we're the receiver we shouldn't make the sender offer less
-                    return none;
-                } else {
-                    throw new IllegalArgumentException("An invalid prompt was passed");
-                }
-            } else if (index == 19 && object instanceof Trade) {
-                if (this.equals(((Trade) object).getRECEIVER())) { //If we're the receiver we shouldn't add more money
-                    return none;
-                } else if (this.equals(((Trade) object).getSENDER())) {
-                    if (analyzeTrade(GAME_BOARD, (Trade) object, this) < 0) { //If we're the sender and analyzeTrade calculates the Trade as not in our favor, we'll add the missing value back here
-                        return Math.min(-analyzeTrade(GAME_BOARD, (Trade) object, this), max); //This ensures we don't add too much money
-                    } else {
-                        return none;
+                }
+                case RECEIVER_OFFER_MONEY -> {
+                    if (object instanceof Trade) {
+                        if (this.equals(((Trade) object).getRECEIVER())) { //If we're the receiver we shouldn't add more money
+                            return none;
+                        } else if (this.equals(((Trade) object).getSENDER())) {
+                            if (analyzeTrade((Trade) object) < 0) { //If we're the sender and analyzeTrade calculates the Trade as not in our favor, we'll add the missing value back here
+                                return Math.min(-analyzeTrade((Trade) object), max); //This ensures we don't add too much money
+                            } else {
+                                return none;
+                            }
+                        } else {
+                            throw new IllegalArgumentException("An invalid prompt was passed");
+                        }
                     }
-                } else {
-                    throw new IllegalArgumentException("An invalid prompt was passed");
                 }
-            } else if (index == 20 && object instanceof Trade) {
-                if (this.equals(((Trade) object).getRECEIVER())) { //I
-                    if (analyzeTrade(GAME_BOARD, (Trade) object, this) < 0) { //If we're the receiver and analyzeTrade calculates that we're on the loosing end we should offer less
-                        return Math.min(-analyzeTrade(GAME_BOARD, (Trade) object, this), max); //This ensures that we don't take away too much money
-                    } else {
-                        return none;
+                case RECEIVER_REMOVE_MONEY -> {
+                    if (object instanceof Trade) {
+                        if (this.equals(((Trade) object).getRECEIVER())) { //I
+                            if (analyzeTrade((Trade) object) < 0) { //If we're the receiver and analyzeTrade calculates that we're on the loosing end we should offer less
+                                return Math.min(-analyzeTrade((Trade) object), max); //This ensures that we don't take away too much money
+                            } else {
+                                return none;
+                            }
+                        } else if (this.equals(((Trade) object).getSENDER())) { //If we're the sender we shouldn't take away any money
+                            return none;
+                        } else {
+                            throw new IllegalArgumentException("An invalid prompt was passed");
+                        }
+                    }
+                }
+                case CONFIRM_TRADE -> {
+                    if (object instanceof Trade) {
+                        if (analyzeTrade((Trade) object) >= 0) { //If analyzeTrade calculates the Trade as at least fair, then we'll accept it
+                            return max;
+                        } else { //If it's not fair we'll keep going
+                            return none;
+                        }
+                    }
+                }
+                case AUCTION_BID -> {
+                    if (object instanceof Auction) {
+                        int safeMax = wallet - calcMinWallet(GAME_BOARD, this);
+                        int value = getPropertyValue(((Auction) object).getPROPERTY());
+                        if (((Auction) object).getCurrentValue() < value) { //If this is the case, we're still willing to bid for the Property
+                            return (int) (min + (Math.min(safeMax, value) - min) * random.nextDouble()); //This adds a little bit of randomization to what the AI will bid
+                        } else { //This auctions already gone past what we're willing to pay for this, so we're done
+                            return none;
+                        }
                     }
-                } else if (this.equals(((Trade) object).getSENDER())) { //If we're the sender we shouldn't take away any money
-                    return none;
-                } else {
-                    throw new IllegalArgumentException("An invalid prompt was passed");
-                }
-            } else if (index == 21 && object instanceof Trade) {
-                if (analyzeTrade(GAME_BOARD, (Trade) object, this) >= 0) { //If analyzeTrade calculates the Trade as at least fair, then we'll accept it
-                    return max;
-                } else { //If it's not fair we'll keep going
-                    return none;
-                }
-            } else if (index == 26 && object instanceof Auction) {
-                int safeMax = wallet - calcMinWallet(GAME_BOARD, this);
-                int value = getValues(GAME_BOARD, this)[recognizeSpace(GAME_BOARD, ((Auction) object).getPROPERTY())];
-                if (((Auction) object).getCurrentValue() < value) { //If this is the case, we're still willing to bid for the Property
-                    return (int) (min + (Math.min(safeMax, value) - min) * Math.random()); //This adds a little bit of randomization to what the AI will bid
-                } else { //This auctions already gone past what we're willing to pay for this, so we're done
-                    return none;
                 }
-            } else {
-                throw new IllegalArgumentException("An invalid prompt was passed");
             }
+            throw new IllegalArgumentException("An invalid prompt was passed");
         } else {
-            throw new IllegalArgumentException("A null description was passed");
+            throw new IllegalArgumentException("A null prompt or description was passed");
         }
     }
 
     /**
      * Prompts the Player to pick an Object out of the provided Array
      *
+     * @param prompt      what the Player is being asked. This is all the AI reads to decide
      * @param description the description that should be shown to the Player
      * @param objects     the Array that the Player should pick from
      * @param extra       an additional Object that may be provided
      * @return the index of the chosen Object
      */
     @Override
-    public <T, S> int promptArray(String description, T[] objects, S extra) {
-        if (description != null && objects != null && objects.length > 0) {
-            int index = recognizePrompt(PROMPTS, description);
-            if (index == 5 && objects[0] instanceof Property && extra == null) { //We should never sell houses if we don't have to
-                for (T object : objects) { //This just validates the passed Objects
-                    Property property = GAME_BOARD[recognizeSpace(GAME_BOARD, object)].getPROPERTY();
-                    if (property != null && property.getOwner().equals(this) && property.getNumHouses() > 0) {
-                        return -1;
-                    } else {
-                        throw new IllegalArgumentException("An invalid Property was passed");
+    public <T, S> int promptArray(PromptType prompt, String description, T[] objects, S extra) {
+        if (prompt != null && description != null && objects != null && objects.length > 0) {
+            switch (prompt) {
+                case SELL_BUILDINGS -> {
+                    if (objects[0] instanceof Property && extra == null) { //We should never sell houses if we don't have to
+                        for (T object : objects) { //This just validates the passed Objects
+                            Property property = GAME_BOARD[recognizeSpace(GAME_BOARD, object)].getPROPERTY();
+                            if (property != null && property.getOwner().equals(this) && property.getNumHouses() > 0) {
+                                return -1;
+                            } else {
+                                throw new IllegalArgumentException("An invalid Property was passed");
+                            }
+                        }
                     }
                 }
-            } else if (index == 6 && objects[0] instanceof Property && extra == null) { //We should never mortgage if we don't have to
-                for (T object : objects) { //This just validates the passed Objects
-                    Property property = GAME_BOARD[recognizeSpace(GAME_BOARD, object)].getPROPERTY();
-                    if (property != null && property.getOwner().equals(this) && property.canSell()) {
-                        return -1;
-                    } else {
-                        throw new IllegalArgumentException("An invalid Properties Array was passed");
-                    }
-                }
-            } else if (index == 7 && objects[0] instanceof Property && extra == null) { //If we can un-mortgage things without going bankrupt, we probably should
-                Property[] properties = new Property[objects.length];
-                for (int i = 0; i < objects.length; i++) { //Validates all of the passed Properties
-                    properties[i] = GAME_BOARD[recognizeSpace(GAME_BOARD, objects[i])].getPROPERTY();
-                    if (properties[i] == null || !properties[i].getOwner().equals(this) || !properties[i].isMortgaged()) {
-                        throw new IllegalArgumentException("An invalid Property was passed");
-                    }
-                }
-                int maxSafe = wallet - calcMinWallet(GAME_BOARD, this);
-                int best = -1;
-                for (int i = 0; i < properties.length; i++) { //This calculates the best deal that the AI can get
-                    if (wallet - properties[i].getUnMORTGAGE() >= maxSafe && (best == -1 ||
-                            getPropertyValue(GAME_BOARD, this, properties[i]) >
-                                    getPropertyValue(GAME_BOARD, this, properties[best]))) { //If the AI considers this Property to be more, then this one should be the best
-                        best = i;
-                    } else if (wallet - properties[i].getUnMORTGAGE() >= maxSafe &&
-                            getPropertyValue(GAME_BOARD, this, properties[best]) ==
-                                    getPropertyValue(GAME_BOARD, this, properties[i]) &&
-                            properties[i].getUnMORTGAGE() < properties[best].getUnMORTGAGE()) { //If the AI considers these two to have the same value, but the read one is cheaper, we should go with that one
-                        best = i;
-                    }
-                }
-                return best;
-            } else if (index == 8 && objects[0] instanceof Property && extra == null) { //If we should build houses without going bankrupt, we should
-                Property[] properties = new Property[objects.length];
-                for (int i = 0; i < objects.length; i++) { //Validates all of the passed Properties
-                    properties[i] = GAME_BOARD[recognizeSpace(GAME_BOARD, objects[i])].getPROPERTY();
-                    if (properties[i] == null || !properties[i].getOwner().equals(this) || !properties[i].canBuild()) {
-                        throw new IllegalArgumentException("An invalid Property was passed");
-                    }
-                }
-                int maxSafe = wallet - calcMinWallet(GAME_BOARD, this);
-                int best = -1;
-                for (int i = 0; i < properties.length; i++) { //This calculates the best deal that the AI can get
-                    if (wallet - properties[i].getBUILD_PRICE() >= maxSafe && (best == -1 ||
-                            getPropertyValue(GAME_BOARD, this, properties[i]) >
-                                    getPropertyValue(GAME_BOARD, this, properties[i]))) {
-                        best = i;
-                    } else if (wallet - properties[i].getBUILD_PRICE() >= maxSafe &&
-                            getPropertyValue(GAME_BOARD, this, properties[i]) ==
-                                    getPropertyValue(GAME_BOARD, this, properties[best]) &&
-                            properties[i].getBUILD_PRICE() < properties[best].getBUILD_PRICE()) {
-                        best = i;
-                    }
-                }
-                return best;
-            } else if (index == 9 && objects[0] instanceof Property && extra instanceof Trade) {
-                Property[] properties = new Property[objects.length];
-                for (int i = 0; i < objects.length; i++) { //This validates the Properties
-                    properties[i] = GAME_BOARD[recognizeSpace(GAME_BOARD, objects[i])].getPROPERTY();
-                    if (properties[i] == null || !properties[i].canSell()) {
-                        throw new IllegalArgumentException("An invalid Property was passed");
-                    }
-                }
-                if (this.equals(((Trade) extra).getSENDER())) { //If we're the sender we don't want to offer any more
-                    return -1;
-                } else if (this.equals(((Trade) extra).getRECEIVER())) { //Here's where the AI will pursue wanted Properties
-                    if (analyzeTrade(GAME_BOARD, (Trade) extra, this) <= 0) { //Here the AI will actively pursue Properties if the Trade is neutral
-                        int best = 0;
-                        for (int i = 1; i < properties.length; i++) {
-                            if (getPropertyValue(GAME_BOARD, this, properties[i]) > getPropertyValue(GAME_BOARD, this, properties[best])) {
-                                best = i;
+                case MORTGAGE -> {
+                    if (objects[0] instanceof Property && extra == null) { //We should never mortgage if we don't have to
+                        for (T object : objects) { //This just validates the passed Objects
+                            Property property = GAME_BOARD[recognizeSpace(GAME_BOARD, object)].getPROPERTY();
+                            if (property != null && property.getOwner().equals(this) && property.canSell()) {
+                                return -1;
+                            } else {
+                                throw new IllegalArgumentException("An invalid Properties Array was passed");
                             }
                         }
-
-                        if (analyzeTrade(GAME_BOARD, (Trade) extra, this) == 0 &&
-                                getPropertyValue(GAME_BOARD, this, properties[best]) <=
-                                        properties[best].getPRICE()) { //If the trade is neutral and the AI doesn't place a special value on this Property it shouldn't deliberately disrupt the balance
-                            return -1;
-                        } else {
-                            return best;
-                        }
-                    } else {
-                        return -1;
                     }
-                } else {
-                    throw new IllegalArgumentException("An invalid prompt was passed");
-                }
-            } else if (index == 10 && objects[0] instanceof Property && extra instanceof Trade) {
-                Property[] properties = new Property[objects.length];
-                for (int i = 0; i < objects.length; i++) { //This validates the Properties
-                    properties[i] = GAME_BOARD[recognizeSpace(GAME_BOARD, objects[i])].getPROPERTY();
-                    if (properties[i] == null || !properties[i].canSell()) {
-                        throw new IllegalArgumentException("An invalid Property was passed");
-                    }
-                }
-                if (this.equals(((Trade) extra).getSENDER())) {
-                    if (analyzeTrade(GAME_BOARD, (Trade) extra, this) < 0) { //If analyzeTrade determines the Trade isn't in our favor, we should offer less Properties to get it there
-                        int value = analyzeTrade(GAME_BOARD, (Trade) extra, this);
-                        int best = 0;
-                        for (int i = 1; i < properties.length; i++) { //This makes sure that the Property we're using gets us as close to 0 trade value as possible
-                            if (Math.abs(value + getPropertyValue(GAME_BOARD, this, properties[i])) <
-                                    Math.abs(value + getPropertyValue(GAME_BOARD, this, properties[best]))) {
+                }
+                case UN_MORTGAGE -> {
+                    if (objects[0] instanceof Property && extra == null) { //If we can un-mortgage things without going bankrupt, we probably should
+                        Property[] properties = new Property[objects.length];
+                        for (int i = 0; i < objects.length; i++) { //Validates all of the passed Properties
+                            properties[i] = GAME_BOARD[recognizeSpace(GAME_BOARD, objects[i])].getPROPERTY();
+                            if (properties[i] == null || !properties[i].getOwner().equals(this) || !properties[i].isMortgaged()) {
+                                throw new IllegalArgumentException("An invalid Property was passed");
+                            }
+                        }
+                        int maxSafe = wallet - calcMinWallet(GAME_BOARD, this);
+                        int best = -1;
+                        for (int i = 0; i < properties.length; i++) { //This calculates the best deal that the AI can get
+                            if (wallet - properties[i].getUnMORTGAGE() >= maxSafe && (best == -1 ||
+                                    getPropertyValue(properties[i]) >
+                                            getPropertyValue(properties[best]))) { //If the AI considers this Property to be more, then this one should be the best
+                                best = i;
+                            } else if (wallet - properties[i].getUnMORTGAGE() >= maxSafe &&
+                                    getPropertyValue(properties[best]) ==
+                                            getPropertyValue(properties[i]) &&
+                                    properties[i].getUnMORTGAGE() < properties[best].getUnMORTGAGE()) { //If the AI considers these two to have the same value, but the read one is cheaper, we should go with that one
                                 best = i;
                             }
                         }
                         return best;
                     }
-                } else if (this.equals(((Trade) extra).getRECEIVER())) { //If we're the sender, we don't want the receiver offering any less
-                    return -1;
-                } else {
-                    throw new IllegalArgumentException("An invalid prompt was passed");
                 }
-            } else if (index == 11 && objects[0] instanceof Card && extra instanceof Trade) {
-                Card[] cards = new Card[objects.length];
-                for (int i = 0; i < objects.length; i++) { //This validates the Cards
-                    if (objects[i] instanceof Card) {
-                        cards[i] = (Card) objects[i];
-                        if (cards[i].getOwner() == null) {
-                            throw new IllegalArgumentException("An invalid Card was passed");
+                case BUILD -> {
+                    if (objects[0] instanceof Property && extra == null) { //If we should build houses without going bankrupt, we should
+                        Property[] properties = new Property[objects.length];
+                        for (int i = 0; i < objects.length; i++) { //Validates all of the passed Properties
+                            properties[i] = GAME_BOARD[recognizeSpace(GAME_BOARD, objects[i])].getPROPERTY();
+                            if (properties[i] == null || !properties[i].getOwner().equals(this) || !properties[i].canBuild()) {
+                                throw new IllegalArgumentException("An invalid Property was passed");
+                            }
                         }
-                    } else {
-                        throw new IllegalArgumentException("An invalid prompt was passed");
-                    }
-                }
-                if (this.equals(((Trade) extra).getSENDER())) { //If we're the sender, we don't want to offer any more than we have to
-                    return -1;
-                } else if (this.equals(((Trade) extra).getRECEIVER())) {
-                    if (analyzeTrade(GAME_BOARD, (Trade) extra, this) < 0) { //The AI can use Cards to balance a Trade, but won't persue them
-                        for (int i = 0; i < cards.length; i++) {
-                            if (cards[i].IS_GET_OUT_JAIL()) { //The AI will only place values on get out of jail free Cards
-                                return i;
+                        int maxSafe = wallet - calcMinWallet(GAME_BOARD, this);
+                        int best = -1;
+                        for (int i = 0; i < properties.length; i++) { //This calculates the best deal that the AI can get
+                            if (wallet - properties[i].getBUILD_PRICE() >= maxSafe && (best == -1 ||
+                                    getBuildValue(properties[i]) > getBuildValue(properties[best]))) {
+                                best = i;
+                            } else if (wallet - properties[i].getBUILD_PRICE() >= maxSafe &&
+                                    getBuildValue(properties[i]) == getBuildValue(properties[best]) &&
+                                    properties[i].getBUILD_PRICE() < properties[best].getBUILD_PRICE()) {
+                                best = i;
                             }
                         }
+                        return best;
                     }
-                    return -1;
-                } else {
-                    throw new IllegalArgumentException("An invalid prompt was passed");
                 }
-            } else if (index == 12 && objects[0] instanceof Card && extra instanceof Trade) {
-                Card[] cards = new Card[objects.length];
-                for (int i = 0; i < objects.length; i++) { //This validates the Cards
-                    if (objects[i] instanceof Card) {
-                        cards[i] = (Card) objects[i];
-                        if (cards[i].getOwner() == null) {
-                            throw new IllegalArgumentException("An invalid Card was passed");
+                case SENDER_OFFER_PROPERTY -> {
+                    if (objects[0] instanceof Property && extra instanceof Trade) {
+                        Property[] properties = new Property[objects.length];
+                        for (int i = 0; i < objects.length; i++) { //This validates the Properties
+                            properties[i] = GAME_BOARD[recognizeSpace(GAME_BOARD, objects[i])].getPROPERTY();
+                            if (properties[i] == null || !properties[i].canSell()) {
+                                throw new IllegalArgumentException("An invalid Property was passed");
+                            }
                         }
-                    } else {
-                        throw new IllegalArgumentException("An invalid prompt was passed");
-                    }
-                }
-                if (this.equals(((Trade) extra).getSENDER())) {
-                    if (analyzeTrade(GAME_BOARD, (Trade) extra, this) < 0) { //If the Trade is unfavorable, the AI can use Cards to try and balance it
-                        for (int i = 0; i < cards.length; i++) {
-                            if (cards[i].IS_GET_OUT_JAIL()) { //The AI will only place values on get out of jail free Cards
-                                return i;
+                        if (this.equals(((Trade) extra).getSENDER())) { //If we're the sender we don't want to offer any more
+                            return -1;
+                        } else if (this.equals(((Trade) extra).getRECEIVER())) { //Here's where the AI will pursue wanted Properties
+                            if (analyzeTrade((Trade) extra) <= 0) { //Here the AI will actively pursue Properties if the Trade is neutral
+                                int best = 0;
+                                for (int i = 1; i < properties.length; i++) {
+                                    if (getPropertyValue(properties[i]) > getPropertyValue(properties[best])) {
+                                        best = i;
+                                    }
+                                }
+
+                                if (analyzeTrade((Trade) extra) == 0 &&
+                                        getPropertyValue(properties[best]) <=
+                                                properties[best].getPRICE()) { //If the trade is neutral and the AI doesn't place a special value on this Property it shouldn't deliberately disrupt the balance
+                                    return -1;
+                                } else {
+                                    return best;
+                                }
+                            } else {
+                                return -1;
                             }
+                        } else {
+                            throw new IllegalArgumentException("An invalid prompt was passed");
                         }
                     }
-                    return -1;
-                } else if (this.equals(((Trade) extra).getRECEIVER())) { //If we're the receiver, we don't want the sender offering any less
-                    return -1;
-                } else {
-                    throw new IllegalArgumentException("An invalid prompt was passed");
-                }
-            } else if (index == 15 && objects[0] instanceof Property && extra instanceof Trade) {
-                Property[] properties = new Property[objects.length];
-                for (int i = 0; i < objects.length; i++) { //This validates the Properties
-                    properties[i] = GAME_BOARD[recognizeSpace(GAME_BOARD, objects[i])].getPROPERTY();
-                    if (properties[i] == null || !properties[i].canSell()) {
-                        throw new IllegalArgumentException("An invalid Property was passed");
-                    }
-                }
-                if (this.equals(((Trade) extra).getRECEIVER())) { //If we're the receiver we don't want to offer any more
-                    return -1;
-                } else if (this.equals(((Trade) extra).getSENDER())) { //Here's where the AI will pursue wanted Properties
-                    if (analyzeTrade(GAME_BOARD, (Trade) extra, this) <= 0) { //Here the AI will actively pursue Properties if the Trade is neutral
-                        int best = 0;
-                        for (int i = 1; i < properties.length; i++) {
-                            if (getPropertyValue(GAME_BOARD, this, properties[i]) > getPropertyValue(GAME_BOARD, this, properties[best])) {
-                                best = i;
+                }
+                case SENDER_REMOVE_PROPERTY -> {
+                    if (objects[0] instanceof Property && extra instanceof Trade) {
+                        Property[] properties = new Property[objects.length];
+                        for (int i = 0; i < objects.length; i++) { //This validates the Properties
+                            properties[i] = GAME_BOARD[recognizeSpace(GAME_BOARD, objects[i])].getPROPERTY();
+                            if (properties[i] == null || !properties[i].canSell()) {
+                                throw new IllegalArgumentException("An invalid Property was passed");
                             }
                         }
-
-                        if (analyzeTrade(GAME_BOARD, (Trade) extra, this) == 0 &&
-                                getPropertyValue(GAME_BOARD, this, properties[best]) <=
-                                        properties[best].getPRICE()) { //If the trade is neutral and the AI doesn't place a special value on this Property it shouldn't deliberately disrupt the balance
+                        if (this.equals(((Trade) extra).getSENDER())) {
+                            if (analyzeTrade((Trade) extra) < 0) { //If analyzeTrade determines the Trade isn't in our favor, we should offer less Properties to get it there
+                                int value = analyzeTrade((Trade) extra);
+                                int best = 0;
+                                for (int i = 1; i < properties.length; i++) { //This makes sure that the Property we're using gets us as close to 0 trade value as possible
+                                    if (Math.abs(value + getPropertyValue(properties[i])) <
+                                            Math.abs(value + getPropertyValue(properties[best]))) {
+                                        best = i;
+                                    }
+                                }
+                                return best;
+                            }
+                            return -1;
+                        } else if (this.equals(((Trade) extra).getRECEIVER())) { //If we're the sender, we don't want the receiver offering any less
                             return -1;
                         } else {
-                            return best;
+                            throw new IllegalArgumentException("An invalid prompt was passed");
                         }
-                    } else {
-                        return -1;
                     }
-                } else {
-                    throw new IllegalArgumentException("An invalid prompt was passed");
-                }
-            } else if (index == 16 && objects[0] instanceof Property && extra instanceof Trade) {
-                Property[] properties = new Property[objects.length];
-                for (int i = 0; i < objects.length; i++) { //This validates the Properties
-                    properties[i] = GAME_BOARD[recognizeSpace(GAME_BOARD, objects[i])].getPROPERTY();
-                    if (properties[i] == null || !properties[i].canSell()) {
-                        throw new IllegalArgumentException("An invalid Property was passed");
-                    }
-                }
-                if (this.equals(((Trade) extra).getRECEIVER())) {
-                    if (analyzeTrade(GAME_BOARD, (Trade) extra, this) < 0) { //If analyzeTrade determines the Trade isn't in our favor, we should offer less Properties to get it there
-                        int value = analyzeTrade(GAME_BOARD, (Trade) extra, this);
-                        int best = 0;
-                        for (int i = 1; i < properties.length; i++) { //This makes sure that the Property we're using gets us as close to 0 trade value as possible
-                            if (Math.abs(value + getPropertyValue(GAME_BOARD, this, properties[i])) <
-                                    Math.abs(value + getPropertyValue(GAME_BOARD, this, properties[best]))) {
-                                best = i;
+                }
+                case SENDER_OFFER_CARD -> {
+                    if (objects[0] instanceof Card && extra instanceof Trade) {
+                        Card[] cards = new Card[objects.length];
+                        for (int i = 0; i < objects.length; i++) { //This validates the Cards
+                            if (objects[i] instanceof Card) {
+                                cards[i] = (Card) objects[i];
+                                if (cards[i].getOwner() == null) {
+                                    throw new IllegalArgumentException("An invalid Card was passed");
+                                }
+                            } else {
+                                throw new IllegalArgumentException("An invalid prompt was passed");
                             }
                         }
-                        return best;
+                        if (this.equals(((Trade) extra).getSENDER())) { //If we're the sender, we don't want to offer any more than we have to
+                            return -1;
+                        } else if (this.equals(((Trade) extra).getRECEIVER())) {
+                            if (analyzeTrade((Trade) extra) < 0) { //The AI can use Cards to balance a Trade, but won't persue them
+                                for (int i = 0; i < cards.length; i++) {
+                                    if (cards[i].IS_GET_OUT_JAIL()) { //The AI will only place values on get out of jail free Cards
+                                        return i;
+                                    }
+                                }
+                            }
+                            return -1;
+                        } else {
+                            throw new IllegalArgumentException("An invalid prompt was passed");
+                        }
                     }
-                } else if (this.equals(((Trade) extra).getSENDER())) { //If we're the receiver, we don't want the sender offering any less
-                    return -1;
-                } else {
-                    throw new IllegalArgumentException("An invalid prompt was passed");
                 }
-            } else if (index == 17 && objects[0] instanceof Card && extra instanceof Trade) {
-                Card[] cards = new Card[objects.length];
-                for (int i = 0; i < objects.length; i++) { //This validates the Cards
-                    if (objects[i] instanceof Card) {
-                        cards[i] = (Card) objects[i];
-                        if (cards[i].getOwner() == null) {
-                            throw new IllegalArgumentException("An invalid Card was passed");
+                case SENDER_REMOVE_CARD -> {
+                    if (objects[0] instanceof Card && extra instanceof Trade) {
+                        Card[] cards = new Card[objects.length];
+                        for (int i = 0; i < objects.length; i++) { //This validates the Cards
+                            if (objects[i] instanceof Card) {
+                                cards[i] = (Card) objects[i];
+                                if (cards[i].getOwner() == null) {
+                                    throw new IllegalArgumentException("An invalid Card was passed");
+                                }
+                            } else {
+                                throw new IllegalArgumentException("An invalid prompt was passed");
+                            }
+                        }
+                        if (this.equals(((Trade) extra).getSENDER())) {
+                            if (analyzeTrade((Trade) extra) < 0) { //If the Trade is unfavorable, the AI can use Cards to try and balance it
+                                for (int i = 0; i < cards.length; i++) {
+                                    if (cards[i].IS_GET_OUT_JAIL()) { //The AI will only place values on get out of jail free Cards
+                                        return i;
+                                    }
+                                }
+                            }
+                            return -1;
+                        } else if (this.equals(((Trade) extra).getRECEIVER())) { //If we're the receiver, we don't want the sender offering any less
+                            return -1;
+                        } else {
+                            throw new IllegalArgumentException("An invalid prompt was passed");
                         }
-                    } else {
-                        throw new IllegalArgumentException("An invalid prompt was passed");
                     }
                 }
-                if (this.equals(((Trade) extra).getRECEIVER())) { //If we're the receiver, we don't want to offer any more than we have to
-                    return -1;
-                } else if (this.equals(((Trade) extra).getSENDER())) {
-                    if (analyzeTrade(GAME_BOARD, (Trade) extra, this) < 0) { //The AI can use Cards to balance a Trade, but won't pursue them
-                        for (int i = 0; i < cards.length; i++) {
-                            if (cards[i].IS_GET_OUT_JAIL()) { //The AI will only place values on get out of jail free Cards
-                                return i;
+                case RECEIVER_OFFER_PROPERTY -> {
+                    if (objects[0] instanceof Property && extra instanceof Trade) {
+                        Property[] properties = new Property[objects.length];
+                        for (int i = 0; i < objects.length; i++) { //This validates the Properties
+                            properties[i] = GAME_BOARD[recognizeSpace(GAME_BOARD, objects[i])].getPROPERTY();
+                            if (properties[i] == null || !properties[i].canSell()) {
+                                throw new IllegalArgumentException("An invalid Property was passed");
+                            }
+                        }
+                        if (this.equals(((Trade) extra).getRECEIVER())) { //If we're the receiver we don't want to offer any more
+                            return -1;
+                        } else if (this.equals(((Trade) extra).getSENDER())) { //Here's where the AI will pursue wanted Properties
+                            if (analyzeTrade((Trade) extra) <= 0) { //Here the AI will actively pursue Properties if the Trade is neutral
+                                int best = 0;
+                                for (int i = 1; i < properties.length; i++) {
+                                    if (getPropertyValue(properties[i]) > getPropertyValue(properties[best])) {
+                                        best = i;
+                                    }
+                                }
+
+                                if (analyzeTrade((Trade) extra) == 0 &&
+                                        getPropertyValue(properties[best]) <=
+                                                properties[best].getPRICE()) { //If the trade is neutral and the AI doesn't place a special value on this Property it shouldn't deliberately disrupt the balance
+                                    return -1;
+                                } else {
+                                    return best;
+                                }
+                            } else {
+                                return -1;
                             }
+                        } else {
+                            throw new IllegalArgumentException("An invalid prompt was passed");
                         }
                     }
-                    return -1;
-                } else {
-                    throw new IllegalArgumentException("An invalid prompt was passed");
                 }
-            } else if (index == 18 && objects[0] instanceof Card && extra instanceof Trade) {
-                Card[] cards = new Card[objects.length];
-                for (int i = 0; i < objects.length; i++) { //This validates the Cards
-                    if (objects[i] instanceof Card) {
-                        cards[i] = (Card) objects[i];
-                        if (cards[i].getOwner() == null) {
-                            throw new IllegalArgumentException("An invalid Card was passed");
+                case RECEIVER_REMOVE_PROPERTY -> {
+                    if (objects[0] instanceof Property && extra instanceof Trade) {
+                        Property[] properties = new Property[objects.length];
+                        for (int i = 0; i < objects.length; i++) { //This validates the Properties
+                            properties[i] = GAME_BOARD[recognizeSpace(GAME_BOARD, objects[i])].getPROPERTY();
+                            if (properties[i] == null || !properties[i].canSell()) {
+                                throw new IllegalArgumentException("An invalid Property was passed");
+                            }
+                        }
+                        if (this.equals(((Trade) extra).getRECEIVER())) {
+                            if (analyzeTrade((Trade) extra) < 0) { //If analyzeTrade determines the Trade isn't in our favor, we should offer less Properties to get it there
+                                int value = analyzeTrade((Trade) extra);
+                                int best = 0;
+                                for (int i = 1; i < properties.length; i++) { //This makes sure that the Property we're using gets us as close to 0 trade value as possible
+                                    if (Math.abs(value + getPropertyValue(properties[i])) <
+                                            Math.abs(value + getPropertyValue(properties[best]))) {
+                                        best = i;
+                                    }
+                                }
+                                return best;
+                            }
+                            return -1;
+                        } else if (this.equals(((Trade) extra).getSENDER())) { //If we're the receiver, we don't want the sender offering any less
+                            return -1;
+                        } else {
+                            throw new IllegalArgumentException("An invalid prompt was passed");
                         }
-                    } else {
-                        throw new IllegalArgumentException("An invalid prompt was passed");
                     }
                 }
-                if (this.equals(((Trade) extra).getRECEIVER())) {
-                    if (analyzeTrade(GAME_BOARD, (Trade) extra, this) < 0) { //If the Trade is unfavorable, the AI can use Cards to try and balance it
-                        for (int i = 0; i < cards.length; i++) {
-                            if (cards[i].IS_GET_OUT_JAIL()) { //The AI will only place values on get out of jail free Cards
-                                return i;
+                case RECEIVER_OFFER_CARD -> {
+                    if (objects[0] instanceof Card && extra instanceof Trade) {
+                        Card[] cards = new Card[objects.length];
+                        for (int i = 0; i < objects.length; i++) { //This validates the Cards
+                            if (objects[i] instanceof Card) {
+                                cards[i] = (Card) objects[i];
+                                if (cards[i].getOwner() == null) {
+                                    throw new IllegalArgumentException("An invalid Card was passed");
+                                }
+                            } else {
+                                throw new IllegalArgumentException("An invalid prompt was passed");
                             }
                         }
+                        if (this.equals(((Trade) extra).getRECEIVER())) { //If we're the receiver, we don't want to offer any more than we have to
+                            return -1;
+                        } else if (this.equals(((Trade) extra).getSENDER())) {
+                            if (analyzeTrade((Trade) extra) < 0) { //The AI can use Cards to balance a Trade, but won't pursue them
+                                for (int i = 0; i < cards.length; i++) {
+                                    if (cards[i].IS_GET_OUT_JAIL()) { //The AI will only place values on get out of jail free Cards
+                                        return i;
+                                    }
+                                }
+                            }
+                            return -1;
+                        } else {
+                            throw new IllegalArgumentException("An invalid prompt was passed");
+                        }
                     }
-                    return -1;
-                } else if (this.equals(((Trade) extra).getSENDER())) { //If we're the sender, we don't want the receiver offering any less
-                    return -1;
-                } else {
-                    throw new IllegalArgumentException("An invalid prompt was passed");
                 }
-            } else if (index == 22 && (objects[0] instanceof Player)
-                    && extra == null) {
-                Player[] players = new Player[objects.length];
-                for (int i = 0; i < objects.length; i++) { //This validates the Players
-                    if (objects[i] instanceof Player) {
-                        players[i] = (Player) objects[i];
-                        if (players[i].equals(this)) {
-                            throw new IllegalArgumentException("AI was prompted to trade itself");
+                case RECEIVER_REMOVE_CARD -> {
+                    if (objects[0] instanceof Card && extra instanceof Trade) {
+                        Card[] cards = new Card[objects.length];
+                        for (int i = 0; i < objects.length; i++) { //This validates the Cards
+                            if (objects[i] instanceof Card) {
+                                cards[i] = (Card) objects[i];
+                                if (cards[i].getOwner() == null) {
+                                    throw new IllegalArgumentException("An invalid Card was passed");
+                                }
+                            } else {
+                                throw new IllegalArgumentException("An invalid prompt was passed");
+                            }
+                        }
+                        if (this.equals(((Trade) extra).getRECEIVER())) {
+                            if (analyzeTrade((Trade) extra) < 0) { //If the Trade is unfavorable, the AI can use Cards to try and balance it
+                                for (int i = 0; i < cards.length; i++) {
+                                    if (cards[i].IS_GET_OUT_JAIL()) { //The AI will only place values on get out of jail free Cards
+                                        return i;
+                                    }
+                                }
+                            }
+                            return -1;
+                        } else if (this.equals(((Trade) extra).getSENDER())) { //If we're the sender, we don't want the receiver offering any less
+                            return -1;
+                        } else {
+                            throw new IllegalArgumentException("An invalid prompt was passed");
                         }
-                    } else {
-                        throw new IllegalArgumentException("An invalid prompt was passed");
                     }
                 }
-                Property bestValueProperty = null;
-                int bestPlayer = -1;
-                for (int i = 0; i < players.length; i++) {
-                    for (Property property : Game.playerProperties(GAME_BOARD, players[i])) {
-                        if (getPropertyValue(GAME_BOARD, this, property) > property.getPRICE() &&
-                                (bestValueProperty == null || getPropertyValue(GAME_BOARD, this, property) >
-                                        getPropertyValue(GAME_BOARD, this, bestValueProperty))) { //This gets the best Property and ensures that the AI only persues Properties it actually wants
-                            bestValueProperty = property;
-                            bestPlayer = i;
-                        }
+                case TRADE_FOR_JAIL_CARD -> {
+                    if (objects[0] instanceof Player && extra == null) { //The AI doesn't go after get out of jail free Cards
+                        return -1;
                     }
                 }
-                return bestPlayer;
-            } else if (index == 23 && objects[0] instanceof Property && extra == null) {
-                if (wallet < 0) {
-                    Property[] properties = new Property[objects.length];
-                    for (int i = 0; i < objects.length; i++) { //This validates the Properties
-                        properties[i] = GAME_BOARD[recognizeSpace(GAME_BOARD, objects[i])].getPROPERTY();
-                        if (!properties[i].getOwner().equals(this) || properties[i].getNumHouses() == 0) {
-                            throw new IllegalArgumentException("An invalid Property was passed");
+                case START_TRADE -> {
+                    if (objects[0] instanceof Player && extra == null) {
+                        Player[] players = new Player[objects.length];
+                        for (int i = 0; i < objects.length; i++) { //This validates the Players
+                            if (objects[i] instanceof Player) {
+                                players[i] = (Player) objects[i];
+                                if (players[i].equals(this)) {
+                                    throw new IllegalArgumentException("AI was prompted to trade itself");
+                                }
+                            } else {
+                                throw new IllegalArgumentException("An invalid prompt was passed");
+                            }
                         }
-                    }
-
-                    int lowestValueProperty = 0;
-                    for (int i = 1; i < properties.length; i++) { //This finds the lowest value Property in the list
-                        if (getPropertyValue(GAME_BOARD, this, properties[i]) <
-                                getPropertyValue(GAME_BOARD, this, properties[lowestValueProperty])) {
-                            lowestValueProperty = i;
+                        Property bestValueProperty = null;
+                        int bestPlayer = -1;
+                        for (int i = 0; i < players.length; i++) {
+                            for (Property property : Game.playerProperties(GAME_BOARD, players[i])) {
+                                if (getPropertyValue(property) > property.getPRICE() &&
+                                        (bestValueProperty == null || getPropertyValue(property) >
+                                                getPropertyValue(bestValueProperty))) { //This gets the best Property and ensures that the AI only persues Properties it actually wants
+                                    bestValueProperty = property;
+                                    bestPlayer = i;
+                                }
+                            }
                         }
+                        return bestPlayer;
                     }
-                    return lowestValueProperty;
-                } else {
-                    throw new IllegalArgumentException("An invalid prompt was passed");
-                }
-            } else if (index == 24 && objects[0] instanceof Property && extra == null) {
-                if (wallet < 0) {
-                    Property[] properties = new Property[objects.length];
-                    for (int i = 0; i < objects.length; i++) { //This validates the Properties
-                        properties[i] = GAME_BOARD[recognizeSpace(GAME_BOARD, objects[i])].getPROPERTY();
-                        if (!properties[i].getOwner().equals(this) || !properties[i].canSell()) {
-                            throw new IllegalArgumentException("An invalid Property was passed");
+                }
+                case BANKRUPT_SELL_BUILDINGS -> {
+                    if (objects[0] instanceof Property && extra == null) {
+                        if (wallet >= 0) { //If we've already made it out of debt there's no need to sell anything else
+                            return -1;
+                        } else {
+                            Property[] properties = new Property[objects.length];
+                            for (int i = 0; i < objects.length; i++) { //This validates the Properties
+                                properties[i] = GAME_BOARD[recognizeSpace(GAME_BOARD, objects[i])].getPROPERTY();
+                                if (!properties[i].getOwner().equals(this) || properties[i].getNumHouses() == 0) {
+                                    throw new IllegalArgumentException("An invalid Property was passed");
+                                }
+                            }
+
+                            int lowestValueProperty = 0;
+                            for (int i = 1; i < properties.length; i++) { //This finds the lowest value Property in the list
+                                if (getPropertyValue(properties[i]) <
+                                        getPropertyValue(properties[lowestValueProperty])) {
+                                    lowestValueProperty = i;
+                                }
+                            }
+                            return lowestValueProperty;
                         }
                     }
+                }
+                case BANKRUPT_MORTGAGE -> {
+                    if (objects[0] instanceof Property && extra == null) {
+                        if (wallet >= 0) { //If we've already made it out of debt there's no need to sell anything else
+                            return -1;
+                        } else {
+                            Property[] properties = new Property[objects.length];
+                            for (int i = 0; i < objects.length; i++) { //This validates the Properties
+                                properties[i] = GAME_BOARD[recognizeSpace(GAME_BOARD, objects[i])].getPROPERTY();
+                                if (!properties[i].getOwner().equals(this) || !properties[i].canSell()) {
+                                    throw new IllegalArgumentException("An invalid Property was passed");
+                                }
+                            }
 
-                    int lowestValueProperty = 0;
-                    for (int i = 1; i < properties.length; i++) { //This finds the lowest value Property in the list
-                        if (getPropertyValue(GAME_BOARD, this, properties[i]) <
-                                getPropertyValue(GAME_BOARD, this, properties[lowestValueProperty])) {
-                            lowestValueProperty = i;
+                            int lowestValueProperty = 0;
+                            for (int i = 1; i < properties.length; i++) { //This finds the lowest value Property in the list
+                                if (getPropertyValue(properties[i]) <
+                                        getPropertyValue(properties[lowestValueProperty])) {
+                                    lowestValueProperty = i;
+                                }
+                            }
+                            return lowestValueProperty;
                         }
                     }
-                    return lowestValueProperty;
-                } else {
-                    throw new IllegalArgumentException("An invalid prompt was passed");
                 }
-            } else {
-                throw new IllegalArgumentException("An invalid prompt was passed");
             }
+            throw new IllegalArgumentException("An invalid prompt was passed");
         } else {
             throw new IllegalArgumentException("An invalid prompt was passed");
         }
-        throw new IllegalArgumentException("An invalid prompt was passed");
     }
 
     /**
@@ -938,11 +1058,11 @@ public class AIPlayer implements Player {
      * Adds amount to the Players wallet. This also manages what happens when the Player has negative money
      *
      * @param amount the amount to add to the Players wallet
-     * @throws IllegalArgumentException when the Player would go bankrupt on this transaction
+     * @throws IllegalArgumentException when a charge would put the Player into debt
      */
     @Override
     public void updateWallet(int amount) {
-        if (wallet + amount >= 0) {
+        if (wallet + amount >= 0 || amount >= 0) { //A Player in debt can always be paid
             wallet += amount;
         } else {
             throw new IllegalArgumentException("An invalid amount of money was passed");
@@ -1016,4 +1136,78 @@ public class AIPlayer implements Player {
     public int getBOARD_SIZE() {
         return BOARD_SIZE;
     }
+
+    /**
+     * Puts the Player back into a saved state
+     *
+     * @param wallet      the Player's wallet
+     * @param position    the Player's position. This should be on the board
+     * @param turnsInJail the number of turns the Player has left in jail. This shouldn't be negative
+     * @throws IllegalArgumentException when an invalid position or number of turns is passed
+     */
+    @Override
+    public void restoreState(int wallet, int position, int turnsInJail) {
+        if (position >= 0 && position < BOARD_SIZE && turnsInJail >= 0) {
+            this.wallet = wallet;
+            this.position = position;
+            this.turnsInJail = turnsInJail;
+        } else {
+            throw new IllegalArgumentException("An invalid parameter was passed");
+        }
+    }
+
+    /**
+     * Gives this AI the Game's board index. The index's version is used to tell when the board has changed, so
+     * Property values are only recalculated when they might be different
+     *
+     * @param boardIndex the index of GAME_BOARD that the Game keeps. This shouldn't be null
+     * @throws IllegalArgumentException when a null BoardIndex is passed
+     */
+    public void setBoardIndex(BoardIndex boardIndex) {
+        if (boardIndex != null) {
+            this.boardIndex = boardIndex;
+            values = null;
+        } else {
+            throw new IllegalArgumentException("A null BoardIndex was passed");
+        }
+    }
+
+    /**
+     * Gives this AI the expected rents of the Game's Properties, which are then used to weight what Properties are
+     * worth and to pick what to build on
+     *
+     * @param rentAnalytics the analytics for GAME_BOARD. This shouldn't be null
+     * @throws IllegalArgumentException when null analytics are passed
+     */
+    public void setRentAnalytics(RentAnalytics rentAnalytics) {
+        if (rentAnalytics != null) {
+            this.rentAnalytics = rentAnalytics;
+            values = null;
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Gets the number of turns this Player is sent to jail for
+     *
+     * @return the length of the Player's sentence
+     */
+    public int getTURNS_IN_JAIL() {
+        return TURNS_IN_JAIL;
+    }
+
+    /**
+     * Sets the generator used to vary this AI's bids
+     *
+     * @param random the generator. This shouldn't be null
+     * @throws IllegalArgumentException when a null generator is passed
+     */
+    public void setRandom(SplittableRandom random) {
+        if (random != null) {
+            this.random = random;
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
 }
@@ -1,4 +1,5 @@
 import java.util.ArrayList;
+import java.util.Iterator;
 
 /**
  * Represents an Auction
@@ -13,6 +14,7 @@ public class Auction {
 
     //Auction fields
     private int currentValue; //This stores the current value being placed on the Property
+    private Player highestBidder; //This stores the Player who placed currentValue. This is null until someone bids
     private boolean isConfirmed; //This stores whether or not the auction is confirmed
 
     /**
@@ -29,6 +31,7 @@ public class Auction {
             PROPERTY = property;
             PLAYERS = players;
             currentValue = 0;
+            highestBidder = null;
             isConfirmed = false;
             PROMPT = prompt;
         } else {
@@ -37,21 +40,24 @@ public class Auction {
     }
 
     /**
-     * Does a round of the Auction. This means that it prompts each Player for a bid, and removes them if they don't
-     * outbid the current value
+     * Does a round of the Auction. This means that it prompts each Player other than the highest bidder for a bid, and
+     * removes them if they don't outbid the current value
      *
      * @throws IllegalStateException when is called after isConfirmed is true
      */
     public void doRound() {
         if (!isConfirmed) {
-            for (Player player : PLAYERS) {
-                int bid = player.promptInt(PROMPT,
-                        currentValue + 1, -1, -1, this);
-                if (player.canAfford(bid)) {
-                    if (bid > currentValue) {
+            Iterator<Player> iterator = PLAYERS.iterator();
+            while (iterator.hasNext() && (PLAYERS.size() > 1 || highestBidder == null)) { //Once there's one Player left who has bid, they've won
+                Player player = iterator.next();
+                if (player != highestBidder) { //The highest bidder doesn't need to outbid themselves
+                    int bid = player.promptInt(PromptType.AUCTION_BID, PROMPT,
+                            currentValue + 1, -1, -1, this);
+                    if (player.canAfford(bid) && bid > currentValue) {
                         currentValue = bid;
-                    } else {
-                        PLAYERS.remove(player);
+                        highestBidder = player;
+                    } else { //If the Player didn't outbid the current value, or can't pay what they bid, they're out
+                        iterator.remove();
                     }
                 }
             }
@@ -59,6 +65,8 @@ public class Auction {
                 isConfirmed = true;
                 PLAYERS.get(0).updateWallet(-currentValue);
                 PROPERTY.setOwner(PLAYERS.get(0));
+            } else if (PLAYERS.size() == 0) { //If this is the case everyone dropped out, so the Property stays with the bank
+                isConfirmed = true;
             }
         } else {
             throw new IllegalStateException("Tried to alter an Auction after it was confirmed");
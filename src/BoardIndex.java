@@ -0,0 +1,389 @@
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+
+/**
+ * An index over a game board that is built once when a Game is created. Each color group is given an int id, which is
+ * its index in the Game's color groups, along with a compact Array of the board slots and Properties in it, so color
+ * group queries only look at the Properties in that group and never compare Strings. Once attached, it also tracks which
+ * color groups have changed so that rents only need to be recomputed for those groups, and which board slots and how
+ * many houses and hotels each Player owns
+ *
+ * @author irswr
+ */
+public class BoardIndex {
+    //BoardIndex constants
+    private final String[] COLOR_GROUPS; //Stores the color group names. A color group's id is its index in this
+    private final HashMap<String, Integer> GROUP_IDS; //Maps each color group name to its id
+    private final int[] SPACE_GROUPS; //Stores the color group id of each Space on the board. This is -1 for Spaces without a Property
+    private final int[][] GROUP_SLOTS; //Stores the board indexes of each color group's Properties, in board order
+    private final Property[][] GROUP_PROPERTIES; //Stores each color group's Properties, in board order
+    private final Property[] SLOT_PROPERTIES; //Stores the Property on each Space on the board. This is null for Spaces without a Property
+    private final boolean[] DIRTY_GROUPS; //Stores whether each color group has changed since its rents were last recomputed
+    private final HashMap<Player, BitSet> OWNED_SLOTS; //Stores the board slots of the Properties each Player owns
+    private final HashMap<Player, int[]> BUILDINGS; //Stores the number of houses (0) and hotels (1) each Player owns
+    private final BitSet NO_SLOTS; //An empty set of slots returned for Players who don't own anything. This is never modified
+
+    //BoardIndex fields
+    private int numDirtyGroups; //Stores the number of color groups that are marked dirty
+    private long version; //Stores the number of changes made to the board's Properties since this was made
+
+    /**
+     * Constructor for BoardIndex
+     *
+     * @param gameBoard   the game board to index. This shouldn't be null or contain any null Spaces
+     * @param colorGroups the color groups used on the board. Every Property's color group should be in this
+     * @throws IllegalArgumentException when a null parameter is passed or a Property's color group isn't in colorGroups
+     */
+    public BoardIndex(Space[] gameBoard, String[] colorGroups) {
+        if (gameBoard != null && colorGroups != null) {
+            COLOR_GROUPS = colorGroups;
+            GROUP_IDS = new HashMap<>();
+            for (int i = 0; i < colorGroups.length; i++) {
+                if (colorGroups[i] != null) {
+                    GROUP_IDS.putIfAbsent(colorGroups[i], i);
+                } else {
+                    throw new IllegalArgumentException("A null color group was passed");
+                }
+            }
+
+            SPACE_GROUPS = new int[gameBoard.length];
+            SLOT_PROPERTIES = new Property[gameBoard.length];
+            int[] groupSizes = new int[colorGroups.length];
+            for (int i = 0; i < gameBoard.length; i++) {
+                if (gameBoard[i] != null) {
+                    if (gameBoard[i].getPROPERTY() != null) {
+                        SLOT_PROPERTIES[i] = gameBoard[i].getPROPERTY();
+                        SPACE_GROUPS[i] = getGroupId(gameBoard[i].getPROPERTY().getCOLOR_GROUP());
+                        groupSizes[SPACE_GROUPS[i]]++;
+                    } else {
+                        SPACE_GROUPS[i] = -1;
+                    }
+                } else {
+                    throw new IllegalArgumentException("A null Space was passed");
+                }
+            }
+
+            GROUP_SLOTS = new int[colorGroups.length][];
+            GROUP_PROPERTIES = new Property[colorGroups.length][];
+            for (int group = 0; group < colorGroups.length; group++) {
+                GROUP_SLOTS[group] = new int[groupSizes[group]];
+                GROUP_PROPERTIES[group] = new Property[groupSizes[group]];
+                groupSizes[group] = 0; //This is reused as the fill position below
+            }
+            for (int i = 0; i < gameBoard.length; i++) {
+                int group = SPACE_GROUPS[i];
+                if (group != -1) {
+                    GROUP_SLOTS[group][groupSizes[group]] = i;
+                    GROUP_PROPERTIES[group][groupSizes[group]] = gameBoard[i].getPROPERTY();
+                    groupSizes[group]++;
+                }
+            }
+
+            DIRTY_GROUPS = new boolean[colorGroups.length];
+            Arrays.fill(DIRTY_GROUPS, true); //Nothing has been computed yet, so every color group starts dirty
+            numDirtyGroups = colorGroups.length;
+            version = 0;
+            OWNED_SLOTS = new HashMap<>();
+            BUILDINGS = new HashMap<>();
+            NO_SLOTS = new BitSet();
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Gets the id of a color group
+     *
+     * @param colorGroup the color group to look for
+     * @return the color group's id
+     * @throws IllegalArgumentException when the color group isn't on this board
+     */
+    public int getGroupId(String colorGroup) {
+        Integer id = colorGroup != null ? GROUP_IDS.get(colorGroup) : null;
+        if (id != null) {
+            return id;
+        } else {
+            throw new IllegalArgumentException("The passed color group was not found");
+        }
+    }
+
+    /**
+     * Gets the number of color groups
+     *
+     * @return the number of color groups
+     */
+    public int getNumGroups() {
+        return COLOR_GROUPS.length;
+    }
+
+    /**
+     * Gets the name of a color group
+     *
+     * @param group the color group's id
+     * @return the color group's name
+     */
+    public String getGroupName(int group) {
+        return COLOR_GROUPS[group];
+    }
+
+    /**
+     * Gets the color group of the Property on a Space
+     *
+     * @param spaceIndex the index of the Space on the board
+     * @return the color group's id, or -1 if the Space doesn't have a Property
+     */
+    public int getSpaceGroup(int spaceIndex) {
+        return SPACE_GROUPS[spaceIndex];
+    }
+
+    /**
+     * Gets the board indexes of a color group's Properties, in board order. This Array is shared and shouldn't be
+     * modified
+     *
+     * @param group the color group's id
+     * @return the board indexes
+     */
+    public int[] getGroupSlots(int group) {
+        return GROUP_SLOTS[group];
+    }
+
+    /**
+     * Gets a color group's Properties, in board order. This Array is shared and shouldn't be modified
+     *
+     * @param group the color group's id
+     * @return the Properties in the color group
+     */
+    public Property[] getGroupProperties(int group) {
+        return GROUP_PROPERTIES[group];
+    }
+
+    /**
+     * Gets the number of Properties in a color group owned by a Player
+     *
+     * @param group  the color group's id
+     * @param player the Player to look for. This can be null, in which case 0 will be returned
+     * @return the number of Properties the Player owns in the color group
+     */
+    public int numOwnedInGroup(int group, Player player) {
+        int result = 0;
+        if (player != null) {
+            for (Property property : GROUP_PROPERTIES[group]) {
+                if (property.getOwner() == player) {
+                    result++;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Determines if a Player owns all of the Properties in a color group, none of which are mortgaged
+     *
+     * @param group  the color group's id
+     * @param player the Player to look for. This can be null, in which case false will be returned
+     * @return whether the Player has a monopoly over the color group
+     */
+    public boolean hasMonopoly(int group, Player player) {
+        if (player == null || GROUP_PROPERTIES[group].length == 0) {
+            return false;
+        }
+        for (Property property : GROUP_PROPERTIES[group]) {
+            if (property.getOwner() != player || property.isMortgaged()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the closest index that belongs to a color group, looking forwards from startingIndex first and then
+     * backwards
+     *
+     * @param group         the color group's id
+     * @param startingIndex the index to start at
+     * @return the closest index that belongs to the color group
+     * @throws IllegalArgumentException when the color group has no Properties
+     */
+    public int nearestInGroup(int group, int startingIndex) {
+        int[] slots = GROUP_SLOTS[group];
+        if (slots.length > 0) {
+            for (int slot : slots) { //The slots are in board order, so the first one at or after startingIndex is the closest going forwards
+                if (slot >= startingIndex) {
+                    return slot;
+                }
+            }
+            return slots[slots.length - 1]; //Every slot is behind startingIndex, so the last one is the closest going backwards
+        } else {
+            throw new IllegalArgumentException("The passed color group was not found");
+        }
+    }
+
+    /**
+     * Gets the Property on a Space
+     *
+     * @param spaceIndex the index of the Space on the board
+     * @return the Space's Property, or null if it doesn't have one
+     */
+    public Property getSlotProperty(int spaceIndex) {
+        return SLOT_PROPERTIES[spaceIndex];
+    }
+
+    /**
+     * Attaches this index to its Properties, so that they tell it whenever their owner, mortgage or houses change.
+     * This also records who currently owns what. Only the index that a Game keeps should be attached, and the board's
+     * Spaces should already have been placed at their indexes
+     */
+    public void attach() {
+        for (int slot = 0; slot < SLOT_PROPERTIES.length; slot++) {
+            Property property = SLOT_PROPERTIES[slot];
+            if (property != null) {
+                property.setBoardIndex(this, SPACE_GROUPS[slot]);
+                ownerChanged(slot, null, property.getOwner());
+            }
+        }
+    }
+
+    /**
+     * Records that the Property on a slot has changed owners. Any buildings on it move with it
+     *
+     * @param slot     the board slot of the Property
+     * @param oldOwner the Property's old owner. This can be null
+     * @param newOwner the Property's new owner. This can be null
+     */
+    public void ownerChanged(int slot, Player oldOwner, Player newOwner) {
+        Property property = SLOT_PROPERTIES[slot];
+        if (oldOwner != null) {
+            OWNED_SLOTS.get(oldOwner).clear(slot);
+            addBuildings(oldOwner, property.getNumHouses(), property.getMAX_HOUSES(), -1);
+        }
+        if (newOwner != null) {
+            OWNED_SLOTS.computeIfAbsent(newOwner, player -> new BitSet(SLOT_PROPERTIES.length)).set(slot);
+            addBuildings(newOwner, property.getNumHouses(), property.getMAX_HOUSES(), 1);
+        }
+        markDirty(SPACE_GROUPS[slot]);
+    }
+
+    /**
+     * Records that the number of houses on a Property has changed
+     *
+     * @param slot      the board slot of the Property
+     * @param owner     the Property's owner. This can be null
+     * @param oldHouses the number of houses on the Property before the change
+     */
+    public void housesChanged(int slot, Player owner, int oldHouses) {
+        Property property = SLOT_PROPERTIES[slot];
+        if (owner != null) {
+            addBuildings(owner, oldHouses, property.getMAX_HOUSES(), -1);
+            addBuildings(owner, property.getNumHouses(), property.getMAX_HOUSES(), 1);
+        }
+        markDirty(SPACE_GROUPS[slot]);
+    }
+
+    /**
+     * Adds or removes a Property's buildings from a Player's counts. A Property with its maximum number of houses
+     * counts as one hotel, and otherwise counts as that many houses
+     *
+     * @param player    the Player whose counts should change
+     * @param numHouses the number of houses on the Property
+     * @param maxHouses the maximum number of houses on the Property
+     * @param sign      1 to add the buildings, -1 to remove them
+     */
+    private void addBuildings(Player player, int numHouses, int maxHouses, int sign) {
+        if (numHouses > 0) {
+            int[] buildings = BUILDINGS.computeIfAbsent(player, key -> new int[2]);
+            if (numHouses == maxHouses) {
+                buildings[1] += sign;
+            } else {
+                buildings[0] += sign * numHouses;
+            }
+        }
+    }
+
+    /**
+     * Gets the board slots of the Properties a Player owns. This BitSet is shared and shouldn't be modified
+     *
+     * @param player the Player to look for. This can be null, in which case an empty BitSet will be returned
+     * @return the slots the Player owns
+     */
+    public BitSet getOwnedSlots(Player player) {
+        BitSet slots = player != null ? OWNED_SLOTS.get(player) : null;
+        return slots != null ? slots : NO_SLOTS;
+    }
+
+    /**
+     * Gets the number of houses a Player owns. This does not include hotels
+     *
+     * @param player the Player to look for. This can be null, in which case 0 will be returned
+     * @return the number of houses
+     */
+    public int getNumHouses(Player player) {
+        int[] buildings = player != null ? BUILDINGS.get(player) : null;
+        return buildings != null ? buildings[0] : 0;
+    }
+
+    /**
+     * Gets the number of hotels a Player owns
+     *
+     * @param player the Player to look for. This can be null, in which case 0 will be returned
+     * @return the number of hotels
+     */
+    public int getNumHotels(Player player) {
+        int[] buildings = player != null ? BUILDINGS.get(player) : null;
+        return buildings != null ? buildings[1] : 0;
+    }
+
+    /**
+     * Marks a color group as changed, so its rents will be recomputed. This also moves the board to a new version
+     *
+     * @param group the color group's id
+     */
+    public void markDirty(int group) {
+        version++;
+        if (!DIRTY_GROUPS[group]) {
+            DIRTY_GROUPS[group] = true;
+            numDirtyGroups++;
+        }
+    }
+
+    /**
+     * Gets the board's version. This changes whenever any Property's owner, mortgage or houses change, so anything
+     * calculated from the board can be reused for as long as the version stays the same
+     *
+     * @return the board's version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets whether a color group has changed since it was last marked clean
+     *
+     * @param group the color group's id
+     * @return whether the color group is dirty
+     */
+    public boolean isDirty(int group) {
+        return DIRTY_GROUPS[group];
+    }
+
+    /**
+     * Gets whether any color group has changed since it was last marked clean
+     *
+     * @return whether any color group is dirty
+     */
+    public boolean hasDirtyGroups() {
+        return numDirtyGroups > 0;
+    }
+
+    /**
+     * Marks a color group as up to date
+     *
+     * @param group the color group's id
+     */
+    public void markClean(int group) {
+        if (DIRTY_GROUPS[group]) {
+            DIRTY_GROUPS[group] = false;
+            numDirtyGroups--;
+        }
+    }
+}
@@ -1750,7 +1750,7 @@ public class CustomGameCreator extends JPanel implements ActionListener {
                 NAME_LABEL = new JLabel(name);
                 NAME_LABEL.setToolTipText("The player's name");
                 add(NAME_LABEL);
-                TYPE = new JComboBox<>(new String[]{"Human Player", "AI Player"});
+                TYPE = new JComboBox<>(new String[]{"Human Player", "AI Player", "Monte Carlo Player"});
                 TYPE.setToolTipText("The player's type");
                 COLOR_BUTTON = new JButton();
                 COLOR_BUTTON.addActionListener(e -> {
@@ -1794,7 +1794,7 @@ public class CustomGameCreator extends JPanel implements ActionListener {
          * @return the Players type as is stored in the TYPE ComboBox
          */
         public String getPlayerType() {
-            return TYPE.getSelectedIndex() == 0 ? "Human Player" : "AI Player";
+            return (String) TYPE.getSelectedItem();
         }
 
         /**
@@ -1,5 +1,6 @@
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.SplittableRandom;
 
 /**
  * Represents a Deck of Cards
@@ -13,6 +14,7 @@ public class Deck {
     //Deck fields
     private ArrayList<Card> deck; //Stores the active deck that will be referenced when a card needs to be drawn. This shouldn't be null
     private ArrayList<Card> ownedCards; //Stores the Cards that a Player currently holds
+    private SplittableRandom random; //Stores the generator Cards are drawn with. This is replaced by the Game's generator once the Deck is in a Game
 
     /**
      * Constructor for Deck
@@ -29,6 +31,7 @@ public class Deck {
             }
 
             DEFAULT_DECK = cards;
+            random = new SplittableRandom();
             resetDeck();
         } else {
             throw new IllegalArgumentException("A null or empty Card Array was passed");
@@ -102,7 +105,7 @@ public class Deck {
      */
     public Card getCard() {
         if (deck.size() > 0) {
-            return deck.remove((int) (deck.size() * Math.random()));
+            return deck.remove(random.nextInt(deck.size()));
         } else {
             resetDeck();
             return getCard();
@@ -144,4 +147,104 @@ public class Deck {
             throw new IllegalArgumentException("A null or unowned Card was passed");
         }
     }
+
+    /**
+     * Sets the generator Cards are drawn with
+     *
+     * @param random the generator. This shouldn't be null
+     * @throws IllegalArgumentException when a null generator is passed
+     */
+    public void setRandom(SplittableRandom random) {
+        if (random != null) {
+            this.random = random;
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Gets the number of Cards in the full Deck
+     *
+     * @return the number of Cards
+     */
+    public int getNumCards() {
+        return DEFAULT_DECK.length;
+    }
+
+    /**
+     * Gets a Card from the full Deck, whether or not it has been drawn
+     *
+     * @param index the index of the Card in the full Deck. This should be between 0 and getNumCards() - 1
+     * @return the Card
+     */
+    public Card getDefaultCard(int index) {
+        return DEFAULT_DECK[index];
+    }
+
+    /**
+     * Finds a Card's index in the full Deck
+     *
+     * @param card the Card to look for
+     * @return the Card's index
+     * @throws IllegalStateException when the Card isn't from this Deck
+     */
+    public int indexOf(Card card) {
+        for (int i = 0; i < DEFAULT_DECK.length; i++) {
+            if (DEFAULT_DECK[i] == card) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("The Deck holds a Card that isn't from it");
+    }
+
+    /**
+     * Copies the Cards left to draw, in order, into a preallocated Array of indexes into the full Deck
+     *
+     * @param remaining the Array the Cards are copied into. This should be at least getNumCards() long
+     * @return the number of Cards left to draw
+     */
+    public int copyRemaining(short[] remaining) {
+        for (int i = 0; i < deck.size(); i++) {
+            remaining[i] = (short) indexOf(deck.get(i));
+        }
+        return deck.size();
+    }
+
+    /**
+     * Copies the held Cards, in order, into a preallocated Array of indexes into the full Deck
+     *
+     * @param held the Array the Cards are copied into. This should be at least getNumCards() long
+     * @return the number of held Cards
+     */
+    public int copyHeld(short[] held) {
+        for (int i = 0; i < ownedCards.size(); i++) {
+            held[i] = (short) indexOf(ownedCards.get(i));
+        }
+        return ownedCards.size();
+    }
+
+    /**
+     * Puts the Deck back into a state copied by copyRemaining and copyHeld. The Cards' owners aren't changed
+     *
+     * @param remaining    the indexes of the Cards left to draw, in order
+     * @param numRemaining the number of Cards left to draw
+     * @param held         the indexes of the held Cards, in order
+     * @param numHeld      the number of held Cards
+     * @throws IllegalArgumentException when the counts don't fit in the Deck
+     */
+    public void restoreState(short[] remaining, int numRemaining, short[] held, int numHeld) {
+        if (numRemaining >= 0 && numRemaining <= DEFAULT_DECK.length && numHeld >= 0 &&
+                numHeld <= DEFAULT_DECK.length) {
+            deck.clear();
+            for (int i = 0; i < numRemaining; i++) {
+                deck.add(DEFAULT_DECK[remaining[i]]);
+            }
+            ownedCards.clear();
+            for (int i = 0; i < numHeld; i++) {
+                ownedCards.add(DEFAULT_DECK[held[i]]);
+            }
+        } else {
+            throw new IllegalArgumentException("An invalid number of Cards was passed");
+        }
+    }
 }
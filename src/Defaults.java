@@ -140,6 +140,12 @@ public class Defaults {
 
     private static final int PLAYER_JAIL_TIME = 3;
 
+    private static final int MONTE_CARLO_ROLLOUTS = 200;
+
+    private static final long MONTE_CARLO_MILLIS = 50;
+
+    private static final int MONTE_CARLO_TURNS = 40;
+
     private static final String[][] CARD_TYPES = {{"Community Chest", "Community Chest", "Community Chest",
             "Community Chest", "Community Chest", "Community Chest", "Community Chest", "Community Chest",
             "Community Chest", "Community Chest", "Community Chest", "Community Chest", "Community Chest",
@@ -512,6 +518,33 @@ public class Defaults {
         return PLAYER_JAIL_TIME;
     }
 
+    /**
+     * Gets the Default number of rollouts a Monte Carlo Player plays for each decision
+     *
+     * @return the Default number of rollouts
+     */
+    public static int getMonteCarloRollouts() {
+        return MONTE_CARLO_ROLLOUTS;
+    }
+
+    /**
+     * Gets the Default number of milliseconds a Monte Carlo Player can spend on each decision
+     *
+     * @return the Default time budget
+     */
+    public static long getMonteCarloMillis() {
+        return MONTE_CARLO_MILLIS;
+    }
+
+    /**
+     * Gets the Default number of turns each of a Monte Carlo Player's rollouts plays
+     *
+     * @return the Default rollout length
+     */
+    public static int getMonteCarloTurns() {
+        return MONTE_CARLO_TURNS;
+    }
+
     /**
      * Gets the type of each Card
      *
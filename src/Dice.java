@@ -1,3 +1,5 @@
+import java.util.SplittableRandom;
+
 /**
  * Represents a Dice
  *
@@ -7,6 +9,9 @@ public class Dice {
     //Dice constants
     private final int NUM_SIDES; //The number of sides on the Dice
 
+    //Dice fields
+    private SplittableRandom random; //The generator the Dice rolls with. This is replaced by the Game's generator once the Dice is in a Game
+
     /**
      * Constructor for Dice
      *
@@ -16,6 +21,7 @@ public class Dice {
     public Dice(int sides) {
         if (sides > 0) {
             NUM_SIDES = sides;
+            random = new SplittableRandom();
         } else {
             throw new IllegalArgumentException("A negative number of sides was passed");
         }
@@ -27,6 +33,29 @@ public class Dice {
      * @return the value rolled
      */
     public int getRoll() {
-        return (int) (1 + NUM_SIDES * Math.random());
+        return 1 + random.nextInt(NUM_SIDES);
+    }
+
+    /**
+     * Gets the number of sides on the Dice
+     *
+     * @return the number of sides
+     */
+    public int getNUM_SIDES() {
+        return NUM_SIDES;
+    }
+
+    /**
+     * Sets the generator the Dice rolls with
+     *
+     * @param random the generator. This shouldn't be null
+     * @throws IllegalArgumentException when a null generator is passed
+     */
+    public void setRandom(SplittableRandom random) {
+        if (random != null) {
+            this.random = random;
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
     }
 }
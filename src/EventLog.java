@@ -0,0 +1,382 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An append-only log of everything that happens in a Game. The log starts with the Game's whole GameState, and every
+ * event after that is written with only what it changed: the Properties, seats and Decks that are different from
+ * the event before. Replaying a log applies those changes to a GameState and restores the Game once at the end, so
+ * rebuilding a Game at any turn never asks the Players anything. Events are gathered in a buffer that's written to
+ * the file at the end of every turn, so a crash loses at most the turn in progress
+ *
+ * @author irswr
+ */
+public class EventLog implements Closeable {
+    //EventLog constants
+    private static final int MAGIC = 0x4D4F4C47; //The first four bytes of every log, which are "MOLG"
+    private static final short VERSION = 2; //The version of the format logs are written in. Raise this when the format changes
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES + 2 + Integer.BYTES; //The length, type, seat and int that start every event
+    private static final int MIN_BUFFER_BYTES = 1 << 16; //The smallest buffer events are gathered in
+    private final Game GAME; //Stores the Game that's logged
+    private final Player[] SEATS; //Stores the Game's Players in seat order
+    private final FileChannel CHANNEL; //Stores the channel the log is written through
+    private final ByteBuffer BUFFER; //Stores the events that haven't been written yet
+    private final int MAX_RECORD_BYTES; //Stores the most bytes an event can take
+
+    //EventLog fields
+    private GameState previous; //Stores the Game as it was after the last event
+    private GameState current; //Stores the Game as it is after this event. This is swapped with previous after every event
+    private int numTurns; //Stores the number of turns that have been started
+    private int numEvents; //Stores the number of events that have been logged
+    private IOException failure; //Stores why writing the log failed. Once this is set no more events are logged
+
+    /**
+     * Constructor for EventLog. The log starts from the Game's current state, and any file already at the path is
+     * replaced. The Game should be given this with Game.setEventLog for its events to be logged
+     *
+     * @param game the Game that should be logged. This shouldn't be null
+     * @param path the file the log should be written to. Its directory is made if it doesn't exist. This shouldn't be
+     *             null
+     * @throws IOException              when the log can't be opened
+     * @throws IllegalArgumentException when a null parameter is passed
+     */
+    public EventLog(Game game, Path path) throws IOException {
+        this(game, path, false);
+    }
+
+    /**
+     * Constructor for EventLog that can carry on a log that's already been written, such as when a saved Game is
+     * continued. The log is read to find the state its last whole event left the Game in, anything after that which
+     * was cut off by a crash is dropped, and the next event is logged with everything that's changed since, so
+     * replaying the log still ends where the Game is
+     *
+     * @param game   the Game that should be logged. This shouldn't be null
+     * @param path   the file the log should be written to. When it's replaced, its directory is made if it doesn't
+     *               exist. This shouldn't be null
+     * @param append whether the log at the path should be carried on rather than replaced. That log should have been
+     *               made from a Game with the same parts
+     * @throws IOException              when the log can't be opened, or can't be carried on because it's missing,
+     *                                  damaged, or was made from a different board
+     * @throws IllegalArgumentException when a null parameter is passed
+     */
+    public EventLog(Game game, Path path, boolean append) throws IOException {
+        if (game != null && path != null) {
+            GAME = game;
+            SEATS = game.getSEATS();
+            previous = game.newState();
+            current = game.newState();
+            MAX_RECORD_BYTES = RECORD_HEADER_BYTES + previous.getMaxChangeBytes();
+            Deck[] decks = game.getDECKS();
+            int headerBytes = Integer.BYTES + 2 * Short.BYTES + Long.BYTES + Integer.BYTES + Short.BYTES +
+                    Short.BYTES * decks.length + previous.getNumBytes();
+            BUFFER = ByteBuffer.allocateDirect(Math.max(MIN_BUFFER_BYTES, Math.max(headerBytes, 2 * MAX_RECORD_BYTES)));
+
+            int end = 0; //Stores where the log's last whole event ends when it's carried on
+            if (append) {
+                ByteBuffer log = checkVersion(ByteBuffer.wrap(Files.readAllBytes(path))); //This isn't mapped, so the file can be cut short below
+                previous = readHeader(log, game);
+                readEvents(log, previous, Integer.MAX_VALUE, null);
+                end = log.position();
+                CHANNEL = FileChannel.open(path, StandardOpenOption.WRITE);
+            } else {
+                Path parent = path.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                CHANNEL = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+                game.snapshot(previous);
+                BUFFER.putInt(MAGIC).putShort(VERSION).putShort((short) SEATS.length);
+                BUFFER.putLong(SaveFile.fingerprint(game.getGAME_BOARD(), decks));
+                BUFFER.putInt(previous.getBOARD_SIZE()).putShort((short) decks.length);
+                for (Deck deck : decks) {
+                    BUFFER.putShort((short) deck.getNumCards());
+                }
+                previous.put(BUFFER);
+            }
+            try {
+                if (append) { //Whatever a crash cut off is dropped, so the next event follows the last whole one
+                    CHANNEL.truncate(end);
+                    CHANNEL.position(end);
+                }
+                flush();
+            } catch (IOException e) {
+                CHANNEL.close();
+                throw e;
+            }
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Logs an event. The Game is compared to how it was after the last event, and whatever changed is logged with
+     * this event. A failed write doesn't stop the Game: no more events are logged, and the failure is thrown by close
+     *
+     * @param type   what happened. This shouldn't be null
+     * @param player the Player it happened to. This can be null
+     * @param value  the event's int, as described by its GameEventType
+     * @throws IllegalArgumentException when a null type is passed
+     */
+    public void record(GameEventType type, Player player, int value) {
+        if (type != null) {
+            if (failure == null) {
+                try {
+                    if (BUFFER.remaining() < MAX_RECORD_BYTES) {
+                        flush();
+                    }
+                    GAME.snapshot(current);
+                    int start = BUFFER.position();
+                    BUFFER.putInt(0).put((byte) type.ordinal()).put((byte) GAME.seatOf(player)).putInt(value);
+                    current.putChanges(previous, BUFFER);
+                    BUFFER.putInt(start, BUFFER.position() - start - Integer.BYTES);
+                    GameState temp = previous;
+                    previous = current;
+                    current = temp;
+                    numEvents++;
+                    if (type == GameEventType.TURN) {
+                        numTurns++;
+                    } else if (type == GameEventType.END_TURN) {
+                        flush();
+                    }
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Writes every gathered event to the file
+     *
+     * @throws IOException when the events can't be written
+     */
+    private void flush() throws IOException {
+        BUFFER.flip();
+        while (BUFFER.hasRemaining()) {
+            CHANNEL.write(BUFFER);
+        }
+        BUFFER.clear();
+    }
+
+    /**
+     * Writes any events that haven't been written and closes the log
+     *
+     * @throws IOException when the log couldn't be written, now or when an earlier event was logged
+     */
+    @Override
+    public void close() throws IOException {
+        if (CHANNEL.isOpen()) {
+            try {
+                if (failure == null) {
+                    flush();
+                }
+            } finally {
+                CHANNEL.close();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Rebuilds a Game as it was after a number of turns of a log. The Game should be made from the same parts as the
+     * logged Game, and its Players take the logged Players' seats
+     *
+     * @param game  the Game to rebuild. This shouldn't be null
+     * @param path  the log. This shouldn't be null
+     * @param turns the number of turns that should be replayed. This shouldn't be negative, and Integer.MAX_VALUE
+     *              replays the whole log
+     * @return the number of turns that were replayed, which is less than turns if the log is shorter
+     * @throws IOException              when the log can't be read, is damaged, or was made from a different board
+     * @throws IllegalArgumentException when a null or invalid parameter is passed
+     */
+    public static int replay(Game game, Path path, int turns) throws IOException {
+        if (game != null && path != null && turns >= 0) {
+            ByteBuffer buffer = map(path);
+            GameState state = readHeader(buffer, game);
+            int numTurns = readEvents(buffer, state, turns, null);
+            game.restore(state);
+            return numTurns;
+        } else {
+            throw new IllegalArgumentException("A null or invalid parameter was passed");
+        }
+    }
+
+    /**
+     * Describes the events of a log, one per line, with the wallet of the Player each one happened to
+     *
+     * @param path  the log. This shouldn't be null
+     * @param turns the number of turns that should be described. This shouldn't be negative
+     * @return the description
+     * @throws IOException              when the log can't be read or is damaged
+     * @throws IllegalArgumentException when a null or invalid parameter is passed
+     */
+    public static String describe(Path path, int turns) throws IOException {
+        if (path != null && turns >= 0) {
+            ByteBuffer buffer = map(path);
+            StringBuilder description = new StringBuilder();
+            readEvents(buffer, readHeader(buffer, null), turns, description);
+            return description.toString();
+        } else {
+            throw new IllegalArgumentException("A null or invalid parameter was passed");
+        }
+    }
+
+    /**
+     * Maps a log into memory and checks that it's a log this version can read
+     *
+     * @param path the log
+     * @return the log, positioned just after its version
+     * @throws IOException when the log can't be read, isn't a log, or is from a different version
+     */
+    private static ByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return checkVersion(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Checks that a buffer holds a log this version can read
+     *
+     * @param buffer the log, positioned at its start
+     * @return the buffer, positioned just after its version
+     * @throws IOException when the buffer isn't a log, or is from a different version
+     */
+    private static ByteBuffer checkVersion(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < Integer.BYTES + Short.BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException("The file isn't an event log");
+        } else if (buffer.getShort() != VERSION) {
+            throw new IOException("The event log is from a different version");
+        }
+        return buffer;
+    }
+
+    /**
+     * Reads the rest of a log's header and the GameState the log starts from
+     *
+     * @param buffer the log, positioned just after its version
+     * @param game   the Game the log should be checked against. This can be null for no check
+     * @return the GameState the log starts from
+     * @throws IOException when the log is damaged or doesn't match the Game
+     */
+    private static GameState readHeader(ByteBuffer buffer, Game game) throws IOException {
+        try {
+            int numSeats = buffer.getShort();
+            long fingerprint = buffer.getLong();
+            int boardSize = buffer.getInt();
+            int[] deckSizes = new int[buffer.getShort()];
+            for (int d = 0; d < deckSizes.length; d++) {
+                deckSizes[d] = buffer.getShort();
+            }
+            GameState state = game != null ? game.newState() : new GameState(boardSize, numSeats, deckSizes);
+            if (game != null && (fingerprint != SaveFile.fingerprint(game.getGAME_BOARD(), game.getDECKS()) ||
+                    numSeats != state.getNUM_SEATS() || boardSize != state.getBOARD_SIZE() ||
+                    !state.matches(game.getDECKS()) || deckSizes.length != game.getDECKS().length)) {
+                throw new IOException("The event log was made from a different board");
+            }
+            state.get(buffer);
+            return state;
+        } catch (RuntimeException e) {
+            throw new IOException("The event log is damaged", e);
+        }
+    }
+
+    /**
+     * Applies a log's events to a GameState. An event that was cut off by a crash ends the log. The buffer is left at
+     * the start of the first event that wasn't read
+     *
+     * @param buffer      the log, positioned at its first event
+     * @param state       the GameState the log starts from, which the events are applied to
+     * @param turns       the number of turns that should be read
+     * @param description what each event is appended to, one per line. This can be null
+     * @return the number of turns that were read
+     * @throws IOException when an event is damaged
+     */
+    private static int readEvents(ByteBuffer buffer, GameState state, int turns, StringBuilder description)
+            throws IOException {
+        GameEventType[] types = GameEventType.values();
+        int numTurns = 0;
+        while (buffer.remaining() >= Integer.BYTES) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            if (length < RECORD_HEADER_BYTES - Integer.BYTES || length > buffer.remaining()) {
+                buffer.position(start);
+                break;
+            }
+            int end = buffer.position() + length;
+            int type = buffer.get();
+            int seat = buffer.get();
+            int value = buffer.getInt();
+            if (type < 0 || type >= types.length || seat < -1 || seat >= state.getNUM_SEATS()) {
+                throw new IOException("The event log is damaged");
+            } else if (types[type] == GameEventType.TURN) {
+                if (numTurns == turns) {
+                    buffer.position(start);
+                    break;
+                }
+                numTurns++;
+            }
+            int limit = buffer.limit();
+            buffer.limit(end);
+            try {
+                state.applyChanges(buffer);
+            } catch (RuntimeException e) {
+                throw new IOException("The event log is damaged", e);
+            }
+            buffer.limit(limit);
+            if (description != null) {
+                description.append("Turn ").append(numTurns).append(": ").append(types[type]);
+                if (seat != -1) {
+                    description.append(" by seat ").append(seat).append(", ").append(value);
+                    description.append(" (wallet $").append(state.getWallet(seat)).append(")");
+                } else {
+                    description.append(", ").append(value);
+                }
+                description.append(System.lineSeparator());
+            }
+        }
+        return numTurns;
+    }
+
+    /**
+     * Gets the number of turns that have been started since the log was opened
+     *
+     * @return the number of turns
+     */
+    public int getNumTurns() {
+        return numTurns;
+    }
+
+    /**
+     * Gets the number of events that have been logged since the log was opened
+     *
+     * @return the number of events
+     */
+    public int getNumEvents() {
+        return numEvents;
+    }
+
+    /**
+     * Prints the events of a log
+     *
+     * @param args the log's path, and optionally the number of turns that should be printed
+     * @throws IOException when the log can't be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0) {
+            int turns = args.length > 1 ? Integer.parseInt(args[1]) : Integer.MAX_VALUE;
+            System.out.print(describe(Paths.get(args[0]), turns));
+        } else {
+            System.out.println("Usage: EventLog <log> [turns]");
+        }
+    }
+}
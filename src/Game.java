@@ -1,6 +1,9 @@
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
 import java.util.Objects;
+import java.util.SplittableRandom;
 
 /**
  * Represents the Game board. Contains all of the methods for general game execution
@@ -9,15 +12,26 @@ import java.util.Objects;
  */
 public class Game {
     //Game constants
+    private static final int MAX_TRADES = 5; //The most Trades a Player can start in one go. AIs can otherwise keep trading the same Properties back and forth forever
     private final Space[] GAME_BOARD; //This stores the Spaces that come together to form the gameBoard
-    private final String[] COLOR_GROUPS; //This stores the color groups that are used on the gameBoard
+    private final BoardIndex BOARD_INDEX; //Stores the index of the gameBoard's color groups, which is built once here
     private final ArrayList<Player> PLAYERS; //Stores all of the games Players
-    private final Dice[] DICE; //Stores the Dice for the game
+    private final Player[] SEATS; //Stores every Player the Game started with, in order, including those who have gone bankrupt
+    private final IdentityHashMap<Player, Integer> SEAT_INDEX; //Stores the seat of every Player in SEATS, so it's found without a scan
+    private final long[] RENT_PAID; //Stores the rent each seat has paid over the Game, including rent a Space or Card sends them to pay
+    private final long[] RENT_RECEIVED; //Stores the rent each seat has been paid over the Game
+    private final Roll ROLL; //Stores the current turn's roll, which is rolled again each turn rather than remade
+    private final Roll EXTRA_ROLL; //Stores the roll used when a Space or Card makes the Player roll again to work out a payment
     private final Deck[] DECKS; //This stores the Game's Decks. 0 is Community Chest, 1 is Chance
-    private final GameUI GAME_UI; //Stores the GameUI Object that will manage the UI
+    private final GameView GAME_VIEW; //Stores the GameView that this Game reports to. This may be a GameUI or headless
     private final int JAIL_SPACE; //Stores the index of the Jail space
     private final int JAIL_BAIL; //Stores the amount the Player needs to pay to get out of jail
+    private final RentAnalytics RENT_ANALYTICS; //Stores the expected rents of the board's Properties, which the AIPlayers value Properties with. This is null if there aren't any AIPlayers
+    private final long SEED; //Stores the seed of RANDOM, so the Game can be played again with the same rolls and draws
+    private final SplittableRandom RANDOM; //Stores the generator that the Dice, Decks and AIPlayers draw from. Only this Game's thread uses it
     /**
+     * The text of each prompt. Players are always told which PromptType they are being asked alongside this text,
+     * and PROMPTS[type.ordinal()] is the text for that type
      * <ul>
      * <li>PROMPTS[0] should prompt the user if they would like to use a get out of jail free Card</li>
      * <li>PROMPTS[1] should prompt the user if they would like to Trade another Player for a get out of jail free Card</li>
@@ -53,6 +67,7 @@ public class Game {
     //Game fields
     private int currentPlayer; //Stores the index of the current Player in PLAYERS
     private boolean shouldGoToNextPlayer; //Stores whether the next turn should move to the next Player
+    private EventLog eventLog; //Stores the log that every event is written to. This is null if the Game isn't being logged
 
     /*
     The following methods will manage all aspects of game initialization
@@ -68,16 +83,38 @@ public class Game {
      * @param players     a completed Array of the game's Players. This shouldn't be null or contain any null elements
      * @param dice        a completed Array of the game's Dice. This shouldn't be null or contain any null elements
      * @param decks       a completed Array of Decks or contain any null elements
-     * @param gameUI      a completed GameUI. This shouldn't be null or contain any null elements
+     * @param gameView    the GameView that should be shown the Game. This shouldn't be null
      * @param prompts     the prompts that are used during the Game
      * @throws IllegalArgumentException when a null, or empty parameter is passed
      */
     public Game(Space[] gameBoard, String[] colorGroups, int jailSpace, int jailBail, Player[] players,
-                Dice[] dice, Deck[] decks, GameUI gameUI, String[] prompts) {
+                Dice[] dice, Deck[] decks, GameView gameView, String[] prompts) {
+        this(gameBoard, colorGroups, jailSpace, jailBail, players, dice, decks, gameView, prompts,
+                new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs for a Game whose rolls, draws and AI bids all come from a single seed. Two Games made from the same
+     * parts and seed play out the same way as long as their Players make the same choices
+     *
+     * @param gameBoard   a completed Array of Spaces. This shouldn't be null or contain any null elements
+     * @param colorGroups the color groups used in the gameBoard. This shouldn't be null
+     * @param jailSpace   the index of the jail
+     * @param jailBail    the amount the Player needs to pay to get out of jail
+     * @param players     a completed Array of the game's Players. This shouldn't be null or contain any null elements
+     * @param dice        a completed Array of the game's Dice. This shouldn't be null or contain any null elements
+     * @param decks       a completed Array of Decks or contain any null elements
+     * @param gameView    the GameView that should be shown the Game. This shouldn't be null
+     * @param prompts     the prompts that are used during the Game
+     * @param seed        the seed for the Game's random generator
+     * @throws IllegalArgumentException when a null, or empty parameter is passed
+     */
+    public Game(Space[] gameBoard, String[] colorGroups, int jailSpace, int jailBail, Player[] players,
+                Dice[] dice, Deck[] decks, GameView gameView, String[] prompts, long seed) {
         if (gameBoard != null && colorGroups != null && colorGroups.length > 0 && jailSpace >= 0 &&
                 jailSpace < gameBoard.length && jailBail >= 0 &&
                 players != null && players.length > 0 && dice != null && dice.length > 0 && decks != null &&
-                gameUI != null && prompts != null && prompts.length == 27 && validateGameBoard(gameBoard, colorGroups)) {
+                gameView != null && prompts != null && prompts.length == 27 && validateGameBoard(gameBoard, colorGroups)) {
 
             for (Player player : players) { //Validates that there are no null Players
                 if (player == null) {
@@ -98,14 +135,44 @@ public class Game {
             }
 
             GAME_BOARD = gameBoard;
-            COLOR_GROUPS = colorGroups;
+            for (int i = 0; i < gameBoard.length; i++) { //GameCreator already does this, but a board could be made elsewhere
+                gameBoard[i].setIndex(i);
+            }
+            BOARD_INDEX = new BoardIndex(gameBoard, colorGroups);
+            BOARD_INDEX.attach();
             JAIL_SPACE = jailSpace;
             JAIL_BAIL = jailBail;
+            SEED = seed;
+            RANDOM = new SplittableRandom(seed);
             PLAYERS = new ArrayList<>(Arrays.asList(players));
-            DICE = dice;
+            SEATS = players.clone();
+            SEAT_INDEX = new IdentityHashMap<>();
+            for (int seat = 0; seat < SEATS.length; seat++) {
+                SEAT_INDEX.put(SEATS[seat], seat);
+            }
+            RENT_PAID = new long[SEATS.length];
+            RENT_RECEIVED = new long[SEATS.length];
+            for (Player player : players) { //AIPlayers use the index to tell when their Property values need recalculating
+                if (player instanceof AIPlayer) {
+                    ((AIPlayer) player).setBoardIndex(BOARD_INDEX);
+                    ((AIPlayer) player).setRandom(RANDOM);
+                }
+                if (player instanceof MonteCarloPlayer) { //MonteCarloPlayers start their rollouts from this Game
+                    ((MonteCarloPlayer) player).setGame(this);
+                }
+            }
+            for (Dice die : dice) {
+                die.setRandom(RANDOM);
+            }
+            ROLL = new Roll(dice);
+            EXTRA_ROLL = new Roll(dice);
             DECKS = decks;
-            GAME_UI = gameUI;
-            updatePropertiesRent(GAME_BOARD);
+            for (Deck deck : decks) {
+                deck.setRandom(RANDOM);
+            }
+            GAME_VIEW = gameView;
+            RENT_ANALYTICS = makeRentAnalytics(players);
+            updatePropertiesRent();
             currentPlayer = 0;
             PROMPTS = prompts;
             shouldGoToNextPlayer = false;
@@ -114,6 +181,26 @@ public class Game {
         }
     }
 
+    /**
+     * Gets the rent analytics for this Game's board and gives them to its AIPlayers. They're shared with every other
+     * Game made from the same parts, and the jail sentence of the first AIPlayer is used for the whole board
+     *
+     * @param players the Game's Players
+     * @return the analytics, or null if there aren't any AIPlayers to use them
+     */
+    private RentAnalytics makeRentAnalytics(Player[] players) {
+        RentAnalytics analytics = null;
+        for (Player player : players) {
+            if (player instanceof AIPlayer) {
+                if (analytics == null) {
+                    analytics = RentAnalytics.of(this, ((AIPlayer) player).getTURNS_IN_JAIL());
+                }
+                ((AIPlayer) player).setRentAnalytics(analytics);
+            }
+        }
+        return analytics;
+    }
+
     /*
     The following methods are static helper methods
      */
@@ -162,6 +249,12 @@ public class Game {
      */
     public static boolean validateGameBoard(Space[] gameBoard, String[] colorGroups) {
         if (gameBoard != null && colorGroups != null) {
+            for (String colorGroup : colorGroups) {
+                if (colorGroup == null) {
+                    return false;
+                }
+            }
+
             for (Space space : gameBoard) { //Validates that there are no null Spaces
                 if (space == null) {
                     return false;
@@ -182,12 +275,9 @@ public class Game {
                 }
             }
 
-            for (String colorGroup : colorGroups) {
-                if (colorGroup != null) {
-                    if (!validateColorGroup(colorGroup, gameBoard)) {
-                        return false;
-                    }
-                } else {
+            BoardIndex index = new BoardIndex(gameBoard, colorGroups);
+            for (int group = 0; group < index.getNumGroups(); group++) {
+                if (!validateColorGroup(group, index)) {
                     return false;
                 }
             }
@@ -199,40 +289,21 @@ public class Game {
     }
 
     /**
-     * Updates the rents of the given spaces
-     *
-     * @param spaces the spaces to update the rents of, if they have Properties
-     * @throws IllegalArgumentException when a null parameter is passed
+     * Updates the rents of the Properties in every color group that has changed since the last update. Properties mark
+     * their own color group dirty whenever their owner, mortgage or houses change. GameBenchmark times this on its
+     * own, which is why it isn't private
      */
-    private static void updatePropertiesRent(Space[] spaces) {
-        if (spaces != null) {
-            for (Space space : spaces) {
-                if (space != null) {
-                    if (space.getPROPERTY() != null) {
-                        updateRent(space.getPROPERTY(), spaces);
+    void updatePropertiesRent() {
+        if (BOARD_INDEX.hasDirtyGroups()) {
+            for (int group = 0; group < BOARD_INDEX.getNumGroups(); group++) {
+                if (BOARD_INDEX.isDirty(group)) {
+                    for (Property property : BOARD_INDEX.getGroupProperties(group)) {
+                        property.setRent(BOARD_INDEX.numOwnedInGroup(group, property.getOwner()),
+                                BOARD_INDEX.hasMonopoly(group, property.getOwner()));
                     }
-                } else {
-                    throw new IllegalArgumentException("A null Space was passed");
+                    BOARD_INDEX.markClean(group);
                 }
             }
-        } else {
-            throw new IllegalArgumentException("A null parameter was passed");
-        }
-    }
-
-    /**
-     * Updates the rent of a given Property
-     *
-     * @param property the Property to update
-     * @param spaces   the board to look at
-     * @throws IllegalArgumentException when a null parameter is passed
-     */
-    private static void updateRent(Property property, Space[] spaces) {
-        if (property != null && spaces != null) {
-            property.setRent(playerPropertiesInColorGroup(property.getCOLOR_GROUP(), spaces, property.getOwner()).length,
-                    playerHasMonopoly(property.getCOLOR_GROUP(), spaces, property.getOwner()));
-        } else {
-            throw new IllegalArgumentException("A null parameter was passed");
         }
     }
 
@@ -240,14 +311,17 @@ public class Game {
      * Validates a color group, meaning all of the Properties share the same multiplier and scaled states and only
      * own houses when they have the same owner as all of the other Properties in their color group
      *
-     * @param colorGroup the color group to validate
-     * @param spaces     the board to look at
+     * @param group the id of the color group to validate
+     * @param index the index of the board to look at
      * @return true if the color group is valid, false if not
      * @throws IllegalArgumentException when a null parameter is passed
      */
-    private static boolean validateColorGroup(String colorGroup, Space[] spaces) {
-        if (colorGroup != null && spaces != null) {
-            Property[] properties = propertiesInColorGroup(colorGroup, spaces);
+    private static boolean validateColorGroup(int group, BoardIndex index) {
+        if (index != null) {
+            Property[] properties = index.getGroupProperties(group);
+            if (properties.length == 0) { //A color group without any Properties can't be landed on or moved to
+                return false;
+            }
             boolean isDiceMultiplier = properties[0].IS_DICE_MULTIPLIER();
             boolean isScaled = properties[0].IS_SCALED();
             Player owner = properties[0].getOwner();
@@ -274,46 +348,42 @@ public class Game {
     }
 
     /**
-     * Gets all of the Properties in a color group on a game board
+     * Gets all of the Properties in a color group, using the slots kept by the board index
      *
      * @param colorGroup the color group to look for
-     * @param spaces     the game board to read
-     * @return the Properties in a color group
-     * @throws IllegalArgumentException when a null parameter is passed
+     * @return the Properties in a color group, in board order
+     * @throws IllegalArgumentException when a null color group, or one that isn't on the board, is passed
      */
-    public static Property[] propertiesInColorGroup(String colorGroup, Space[] spaces) {
-        if (colorGroup != null && spaces != null) {
-            ArrayList<Property> result = new ArrayList<>();
-            for (Space space : spaces) {
-                if (space.getPROPERTY() != null && space.getPROPERTY().getCOLOR_GROUP().equals(colorGroup)) {
-                    result.add(space.getPROPERTY());
-                }
-            }
-
-            return result.toArray(new Property[0]);
-        } else {
-            throw new IllegalArgumentException("A null parameter was passed");
-        }
+    public Property[] propertiesInColorGroup(String colorGroup) {
+        return BOARD_INDEX.getGroupProperties(BOARD_INDEX.getGroupId(colorGroup)).clone();
     }
 
     /**
-     * Gets all of the Properties owned by a Player in a color group on a game board
+     * Gets all of the Properties owned by a Player in a color group, using the slots and ownership kept by the board
+     * index
      *
      * @param colorGroup the color group to look for
-     * @param spaces     the game board to read
      * @param player     the Player to look for. This can be null, in which case an empty Array will be returned
-     * @return the Properties in a color group owned by a Player
+     * @return the Properties in a color group owned by a Player, in board order
+     * @throws IllegalArgumentException when a null color group, or one that isn't on the board, is passed
      */
-    public static Property[] playerPropertiesInColorGroup(String colorGroup, Space[] spaces, Player player) {
-        ArrayList<Property> result = new ArrayList<>();
-        if (player != null) {
-            for (Property property : propertiesInColorGroup(colorGroup, spaces)) {
-                if (property.getOwner() != null && property.getOwner().equals(player)) {
-                    result.add(property);
-                }
+    public Property[] playerPropertiesInColorGroup(String colorGroup, Player player) {
+        int[] slots = BOARD_INDEX.getGroupSlots(BOARD_INDEX.getGroupId(colorGroup));
+        BitSet owned = BOARD_INDEX.getOwnedSlots(player);
+        int numOwned = 0;
+        for (int slot : slots) {
+            if (owned.get(slot)) {
+                numOwned++;
             }
         }
-        return result.toArray(new Property[0]);
+        Property[] result = new Property[numOwned];
+        int i = 0;
+        for (int slot : slots) {
+            if (owned.get(slot)) {
+                result[i++] = BOARD_INDEX.getSlotProperty(slot);
+            }
+        }
+        return result;
     }
 
     /**
@@ -347,251 +417,191 @@ public class Game {
     }
 
     /**
-     * Gets an Array of all of the Players Properties that have buildings
+     * Gets all of the Properties that a Player owns, using the ownership kept by the board index
      *
-     * @param spaces the game board to read
      * @param player the Player to look for. This can be null, in which case an empty Array will be returned
-     * @return an Array of all of the Players Properties that have buildings
+     * @return the Properties owned by the Player, in board order
      */
-    private static Property[] playerPropertiesWithBuildings(Space[] spaces, Player player) {
-        ArrayList<Property> result = new ArrayList<>();
-        for (Property property : playerProperties(spaces, player)) {
-            if (property.getNumHouses() > 0) {
-                result.add(property);
-            }
+    private Property[] ownedProperties(Player player) {
+        BitSet owned = BOARD_INDEX.getOwnedSlots(player);
+        Property[] result = new Property[owned.cardinality()];
+        int i = 0;
+        for (int slot = owned.nextSetBit(0); slot >= 0; slot = owned.nextSetBit(slot + 1)) {
+            result[i++] = BOARD_INDEX.getSlotProperty(slot);
         }
-        return result.toArray(new Property[0]);
+        return result;
     }
 
     /**
-     * Gets the Players Properties that can have buildings removed
+     * Finds the Players Properties that can have buildings removed
      *
-     * @param colorGroups the color groups in the Game
-     * @param spaces      the game board to read
-     * @param player      the Player to look for. This can be null, in which case an empty Array will be returned
-     * @return the Players Properties that can have buildings removed
+     * @param player the Player to look for. This can be null, in which case none will be found
+     * @param result the list the Properties should be added to. This can be null to only count them
+     * @return the number of Properties found
      */
-    private static Property[] playerPropertiesWithRemovableBuildings(String[] colorGroups, Space[] spaces, Player player) {
-        if (colorGroups != null) {
-            ArrayList<Property> result = new ArrayList<>();
-            for (String colorGroup : colorGroups) {
-                if (playerHasMonopoly(colorGroup, spaces, player)) {
-                    int max = playerPropertiesInColorGroup(colorGroup, spaces, player)[0].getNumHouses();
-                    for (Property property : playerPropertiesInColorGroup(colorGroup, spaces, player)) {
+    private int findRemovableBuildings(Player player, ArrayList<Property> result) {
+        int numFound = 0;
+        if (BOARD_INDEX.getNumHouses(player) + BOARD_INDEX.getNumHotels(player) > 0) { //Without any buildings there's nothing to look for
+            for (int group = 0; group < BOARD_INDEX.getNumGroups(); group++) {
+                if (BOARD_INDEX.hasMonopoly(group, player)) {
+                    int max = 0;
+                    for (Property property : BOARD_INDEX.getGroupProperties(group)) {
                         if (property.getNumHouses() > max) {
                             max = property.getNumHouses();
                         }
                     }
 
-                    for (Property property : playerPropertiesInColorGroup(colorGroup, spaces, player)) {
-                        if (property.getNumHouses() == max && property.canBuild()) {
-                            result.add(property);
+                    for (Property property : BOARD_INDEX.getGroupProperties(group)) {
+                        if (property.getNumHouses() == max && max > 0) {
+                            numFound++;
+                            if (result != null) {
+                                result.add(property);
+                            }
                         }
                     }
                 }
             }
-            return result.toArray(new Property[0]);
-        } else {
-            throw new IllegalArgumentException("A null color groups Array was passed");
         }
+        return numFound;
     }
 
     /**
-     * Gets an Array of all of the Players Properties that can be sold or mortgaged
+     * Gets the Players Properties that can have buildings removed
      *
-     * @param colorGroups the color groups in the Game
-     * @param spaces      the game board to read
-     * @param player      the Player to look for. This can be null, in which case an empty Array will be returned
-     * @return an Array of all of the Players Properties that can be sold or mortgaged
+     * @param player the Player to look for. This can be null, in which case an empty Array will be returned
+     * @return the Players Properties that can have buildings removed
      */
-    private static Property[] playerSellableProperties(String[] colorGroups, Space[] spaces, Player player) {
-        if (colorGroups != null) {
-            ArrayList<Property> result = new ArrayList<>();
-            for (String colorGroup : colorGroups) {
-                if (playerHasMonopoly(colorGroup, spaces, player)) {
-                    int max = playerPropertiesInColorGroup(colorGroup, spaces, player)[0].getNumHouses();
-                    for (Property property : playerPropertiesInColorGroup(colorGroup, spaces, player)) {
-                        if (property.getNumHouses() > max) {
-                            max = property.getNumHouses();
-                        }
-                    }
-
-                    if (max == 0) {
-                        for (Property property : playerPropertiesInColorGroup(colorGroup, spaces, player)) {
-                            if (property.canSell()) {
-                                result.add(property);
-                            }
-                        }
-                    }
-                } else {
-                    for (Property property : playerPropertiesInColorGroup(colorGroup, spaces, player)) {
-                        if (property.canSell()) {
-                            result.add(property);
-                        }
-                    }
-                }
-            }
-            return result.toArray(new Property[0]);
-        } else {
-            throw new IllegalArgumentException("A null color groups Array was passed");
-        }
+    private Property[] playerPropertiesWithRemovableBuildings(Player player) {
+        ArrayList<Property> result = new ArrayList<>();
+        findRemovableBuildings(player, result);
+        return result.toArray(new Property[0]);
     }
 
     /**
-     * Gets an Array of all of the Players Properties that can be built on
+     * Finds the Players Properties that can be sold or mortgaged. Properties in a monopoly can only be sold once all of
+     * the buildings in that monopoly are gone
      *
-     * @param colorGroups the color groups in the Game
-     * @param spaces      the game board to read
-     * @param player      the Player to look for. This can be null, in which case an empty Array will be returned
-     * @return an Array of all of the Players Properties that can be sold or mortgaged
-     * @throws IllegalArgumentException when a null color groups Array is passed
+     * @param player the Player to look for. This can be null, in which case none will be found
+     * @param result the list the Properties should be added to. This can be null to only count them
+     * @return the number of Properties found
      */
-    private static Property[] playerBuildableProperties(String[] colorGroups, Space[] spaces, Player player) {
-        if (colorGroups != null) {
-            ArrayList<Property> result = new ArrayList<>();
-            for (String colorGroup : colorGroups) {
-                if (playerHasMonopoly(colorGroup, spaces, player)) {
-                    int min = playerPropertiesInColorGroup(colorGroup, spaces, player)[0].getNumHouses();
-                    for (Property property : playerPropertiesInColorGroup(colorGroup, spaces, player)) {
-                        if (property.getNumHouses() < min) {
-                            min = property.getNumHouses();
+    private int findSellableProperties(Player player, ArrayList<Property> result) {
+        int numFound = 0;
+        BitSet owned = BOARD_INDEX.getOwnedSlots(player);
+        for (int slot = owned.nextSetBit(0); slot >= 0; slot = owned.nextSetBit(slot + 1)) {
+            Property property = BOARD_INDEX.getSlotProperty(slot);
+            if (property.canSell()) {
+                int group = BOARD_INDEX.getSpaceGroup(slot);
+                boolean groupHasBuildings = false;
+                if (BOARD_INDEX.hasMonopoly(group, player)) {
+                    for (Property groupProperty : BOARD_INDEX.getGroupProperties(group)) {
+                        if (groupProperty.getNumHouses() > 0) {
+                            groupHasBuildings = true;
+                            break;
                         }
                     }
+                }
 
-                    for (Property property : playerPropertiesInColorGroup(colorGroup, spaces, player)) {
-                        if (property.getNumHouses() == min && property.canBuild()) {
-                            result.add(property);
-                        }
+                if (!groupHasBuildings) {
+                    numFound++;
+                    if (result != null) {
+                        result.add(property);
                     }
                 }
             }
-            return result.toArray(new Property[0]);
-        } else {
-            throw new IllegalArgumentException("A null color groups Array was passed");
         }
+        return numFound;
     }
 
     /**
-     * Gets an Array of all of the Players Properties that are mortgaged
+     * Gets an Array of all of the Players Properties that can be sold or mortgaged
      *
-     * @param spaces the game board to read
      * @param player the Player to look for. This can be null, in which case an empty Array will be returned
-     * @return an Array of all of the Players Properties that are mortgaged
+     * @return an Array of all of the Players Properties that can be sold or mortgaged
      */
-    private static Property[] playerMortgagedProperties(Space[] spaces, Player player) {
+    private Property[] playerSellableProperties(Player player) {
         ArrayList<Property> result = new ArrayList<>();
-        for (Property property : playerProperties(spaces, player)) {
-            if (property.isMortgaged()) {
-                result.add(property);
-            }
-        }
+        findSellableProperties(player, result);
         return result.toArray(new Property[0]);
     }
 
     /**
-     * Gets the number of houses owned by the Player. This does not include hotels
+     * Finds the Players Properties that can be built on
      *
-     * @param spaces the game board to read
-     * @param player the Player to look for. This can be null, in which case 0 will be returned
-     * @return the number of houses owned by the Player
+     * @param player the Player to look for. This can be null, in which case none will be found
+     * @param result the list the Properties should be added to. This can be null to only count them
+     * @return the number of Properties found
      */
-    private static int playerNumHouses(Space[] spaces, Player player) {
-        int result = 0;
-        if (player != null) {
-            for (Property property : playerPropertiesWithBuildings(spaces, player)) {
-                if (property.getNumHouses() < property.getMAX_HOUSES()) { //If it's equal to the maximum number of houses it has a hotel
-                    result += property.getNumHouses();
+    private int findBuildableProperties(Player player, ArrayList<Property> result) {
+        int numFound = 0;
+        if (!BOARD_INDEX.getOwnedSlots(player).isEmpty()) {
+            for (int group = 0; group < BOARD_INDEX.getNumGroups(); group++) {
+                if (BOARD_INDEX.hasMonopoly(group, player)) {
+                    int min = BOARD_INDEX.getGroupProperties(group)[0].getNumHouses();
+                    for (Property property : BOARD_INDEX.getGroupProperties(group)) {
+                        if (property.getNumHouses() < min) {
+                            min = property.getNumHouses();
+                        }
+                    }
+
+                    for (Property property : BOARD_INDEX.getGroupProperties(group)) {
+                        if (property.getNumHouses() == min && property.canBuild()) {
+                            numFound++;
+                            if (result != null) {
+                                result.add(property);
+                            }
+                        }
+                    }
                 }
             }
         }
-        return result;
+        return numFound;
     }
 
     /**
-     * Gets the number of hotels owned by the Player
+     * Gets a list of all of the Players Properties that can be built on
      *
-     * @param spaces the game board to read
-     * @param player the Player to look for. This can be null, in which case 0 will be returned
-     * @return the number of hotels owned by the Player
+     * @param player the Player to look for. This can be null, in which case an empty list will be returned
+     * @return a list of all of the Players Properties that can be built on
      */
-    private static int playerNumHotels(Space[] spaces, Player player) {
-        int result = 0;
-        if (player != null) {
-            for (Property property : playerPropertiesWithBuildings(spaces, player)) {
-                if (property.getNumHouses() == property.getMAX_HOUSES()) {
-                    result++;
-                }
-            }
-        }
+    private ArrayList<Property> playerBuildableProperties(Player player) {
+        ArrayList<Property> result = new ArrayList<>();
+        findBuildableProperties(player, result);
         return result;
     }
 
     /**
-     * Determines if a Player owns all of the Properties in a color group on a game board
+     * Finds the Players Properties that are mortgaged
      *
-     * @param colorGroup the color group to look for
-     * @param spaces     the game board to read
-     * @param player     the Player to look for
-     * @return whether the Player has a monopoly over a color group
-     */
-    private static boolean playerHasMonopoly(String colorGroup, Space[] spaces, Player player) {
-        if (Arrays.equals(propertiesInColorGroup(colorGroup, spaces), playerPropertiesInColorGroup(colorGroup, spaces,
-                player))) {
-            for (Property property : playerPropertiesInColorGroup(colorGroup, spaces, player)) {
-                if (property.isMortgaged()) {
-                    return false;
+     * @param player the Player to look for. This can be null, in which case none will be found
+     * @param result the list the Properties should be added to. This can be null to only count them
+     * @return the number of Properties found
+     */
+    private int findMortgagedProperties(Player player, ArrayList<Property> result) {
+        int numFound = 0;
+        BitSet owned = BOARD_INDEX.getOwnedSlots(player);
+        for (int slot = owned.nextSetBit(0); slot >= 0; slot = owned.nextSetBit(slot + 1)) {
+            Property property = BOARD_INDEX.getSlotProperty(slot);
+            if (property.isMortgaged()) {
+                numFound++;
+                if (result != null) {
+                    result.add(property);
                 }
             }
-            return true;
-        } else {
-            return false;
         }
+        return numFound;
     }
 
     /**
-     * Finds the closest index that belongs to a given color group to startingIndex
+     * Gets a list of all of the Players Properties that are mortgaged
      *
-     * @param colorGroup    the color group to look for
-     * @param spaces        the board to read
-     * @param startingIndex the index to start at
-     * @return the closest index that belongs to a given color group
-     * @throws IllegalArgumentException when an invalid parameter is passed
+     * @param player the Player to look for. This can be null, in which case an empty list will be returned
+     * @return a list of all of the Players Properties that are mortgaged
      */
-    private static int getNearestInColorGroup(String colorGroup, Space[] spaces, int startingIndex) {
-        if (colorGroup != null && spaces != null && startingIndex >= 0 && startingIndex < spaces.length) {
-            int closestIndex = -1;
-            for (int i = startingIndex; i < spaces.length; i++) { //First we'll go forwards
-                if (spaces[i] != null) {
-                    if (spaces[i].getPROPERTY() != null && spaces[i].getPROPERTY().getCOLOR_GROUP().equals(colorGroup)) {
-                        closestIndex = i;
-                        break;
-                    }
-                } else {
-                    throw new IllegalArgumentException("A null Space was passed");
-                }
-            }
-
-            if (closestIndex == -1) { //If this is the case, we didn't find an index going forward, so now we'll go backwards
-                for (int i = startingIndex; i >= 0; i--) {
-                    if (spaces[i] != null) {
-                        if (spaces[i].getCOLOR_GROUP().equals(colorGroup)) {
-                            closestIndex = i;
-                            break;
-                        }
-                    } else {
-                        throw new IllegalArgumentException("A null Space was passed");
-                    }
-                }
-            }
-
-            if (closestIndex == -1) {
-                throw new IllegalArgumentException("The passed color group was not found");
-            } else {
-                return closestIndex;
-            }
-        } else {
-            throw new IllegalArgumentException("An invalid parameter was passed");
-        }
+    private ArrayList<Property> playerMortgagedProperties(Player player) {
+        ArrayList<Property> result = new ArrayList<>();
+        findMortgagedProperties(player, result);
+        return result;
     }
 
     /**
@@ -609,7 +619,7 @@ public class Game {
                 if (deck != null) {
                     for (Card card : deck.getOwnedCards()) {
                         if (card != null) {
-                            if (card.getOwner().equals(player)) {
+                            if (player.equals(card.getOwner())) { //Cards that have been used stay in the owned Cards until the Deck is reset
                                 result.add(card);
                             }
                         } else {
@@ -626,49 +636,6 @@ public class Game {
         }
     }
 
-    /**
-     * Gets the rolls from the Dice Array
-     *
-     * @param dice an Array of Dice. This shouldn't be null or contain any null Dice
-     * @return the rolls from the Dice
-     * @throws IllegalArgumentException when the passed Dice are null
-     */
-    private static int[] getRoll(Dice[] dice) {
-        if (dice != null) {
-            int[] result = new int[dice.length];
-            for (int i = 0; i < result.length; i++) {
-                if (dice[i] != null) {
-                    result[i] = dice[i].getRoll();
-                } else {
-                    throw new IllegalArgumentException("A null Dice was passed");
-                }
-            }
-            return result;
-        } else {
-            throw new IllegalArgumentException("A null or empty Dice Array was passed");
-        }
-    }
-
-    /**
-     * Determines whether or not a Player rolled doubles, meaning all of their rolls were the same
-     *
-     * @param rolls the Array of rolls the Player did
-     * @return whether or not the Player rolled Doubles
-     */
-    private static boolean rolledDoubles(int[] rolls) {
-        if (rolls != null) {
-            int firstRoll = rolls[0];
-            for (int roll : rolls) {
-                if (roll != firstRoll) {
-                    return false;
-                }
-            }
-            return true;
-        } else {
-            throw new IllegalArgumentException("A null or empty rolls Array was passed");
-        }
-    }
-
     /**
      * Determines if this Player has a get out of jail free Card
      *
@@ -685,26 +652,6 @@ public class Game {
         return null;
     }
 
-    /**
-     * Gets the total value of the Players rolls
-     *
-     * @param rolls the Array of rolls the Player did
-     * @return the total value of the Players rolls
-     * @throws IllegalArgumentException when a null or empty rolls Array is passed
-     */
-    private static int calcRollTotal(int[] rolls) {
-        if (rolls != null) {
-            int result = 0;
-            for (int roll : rolls) {
-                result += roll;
-            }
-            return result;
-        } else {
-            throw new IllegalArgumentException("A null or empty rolls Array was passed");
-
-        }
-    }
-
     /**
      * Determines if other Players have get out of jail free Cards
      *
@@ -738,34 +685,75 @@ public class Game {
     The following methods will manage turn to turn play, excluding UI interaction
      */
 
+    /**
+     * Writes an event to the event log, if the Game is being logged
+     *
+     * @param type   what happened
+     * @param player the Player it happened to
+     * @param value  the event's int, as described by its GameEventType
+     */
+    private void logEvent(GameEventType type, Player player, int value) {
+        if (eventLog != null) {
+            eventLog.record(type, player, value);
+        }
+    }
+
+    /**
+     * Writes an event about a Property to the event log, if the Game is being logged
+     *
+     * @param type     what happened
+     * @param player   the Player it happened to
+     * @param property the Property it happened to
+     */
+    private void logEvent(GameEventType type, Player player, Property property) {
+        if (eventLog != null) {
+            eventLog.record(type, player, property.getIndex());
+        }
+    }
+
+    /**
+     * Writes an event between two Players to the event log, if the Game is being logged
+     *
+     * @param type   what happened
+     * @param player the Player it happened to
+     * @param other  the other Player. This can be null
+     */
+    private void logEvent(GameEventType type, Player player, Player other) {
+        if (eventLog != null) {
+            eventLog.record(type, player, seatOf(other));
+        }
+    }
+
     /**
      * Prompts the Player if they would like to start a trade with any of the Players in players
      *
-     * @param description the description that should be shown to the Player
-     * @param players     the Players that this Player should be asked if they want to trade
+     * @param prompt  what the Players are being asked
+     * @param sender  the Player who would start the trade
+     * @param players the Players that this Player should be asked if they want to trade
      * @return the completed Trade that the Players have or haven't done
      * @throws IllegalArgumentException when a null or invalid parameter is passed
      */
-    public Trade promptTrade(String description, Player sender, Player[] players) {
-        if (description != null && players != null && players.length > 0) {
+    public Trade promptTrade(PromptType prompt, Player sender, Player[] players) {
+        if (prompt != null && players != null && players.length > 0) {
+            String description = prompt.getText(PROMPTS);
             ArrayList<Player> playersWithoutThis = new ArrayList<>(Arrays.asList(players));
             playersWithoutThis.removeIf(player -> player.equals(sender));
-            int index = sender.promptArray(description, playersWithoutThis.toArray(new Player[0]), null);
+            int index = sender.promptArray(prompt, description, playersWithoutThis.toArray(new Player[0]), null);
             if (index >= 0 && index < players.length) {
                 Player receiver = playersWithoutThis.get(index);
-                if (receiver.promptBoolean(description, sender)) {
+                if (receiver.promptBoolean(prompt, description, sender)) {
                     Trade trade = new Trade(sender, receiver, description);
                     Player currentOfferer = sender;
                     int numRounds = 0; //This just makes it so that we don't have a Trade that never ends
                     while (numRounds <= 5) {
                         ArrayList<Property> senderOfferableProperties = new ArrayList<>(Arrays.asList
-                                (playerSellableProperties(COLOR_GROUPS, GAME_BOARD, sender)));
+                                (playerSellableProperties(sender)));
                         while (senderOfferableProperties.size() > 0) {
                             senderOfferableProperties = new ArrayList<>(Arrays.asList
-                                    (playerSellableProperties(COLOR_GROUPS, GAME_BOARD, sender)));
+                                    (playerSellableProperties(sender)));
                             senderOfferableProperties.removeIf(property -> (trade.getSenderProperties().contains(property)));
                             if (senderOfferableProperties.size() > 0) {
-                                int propertyIndex = currentOfferer.promptArray(PROMPTS[9], senderOfferableProperties.toArray(new Property[0]), trade);
+                                int propertyIndex = currentOfferer.promptArray(PromptType.SENDER_OFFER_PROPERTY, PromptType.SENDER_OFFER_PROPERTY.getText(PROMPTS), senderOfferableProperties.toArray(new Property[0]), trade);
                                 if (propertyIndex != -1) {
                                     trade.addSenderProperty(senderOfferableProperties.get(propertyIndex));
                                 } else {
@@ -778,7 +766,7 @@ public class Game {
                         while (senderOfferedProperties.size() > 0) {
                             senderOfferedProperties = new ArrayList<>(trade.getSenderProperties());
                             if (senderOfferedProperties.size() > 0) {
-                                int propertyIndex = currentOfferer.promptArray(PROMPTS[10], senderOfferedProperties.toArray(new Property[0]), trade);
+                                int propertyIndex = currentOfferer.promptArray(PromptType.SENDER_REMOVE_PROPERTY, PromptType.SENDER_REMOVE_PROPERTY.getText(PROMPTS), senderOfferedProperties.toArray(new Property[0]), trade);
                                 if (propertyIndex != -1) {
                                     trade.removeSenderProperty(senderOfferedProperties.get(propertyIndex));
                                 } else {
@@ -792,7 +780,7 @@ public class Game {
                             senderOfferableCards = new ArrayList<>(Arrays.asList(getOwnedCards(sender, DECKS)));
                             senderOfferableCards.removeIf(card -> trade.getSenderCards().contains(card));
                             if (senderOfferableCards.size() > 0) {
-                                int cardIndex = currentOfferer.promptArray(PROMPTS[11], senderOfferableCards.toArray(new Card[0]), trade);
+                                int cardIndex = currentOfferer.promptArray(PromptType.SENDER_OFFER_CARD, PromptType.SENDER_OFFER_CARD.getText(PROMPTS), senderOfferableCards.toArray(new Card[0]), trade);
                                 if (cardIndex != -1) {
                                     trade.addSenderCard(senderOfferableCards.get(cardIndex));
                                 } else {
@@ -804,8 +792,8 @@ public class Game {
                         ArrayList<Card> senderOfferedCards = new ArrayList<>(trade.getSenderCards());
                         while (senderOfferedCards.size() > 0) {
                             senderOfferedCards = new ArrayList<>(trade.getSenderCards());
-                            if (senderOfferableCards.size() > 0) {
-                                int cardIndex = currentOfferer.promptArray(PROMPTS[12], senderOfferableCards.toArray(new Card[0]), trade);
+                            if (senderOfferedCards.size() > 0) {
+                                int cardIndex = currentOfferer.promptArray(PromptType.SENDER_REMOVE_CARD, PromptType.SENDER_REMOVE_CARD.getText(PROMPTS), senderOfferedCards.toArray(new Card[0]), trade);
                                 if (cardIndex != -1) {
                                     trade.removeSenderCard(senderOfferedCards.get(cardIndex));
                                 } else {
@@ -816,7 +804,7 @@ public class Game {
 
                         int senderOfferableCash = sender.getWallet() - trade.getSenderMoney();
                         if (senderOfferableCash > 0) {
-                            int cash = currentOfferer.promptInt(PROMPTS[13], 0, senderOfferableCash, -1, trade);
+                            int cash = currentOfferer.promptInt(PromptType.SENDER_OFFER_MONEY, PromptType.SENDER_OFFER_MONEY.getText(PROMPTS), 0, senderOfferableCash, -1, trade);
                             if (cash > 0 && cash <= senderOfferableCash) {
                                 trade.addSenderMoney(cash);
                             }
@@ -824,20 +812,20 @@ public class Game {
 
                         int senderOfferedCash = trade.getSenderMoney();
                         if (senderOfferedCash > 0) {
-                            int cash = currentOfferer.promptInt(PROMPTS[14], 0, senderOfferedCash, -1, trade);
+                            int cash = currentOfferer.promptInt(PromptType.SENDER_REMOVE_MONEY, PromptType.SENDER_REMOVE_MONEY.getText(PROMPTS), 0, senderOfferedCash, -1, trade);
                             if (cash > 0 && cash <= senderOfferableCash) {
                                 trade.removeSenderMoney(cash);
                             }
                         }
 
                         ArrayList<Property> receiverOfferableProperties = new ArrayList<>(Arrays.asList
-                                (playerSellableProperties(COLOR_GROUPS, GAME_BOARD, receiver)));
+                                (playerSellableProperties(receiver)));
                         while (receiverOfferableProperties.size() > 0) {
                             receiverOfferableProperties = new ArrayList<>(Arrays.asList
-                                    (playerSellableProperties(COLOR_GROUPS, GAME_BOARD, receiver)));
+                                    (playerSellableProperties(receiver)));
                             receiverOfferableProperties.removeIf(property -> (trade.getReceiverProperties().contains(property)));
                             if (receiverOfferableProperties.size() > 0) {
-                                int propertyIndex = currentOfferer.promptArray(PROMPTS[15], receiverOfferableProperties.toArray(new Property[0]), trade);
+                                int propertyIndex = currentOfferer.promptArray(PromptType.RECEIVER_OFFER_PROPERTY, PromptType.RECEIVER_OFFER_PROPERTY.getText(PROMPTS), receiverOfferableProperties.toArray(new Property[0]), trade);
                                 if (propertyIndex >= 0 && propertyIndex < receiverOfferableProperties.size()) {
                                     trade.addReceiverProperty(receiverOfferableProperties.get(propertyIndex));
                                 } else {
@@ -850,7 +838,7 @@ public class Game {
                         while (receiverOfferedProperties.size() > 0) {
                             receiverOfferedProperties = new ArrayList<>(trade.getReceiverProperties());
                             if (receiverOfferedProperties.size() > 0) {
-                                int propertyIndex = currentOfferer.promptArray(PROMPTS[16], receiverOfferedProperties.toArray(new Property[0]), trade);
+                                int propertyIndex = currentOfferer.promptArray(PromptType.RECEIVER_REMOVE_PROPERTY, PromptType.RECEIVER_REMOVE_PROPERTY.getText(PROMPTS), receiverOfferedProperties.toArray(new Property[0]), trade);
                                 if (propertyIndex >= 0 && propertyIndex < receiverOfferedProperties.size()) {
                                     trade.removeReceiverProperty(receiverOfferedProperties.get(propertyIndex));
                                 } else {
@@ -864,7 +852,7 @@ public class Game {
                             receiverOfferableCards = new ArrayList<>(Arrays.asList(getOwnedCards(receiver, DECKS)));
                             receiverOfferableCards.removeIf(card -> trade.getReceiverCards().contains(card));
                             if (receiverOfferableCards.size() > 0) {
-                                int cardIndex = currentOfferer.promptArray(PROMPTS[17], receiverOfferableCards.toArray(new Card[0]), trade);
+                                int cardIndex = currentOfferer.promptArray(PromptType.RECEIVER_OFFER_CARD, PromptType.RECEIVER_OFFER_CARD.getText(PROMPTS), receiverOfferableCards.toArray(new Card[0]), trade);
                                 if (cardIndex >= 0 && cardIndex < receiverOfferableCards.size()) {
                                     trade.addReceiverCard(receiverOfferableCards.get(cardIndex));
                                 } else {
@@ -877,7 +865,7 @@ public class Game {
                         while (receiverOfferedCards.size() > 0) {
                             receiverOfferedCards = new ArrayList<>(trade.getReceiverCards());
                             if (receiverOfferedCards.size() > 0) {
-                                int cardIndex = currentOfferer.promptArray(PROMPTS[18], receiverOfferedCards.toArray(new Card[0]), trade);
+                                int cardIndex = currentOfferer.promptArray(PromptType.RECEIVER_REMOVE_CARD, PromptType.RECEIVER_REMOVE_CARD.getText(PROMPTS), receiverOfferedCards.toArray(new Card[0]), trade);
                                 if (cardIndex >= 0 && cardIndex < receiverOfferedCards.size()) {
                                     trade.removeReceiverCard(receiverOfferedCards.get(cardIndex));
                                 } else {
@@ -888,7 +876,7 @@ public class Game {
 
                         int receiverOfferableCash = receiver.getWallet() - trade.getReceiverMoney();
                         if (receiverOfferableCash > 0) {
-                            int cash = currentOfferer.promptInt(PROMPTS[19], 0, receiverOfferableCash, -1, trade);
+                            int cash = currentOfferer.promptInt(PromptType.RECEIVER_OFFER_MONEY, PromptType.RECEIVER_OFFER_MONEY.getText(PROMPTS), 0, receiverOfferableCash, -1, trade);
                             if (cash > 0 && cash <= receiverOfferableCash) {
                                 trade.addReceiverMoney(cash);
                             }
@@ -896,28 +884,30 @@ public class Game {
 
                         int receiverOfferedCash = trade.getReceiverMoney();
                         if (receiverOfferedCash > 0) {
-                            int cash = currentOfferer.promptInt(PROMPTS[20], 0, receiverOfferedCash, -1, trade);
+                            int cash = currentOfferer.promptInt(PromptType.RECEIVER_REMOVE_MONEY, PromptType.RECEIVER_REMOVE_MONEY.getText(PROMPTS), 0, receiverOfferedCash, -1, trade);
                             if (cash > 0 && cash <= receiverOfferableCash) {
                                 trade.removeReceiverMoney(cash);
                             }
                         }
 
                         if (currentOfferer.equals(sender)) {
-                            int result = receiver.promptInt(PROMPTS[21], -1, 1, 0, trade);
+                            int result = receiver.promptInt(PromptType.CONFIRM_TRADE, PromptType.CONFIRM_TRADE.getText(PROMPTS), -1, 1, 0, trade);
                             if (result == 0) {
                                 currentOfferer = receiver;
                             } else if (result == 1) {
                                 trade.confirmTrade();
+                                logEvent(GameEventType.TRADE, sender, receiver);
                                 return trade;
                             } else if (result == -1) {
                                 return null;
                             }
                         } else {
-                            int result = sender.promptInt(PROMPTS[21], -1, 1, 0, trade);
+                            int result = sender.promptInt(PromptType.CONFIRM_TRADE, PromptType.CONFIRM_TRADE.getText(PROMPTS), -1, 1, 0, trade);
                             if (result == 0) {
                                 currentOfferer = sender;
                             } else if (result == 1) {
                                 trade.confirmTrade();
+                                logEvent(GameEventType.TRADE, sender, receiver);
                                 return trade;
                             } else if (result == -1) {
                                 return null;
@@ -939,19 +929,30 @@ public class Game {
      *
      * @param player the Player who is having the transaction done to them
      * @param amount the amount the transaction is for
-     * @param debtor the debtor of the transaction
+     * @param debtor the debtor of the transaction, who is paid what the Player pays. This is null for the bank
      * @return whether or not the transaction was successful
      * @throws IllegalArgumentException when a null Player is passed
      */
     private boolean doMandatoryTransaction(Player player, int amount, Player debtor) {
         if (player != null) {
+            boolean paid;
             if (player.getWallet() + amount >= 0) {
                 player.updateWallet(amount);
-                return true;
+                paid = true;
             } else {
                 player.doBankruptcy(amount);
-                return doBankruptcy(player, amount, debtor);
+                paid = doBankruptcy(player, amount, debtor);
             }
+            if (paid) { //A Player who went bankrupt has their payment logged as part of their bankruptcy
+                logEvent(GameEventType.PAYMENT, player, amount);
+                if (debtor != null && debtor != player && amount < 0) { //Only rent is owed to another Player, and both sides record the same amount
+                    debtor.updateWallet(-amount);
+                    RENT_PAID[seatOf(player)] -= amount;
+                    RENT_RECEIVED[seatOf(debtor)] -= amount;
+                    logEvent(GameEventType.RENT, debtor, -amount);
+                }
+            }
+            return paid;
         } else {
             throw new IllegalArgumentException("A null Player was passed");
         }
@@ -969,14 +970,14 @@ public class Game {
      */
     private boolean doBankruptcy(Player player, int amount, Player debtor) {
         if (player != null && player.getWallet() < 0) {
-            while (player.getWallet() < 0 && (playerPropertiesWithRemovableBuildings(COLOR_GROUPS, GAME_BOARD, player).length > 0 ||
-                    playerSellableProperties(COLOR_GROUPS, GAME_BOARD, player).length > 0)) { //We should keep prompting the Player to sell stuff until they can't sell anything anymore
-                if (playerPropertiesWithRemovableBuildings(COLOR_GROUPS, GAME_BOARD, player).length > 0) {
-                    promptSellBuildings(player, playerPropertiesWithRemovableBuildings(COLOR_GROUPS, GAME_BOARD, player), PROMPTS[23]);
+            while (player.getWallet() < 0 && (findRemovableBuildings(player, null) > 0 ||
+                    findSellableProperties(player, null) > 0)) { //We should keep prompting the Player to sell stuff until they can't sell anything anymore
+                if (findRemovableBuildings(player, null) > 0) {
+                    promptSellBuildings(player, playerPropertiesWithRemovableBuildings(player), PromptType.BANKRUPT_SELL_BUILDINGS);
                 }
 
-                if (playerSellableProperties(COLOR_GROUPS, GAME_BOARD, player).length > 0) {
-                    promptMortgage(player, playerSellableProperties(COLOR_GROUPS, GAME_BOARD, player), PROMPTS[24]);
+                if (findSellableProperties(player, null) > 0) {
+                    promptMortgage(player, playerSellableProperties(player), PromptType.BANKRUPT_MORTGAGE);
                 }
             }
 
@@ -986,7 +987,7 @@ public class Game {
                     temp.remove(player); //We should remove the Player from the auction
                     Player[] auctionPlayers = temp.toArray(new Player[0]);
 
-                    for (Property property : playerProperties(GAME_BOARD, player)) { //Now we have to auction all of the Players properties
+                    for (Property property : ownedProperties(player)) { //Now we have to auction all of the Players properties
                         if (property.isMortgaged()) { //We should just make sure all of the Properties are mortgaged. Basically validates the rest of the method
                             property.bankruptTransfer(null);
                             doAuction(property, auctionPlayers);
@@ -995,22 +996,32 @@ public class Game {
                         }
                     }
                 } else {
-                    debtor.updateWallet(amount - player.getWallet()); //This will give the debtor the amount the Player can afford
-                    for (Property property : playerProperties(GAME_BOARD, player)) {
+                    debtor.updateWallet(player.getWallet() - amount); //This will give the debtor the amount the Player can afford
+                    for (Property property : ownedProperties(player)) {
                         if (property.isMortgaged()) { //As is stated above, this just validates the rest of the method
                             if (debtor.canAfford(property.getUnMORTGAGE()) && debtor.promptBoolean
-                                    (PROMPTS[25], property)) {
+                                    (PromptType.INHERIT_UN_MORTGAGE, PromptType.INHERIT_UN_MORTGAGE.getText(PROMPTS), property)) {
                                 property.bankruptTransfer(debtor);
-                                player.updateWallet(property.unMortgage());
+                                debtor.updateWallet(property.unMortgage());
                             } else {
-                                doMandatoryTransaction(debtor, property.bankruptTransfer(debtor), null);
+                                doMandatoryTransaction(debtor, -property.bankruptTransfer(debtor), null);
                             }
                         } else {
                             throw new IllegalStateException("A Players Property isn't mortgaged and they are bankrupt");
                         }
                     }
                 }
+                int index = PLAYERS.indexOf(player);
                 PLAYERS.remove(player); //We should now remove the old Player as they cannot play anymore
+                if (index < currentPlayer) { //This keeps currentPlayer pointing at the same Player
+                    currentPlayer--;
+                } else if (index == currentPlayer) { //The next Player has moved into this Players index, so it's their turn next
+                    if (currentPlayer >= PLAYERS.size()) {
+                        currentPlayer = 0;
+                    }
+                    shouldGoToNextPlayer = false;
+                }
+                logEvent(GameEventType.BANKRUPTCY, player, debtor);
                 return false;
             }
             return true;
@@ -1022,39 +1033,46 @@ public class Game {
     /**
      * This method covers all of the possible ways a Player can get out of jail during their turn
      *
-     * @param rolls  the Array of rolls the Player did
+     * @param roll   the roll the Player did
      * @param player the Player that's in jail
-     * @throws IllegalArgumentException when a null or empty rolls Array is passed
+     * @throws IllegalArgumentException when a null parameter is passed
      * @throws IllegalStateException    when the Player is not in jail or not at the appropriate position
      */
-    private void doJail(int[] rolls, Player player) {
-        if (rolls != null && rolls.length > 0 && player != null) {
+    private void doJail(Roll roll, Player player) {
+        if (roll != null && player != null) {
             if (player.getTurnInJail() > 0 && player.getPosition() == JAIL_SPACE) { //This ensures the Player is in jail
-                if (rolledDoubles(rolls)) { //If the Player rolled doubles they can get out now
-                    player.move(calcRollTotal(rolls));
+                if (roll.isDoubles()) { //If the Player rolled doubles they can get out now
+                    leaveJail(roll, player);
                 } else if (playerHasJailCard(player, DECKS) != null) { //If the Player has a get out of jail free card, we should ask if they want to use it
-                    if (player.promptBoolean(PROMPTS[0], null)) {
+                    if (player.promptBoolean(PromptType.USE_JAIL_CARD, PromptType.USE_JAIL_CARD.getText(PROMPTS), null)) {
                         Objects.requireNonNull(playerHasJailCard(player, DECKS)).setOwner(null); //This won't produce a NullPointerException as we check for it
-                        player.move(calcRollTotal(rolls));
+                        leaveJail(roll, player);
                     }
                 } else if (playerHasJailCard(player, DECKS) == null && otherPlayerHasJailCard(player, PLAYERS.toArray(new Player[0]), DECKS)
                         .length > 0) { //If someone else has a get out of jail free card, we should ask the Player if they want to trade for it
                     Trade jailTrade;
-                    do { //We'll run this Trade until the Player decides not to run a Trade anymore
-                        jailTrade = promptTrade(PROMPTS[1], player, otherPlayerHasJailCard(player, PLAYERS.toArray(new Player[0]), DECKS));
-                    } while (jailTrade != null);
+                    int numTrades = 0;
+                    do { //We'll run this Trade until the Player decides not to run a Trade anymore, or has run MAX_TRADES
+                        jailTrade = promptTrade(PromptType.TRADE_FOR_JAIL_CARD, player, otherPlayerHasJailCard(player, PLAYERS.toArray(new Player[0]), DECKS));
+                        numTrades++;
+                    } while (jailTrade != null && playerHasJailCard(player, DECKS) == null && numTrades < MAX_TRADES);
                     if (playerHasJailCard(player, DECKS) != null) { //This ensures that the trade was successful and we're not just letting them out for free
                         Objects.requireNonNull(playerHasJailCard(player, DECKS)).setOwner(null); //This won't produce a NullPointerException as we check for it
-                        player.move(calcRollTotal(rolls));
+                        leaveJail(roll, player);
                     }
-                } else if (player.canAfford(JAIL_BAIL) && player.promptBoolean(PROMPTS[2], null)) { //If the Player wants to pay their bail, we should let them go
+                } else if (player.canAfford(JAIL_BAIL) && player.promptBoolean(PromptType.PAY_BAIL, PromptType.PAY_BAIL.getText(PROMPTS), null)) { //If the Player wants to pay their bail, we should let them go
                     player.updateWallet(-JAIL_BAIL);
-                    player.move(calcRollTotal(rolls));
+                    leaveJail(roll, player);
                 } else if (player.getTurnInJail() == 1) {
                     if (doMandatoryTransaction(player, -JAIL_BAIL, null)) {
-                        player.move(calcRollTotal(rolls));
+                        leaveJail(roll, player);
                     }
                 }
+
+                if (player.getTurnInJail() > 0 && PLAYERS.contains(player)) { //If the Player didn't get out this turn, they've served another turn of their sentence
+                    player.serveTurnInJail();
+                }
+                logEvent(GameEventType.JAIL, player, player.getTurnInJail());
             } else {
                 throw new IllegalStateException("Player is not in jail or is not at the jail but is in jail");
             }
@@ -1063,18 +1081,29 @@ public class Game {
         }
     }
 
+    /**
+     * Lets a Player out of jail, moving them by what they rolled
+     *
+     * @param roll   the roll the Player did
+     * @param player the Player leaving jail
+     */
+    private void leaveJail(Roll roll, Player player) {
+        player.releaseFromJail();
+        player.move(roll.getTotal());
+    }
+
     /**
      * Executes the movement part of the Players turn
      *
-     * @param rolls  the Array of rolls the Player did
+     * @param roll   the roll the Player did
      * @param player the Player to move
      * @throws IllegalArgumentException when a null or empty parameter is passed
      * @throws IllegalStateException    when the Player is in jail
      */
-    private void doMove(int[] rolls, Player player) {
-        if (rolls != null && rolls.length > 0 && player != null) {
+    private void doMove(Roll roll, Player player) {
+        if (roll != null && player != null) {
             if (player.getTurnInJail() == 0) {
-                player.move(calcRollTotal(rolls));
+                player.move(roll.getTotal());
             } else {
                 throw new IllegalStateException("The Player tried to move while in jail");
             }
@@ -1088,13 +1117,15 @@ public class Game {
      *
      * @param space  the Space that the Player landed on
      * @param player the Player that landed on the Space
-     * @param rolls  the rolls that the Player did
+     * @param roll   the roll that the Player did
      * @throws IllegalArgumentException when a null or invalid parameter is passed
      */
-    private void handleSpace(Space space, Player player, int[] rolls) {
+    private void handleSpace(Space space, Player player, Roll roll) {
         if (space != null && player != null) {
             if (space.getPROPERTY() == null) { //If the Space doesn't have a Property, we should look for its penalty
-                GAME_UI.displayMessage("You landed on " + space);
+                if (GAME_VIEW.isShowingMessages()) {
+                    GAME_VIEW.displayMessage("You landed on " + space);
+                }
                 if (space.getMONEY_PENALTY() != 0) { //If this is the case then we should pay the Player that amount
                     doMandatoryTransaction(player, space.getMONEY_PENALTY(), null);
                 } else if (space.getMOVEMENT_PENALTY() != 0) { //If this is the case, the Player should move that amount
@@ -1102,12 +1133,12 @@ public class Game {
                     if (space.getRENT_MULTIPLIER() != 0 && GAME_BOARD[player.getPosition()].getPROPERTY() != null &&
                             GAME_BOARD[player.getPosition()].getPROPERTY().getOwner() != null) {
                         doMandatoryTransaction(player, -GAME_BOARD[player.getPosition()].getPROPERTY().getRent() *
-                                        (GAME_BOARD[player.getPosition()].getPROPERTY().IS_DICE_MULTIPLIER() ? calcRollTotal(rolls) : 1) *
+                                        (GAME_BOARD[player.getPosition()].getPROPERTY().IS_DICE_MULTIPLIER() ? roll.getTotal() : 1) *
                                         (int) Math.round(1 - space.getRENT_MULTIPLIER()),
                                 GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
                         if (space.getROLL_MULTIPLIER() != 0) {
                             doMandatoryTransaction(player, (int) Math.round(-space.getROLL_MULTIPLIER() *
-                                    calcRollTotal(getRoll(DICE))), GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
+                                    EXTRA_ROLL.roll()), GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
                         }
                     }
                 } else if (space.getSPACE_PENALTY() != -1) { //If this is the case, the Player should go to that Space
@@ -1115,39 +1146,39 @@ public class Game {
                     if (space.getRENT_MULTIPLIER() != 0 && GAME_BOARD[player.getPosition()].getPROPERTY() != null &&
                             GAME_BOARD[player.getPosition()].getPROPERTY().getOwner() != null) {
                         doMandatoryTransaction(player, -GAME_BOARD[player.getPosition()].getPROPERTY().getRent() *
-                                (GAME_BOARD[player.getPosition()].getPROPERTY().IS_DICE_MULTIPLIER() ? calcRollTotal(rolls) : 1) *
+                                (GAME_BOARD[player.getPosition()].getPROPERTY().IS_DICE_MULTIPLIER() ? roll.getTotal() : 1) *
                                 (int) Math.round(1 - space.getRENT_MULTIPLIER()), GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
                         if (space.getROLL_MULTIPLIER() != 0) {
                             doMandatoryTransaction(player, (int) Math.round(-space.getROLL_MULTIPLIER() *
-                                    calcRollTotal(getRoll(DICE))), GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
+                                    EXTRA_ROLL.roll()), GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
                         }
                     }
                 } else if (space.getCOLOR_GROUP() != null) { //If this is the case, the Player should go to that color group
-                    player.goToSpace(getNearestInColorGroup(space.getCOLOR_GROUP(), GAME_BOARD, player.getPosition()));
+                    player.goToSpace(BOARD_INDEX.nearestInGroup(BOARD_INDEX.getGroupId(space.getCOLOR_GROUP()), player.getPosition()));
                     if (space.getRENT_MULTIPLIER() != 0 && GAME_BOARD[player.getPosition()].getPROPERTY() != null &&
                             GAME_BOARD[player.getPosition()].getPROPERTY().getOwner() != null) {
                         doMandatoryTransaction(player, -GAME_BOARD[player.getPosition()].getPROPERTY().getRent() *
-                                        (GAME_BOARD[player.getPosition()].getPROPERTY().IS_DICE_MULTIPLIER() ? calcRollTotal(rolls) : 1) *
+                                        (GAME_BOARD[player.getPosition()].getPROPERTY().IS_DICE_MULTIPLIER() ? roll.getTotal() : 1) *
                                         (int) Math.round(1 - space.getRENT_MULTIPLIER()),
                                 GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
                         if (space.getROLL_MULTIPLIER() != 0) {
                             doMandatoryTransaction(player, (int) Math.round(-space.getROLL_MULTIPLIER() *
-                                    calcRollTotal(getRoll(DICE))), GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
+                                    EXTRA_ROLL.roll()), GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
                         }
                     }
                 } else if (space.getPRICE_PER_HOUSE() != 0) { //If this is the case, the Player should pay that amount per house and then hotel (the two share the same state)
-                    if (doMandatoryTransaction(player, -space.getPRICE_PER_HOUSE() * playerNumHouses(GAME_BOARD, player), null)) {
-                        doMandatoryTransaction(player, -space.getPRICE_PER_HOTEL() * playerNumHotels(GAME_BOARD, player), null);
+                    if (doMandatoryTransaction(player, -space.getPRICE_PER_HOUSE() * BOARD_INDEX.getNumHouses(player), null)) {
+                        doMandatoryTransaction(player, -space.getPRICE_PER_HOTEL() * BOARD_INDEX.getNumHotels(player), null);
                     }
                 } else if (space.getDECK_USED() != -1) { //If this is the case, the Player should draw from that deck
                     if (space.getDECK_USED() >= 0 && space.getDECK_USED() < DECKS.length) {
-                        handleCard(DECKS[space.getDECK_USED()].getCard(), player, rolls, DECKS[space.getDECK_USED()]);
+                        handleCard(DECKS[space.getDECK_USED()].getCard(), player, roll, space.getDECK_USED());
                     } else {
                         throw new IllegalArgumentException("An invalid Space was passed");
                     }
                 }
             } else {
-                handleProperty(space.getPROPERTY(), player, rolls);
+                handleProperty(space.getPROPERTY(), player, roll);
             }
         } else {
             throw new IllegalArgumentException("A null parameter was passed");
@@ -1159,21 +1190,24 @@ public class Game {
      *
      * @param card   the Card the Player drew
      * @param player the Player that drew the Card
-     * @param rolls  the rolls the Player did
-     * @param deck   the Deck the card was drawn from
+     * @param roll   the roll the Player did
+     * @param deck   the index of the Deck in DECKS that the card was drawn from
      * @throws IllegalArgumentException when a null parameter is passed
      */
-    private void handleCard(Card card, Player player, int[] rolls, Deck deck) {
-        if (card != null && player != null && deck != null) {
-            GAME_UI.displayCard(card, "You Drew This Card");
+    private void handleCard(Card card, Player player, Roll roll, int deck) {
+        if (card != null && player != null) {
+            GAME_VIEW.displayCard(card, "You Drew This Card");
+            if (eventLog != null) {
+                logEvent(GameEventType.CARD, player, deck << 16 | DECKS[deck].indexOf(card));
+            }
             if (card.getMONEY() != 0) { //If this is the case, the Player should gain this amount
                 if (!card.isPER_PLAYER()) {
                     doMandatoryTransaction(player, card.getMONEY(), null);
                 } else {
                     int total = 0;
-                    for (Player otherPlayer : PLAYERS) { //We'll run through all of the Players, updating their wallet by getMONEY()
+                    for (Player otherPlayer : PLAYERS.toArray(new Player[0])) { //We'll run through all of the Players, updating their wallet by getMONEY(). This is a copy as Players can go bankrupt here
                         if (!otherPlayer.equals(player)) {
-                            doMandatoryTransaction(player, card.getMONEY(), null);
+                            doMandatoryTransaction(otherPlayer, card.getMONEY(), null);
                             total += card.getMONEY();
                         }
                     }
@@ -1184,12 +1218,12 @@ public class Game {
                 if (card.getRENT_MULTIPLIER() != 0 && GAME_BOARD[player.getPosition()].getPROPERTY() != null &&
                         GAME_BOARD[player.getPosition()].getPROPERTY().getOwner() != null) {
                     doMandatoryTransaction(player, -GAME_BOARD[player.getPosition()].getPROPERTY().getRent() *
-                                    (GAME_BOARD[player.getPosition()].getPROPERTY().IS_DICE_MULTIPLIER() ? calcRollTotal(rolls) : 1) *
+                                    (GAME_BOARD[player.getPosition()].getPROPERTY().IS_DICE_MULTIPLIER() ? roll.getTotal() : 1) *
                                     (int) Math.round(1 - card.getRENT_MULTIPLIER()),
                             GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
                     if (card.getROLL_MULTIPLIER() != 0) {
                         doMandatoryTransaction(player, (int) Math.round(-card.getROLL_MULTIPLIER() *
-                                calcRollTotal(getRoll(DICE))), GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
+                                EXTRA_ROLL.roll()), GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
                     }
                 }
             } else if (card.getSPACE() != -1) { //If this is the case, the Player should go to this Space
@@ -1197,34 +1231,34 @@ public class Game {
                 if (card.getRENT_MULTIPLIER() != 0 && GAME_BOARD[player.getPosition()].getPROPERTY() != null &&
                         GAME_BOARD[player.getPosition()].getPROPERTY().getOwner() != null) {
                     doMandatoryTransaction(player, -GAME_BOARD[player.getPosition()].getPROPERTY().getRent() *
-                                    (GAME_BOARD[player.getPosition()].getPROPERTY().IS_DICE_MULTIPLIER() ? calcRollTotal(rolls) : 1) *
+                                    (GAME_BOARD[player.getPosition()].getPROPERTY().IS_DICE_MULTIPLIER() ? roll.getTotal() : 1) *
                                     (int) Math.round(1 - card.getRENT_MULTIPLIER()),
                             GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
                     if (card.getROLL_MULTIPLIER() != 0) {
                         doMandatoryTransaction(player, (int) Math.round(-card.getROLL_MULTIPLIER() *
-                                calcRollTotal(getRoll(DICE))), GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
+                                EXTRA_ROLL.roll()), GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
                     }
                 }
             } else if (card.getCOLOR_GROUP() != null) { //If this is the case, the Player should go to this color group
-                player.goToSpace(getNearestInColorGroup(card.getCOLOR_GROUP(), GAME_BOARD, player.getPosition()));
+                player.goToSpace(BOARD_INDEX.nearestInGroup(BOARD_INDEX.getGroupId(card.getCOLOR_GROUP()), player.getPosition()));
                 if (card.getRENT_MULTIPLIER() != 0 && GAME_BOARD[player.getPosition()].getPROPERTY() != null &&
                         GAME_BOARD[player.getPosition()].getPROPERTY().getOwner() != null) {
                     doMandatoryTransaction(player, -GAME_BOARD[player.getPosition()].getPROPERTY().getRent() *
-                                    (GAME_BOARD[player.getPosition()].getPROPERTY().IS_DICE_MULTIPLIER() ? calcRollTotal(rolls) : 1) *
+                                    (GAME_BOARD[player.getPosition()].getPROPERTY().IS_DICE_MULTIPLIER() ? roll.getTotal() : 1) *
                                     (int) Math.round(1 - card.getRENT_MULTIPLIER()),
                             GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
                     if (card.getROLL_MULTIPLIER() != 0) {
                         doMandatoryTransaction(player, (int) Math.round(-card.getROLL_MULTIPLIER() *
-                                calcRollTotal(getRoll(DICE))), GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
+                                EXTRA_ROLL.roll()), GAME_BOARD[player.getPosition()].getPROPERTY().getOwner());
                     }
                 }
             } else if (card.getPRICE_PER_HOUSE() != 0) { //If this is the case, the Player pay that amount per house and per hotel (they are linked)
-                if (doMandatoryTransaction(player, -card.getPRICE_PER_HOUSE() * playerNumHouses(GAME_BOARD, player), null)) {
-                    doMandatoryTransaction(player, -card.getPRICE_PER_HOTEL() * playerNumHotels(GAME_BOARD, player), null);
+                if (doMandatoryTransaction(player, -card.getPRICE_PER_HOUSE() * BOARD_INDEX.getNumHouses(player), null)) {
+                    doMandatoryTransaction(player, -card.getPRICE_PER_HOTEL() * BOARD_INDEX.getNumHotels(player), null);
                 }
             } else if (card.IS_GET_OUT_JAIL()) { //If this is the case, the Player should get this Card
                 card.setOwner(player);
-                deck.addCardToOwnedCards(card);
+                DECKS[deck].addCardToOwnedCards(card);
             }
         } else {
             throw new IllegalArgumentException("A null parameter was passed");
@@ -1236,24 +1270,23 @@ public class Game {
      *
      * @param property the Property the Player landed on
      * @param player   the Player who landed on the Space
-     * @param rolls    the rolls that the Player did
+     * @param roll     the roll that the Player did
      */
-    private void handleProperty(Property property, Player player, int[] rolls) {
+    private void handleProperty(Property property, Player player, Roll roll) {
         if (property != null && player != null) {
-            GAME_UI.displayProperty(property, "You landed on this property");
+            GAME_VIEW.displayProperty(property, "You landed on this property");
             if (property.getOwner() == null) { //If this is the case, the Player can buy the Property
-                if (player.canAfford(property.getPRICE()) && player.promptBoolean(PROMPTS[4], property)) { //If this is the case, the Player will buy the Property
+                if (player.canAfford(property.getPRICE()) && player.promptBoolean(PromptType.BUY_PROPERTY, PromptType.BUY_PROPERTY.getText(PROMPTS), property)) { //If this is the case, the Player will buy the Property
                     player.updateWallet(-property.getPRICE());
                     property.setOwner(player);
+                    logEvent(GameEventType.PURCHASE, player, property);
                 } else { //If they didn't choose to buy it, we need to run an auction now
                     doAuction(property, PLAYERS.toArray(new Player[0]));
                 }
             } else {
                 if (!property.getOwner().equals(player)) { //If this is the case, the Player owes the owner rent
-                    if (doMandatoryTransaction(player, -property.getRent() *
-                            (property.IS_DICE_MULTIPLIER() ? calcRollTotal(rolls) : 1), property.getOwner())) {
-                        property.getOwner().updateWallet(property.getRent());
-                    }
+                    doMandatoryTransaction(player, -property.getRent() *
+                            (property.IS_DICE_MULTIPLIER() ? roll.getTotal() : 1), property.getOwner()); //This also pays the owner
                 }
             }
         } else {
@@ -1271,17 +1304,18 @@ public class Game {
         if (property != null && property.getOwner() == null) {
             ArrayList<Player> playersList = new ArrayList<>();
             for (Player player : players) {
-                if (player.promptBoolean(PROMPTS[3], property)) {
+                if (player.promptBoolean(PromptType.JOIN_AUCTION, PromptType.JOIN_AUCTION.getText(PROMPTS), property)) {
                     playersList.add(player);
                 }
             }
 
             if (playersList.size() > 0) {
-                Auction auction = new Auction(property, playersList, PROMPTS[26]);
+                Auction auction = new Auction(property, playersList, PromptType.AUCTION_BID.getText(PROMPTS));
                 do { //This will run through the Auction until the Auction Object determines it has a winner
                     auction.doRound();
                 } while (!auction.isConfirmed());
             }
+            logEvent(GameEventType.AUCTION, property.getOwner(), property);
         } else {
             throw new IllegalArgumentException("A null or owned Property was passed");
         }
@@ -1293,17 +1327,18 @@ public class Game {
      *
      * @param player                  the Player who is selling
      * @param propertiesWithBuildings the Properties owned by the Player that are eligible for sale
-     * @param prompt                  the prompt that should be shown to the user
+     * @param prompt                  what the Player is being asked
      * @throws IllegalArgumentException when a null or empty parameter is passed
      */
-    private void promptSellBuildings(Player player, Property[] propertiesWithBuildings, String prompt) {
+    private void promptSellBuildings(Player player, Property[] propertiesWithBuildings, PromptType prompt) {
         if (player != null && propertiesWithBuildings != null && propertiesWithBuildings.length > 0) {
             while (propertiesWithBuildings.length > 0) {
-                int result = player.promptArray(prompt, propertiesWithBuildings, null);
+                int result = player.promptArray(prompt, prompt.getText(PROMPTS), propertiesWithBuildings, null);
                 if (result >= 0 && result < propertiesWithBuildings.length) {
                     if (propertiesWithBuildings[result].getOwner().equals(player)) {
                         player.updateWallet(propertiesWithBuildings[result].sellHouse());
-                        propertiesWithBuildings = playerPropertiesWithBuildings(GAME_BOARD, player); //Updates to ensure the Player cannot remove a house when its no longer eligible
+                        logEvent(GameEventType.SELL_BUILDING, player, propertiesWithBuildings[result]);
+                        propertiesWithBuildings = playerPropertiesWithRemovableBuildings(player); //Updates to ensure the Player cannot remove a house when its no longer eligible
                     } else {
                         throw new IllegalArgumentException("A Property that wasn't owned by the Player was passed");
                     }
@@ -1322,17 +1357,18 @@ public class Game {
      *
      * @param player             the Player who is mortgaging
      * @param sellableProperties the Properties owned by the Player that are eligible for mortgage
-     * @param prompt             the prompt that showuld be shown to the user
+     * @param prompt             what the Player is being asked
      * @throws IllegalArgumentException when a null or empty parameter is passed
      */
-    private void promptMortgage(Player player, Property[] sellableProperties, String prompt) {
+    private void promptMortgage(Player player, Property[] sellableProperties, PromptType prompt) {
         if (player != null && sellableProperties != null && sellableProperties.length > 0) {
             while (sellableProperties.length > 0) {
-                int result = player.promptArray(prompt, sellableProperties, null);
+                int result = player.promptArray(prompt, prompt.getText(PROMPTS), sellableProperties, null);
                 if (result >= 0 && result < sellableProperties.length) {
                     if (sellableProperties[result].getOwner().equals(player)) {
                         player.updateWallet(sellableProperties[result].mortgage());
-                        sellableProperties = playerSellableProperties(COLOR_GROUPS, GAME_BOARD, player); //Updates to ensure the Player cannot double mortgage
+                        logEvent(GameEventType.MORTGAGE, player, sellableProperties[result]);
+                        sellableProperties = playerSellableProperties(player); //Updates to ensure the Player cannot double mortgage
                     } else {
                         throw new IllegalArgumentException("A Property that wasn't owned by the Player was passed");
                     }
@@ -1351,19 +1387,20 @@ public class Game {
      *
      * @param player                   the Player who is un-mortgaging
      * @param unMortgageableProperties the Properties owned by the Player that are eligible to be un-mortgaged
-     * @param prompt                   the prompt that should be shown to the user
+     * @param prompt                   what the Player is being asked
      * @throws IllegalArgumentException when a null or empty parameter is passed
      */
-    private void promptUnMortgage(Player player, ArrayList<Property> unMortgageableProperties, String prompt) {
+    private void promptUnMortgage(Player player, ArrayList<Property> unMortgageableProperties, PromptType prompt) {
         if (player != null && unMortgageableProperties != null && unMortgageableProperties.size() > 0) {
             while (unMortgageableProperties.size() > 0) {
                 unMortgageableProperties.removeIf(property -> (!player.canAfford(property.getUnMORTGAGE())));
                 if (unMortgageableProperties.size() > 0) {
-                    int result = player.promptArray(prompt, unMortgageableProperties.toArray(new Property[0]), null);
+                    int result = player.promptArray(prompt, prompt.getText(PROMPTS), unMortgageableProperties.toArray(new Property[0]), null);
                     if (result >= 0 && result < unMortgageableProperties.size()) {
                         if (unMortgageableProperties.get(result).getOwner().equals(player)) {
                             player.updateWallet(unMortgageableProperties.get(result).unMortgage());
-                            unMortgageableProperties = new ArrayList<>(Arrays.asList(playerMortgagedProperties(GAME_BOARD, player)));
+                            logEvent(GameEventType.UN_MORTGAGE, player, unMortgageableProperties.get(result));
+                            unMortgageableProperties = playerMortgagedProperties(player);
                         } else {
                             throw new IllegalArgumentException("A Property that wasn't owned by the Player was passed");
                         }
@@ -1384,19 +1421,20 @@ public class Game {
      *
      * @param player              the Player who is buying
      * @param buildableProperties the Properties owned by the Player that are eligible to be built on
-     * @param prompt              the prompt that should be shown to the user
+     * @param prompt              what the Player is being asked
      * @throws IllegalArgumentException when a null or empty parameter is passed
      */
-    private void promptBuyBuildings(Player player, ArrayList<Property> buildableProperties, String prompt) {
+    private void promptBuyBuildings(Player player, ArrayList<Property> buildableProperties, PromptType prompt) {
         if (player != null && buildableProperties != null && buildableProperties.size() > 0) {
             while (buildableProperties.size() > 0) {
                 buildableProperties.removeIf(property -> (!player.canAfford(property.getBUILD_PRICE())));
                 if (buildableProperties.size() > 0) {
-                    int result = player.promptArray(prompt, buildableProperties.toArray(new Property[0]), null);
+                    int result = player.promptArray(prompt, prompt.getText(PROMPTS), buildableProperties.toArray(new Property[0]), null);
                     if (result >= 0 && result < buildableProperties.size()) {
                         if (buildableProperties.get(result).getOwner().equals(player)) {
                             player.updateWallet(buildableProperties.get(result).buyHouse());
-                            buildableProperties = new ArrayList<>(Arrays.asList(playerBuildableProperties(COLOR_GROUPS, GAME_BOARD, player)));
+                            logEvent(GameEventType.BUILD, player, buildableProperties.get(result));
+                            buildableProperties = playerBuildableProperties(player);
                         } else {
                             throw new IllegalArgumentException("A Property that wasn't owned by a Player was passed");
                         }
@@ -1421,7 +1459,9 @@ public class Game {
         } else {
             currentPlayer = 0;
         }
-        GAME_UI.displayMessage("It is " + getCurrentPlayer() + "'s turn");
+        if (GAME_VIEW.isShowingMessages()) {
+            GAME_VIEW.displayMessage("It is " + getCurrentPlayer() + "'s turn");
+        }
     }
 
     /**
@@ -1430,70 +1470,164 @@ public class Game {
      * @throws IllegalStateException when currentPlayer is out of bounds or the currentPlayer is bankrupt
      */
     public void doTurn() {
-        updatePropertiesRent(GAME_BOARD); //This just refreshes all of the rents to account for any changes that occurred last turn
-        GAME_UI.update();
+        updatePropertiesRent(); //This just refreshes all of the rents to account for any changes that occurred last turn
+        GAME_VIEW.update();
+        if (shouldGoToNextPlayer && currentPlayer >= 0 && currentPlayer < PLAYERS.size()) { //The Player who just went doesn't need to be solvent
+            nextPlayer();
+        }
         if (currentPlayer >= 0 && currentPlayer < PLAYERS.size() && PLAYERS.get(currentPlayer).getWallet() >= 0) {
-            if (shouldGoToNextPlayer) {
-                nextPlayer();
-            }
-            GAME_UI.update();
+            GAME_VIEW.update();
             Player player = PLAYERS.get(currentPlayer);
             boolean playerStartsInJail = player.getTurnInJail() > 0;
             int startingPosition = player.getPosition();
             int startingPlayerNumber = PLAYERS.size();
-            int[] rolls = getRoll(DICE);
-            StringBuilder message = new StringBuilder("You rolled");
-            for (int roll : rolls) {
-                message.append(" a ").append(roll).append(", and");
+            logEvent(GameEventType.TURN, player, startingPosition);
+            ROLL.roll();
+            logEvent(GameEventType.ROLL, player, ROLL.getTotal());
+            if (GAME_VIEW.isShowingMessages()) { //The message is only built when someone will read it
+                StringBuilder message = new StringBuilder("You rolled");
+                for (int i = 0; i < ROLL.getNumDice(); i++) {
+                    message.append(i == 0 ? " a " : ", and a ").append(ROLL.getValue(i));
+                }
+                GAME_VIEW.displayMessage(message.toString());
             }
-            GAME_UI.displayMessage(message.toString().substring(0, message.length() - 5));
             if (playerStartsInJail) {
-                doJail(rolls, player);
+                doJail(ROLL, player);
             } else {
-                doMove(rolls, player);
+                doMove(ROLL, player);
+            }
+            if (player.getPosition() != startingPosition) {
+                logEvent(GameEventType.MOVE, player, player.getPosition());
             }
 
             while (startingPlayerNumber == PLAYERS.size() && startingPosition != player.getPosition()) { //Theoretically the Player could go around the board forever depending on the moves, so until they don't move after the Space is processed we'll keep processing the Spaces
-                GAME_UI.update();
+                GAME_VIEW.update();
                 startingPosition = player.getPosition();
-                handleSpace(GAME_BOARD[player.getPosition()], player, rolls);
-                updatePropertiesRent(GAME_BOARD); //This just refreshes all of the rents to account for any changes that occurred last turn
-                GAME_UI.update();
+                handleSpace(GAME_BOARD[player.getPosition()], player, ROLL);
+                updatePropertiesRent(); //This just refreshes all of the rents to account for any changes that occurred last turn
+                if (player.getPosition() != startingPosition) {
+                    logEvent(GameEventType.MOVE, player, player.getPosition());
+                }
+                GAME_VIEW.update();
             }
 
             if (startingPlayerNumber != PLAYERS.size()) { //If this is the case the Player has gone bankrupt, meaning they shouldn't be allowed to do anything else
-                GAME_UI.displayMessage("You have gone bankrupt!");
+                GAME_VIEW.displayMessage("You have gone bankrupt!");
+                logEvent(GameEventType.END_TURN, player, shouldGoToNextPlayer ? 1 : 0);
                 return;
             }
 
-            if (playerPropertiesWithRemovableBuildings(COLOR_GROUPS, GAME_BOARD, player).length > 0) { //If the Player can sell any buildings, we should ask
-                promptSellBuildings(player, playerPropertiesWithRemovableBuildings(COLOR_GROUPS, GAME_BOARD, player), PROMPTS[5]);
+            if (findRemovableBuildings(player, null) > 0) { //If the Player can sell any buildings, we should ask
+                promptSellBuildings(player, playerPropertiesWithRemovableBuildings(player), PromptType.SELL_BUILDINGS);
             }
 
-            if (playerSellableProperties(COLOR_GROUPS, GAME_BOARD, player).length > 0) { //If the Player can mortgage any Properties, we should ask
-                promptMortgage(player, playerSellableProperties(COLOR_GROUPS, GAME_BOARD, player), PROMPTS[6]);
+            if (findSellableProperties(player, null) > 0) { //If the Player can mortgage any Properties, we should ask
+                promptMortgage(player, playerSellableProperties(player), PromptType.MORTGAGE);
             }
 
-            if (playerMortgagedProperties(GAME_BOARD, player).length > 0) { //If the Player can un-mortgage any Properties, we should ask
-                promptUnMortgage(player, new ArrayList<>(Arrays.asList(playerMortgagedProperties(GAME_BOARD, player))), PROMPTS[7]);
+            if (findMortgagedProperties(player, null) > 0) { //If the Player can un-mortgage any Properties, we should ask
+                promptUnMortgage(player, playerMortgagedProperties(player), PromptType.UN_MORTGAGE);
             }
 
-            if (playerBuildableProperties(COLOR_GROUPS, GAME_BOARD, player).length > 0) { //If the Player can buy any buildings, we should ask
-                promptBuyBuildings(player, new ArrayList<>(Arrays.asList(playerBuildableProperties(COLOR_GROUPS, GAME_BOARD, player))), PROMPTS[8]);
+            if (findBuildableProperties(player, null) > 0) { //If the Player can buy any buildings, we should ask
+                promptBuyBuildings(player, playerBuildableProperties(player), PromptType.BUILD);
             }
 
             Trade trade;
-            do {
-                trade = promptTrade(PROMPTS[22], player, PLAYERS.toArray(new Player[0]));
-            } while (trade != null);
+            int numTrades = 0;
+            do { //We'll keep prompting for Trades until the Player stops, or has started MAX_TRADES
+                trade = promptTrade(PromptType.START_TRADE, player, PLAYERS.toArray(new Player[0]));
+                numTrades++;
+            } while (trade != null && numTrades < MAX_TRADES);
 
             //If the player started in jail or didn't roll doubles the next Player will be the next in line
-            shouldGoToNextPlayer = playerStartsInJail || !rolledDoubles(rolls);
+            shouldGoToNextPlayer = playerStartsInJail || !ROLL.isDoubles();
+            logEvent(GameEventType.END_TURN, player, shouldGoToNextPlayer ? 1 : 0);
         } else {
             throw new IllegalStateException("Game is in an illegal state");
         }
     }
 
+    /**
+     * Makes a GameState the right size to hold snapshots of this Game
+     *
+     * @return the new GameState
+     */
+    public GameState newState() {
+        int[] deckSizes = new int[DECKS.length];
+        for (int i = 0; i < DECKS.length; i++) {
+            deckSizes[i] = DECKS[i].getNumCards();
+        }
+        return new GameState(GAME_BOARD.length, SEATS.length, deckSizes);
+    }
+
+    /**
+     * Copies this Game's state into a GameState without allocating. This covers the Properties, the Players, the Decks
+     * and whose turn it is, but not the random generator, so a restored Game won't roll the same way again
+     *
+     * @param state the GameState to copy into. This should have been made by newState on this Game, or on a Game
+     *              made from the same parts
+     * @throws IllegalArgumentException when a null or mismatched GameState is passed
+     */
+    public void snapshot(GameState state) {
+        if (state != null && state.getBOARD_SIZE() == GAME_BOARD.length && state.getNUM_SEATS() == SEATS.length &&
+                state.matches(DECKS)) {
+            state.read(GAME_BOARD, SEATS);
+            state.readDecks(DECKS, SEATS);
+            for (int seat = 0; seat < SEATS.length; seat++) {
+                state.setInGame(seat, PLAYERS.contains(SEATS[seat]));
+            }
+            state.setTurn(currentPlayer, shouldGoToNextPlayer);
+        } else {
+            throw new IllegalArgumentException("A null or mismatched GameState was passed");
+        }
+    }
+
+    /**
+     * Puts this Game back into a GameState. The GameState can come from this Game or from another Game made from
+     * the same parts, in which case this Game's Players take the other Game's seats
+     *
+     * @param state the GameState to restore. This should have been made by newState on this Game, or on a Game made
+     *              from the same parts
+     * @throws IllegalArgumentException when a null or mismatched GameState is passed
+     */
+    public void restore(GameState state) {
+        if (state != null && state.getBOARD_SIZE() == GAME_BOARD.length && state.getNUM_SEATS() == SEATS.length &&
+                state.matches(DECKS)) {
+            state.write(GAME_BOARD, SEATS);
+            state.writeDecks(DECKS, SEATS);
+            PLAYERS.clear();
+            for (int seat = 0; seat < SEATS.length; seat++) {
+                if (state.isInGame(seat)) {
+                    PLAYERS.add(SEATS[seat]);
+                }
+            }
+            currentPlayer = state.getCurrentPlayer();
+            shouldGoToNextPlayer = state.isShouldGoToNextPlayer();
+            updatePropertiesRent();
+        } else {
+            throw new IllegalArgumentException("A null or mismatched GameState was passed");
+        }
+    }
+
+    /**
+     * Sets the log that everything this Game does is written to from now on
+     *
+     * @param eventLog the log, which should have been opened on this Game. This can be null to stop logging
+     */
+    public void setEventLog(EventLog eventLog) {
+        this.eventLog = eventLog;
+    }
+
+    /**
+     * Gets the seed of the Game's random generator. Passing it to a new Game made from the same parts replays this one
+     *
+     * @return the seed
+     */
+    public long getSEED() {
+        return SEED;
+    }
+
     /**
      * Gets the game board
      *
@@ -1503,6 +1637,42 @@ public class Game {
         return GAME_BOARD;
     }
 
+    /**
+     * Gets the index of the game board's color groups
+     *
+     * @return the board index
+     */
+    public BoardIndex getBOARD_INDEX() {
+        return BOARD_INDEX;
+    }
+
+    /**
+     * Gets the Dice that are rolled each turn
+     *
+     * @return the Dice
+     */
+    public Dice[] getDICE() {
+        return ROLL.getDICE();
+    }
+
+    /**
+     * Gets the index of the jail
+     *
+     * @return the jail's index
+     */
+    public int getJAIL_SPACE() {
+        return JAIL_SPACE;
+    }
+
+    /**
+     * Gets the expected rents of the board's Properties
+     *
+     * @return the rent analytics, or null if the Game doesn't have any AIPlayers
+     */
+    public RentAnalytics getRENT_ANALYTICS() {
+        return RENT_ANALYTICS;
+    }
+
     /**
      * Gets the Decks
      *
@@ -1521,6 +1691,48 @@ public class Game {
         return PLAYERS.toArray(new Player[0]);
     }
 
+    /**
+     * Gets the rent a seat has paid over the Game. This counts rent that was paid off after selling or mortgaging,
+     * but not rent that a Player went bankrupt over
+     *
+     * @param seat the seat
+     * @return the rent paid
+     */
+    public long getRentPaid(int seat) {
+        return RENT_PAID[seat];
+    }
+
+    /**
+     * Gets the rent a seat has been paid over the Game
+     *
+     * @param seat the seat
+     * @return the rent received
+     */
+    public long getRentReceived(int seat) {
+        return RENT_RECEIVED[seat];
+    }
+
+    /**
+     * Finds the seat a Player started the Game in
+     *
+     * @param player the Player. This can be null
+     * @return the Player's seat, or -1 if they weren't in the Game
+     */
+    int seatOf(Player player) {
+        Integer seat = SEAT_INDEX.get(player);
+        return seat != null ? seat : -1;
+    }
+
+    /**
+     * Gets every Player the Game started with, in seat order, including those who have gone bankrupt. This is shared
+     * and shouldn't be modified
+     *
+     * @return the seats
+     */
+    public Player[] getSEATS() {
+        return SEATS;
+    }
+
     /**
      * Returns the current Player
      *
@@ -1529,4 +1741,13 @@ public class Game {
     public Player getCurrentPlayer() {
         return PLAYERS.get(currentPlayer);
     }
+
+    /**
+     * Gets whether or not the Game is over, meaning there is only one Player left
+     *
+     * @return whether or not the Game is over
+     */
+    public boolean isOver() {
+        return PLAYERS.size() <= 1;
+    }
 }
\ No newline at end of file
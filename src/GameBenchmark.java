@@ -0,0 +1,384 @@
+import com.sun.management.ThreadMXBean;
+
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Times the Game's hot paths on the default board and on larger synthetic boards, so regressions in turn throughput
+ * and AI decision latency show up. Each operation is warmed up, then run repeatedly for a fixed time, and reported as
+ * operations per second, nanoseconds per operation and bytes allocated per operation. Synthetic boards are made by
+ * repeating the default board, giving each copy its own color groups
+ *
+ * @author irswr
+ */
+public class GameBenchmark {
+    //GameBenchmark constants
+    private static final int[] DEFAULT_BOARD_SIZES = {40, 100, 1000, 10000}; //The board sizes that are run when none are given
+    private static final String[] PLAYER_NAMES = {"AI 1", "AI 2", "AI 3", "AI 4"}; //The AI Players in every benchmarked Game
+    private static final int SETUP_TURNS = 100; //The turns played before measuring, so the Players own Properties to reason about
+    private static final int MAX_TURNS = 1000; //The turns the doTurn benchmark plays before starting a new Game
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean(); //Counts the bytes allocated by each thread
+    private final long WARMUP_NANOS; //Stores how long each operation is run before it is measured
+    private final long MEASURE_NANOS; //Stores how long each operation is measured for
+
+    //GameBenchmark fields
+    private long sink; //Stores a sum of every operation's result, so the JIT can't remove the work
+
+    /**
+     * Constructor for GameBenchmark
+     *
+     * @param warmupMillis  how long each operation is run before it is measured. This shouldn't be negative
+     * @param measureMillis how long each operation is measured for. This should be greater than 0
+     * @throws IllegalArgumentException when an invalid time is passed
+     */
+    public GameBenchmark(long warmupMillis, long measureMillis) {
+        if (warmupMillis >= 0 && measureMillis > 0) {
+            WARMUP_NANOS = warmupMillis * 1_000_000;
+            MEASURE_NANOS = measureMillis * 1_000_000;
+            sink = 0;
+        } else {
+            throw new IllegalArgumentException("An invalid time was passed");
+        }
+    }
+
+    /**
+     * Makes a Game with AI Players on a board of the given size
+     *
+     * @param boardSize the number of Spaces on the board. This should be at least the size of the default board
+     * @param seed      the seed for the Game's random generator
+     * @return the created Game
+     * @throws IllegalArgumentException when a board smaller than the default board is asked for
+     */
+    public static Game makeGame(int boardSize, long seed) {
+        int defaultSize = Defaults.getSpaceNames().length;
+        if (boardSize >= defaultSize) {
+            int numPlayers = PLAYER_NAMES.length;
+            String[] types = new String[numPlayers];
+            Arrays.fill(types, "AI Player");
+            Color[] colors = new Color[numPlayers];
+            int[] wallets = new int[numPlayers];
+            Arrays.fill(wallets, Defaults.getPlayerStartingWallet());
+            int[] positions = new int[numPlayers];
+            Arrays.fill(positions, Defaults.getPlayerStartingPosition());
+            int[] sentences = new int[numPlayers];
+            Arrays.fill(sentences, Defaults.getPlayerTurnsInJail());
+            int[] salaries = new int[numPlayers];
+            Arrays.fill(salaries, Defaults.getPlayerSalary());
+            int[] jailTurns = new int[numPlayers];
+            Arrays.fill(jailTurns, Defaults.getPlayerJailTime());
+            for (int i = 0; i < numPlayers; i++) {
+                colors[i] = Color.getHSBColor((float) i / numPlayers, 1, 1);
+            }
+
+            //Each copy of the default board gets its own color groups, so monopolies stay the same size
+            String[] defaultColorGroups = Defaults.getPropertyColorGroups();
+            String[] propertyColorGroups = tile(defaultColorGroups, boardSize);
+            boolean[] haveProperty = tile(Defaults.getSpaceHaveProperty(), boardSize);
+            int lastCopy = boardSize - boardSize % defaultSize;
+            for (int i = lastCopy; i < boardSize; i++) { //Groups that the last copy cuts short lose their Properties
+                for (int j = boardSize - lastCopy; j < defaultSize && haveProperty[i]; j++) {
+                    if (defaultColorGroups[i - lastCopy].equals(defaultColorGroups[j])) {
+                        haveProperty[i] = false;
+                        propertyColorGroups[i] = null;
+                    }
+                }
+            }
+            ArrayList<String> colorGroups = new ArrayList<>();
+            for (int i = 0; i < boardSize; i++) {
+                if (propertyColorGroups[i] != null) {
+                    if (i >= defaultSize) {
+                        propertyColorGroups[i] += " " + (i / defaultSize + 1);
+                    }
+                    if (!colorGroups.contains(propertyColorGroups[i])) {
+                        colorGroups.add(propertyColorGroups[i]);
+                    }
+                }
+            }
+
+            return GameCreator.makeGame(tile(Defaults.getSpaceNames(), boardSize),
+                    tile(Defaults.getSpaceMoneyLosses(), boardSize), tile(Defaults.getSpaceMovementLosses(), boardSize),
+                    tile(Defaults.getSpaceSpaceLosses(), boardSize), tile(Defaults.getSpaceColorGroups(), boardSize),
+                    tile(Defaults.getSpaceRentMultipliers(), boardSize), tile(Defaults.getSpaceRollMultipliers(), boardSize),
+                    tile(Defaults.getSpaceDeckUsed(), boardSize), tile(Defaults.getSpacePerHouse(), boardSize),
+                    tile(Defaults.getSpacePerHotel(), boardSize), haveProperty,
+                    tile(Defaults.getPropertyPrices(), boardSize), tile(Defaults.getPropertyMortgages(), boardSize),
+                    tile(Defaults.getPropertyMortgagePercent(), boardSize), tile(Defaults.getPropertyBuildPrices(), boardSize),
+                    propertyColorGroups, tile(Defaults.getPropertyMaxHouses(), boardSize),
+                    tile(Defaults.getPropertyRents(), boardSize), tile(Defaults.getPropertyStartingHouses(), boardSize),
+                    tile(Defaults.getPropertyAreDiceMultiplier(), boardSize), tile(Defaults.getPropertyAreScaled(), boardSize),
+                    tile(Defaults.getPropertyAreMortgaged(), boardSize), tile(Defaults.getPropertyOwners(), boardSize),
+                    colorGroups.toArray(new String[0]), Defaults.getJailPosition(), Defaults.getJailBail(),
+                    new HeadlessGameView(), Defaults.getPROMPTS(), seed, PLAYER_NAMES.clone(), types, wallets, positions,
+                    sentences, salaries, jailTurns, colors, Defaults.getNumDice(), Defaults.getDiceSides(),
+                    Defaults.getCardTypes(), Defaults.getCardDescriptions(), Defaults.getCardMoneyLosses(),
+                    Defaults.getCardPerPlayer(), Defaults.getCardMovementLosses(), Defaults.getCardSpaceLosses(),
+                    Defaults.getCardColorGroups(), Defaults.getCardRentMultipliers(), Defaults.getCardRollMultipliers(),
+                    Defaults.getCardPerHouse(), Defaults.getCardPerHotel(), Defaults.getCardIsGetOutJail(),
+                    Defaults.getCardOwners());
+        } else {
+            throw new IllegalArgumentException("A board smaller than the default board was asked for");
+        }
+    }
+
+    /**
+     * Repeats an Array until it is a given length. The last copy is cut short if the length isn't a multiple
+     *
+     * @param array  the Array that should be repeated. This shouldn't be null or empty
+     * @param length the length of the result
+     * @param <T>    the type of the Array
+     * @return a new Array made of copies of array
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T tile(T array, int length) {
+        int arrayLength = Array.getLength(array);
+        T result = (T) Array.newInstance(array.getClass().getComponentType(), length);
+        for (int i = 0; i < length; i += arrayLength) {
+            System.arraycopy(array, 0, result, i, Math.min(arrayLength, length - i));
+        }
+        return result;
+    }
+
+    /**
+     * Makes a Game and plays it for SETUP_TURNS turns, so the Players have Properties and money to trade. Seeds are
+     * tried in order until the Game is still going afterwards
+     *
+     * @param boardSize the number of Spaces on the board
+     * @return the Game, which isn't over
+     */
+    private static Game makePlayedGame(int boardSize) {
+        for (long seed = 0; ; seed++) {
+            Game game = makeGame(boardSize, seed);
+            for (int turn = 0; turn < SETUP_TURNS && !game.isOver(); turn++) {
+                game.doTurn();
+            }
+            if (!game.isOver()) {
+                return game;
+            }
+        }
+    }
+
+    /**
+     * Finds the first Property a Player owns that isn't mortgaged and has no buildings
+     *
+     * @param game   the Game to look through
+     * @param player the owner
+     * @return the Property, or null if the Player doesn't own one
+     */
+    private static Property findTradeableProperty(Game game, Player player) {
+        for (Space space : game.getGAME_BOARD()) {
+            Property property = space.getPROPERTY();
+            if (property != null && property.getOwner() == player && !property.isMortgaged() &&
+                    property.getNumHouses() == 0) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Runs every operation on a board of the given size and prints the results
+     *
+     * @param boardSize the number of Spaces on the board. This should be at least the size of the default board
+     */
+    public void runBoard(int boardSize) {
+        Game[] turnGame = {makeGame(boardSize, 0)};
+        int[] turns = {0};
+        long[] seed = {0};
+        measure("Game.doTurn", boardSize, () -> {
+            if (turnGame[0].isOver() || turns[0] == MAX_TURNS) { //Every new Game gets the next seed, so no Game is played twice
+                turnGame[0] = makeGame(boardSize, ++seed[0]);
+                turns[0] = 0;
+            }
+            turnGame[0].doTurn();
+            turns[0]++;
+            return turnGame[0].getCurrentPlayer().getPosition();
+        });
+
+        Game game = makePlayedGame(boardSize);
+        Player[] players = game.getPLAYERS();
+        BoardIndex boardIndex = game.getBOARD_INDEX();
+        measure("Game.updatePropertiesRent", boardSize, () -> {
+            for (int group = 0; group < boardIndex.getNumGroups(); group++) { //Every group is recalculated, as after a full refresh
+                boardIndex.markDirty(group);
+            }
+            game.updatePropertiesRent();
+            return boardIndex.getVersion();
+        });
+
+        AIPlayer ai = (AIPlayer) players[0];
+        measure("AIPlayer.getValues", boardSize, () -> AIPlayer.getValues(game.getGAME_BOARD(), boardIndex, ai,
+                game.getRENT_ANALYTICS()).length);
+
+        Trade trade = new Trade(players[0], players[1], PromptType.CONFIRM_TRADE.getText(Defaults.getPROMPTS()));
+        Property senderProperty = findTradeableProperty(game, players[0]);
+        Property receiverProperty = findTradeableProperty(game, players[1]);
+        if (senderProperty != null) {
+            trade.addSenderProperty(senderProperty);
+        }
+        if (receiverProperty != null) {
+            trade.addReceiverProperty(receiverProperty);
+        }
+        trade.addSenderMoney(Math.min(50, players[0].getWallet()));
+        measure("AIPlayer.analyzeTrade", boardSize, () -> ai.analyzeTrade(trade));
+
+        Deck deck = game.getDECKS()[0];
+        measure("Deck.getCard", boardSize, () -> deck.getCard().getMONEY());
+
+        Property auctioned = null;
+        for (Space space : game.getGAME_BOARD()) {
+            if (space.getPROPERTY() != null && space.getPROPERTY().getOwner() == null) {
+                auctioned = space.getPROPERTY();
+                break;
+            }
+        }
+        if (auctioned != null) {
+            Property property = auctioned;
+            String prompt = PromptType.AUCTION_BID.getText(Defaults.getPROMPTS());
+            Auction[] auction = {null};
+            measure("Auction.doRound", boardSize, () -> { //An Auction that's over is undone and a new one set up, so one round is timed each time
+                if (auction[0] == null || auction[0].isConfirmed()) {
+                    if (property.getOwner() != null) {
+                        property.getOwner().updateWallet(auction[0].getCurrentValue());
+                        property.setOwner(null);
+                    }
+                    auction[0] = new Auction(property, new ArrayList<>(Arrays.asList(players)), prompt);
+                }
+                auction[0].doRound();
+                return auction[0].getCurrentValue();
+            });
+            if (property.getOwner() != null) {
+                property.getOwner().updateWallet(auction[0].getCurrentValue());
+                property.setOwner(null);
+            }
+        }
+
+        GameState state = game.newState();
+        GameState copy = game.newState();
+        game.snapshot(state);
+        measure("Game.snapshot", boardSize, () -> {
+            game.snapshot(copy);
+            return copy.getCurrentPlayer();
+        });
+        measure("Game.restore", boardSize, () -> {
+            game.restore(state);
+            return game.getCurrentPlayer().getWallet();
+        });
+
+        if (boardSize == Defaults.getSpaceNames().length) { //Rollouts are only made on the default board
+            measureMonteCarlo(boardSize);
+        }
+
+        //Accepted Trades change the Game, so each call starts from the same snapshot. The restore is timed with it
+        measure("Game.promptTrade", boardSize, () -> {
+            game.restore(state);
+            Player sender = game.getCurrentPlayer();
+            return game.promptTrade(PromptType.START_TRADE, sender, game.getPLAYERS()) != null ? 1 : 0;
+        });
+    }
+
+    /**
+     * Times a MonteCarloPlayer deciding whether to buy a Property, then prints the latency of every decision its
+     * RolloutScheduler recorded, warm up included, for each PromptType
+     *
+     * @param boardSize the size of the board, which should be the default board's
+     */
+    private void measureMonteCarlo(int boardSize) {
+        String[] types = {"Monte Carlo Player", "AI Player", "AI Player", "AI Player"};
+        Color[] colors = new Color[types.length];
+        for (int i = 0; i < colors.length; i++) {
+            colors[i] = Color.getHSBColor((float) i / colors.length, 1, 1);
+        }
+        Game game = GameCreator.makeGame(PLAYER_NAMES.clone(), types, colors, new HeadlessGameView(), 0);
+        MonteCarloPlayer player = (MonteCarloPlayer) game.getSEATS()[0];
+        Property property = null;
+        for (int i = 0; property == null; i++) { //No-one owns anything yet, so this is the first Property on the board
+            property = game.getGAME_BOARD()[i].getPROPERTY();
+        }
+        Property toBuy = property;
+        String description = PromptType.BUY_PROPERTY.getText(Defaults.getPROMPTS());
+        RolloutScheduler scheduler = player.getSCHEDULER();
+        scheduler.resetLatencies();
+        measure("MonteCarloPlayer.decide", boardSize, () ->
+                player.promptBoolean(PromptType.BUY_PROPERTY, description, toBuy) ? 1 : 0);
+        System.out.print(scheduler.getLatencyReport());
+    }
+
+    /**
+     * Warms an operation up, then measures it and prints the results
+     *
+     * @param name      the name of the operation
+     * @param boardSize the size of the board the operation is run on
+     * @param operation the operation. Its result is only kept so the work can't be removed
+     */
+    private void measure(String name, int boardSize, LongSupplier operation) {
+        long start = System.nanoTime();
+        while (System.nanoTime() - start < WARMUP_NANOS) {
+            sink += operation.getAsLong();
+        }
+
+        long numOperations = 0;
+        long startBytes = allocatedBytes();
+        start = System.nanoTime();
+        long elapsed;
+        do { //The clock is checked after every operation, as operations on the large boards can take seconds
+            sink += operation.getAsLong();
+            numOperations++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MEASURE_NANOS);
+        long bytes = allocatedBytes() - startBytes;
+
+        System.out.printf("%-26s %6d spaces %14.1f ops/s %12.1f ns/op %10.1f B/op %9.1f MB/s%n", name, boardSize,
+                numOperations * 1e9 / elapsed, (double) elapsed / numOperations, (double) bytes / numOperations,
+                bytes * 1e3 / elapsed);
+    }
+
+    /**
+     * Counts the bytes every live thread has allocated so far, so the work an operation hands to other threads, like
+     * a MonteCarloPlayer's rollouts, is counted with it
+     *
+     * @return the number of bytes
+     */
+    private static long allocatedBytes() {
+        long bytes = 0;
+        for (long threadBytes : THREADS.getThreadAllocatedBytes(THREADS.getAllThreadIds())) {
+            bytes += Math.max(threadBytes, 0); //Threads that have ended since their ids were read give -1
+        }
+        return bytes;
+    }
+
+    /**
+     * Gets the sum of every operation's result
+     *
+     * @return the sum
+     */
+    public long getSink() {
+        return sink;
+    }
+
+    /**
+     * Runs the benchmarks from the command line
+     *
+     * @param args the milliseconds to warm up for, the milliseconds to measure for and the board sizes, all optional
+     */
+    public static void main(String[] args) {
+        long warmupMillis = args.length > 0 ? Long.parseLong(args[0]) : 500;
+        long measureMillis = args.length > 1 ? Long.parseLong(args[1]) : 2000;
+        int[] boardSizes = DEFAULT_BOARD_SIZES;
+        if (args.length > 2) {
+            boardSizes = new int[args.length - 2];
+            for (int i = 2; i < args.length; i++) {
+                boardSizes[i - 2] = Integer.parseInt(args[i]);
+            }
+        }
+
+        GameBenchmark benchmark = new GameBenchmark(warmupMillis, measureMillis);
+        for (int boardSize : boardSizes) {
+            benchmark.runBoard(boardSize);
+        }
+        System.out.println("(" + benchmark.getSink() + ")");
+    }
+}
@@ -8,6 +8,8 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
 
 /**
  * This Class manages Game setup. It contains many static methods that manage the Game Object initialization, along with
@@ -103,9 +105,25 @@ public class GameCreator extends JPanel implements ActionListener, ListSelection
      * @param playerNames  the names of the Players
      * @param playerTypes  the types of the Players
      * @param playerColors the Players colors
-     * @param gameUI       the Game's UI
+     * @param gameView     the Game's view. This must be a PromptView if there are any human Players
+     * @return the created Game
+     */
+    public static Game makeGame(String[] playerNames, String[] playerTypes, Color[] playerColors, GameView gameView) {
+        return makeGame(playerNames, playerTypes, playerColors, gameView, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Makes a Game out of the default values that rolls, draws and bids from a given seed
+     *
+     * @param playerNames  the names of the Players
+     * @param playerTypes  the types of the Players
+     * @param playerColors the Players colors
+     * @param gameView     the Game's view. This must be a PromptView if there are any human Players
+     * @param seed         the seed for the Game's random generator
+     * @return the created Game
      */
-    public static Game makeGame(String[] playerNames, String[] playerTypes, Color[] playerColors, GameUI gameUI) {
+    public static Game makeGame(String[] playerNames, String[] playerTypes, Color[] playerColors, GameView gameView,
+                                long seed) {
         int[] playerWallets = new int[playerNames.length];
         Arrays.fill(playerWallets, Defaults.getPlayerStartingWallet());
         int[] playerPositions = new int[playerNames.length];
@@ -124,8 +142,8 @@ public class GameCreator extends JPanel implements ActionListener, ListSelection
                 Defaults.getPropertyColorGroups(), Defaults.getPropertyMaxHouses(), Defaults.getPropertyRents(),
                 Defaults.getPropertyStartingHouses(), Defaults.getPropertyAreDiceMultiplier(),
                 Defaults.getPropertyAreScaled(), Defaults.getPropertyAreMortgaged(), Defaults.getPropertyOwners(),
-                Defaults.getColorGroups(), Defaults.getJailPosition(), Defaults.getJailBail(), gameUI,
-                Defaults.getPROMPTS(), playerNames, playerTypes, playerWallets, playerPositions, playerSentences,
+                Defaults.getColorGroups(), Defaults.getJailPosition(), Defaults.getJailBail(), gameView,
+                Defaults.getPROMPTS(), seed, playerNames, playerTypes, playerWallets, playerPositions, playerSentences,
                 playerSalaries, playerJailTurns, playerColors, Defaults.getNumDice(), Defaults.getDiceSides(),
                 Defaults.getCardTypes(), Defaults.getCardDescriptions(), Defaults.getCardMoneyLosses(),
                 Defaults.getCardPerPlayer(), Defaults.getCardMovementLosses(), Defaults.getCardSpaceLosses(),
@@ -165,7 +183,7 @@ public class GameCreator extends JPanel implements ActionListener, ListSelection
      * @param propertyAreMortgaged       whether or not these Properties are mortgaged
      * @param propertyOwners             the Player who should own these property's. This can be null
      * @param playerNames                the names of the Players to be created. This shouldn't be null
-     * @param playerTypes                the types of the Players to be created (human or AI). This shouldn't be null or anything else
+     * @param playerTypes                the types of the Players to be created (human, AI or Monte Carlo). This shouldn't be null or anything else
      * @param playerWallets              the amount of money that should be placed in the Player's wallet
      * @param playerPositions            the position that the Player should start at
      * @param playerJailTurns            the number of turns the Player has in jail. Should be 0 for none
@@ -173,8 +191,9 @@ public class GameCreator extends JPanel implements ActionListener, ListSelection
      * @param playerSalaries             the salaries the Players should be awarded for passing go
      * @param playerColors               the Players colors
      * @param numTurnsInJail             the number of turns the Player should send in jail when they are sent there
-     * @param prompts                    the prompts that are used during the Game. This is only used for the AIPlayer Class
-     * @param gameUI                     the UI for the Game
+     * @param prompts                    the text of the prompts that are shown to Players during the Game, in PromptType order
+     * @param gameView                   the view for the Game. This must be a PromptView if there are any human Players
+     * @param seed                       the seed for the Game's random generator
      * @param bailCost                   the cost to get out of jail
      * @param numDice                    the number of dice. This should be greater than 0
      * @param diceSides                  the number of sides on the dice. This should be greater than 0
@@ -205,7 +224,7 @@ public class GameCreator extends JPanel implements ActionListener, ListSelection
             int[] propertyStartingHouses, boolean[] propertyAreDiceMultipliers, boolean[] propertyAreScaled,
             boolean[] propertyAreMortgaged, Player[] propertyOwners,
             //Game parameters
-            String[] colorGroups, int jailPosition, int bailCost, GameUI gameUI, String[] prompts,
+            String[] colorGroups, int jailPosition, int bailCost, GameView gameView, String[] prompts, long seed,
             //Player parameters
             String[] playerNames, String[] playerTypes, int[] playerWallets, int[] playerPositions,
             int[] playerJailTurns, int[] playerSalaries, int[] numTurnsInJail, Color[] playerColors,
@@ -224,15 +243,29 @@ public class GameCreator extends JPanel implements ActionListener, ListSelection
                 spaceHaveProperty, propertyPrices, propertyMortgages, propertyMortgagePercent,
                 propertyBuildPrices, propertyColorGroups, propertyMaxHouses, propertyRents, propertyStartingHouses,
                 propertyAreDiceMultipliers, propertyAreScaled, propertyAreMortgaged, propertyOwners);
+        LongFunction<Game> rolloutFactory = rolloutSeed -> { //Monte Carlo Players play out their rollouts in copies of this Game where everyone is an AI
+            String[] rolloutTypes = new String[playerTypes.length];
+            Arrays.fill(rolloutTypes, "AI Player");
+            return makeGame(spaceNames, spaceMoneyLosses, spaceMovementLosses, spaceSpaceLosses, spaceColorGroups,
+                    spaceRentMultipliers, spaceRollMultipliers, spaceDeckUsed, spacePerHouses, spacePerHotels,
+                    spaceHaveProperty, propertyPrices, propertyMortgages, propertyMortgagePercent, propertyBuildPrices,
+                    propertyColorGroups, propertyMaxHouses, propertyRents, propertyStartingHouses,
+                    propertyAreDiceMultipliers, propertyAreScaled, propertyAreMortgaged, propertyOwners, colorGroups,
+                    jailPosition, bailCost, new HeadlessGameView(), prompts, rolloutSeed, playerNames, rolloutTypes,
+                    playerWallets, playerPositions, playerJailTurns, playerSalaries, numTurnsInJail, playerColors,
+                    numDice, diceSides, cardTypes, cardDescriptions, cardMoneyLosses, cardPerPlayer, cardMovementLosses,
+                    cardSpaceLosses, cardColorGroup, cardRentMultiplier, cardRollMultiplier, cardPerHouses,
+                    cardPerHotels, cardGetOutJail, cardOwners);
+        };
         Player[] players = setupPlayers(playerNames, playerTypes, playerWallets, playerPositions, spaces.length,
-                playerJailTurns, jailPosition, playerSalaries, numTurnsInJail, prompts, spaces, colorGroups, gameUI,
-                playerColors);
+                playerJailTurns, jailPosition, playerSalaries, numTurnsInJail, spaces, colorGroups, gameView,
+                playerColors, rolloutFactory);
         Dice[] dice = setupDice(numDice, diceSides);
         Deck[] deck = setupDecks(cardTypes, cardDescriptions, cardMoneyLosses, cardPerPlayer, cardMovementLosses,
                 cardSpaceLosses, cardColorGroup, cardRentMultiplier, cardRollMultiplier, cardPerHouses, cardPerHotels,
                 cardGetOutJail, cardOwners, spaces.length);
 
-        return new Game(spaces, colorGroups, jailPosition, bailCost, players, dice, deck, gameUI, prompts);
+        return new Game(spaces, colorGroups, jailPosition, bailCost, players, dice, deck, gameView, prompts, seed);
     }
 
     /**
@@ -312,6 +345,7 @@ public class GameCreator extends JPanel implements ActionListener, ListSelection
                         haveProperty[i], propertyPrices[i], propertyMortgages[i], propertyMortgagePercent[i], propertyBuildPrices[i],
                         propertyColorGroups[i], propertyMaxHouses[i], propertyRents[i], propertyStartingHouses[i],
                         propertyAreDiceMultiplier[i], propertyAreScaled[i], propertyAreMortgaged[i], propertyOwners[i]);
+                spaces[i].setIndex(i); //This lets Spaces and Properties be found on the board without searching it
             }
             return spaces;
         } else {
@@ -382,7 +416,7 @@ public class GameCreator extends JPanel implements ActionListener, ListSelection
      * should have the same length
      *
      * @param names          the names of the Players to be created. This shouldn't be null
-     * @param types          the types of the Players to be created (human or AI). This shouldn't be null or anything else
+     * @param types          the types of the Players to be created (human, AI or Monte Carlo). This shouldn't be null or anything else
      * @param wallets        the amount of money that should be placed in the Player's wallet
      * @param positions      the position that the Player should start at
      * @param boardSize      the max board size, this is used for validation. This shouldn't be 0 or less than any of the
@@ -391,18 +425,18 @@ public class GameCreator extends JPanel implements ActionListener, ListSelection
      * @param jailPosition   the position of the jail on the board. This must be at a valid position
      * @param salaries       the salaries the Players should be awarded for passing go
      * @param numTurnsInJail the number of turns the Player should send in jail when they are sent there
-     * @param prompts        the prompts that are used during the Game. This is only used for the AIPlayer Class
      * @param gameBoard      the game board for use in the AIPlayer Class
      * @param colorGroups    the color groups used in the game board for the AIPLayer Class
-     * @param gameUI         the UI for the Game for the HumanPlayer Class
+     * @param gameView       the view for the Game. Used in the HumanPlayer Class, which requires a PromptView
      * @param colors         the Colors of the Players
+     * @param rolloutFactory makes the Games that Monte Carlo Players play their rollouts in
      * @return the created Players Array
      * @throws IllegalArgumentException when a null or mismatched Array is passed
      */
     private static Player[] setupPlayers(String[] names, String[] types, int[] wallets, int[] positions, int boardSize,
                                          int[] jailTurns, int jailPosition, int[] salaries, int[] numTurnsInJail,
-                                         String[] prompts, Space[] gameBoard, String[] colorGroups, GameUI gameUI,
-                                         Color[] colors) {
+                                         Space[] gameBoard, String[] colorGroups, GameView gameView,
+                                         Color[] colors, LongFunction<Game> rolloutFactory) {
         if (names != null && types != null && wallets != null && positions != null && jailTurns != null && salaries != null &&
                 numTurnsInJail != null && colors != null && names.length == types.length && types.length == wallets.length &&
                 wallets.length == positions.length && positions.length == jailTurns.length &&
@@ -411,7 +445,8 @@ public class GameCreator extends JPanel implements ActionListener, ListSelection
             Player[] players = new Player[names.length];
             for (int i = 0; i < players.length; i++) {
                 players[i] = setupPlayer(names[i], types[i], wallets[i], positions[i], boardSize, jailTurns[i],
-                        jailPosition, salaries[i], numTurnsInJail[i], prompts, gameBoard, colorGroups, gameUI, colors[i]);
+                        jailPosition, salaries[i], numTurnsInJail[i], gameBoard, colorGroups, gameView, colors[i],
+                        rolloutFactory);
             }
             return players;
         } else {
@@ -421,10 +456,10 @@ public class GameCreator extends JPanel implements ActionListener, ListSelection
 
     /**
      * Sets up a Player using the provided parameter
-     * Differentiation between HumanPlayer and AIPlayer occurs here, and does not occur in Game
+     * Differentiation between HumanPlayer, AIPlayer and MonteCarloPlayer occurs here, and does not occur in Game
      *
      * @param name           the name of the Player to be created. This shouldn't be null
-     * @param type           the type of the Player to be created (human or ai). This shouldn't be null or anything else
+     * @param type           the type of the Player to be created (human, ai or monte carlo). This shouldn't be null or anything else
      * @param wallet         the amount of money that should be placed in the Player's wallet
      * @param position       the position that the Player should start at
      * @param boardSize      the max board size, this is used for validation This shouldn't be 0 or less than position
@@ -432,23 +467,33 @@ public class GameCreator extends JPanel implements ActionListener, ListSelection
      * @param jailPosition   the position of the jail on the game board. This must be at a valid position
      * @param salary         the salaries the Players should be awarded for passing go. This must be greater than 0
      * @param numTurnsInJail the number of turns the Player should send in jail when they are sent there
-     * @param prompts        the prompts that are used during the Game. This is only used for the AIPlayer Class
      * @param gameBoard      the game board for use in the AIPlayer Class
      * @param colorGroups    the color groups on the game board for use in the AIPlayer Class
-     * @param gameUI         the UI for the Game. Used in the HumanPlayer Class
+     * @param gameView       the view for the Game. Used in the HumanPlayer Class, which requires a PromptView
      * @param color          the Color of this Player
+     * @param rolloutFactory makes the Games that a MonteCarloPlayer plays its rollouts in
      * @return the created Player Object
-     * @throws IllegalArgumentException when type is not ai or human
+     * @throws IllegalArgumentException when type is not ai, monte carlo or human, or a human Player is made without a
+     *                                  PromptView
      */
     private static Player setupPlayer(String name, String type, int wallet, int position, int boardSize, int jailTurns,
-                                      int jailPosition, int salary, int numTurnsInJail, String[] prompts,
-                                      Space[] gameBoard, String[] colorGroups, GameUI gameUI, Color color) {
+                                      int jailPosition, int salary, int numTurnsInJail,
+                                      Space[] gameBoard, String[] colorGroups, GameView gameView, Color color,
+                                      LongFunction<Game> rolloutFactory) {
         if (type.equals("AI Player")) {
             return new AIPlayer(name, wallet, position, boardSize, jailTurns, jailPosition, salary, numTurnsInJail,
-                    prompts, gameBoard, colorGroups, color);
+                    gameBoard, colorGroups, color);
+        } else if (type.equals("Monte Carlo Player")) {
+            return new MonteCarloPlayer(name, wallet, position, boardSize, jailTurns, jailPosition, salary,
+                    numTurnsInJail, gameBoard, colorGroups, color, rolloutFactory, Defaults.getMonteCarloRollouts(),
+                    Defaults.getMonteCarloMillis(), Defaults.getMonteCarloTurns());
         } else if (type.equals("Human Player")) {
-            return new HumanPlayer(name, wallet, position, boardSize, jailTurns, jailPosition, salary, numTurnsInJail,
-                    gameUI, color);
+            if (gameView instanceof PromptView) { //Humans can only be prompted through a PromptView
+                return new HumanPlayer(name, wallet, position, boardSize, jailTurns, jailPosition, salary,
+                        numTurnsInJail, (PromptView) gameView, color);
+            } else {
+                throw new IllegalArgumentException("A human Player needs a view that can prompt them");
+            }
         } else {
             throw new IllegalArgumentException("An invalid type value was passed");
         }
@@ -629,7 +674,7 @@ public class GameCreator extends JPanel implements ActionListener, ListSelection
             PLAYER_LIST_MODEL.add(PLAYER_LIST_MODEL.getSize(), NAME_FIELD.getText());
             NAME_FIELD.setText("");
             BUTTONS[0].setEnabled(false);
-            JComboBox<String> comboBox = new JComboBox<>(new String[]{"Human Player", "AI Player"});
+            JComboBox<String> comboBox = new JComboBox<>(new String[]{"Human Player", "AI Player", "Monte Carlo Player"});
             comboBox.addActionListener(this);
             TYPE_BOXES.add(comboBox);
             TYPE_PANEL.add(comboBox);
@@ -666,7 +711,7 @@ public class GameCreator extends JPanel implements ActionListener, ListSelection
             }
             String[] playerTypes = new String[PLAYER_LIST_MODEL.getSize()];
             for (int i = 0; i < playerTypes.length; i++) {
-                playerTypes[i] = TYPE_BOXES.get(i).getSelectedIndex() == 0 ? "Human Player" : "AI Player";
+                playerTypes[i] = (String) TYPE_BOXES.get(i).getSelectedItem();
             }
             MAIN_UI.setupGame(playerNames, playerTypes, COLORS.toArray(new Color[0]));
         }
@@ -0,0 +1,24 @@
+/**
+ * Identifies what happened in a Game when it's written to an EventLog. Every event is written with the seat of the
+ * Player it happened to and one int, whose meaning depends on the type and is given beside each constant
+ *
+ * @author irswr
+ */
+public enum GameEventType {
+    TURN, //A Player's turn started. The int is the Space they started on
+    ROLL, //The Player rolled the dice. The int is the roll's total
+    MOVE, //The Player moved, whether from a roll or from a Space. The int is the Space they ended up on
+    JAIL, //The Player had a turn in jail. The int is the number of turns they have left there
+    PURCHASE, //The Player bought a Property they landed on. The int is the Property's Space
+    PAYMENT, //The Player made a payment they couldn't turn down, such as rent, tax, bail or a Card. The int is the amount, which is negative when they paid
+    RENT, //The Player was paid rent. The int is the rent
+    CARD, //The Player drew a Card. The int is the Deck's index times 65536 plus the Card's index in the Deck
+    AUCTION, //The Player won an auction, or no one did if the seat is -1. The int is the Property's Space
+    TRADE, //The Player's Trade was accepted. The int is the seat of the Player who accepted it
+    BUILD, //The Player built a house. The int is the Property's Space
+    SELL_BUILDING, //The Player sold a house. The int is the Property's Space
+    MORTGAGE, //The Player mortgaged a Property. The int is the Property's Space
+    UN_MORTGAGE, //The Player un-mortgaged a Property. The int is the Property's Space
+    BANKRUPTCY, //The Player went bankrupt and left the Game. The int is the seat of the Player they owed, or -1 for the bank
+    END_TURN //The Player's turn ended. The int is 1 if the next turn goes to the next Player, and 0 if they go again
+}
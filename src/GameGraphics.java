@@ -1,10 +1,15 @@
 import javax.swing.*;
 import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
 import java.awt.geom.Ellipse2D;
+import java.awt.image.BufferedImage;
 import java.util.Arrays;
 
 /**
- * Represents the graphics for the monopoly game board
+ * Represents the graphics for the monopoly game board. Besides the board and the tokens, every owned Property shows
+ * its owner's color as a strip along its bottom, its houses or hotel in its colored box, and a grey shade while it's
+ * mortgaged
  *
  * @author irswr
  */
@@ -18,8 +23,18 @@ public class GameGraphics extends JPanel {
     private static final Color YELLOW = new Color(254, 242, 0);
     private static final Color GREEN = new Color(31, 176, 91);
     private static final Color DARK_BLUE = new Color(0, 113, 186);
+    private static final Color MORTGAGE_SHADE = new Color(96, 96, 96, 128);
+    private static final Color HOUSE_COLOR = new Color(0, 128, 0);
+    private static final Color HOTEL_COLOR = new Color(200, 0, 0);
     //GameGraphics constants
     private final Game GAME; //The Game Object in use
+    private final Player[] SEATS; //The Players the Game started with, whose index is the bit used for their token
+    private final long[] SPACE_STATES; //The owner, buildings, mortgage and tokens of each Space at the last refresh, which is all that's painted
+    private final Rectangle[] SPACE_BOUNDS; //The area of the panel each Space covers on the board layer
+    private final int[] TOKEN_POSITIONS; //The Space each seat's token offset was picked for
+    private final double[] TOKEN_OFFSETS; //The x and y offsets of each seat's token, as fractions of the free room
+    //GameGraphics fields
+    private BufferedImage boardLayer; //The background, logo, card pools and Spaces, drawn once for the current size
 
     /**
      * Constructs the Game's Graphics
@@ -29,138 +44,81 @@ public class GameGraphics extends JPanel {
     public GameGraphics(Game game) {
         if (game != null) {
             GAME = game;
+            SEATS = game.getSEATS();
+            SPACE_STATES = new long[game.getGAME_BOARD().length];
+            SPACE_BOUNDS = new Rectangle[game.getGAME_BOARD().length];
+            TOKEN_POSITIONS = new int[SEATS.length];
+            TOKEN_OFFSETS = new double[SEATS.length * 2];
+            Arrays.fill(TOKEN_POSITIONS, -1);
+            readStates(SPACE_STATES);
         } else {
             throw new IllegalArgumentException("A null Game Object was passed");
         }
     }
 
     /**
-     * Draws this Game's Players
-     *
-     * @param g       the Graphics Object to draw with
-     * @param players the Players to draw
-     * @param startX  the x-coordinate the board starts at
-     * @param startY  the y-coordinate the board starts at
-     * @param width   the width of the board
-     * @param height  the height of the board
-     * @throws IllegalArgumentException when an invalid parameter is passed
-     */
-    private static void drawPlayers(Graphics g, Player[] players, int startX, int startY, int width, int height) {
-        if (players != null && players.length > 0) {
-            for (Player player : players) {
-                drawPlayer(g, player.getCOLOR(), player.getPosition(), player.getBOARD_SIZE(), startX, startX, width, height);
-            }
-        } else {
-            throw new IllegalArgumentException("An invalid parameter was passed");
-        }
-    }
-
-    /**
-     * Draws a Player at the given coordinates
-     *
-     * @param g         the Graphics Object to draw with
-     * @param color     the Color to draw the player
-     * @param numSpaces the number of Spaces on the board
-     * @param startX    the x-coordinate the board starts at
-     * @param startY    the y-coordinate the board starts at
-     * @param width     the width of the board
-     * @param height    the height of the board
-     * @throws IllegalArgumentException when an invalid parameter is passed
-     */
-    private static void drawPlayer(Graphics g, Color color, int playerPosition, int numSpaces, int startX, int startY,
-                                   int width, int height) {
-        if (g != null && color != null && numSpaces > playerPosition && playerPosition >= 0 && numSpaces % 4 == 0 & startX >= 0 &&
-                startY >= 0 && width > 0 && height > 0) {
-            Graphics2D g2 = (Graphics2D) g;
-            g2.setColor(color);
-            double spaceWidth = (double) width / ((double) numSpaces / 4 + 1);
-            double spaceHeight = (double) height / ((double) numSpaces / 4 + 1);
-            int randomX = (int) ((spaceWidth - spaceWidth / 4) * Math.random());
-            int randomY = (int) ((spaceHeight - spaceWidth / 4) * Math.random());
-            if (playerPosition < numSpaces / 4) { //If the Player is on the first side of the board
-                g2.fill(new Ellipse2D.Double(startX + width - spaceWidth * (playerPosition + 1) +
-                        randomX, startY + height - spaceHeight + randomY, spaceWidth / 4, spaceHeight / 4));
-            } else if (playerPosition < numSpaces / 2) { //If the Player is on the fourth side of the board
-                g2.fill(new Ellipse2D.Double(startX + randomX, startY + height - spaceHeight * (playerPosition -
-                        (double) numSpaces / 4 + 1) + randomY, spaceWidth / 4, spaceHeight / 4));
-            } else if (playerPosition < numSpaces * 3 / 4) { //If the Player is on the third side of the board
-                g2.fill(new Ellipse2D.Double(startX + spaceWidth * (playerPosition - (double) numSpaces / 2) + randomX,
-                        startY + randomY, spaceWidth / 4, spaceHeight / 4));
-            } else {
-                g2.fill(new Ellipse2D.Double(startX + width - spaceWidth + randomX, startY + spaceHeight *
-                        (playerPosition - (double) numSpaces * 3 / 4) + randomY, spaceWidth / 4, spaceHeight / 4));
-            }
-        } else {
-            throw new IllegalArgumentException("An invalid parameter was passed");
-        }
-    }
-
-    /**
-     * Draws the game board
+     * Draws the game board, noting the area each Space was drawn in
      *
      * @param g      the Graphics Object to draw with
      * @param game   the Game Object
+     * @param text   the text laid out for this size of board
      * @param x      the x-coordinate to start drawing at
      * @param y      the y-coordinate to start drawing at
      * @param width  the width to draw the board
      * @param height the height to draw the board
-     * @throws IllegalArgumentException when a null Graphics Object is passed
+     * @param bounds where the area of each Space is stored, or null if it isn't needed
+     * @throws IllegalArgumentException when a null parameter is passed
      */
-    public static void drawGameBoard(Graphics g, Game game, int x, int y, int width, int height) {
-        if (g != null && game != null) {
+    private static void drawGameBoard(Graphics g, Game game, BoardText text, int x, int y, int width, int height,
+                                      Rectangle[] bounds) {
+        if (g != null && game != null && text != null) {
             g.setColor(BACKGROUND_COLOR);
             g.fillRect(x, y, width, height);
             MenuGraphics.drawMonopolyLogo(g, width / 2, height / 6, x + width / 2 - width / 4, y + height / 2 -
                     height / 6);
-            drawCardPools(g, game.getDECKS(), x + width / 4, height * 3 / 4, width * 2 / 3, height / 8);
-            drawBoardSpaces(g, game.getGAME_BOARD(), x, y, width, height);
+            drawCardPools(g, text, game.getDECKS().length, x + width / 4, height * 3 / 4, width * 2 / 3, height / 8);
+            drawBoardSpaces(g, game.getGAME_BOARD(), text, x, y, width, height, bounds);
         } else {
-            throw new IllegalArgumentException(" A null Graphics Object was passed");
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Finds how wide each Deck's area is
+     *
+     * @param width    the total width of the Decks' areas
+     * @param numDecks the number of Decks
+     * @return the width of one Deck's area
+     */
+    private static int getDeckWidth(int width, int numDecks) {
+        if (numDecks < 4) { //If there's less than 4 decks we can use a fixed value for the width
+            return width / 4;
+        } else {
+            return width / numDecks - width / 10;
         }
     }
 
     /**
      * Draws the areas that the Decks are kept
      *
-     * @param g      the Graphics Object to draw with
-     * @param decks  the Decks to draw
-     * @param x      the x-coordinate to start at
-     * @param y      the y-coordinate to start at
-     * @param width  the total width
-     * @param height the height
+     * @param g        the Graphics Object to draw with
+     * @param text     the text laid out for this size of board
+     * @param numDecks the number of Decks to draw
+     * @param x        the x-coordinate to start at
+     * @param y        the y-coordinate to start at
+     * @param width    the total width
+     * @param height   the height
      * @throws IllegalArgumentException when an invalid parameter is passed
      */
-    private static void drawCardPools(Graphics g, Deck[] decks, int x, int y, int width, int height) {
-        if (g != null && decks != null && x >= 0 && y >= 0 && width > 0 && height > 0) {
-            int deckWidth;
-            if (decks.length < 4) { //If there's less than 4 decks we can use a fixed value for the width
-                deckWidth = width / 4;
-            } else {
-                deckWidth = width / decks.length - width / 10;
-            }
-            g.setFont(new Font("Kabel Heavy", Font.BOLD, 20));
-            g.setFont(g.getFont().deriveFont((float) deckWidth / g.getFontMetrics().stringWidth("  COMMUNITY  ") * 20));
-            for (int i = 0; i < decks.length; i++) {
+    private static void drawCardPools(Graphics g, BoardText text, int numDecks, int x, int y, int width, int height) {
+        if (g != null && text != null && x >= 0 && y >= 0 && width > 0 && height > 0) {
+            int deckWidth = getDeckWidth(width, numDecks);
+            for (int i = 0; i < numDecks; i++) {
                 g.setColor(Color.ORANGE);
-                g.fillRect(x + width / decks.length * i, y, deckWidth, height);
-                int stringX = x + width / decks.length * i + deckWidth / 2;
-                int stringY = y + g.getFontMetrics().getHeight();
+                g.fillRect(x + width / numDecks * i, y, deckWidth, height);
                 g.setColor(Color.BLACK);
-                if (decks[i].getTYPE().contains(" ")) {
-                    stringX -= g.getFontMetrics().stringWidth(decks[i].getTYPE().substring(0, decks[i].getTYPE().
-                            lastIndexOf(" "))) / 2;
-                    g.drawString(decks[i].getTYPE().substring(0, decks[i].getTYPE().lastIndexOf(" ")), stringX,
-                            stringY);
-                    stringX += g.getFontMetrics().stringWidth(decks[i].getTYPE().substring(0, decks[i].getTYPE().
-                            lastIndexOf(" "))) / 2;
-                    stringX -= g.getFontMetrics().stringWidth(decks[i].getTYPE().substring(decks[i].getTYPE().
-                            lastIndexOf(" "))) / 2;
-                    g.drawString(decks[i].getTYPE().substring(decks[i].getTYPE().lastIndexOf(" ")), stringX,
-                            stringY + g.getFontMetrics().getHeight());
-                } else {
-                    stringX -= g.getFontMetrics().stringWidth(decks[i].getTYPE()) / 2;
-                    g.drawString(decks[i].getTYPE(), stringX, stringY);
-                }
+                text.DECK_NAMES[i].draw((Graphics2D) g, x + width / numDecks * i + deckWidth / 2,
+                        y + text.DECK_LINE_HEIGHT, text.DECK_LINE_HEIGHT);
             }
         }
     }
@@ -170,26 +128,26 @@ public class GameGraphics extends JPanel {
      *
      * @param g      the Graphics Object to draw with
      * @param spaces the Spaces to draw
+     * @param text   the text laid out for this size of board
      * @param x      the x-coordinate to start at
      * @param y      the y-coordinate to start at
      * @param width  the width of the board
      * @param height the height of the board
+     * @param bounds where the area of each Space is stored, or null if it isn't needed
      * @throws IllegalArgumentException when an invalid parameter is passed
      */
-    private static void drawBoardSpaces(Graphics g, Space[] spaces, int x, int y, int width, int height) {
-        if (spaces != null && spaces.length > 0 && spaces.length % 4 == 0) {
-            Font font = new Font("Kabel Heavy", Font.BOLD, 20);
+    private static void drawBoardSpaces(Graphics g, Space[] spaces, BoardText text, int x, int y, int width,
+                                        int height, Rectangle[] bounds) {
+        if (spaces != null && text != null && spaces.length > 0 && spaces.length % 4 == 0) {
             int boardSideLength = spaces.length / 4;
-            font = font.deriveFont((float) Math.round((double) width / (boardSideLength + 1) /
-                    g.getFontMetrics(font).stringWidth("    BOARDWALK    ") * font.getSize()));
-            drawRow(g, Arrays.copyOfRange(spaces, 0, boardSideLength), 0, x + width, y + height, //First we draw the bottom row
-                    width, (double) height / (boardSideLength + 1), font);
-            drawRow(g, Arrays.copyOfRange(spaces, boardSideLength, 2 * boardSideLength), 1, x, y + height,  //Then we draw the left row
-                    (double) width / (boardSideLength + 1), height, font);
-            drawRow(g, Arrays.copyOfRange(spaces, 2 * boardSideLength, 3 * boardSideLength), 2, x, y, width, //Then we draw the top row
-                    (double) height / (boardSideLength + 1), font);
-            drawRow(g, Arrays.copyOfRange(spaces, 3 * boardSideLength, spaces.length), 3, x + width, //Then we draw the left row
-                    y, (double) width / (boardSideLength + 1), height, font);
+            drawRow(g, spaces, text, 0, boardSideLength, 0, x + width, y + height, //First we draw the bottom row
+                    width, (double) height / (boardSideLength + 1), bounds);
+            drawRow(g, spaces, text, boardSideLength, 2 * boardSideLength, 1, x, y + height,  //Then we draw the left row
+                    (double) width / (boardSideLength + 1), height, bounds);
+            drawRow(g, spaces, text, 2 * boardSideLength, 3 * boardSideLength, 2, x, y, width, //Then we draw the top row
+                    (double) height / (boardSideLength + 1), bounds);
+            drawRow(g, spaces, text, 3 * boardSideLength, spaces.length, 3, x + width, //Then we draw the left row
+                    y, (double) width / (boardSideLength + 1), height, bounds);
         } else {
             throw new IllegalArgumentException("An invalid parameter was passed");
         }
@@ -200,41 +158,53 @@ public class GameGraphics extends JPanel {
      * Draws a row of Spaces on the board
      *
      * @param g         the Graphics Object to draw with
-     * @param spaces    the Spaces to draw
+     * @param spaces    the Spaces on the board
+     * @param text      the text laid out for this size of board
+     * @param from      the index of the first Space in the row
+     * @param to        the index after the last Space in the row
      * @param direction the direction to draw in (0 is right to left, 1 is bottom to top, 2 is left to right,
      *                  3 is top to bottom)
      * @param x         the x-coordinate to start drawing at (the farthest over)
      * @param y         the y-coordinate to start drawing at (the farthest over)
      * @param width     the width of the combined Spaces
      * @param height    the height of the combined Spaces
-     * @param font      the Font that should be used to draw the text
+     * @param bounds    where the area of each Space is stored, or null if it isn't needed
      * @throws IllegalArgumentException when an invalid parameter is passed
      */
-    private static void drawRow(Graphics g, Space[] spaces, int direction, double x, double y, double width, double height,
-                                Font font) {
-        if (spaces != null && spaces.length > 0 && x >= 0 && y >= 0 && width > 0 && height > 0) {
-            if (direction == 0) { //Right to left
-                for (int i = 0; i < spaces.length; i++) {
-                    drawBoardSpace(g, spaces[i], x - width / (spaces.length + 1) * (i + 1),
-                            y - height, width / (spaces.length + 1), height, font);
-                }
-            } else if (direction == 1) { //Bottom to top
-                for (int i = 0; i < spaces.length; i++) {
-                    drawBoardSpace(g, spaces[i], x, y - height / (spaces.length + 1) * (i + 1),
-                            width, height / (spaces.length + 1), font);
+    private static void drawRow(Graphics g, Space[] spaces, BoardText text, int from, int to, int direction, double x,
+                                double y, double width, double height, Rectangle[] bounds) {
+        if (spaces != null && from >= 0 && from < to && to <= spaces.length && x >= 0 && y >= 0 && width > 0 &&
+                height > 0) {
+            int length = to - from;
+            for (int i = 0; i < length; i++) {
+                double spaceX;
+                double spaceY;
+                double spaceWidth = width;
+                double spaceHeight = height;
+                if (direction == 0) { //Right to left
+                    spaceWidth = width / (length + 1);
+                    spaceX = x - spaceWidth * (i + 1);
+                    spaceY = y - height;
+                } else if (direction == 1) { //Bottom to top
+                    spaceHeight = height / (length + 1);
+                    spaceX = x;
+                    spaceY = y - spaceHeight * (i + 1);
+                } else if (direction == 2) { //Left to right
+                    spaceWidth = width / (length + 1);
+                    spaceX = x + spaceWidth * i;
+                    spaceY = y;
+                } else if (direction == 3) { //Top to bottom
+                    spaceHeight = height / (length + 1);
+                    spaceX = x - width;
+                    spaceY = y + spaceHeight * i;
+                } else {
+                    throw new IllegalArgumentException("An invalid direction was passed");
                 }
-            } else if (direction == 2) { //Left to right
-                for (int i = 0; i < spaces.length; i++) {
-                    drawBoardSpace(g, spaces[i], x + width / (spaces.length + 1) * i, y,
-                            width / (spaces.length + 1), height, font);
+                drawBoardSpace(g, spaces[from + i], text, from + i, spaceX, spaceY, spaceWidth, spaceHeight);
+                if (bounds != null) {
+                    bounds[from + i] = new Rectangle((int) spaceX, (int) spaceY, (int) Math.ceil(spaceWidth),
+                            (int) Math.ceil(spaceHeight));
                 }
-            } else if (direction == 3) { //Top to bottom
-                for (int i = 0; i < spaces.length; i++) {
-                    drawBoardSpace(g, spaces[i], x - width, y + height / (spaces.length + 1) * i,
-                            width, height / (spaces.length + 1), font);
-                }
-            } else {
-                throw new IllegalArgumentException("An invalid direction was passed");
             }
         } else {
             throw new IllegalArgumentException("An invalid parameter was passed");
@@ -266,15 +236,16 @@ public class GameGraphics extends JPanel {
      *
      * @param g      the Graphics Object to draw with
      * @param space  the Space to draw
+     * @param text   the text laid out for this size of board
+     * @param index  the Space's index on the board
      * @param x      the x-coordinate of the Space to draw
      * @param y      the y-coordinate of the Space to draw
      * @param width  the width of the Space that should be drawn
      * @param height the height of the Space that should be drawn
-     * @param font   the Font that should be used to draw the text
      * @throws IllegalArgumentException when an invalid parameter is passed
      */
-    private static void drawBoardSpace(Graphics g, Space space, double x, double y, double width, double height, Font
-            font) {
+    private static void drawBoardSpace(Graphics g, Space space, BoardText text, int index, double x, double y,
+                                       double width, double height) {
         if (g != null && space != null && x >= 0 && y >= 0 && width > 0 && height > 0) {
             Graphics2D g2 = (Graphics2D) g;
             g2.setColor(BACKGROUND_COLOR);
@@ -290,30 +261,10 @@ public class GameGraphics extends JPanel {
                 }
             }
             g2.setColor(Color.BLACK);
-            g2.setFont(font);
-            FontMetrics metrics = g2.getFontMetrics();
-            double fontWidth = metrics.stringWidth(space.toString());
-            double fontHeight = metrics.getHeight();
-            String name = space.toString();
-            double textX = x + width / 2 - fontWidth / 2;
-            double textY = y + fontHeight + (color == null ? 0 : height / 8);
-            if (name.contains(" ")) {
-                fontWidth = metrics.stringWidth(name.substring(0, name.lastIndexOf(" ")));
-                textX = x + width / 2 - fontWidth / 2;
-                g2.drawString(name.substring(0, name.lastIndexOf(" ")), (float) textX, (float) (textY));
-                fontWidth = metrics.stringWidth(name.substring(name.lastIndexOf(" ")));
-                textX = x + width / 2 - fontWidth / 2;
-                g2.drawString(name.substring(name.lastIndexOf(" ")), (float) textX, (float) (textY + fontHeight));
-            } else {
-                g2.drawString(name, (float) textX, (float) textY);
-            }
-
-            if (space.getPROPERTY() != null) {
-                g2.setFont(new Font(g2.getFont().getName(), Font.PLAIN, (int) Math.round(g2.getFont().getSize() / 1.25)));
-                metrics = g2.getFontMetrics();
-                fontWidth = metrics.stringWidth("$" + space.getPROPERTY().getPRICE());
-                g2.drawString("$" + space.getPROPERTY().getPRICE(), (float) (x + width / 2 - fontWidth / 2),
-                        (float) (y + height * 7 / 8));
+            text.SPACE_NAMES[index].draw(g2, x + width / 2, y + text.SPACE_LINE_HEIGHT + (color == null ? 0 :
+                    height / 8), text.SPACE_LINE_HEIGHT);
+            if (text.SPACE_PRICES[index] != null) {
+                text.SPACE_PRICES[index].draw(g2, x + width / 2, y + height * 7 / 8, 0);
             }
             g2.setColor(Color.BLACK);
             double lineWidth = width / 25;
@@ -323,14 +274,287 @@ public class GameGraphics extends JPanel {
     }
 
     /**
-     * Draws the game board
+     * Copies the state of the Game that's drawn on top of the board, and repaints the Spaces whose state changed. This
+     * should only be called while the Game isn't changing, since painting only ever reads the copy made here
+     */
+    public void refresh() {
+        long[] states = new long[SPACE_STATES.length];
+        readStates(states);
+        if (boardLayer == null || boardLayer.getWidth() != getWidth() || boardLayer.getHeight() != getHeight()) {
+            System.arraycopy(states, 0, SPACE_STATES, 0, states.length);
+            repaint(); //The board layer has to be drawn again first, so the whole panel is out of date anyway
+            return;
+        }
+        for (int i = 0; i < SPACE_STATES.length; i++) {
+            if (states[i] != SPACE_STATES[i]) {
+                SPACE_STATES[i] = states[i];
+                Rectangle bounds = SPACE_BOUNDS[i];
+                int border = bounds.width / 25 + 2; //The Space's border is stroked over its edge
+                repaint(bounds.x - border, bounds.y - border, bounds.width + 2 * border, bounds.height + 2 * border);
+            }
+        }
+    }
+
+    /**
+     * Reads the state of every Space from the Game, and picks a new spot for any token that has moved
+     *
+     * @param states where the state of each Space is stored
+     */
+    private void readStates(long[] states) {
+        long[] tokens = new long[states.length];
+        for (Player player : GAME.getPLAYERS()) {
+            int seat = seatOf(player);
+            tokens[player.getPosition()] |= 1L << seat;
+            if (TOKEN_POSITIONS[seat] != player.getPosition()) { //A token only gets a new spot when it moves
+                placeToken(seat, player.getPosition());
+            }
+        }
+        Space[] gameBoard = GAME.getGAME_BOARD();
+        for (int i = 0; i < states.length; i++) {
+            states[i] = stateOf(gameBoard[i], tokens[i]);
+        }
+    }
+
+    /**
+     * Packs what's drawn on top of a Space into a long. The tokens are in the top bits, then the owner's seat plus 1,
+     * then the number of buildings, and the lowest bit is whether it's mortgaged
+     *
+     * @param space  the Space to describe
+     * @param tokens the seats whose tokens are on the Space, one bit each
+     * @return the state of the Space
+     */
+    private long stateOf(Space space, long tokens) {
+        Property property = space.getPROPERTY();
+        if (property == null) {
+            return tokens << 16;
+        } else {
+            int owner = property.getOwner() == null ? 0 : seatOf(property.getOwner()) + 1;
+            return tokens << 16 | (long) owner << 8 | (long) property.getNumHouses() << 1 | (property.isMortgaged() ?
+                    1 : 0);
+        }
+    }
+
+    /**
+     * Finds the seat a Player started the Game in
+     *
+     * @param player the Player to find
+     * @return the Player's seat
+     * @throws IllegalArgumentException when the Player isn't in this Game
+     */
+    private int seatOf(Player player) {
+        for (int i = 0; i < SEATS.length; i++) {
+            if (SEATS[i] == player) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("A Player that isn't in this Game was passed");
+    }
+
+    /**
+     * Picks a random spot in a Space for a seat's token, so tokens sharing a Space don't cover each other
+     *
+     * @param seat     the seat of the token
+     * @param position the Space the token is on
+     */
+    private void placeToken(int seat, int position) {
+        TOKEN_POSITIONS[seat] = position;
+        TOKEN_OFFSETS[2 * seat] = Math.random();
+        TOKEN_OFFSETS[2 * seat + 1] = Math.random();
+    }
+
+    /**
+     * Draws the board layer for the panel's current size, which holds everything that doesn't change during a Game
+     */
+    private void drawBoardLayer() {
+        GraphicsConfiguration configuration = getGraphicsConfiguration();
+        boardLayer = configuration != null ? configuration.createCompatibleImage(getWidth(), getHeight()) :
+                new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = boardLayer.createGraphics();
+        try {
+            drawGameBoard(g, GAME, new BoardText(g, GAME, getWidth(), getHeight()), 0, 0, getWidth(), getHeight(),
+                    SPACE_BOUNDS);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Draws the owner, buildings and mortgage of a Space over it: a strip of the owner's color along the bottom, up
+     * to four houses or one hotel along the top, and a grey shade over the whole Space while it's mortgaged
+     *
+     * @param g      the Graphics Object to draw with
+     * @param state  the Space's state, as packed by stateOf
+     * @param bounds the area of the Space
+     */
+    private void drawOwnership(Graphics2D g, long state, Rectangle bounds) {
+        int owner = (int) (state >> 8 & 0xFF) - 1;
+        if (owner >= 0) { //The owner's color is drawn as a strip along the bottom of the Space
+            g.setColor(SEATS[owner].getCOLOR());
+            g.fillRect(bounds.x, bounds.y + bounds.height - bounds.height / 10, bounds.width, bounds.height / 10);
+        }
+        int houses = (int) (state >> 1 & 0x7F);
+        if (houses > 0) { //Buildings sit in the colored box at the top of the Space
+            int size = Math.max(bounds.height / 8 - 2, 2);
+            if (houses >= 5) { //A hotel is drawn as one wide building
+                g.setColor(HOTEL_COLOR);
+                g.fillRect(bounds.x + bounds.width / 2 - size, bounds.y + 1, size * 2, size);
+            } else {
+                g.setColor(HOUSE_COLOR);
+                int startX = bounds.x + bounds.width / 2 - (houses * (size + 2) - 2) / 2;
+                for (int i = 0; i < houses; i++) {
+                    g.fillRect(startX + i * (size + 2), bounds.y + 1, size, size);
+                }
+            }
+        }
+        if ((state & 1) != 0) {
+            g.setColor(MORTGAGE_SHADE);
+            g.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
+        }
+    }
+
+    /**
+     * Draws a seat's token in its spot on a Space
+     *
+     * @param g      the Graphics Object to draw with
+     * @param seat   the seat of the token
+     * @param bounds the area of the Space
+     */
+    private void drawToken(Graphics2D g, int seat, Rectangle bounds) {
+        double width = bounds.getWidth() / 4;
+        double height = bounds.getHeight() / 4;
+        g.setColor(SEATS[seat].getCOLOR());
+        g.fill(new Ellipse2D.Double(bounds.x + (bounds.width - width) * TOKEN_OFFSETS[2 * seat],
+                bounds.y + (bounds.height - height) * TOKEN_OFFSETS[2 * seat + 1], width, height));
+    }
+
+    /**
+     * Draws the game board. The board layer is copied in, and only the Spaces inside the area being painted have
+     * their owners, buildings and tokens drawn on top, as they were at the last refresh. The Game itself isn't read,
+     * since it may be in the middle of a turn on the game thread
      *
      * @param g the Graphics Object to draw with
      */
     @Override
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
-        drawGameBoard(g, GAME, 0, 0, getWidth(), getHeight());
-        drawPlayers(g, GAME.getPLAYERS(), 0, 0, getWidth(), getHeight());
+        if (getWidth() <= 0 || getHeight() <= 0) {
+            return;
+        }
+        if (boardLayer == null || boardLayer.getWidth() != getWidth() || boardLayer.getHeight() != getHeight()) {
+            drawBoardLayer();
+        }
+        Graphics2D g2 = (Graphics2D) g;
+        g2.drawImage(boardLayer, 0, 0, null);
+        Rectangle clip = g2.getClipBounds();
+        for (int i = 0; i < SPACE_STATES.length; i++) {
+            if (clip == null || clip.intersects(SPACE_BOUNDS[i])) {
+                drawOwnership(g2, SPACE_STATES[i], SPACE_BOUNDS[i]);
+                long tokens = SPACE_STATES[i] >>> 16;
+                for (int seat = 0; seat < SEATS.length; seat++) {
+                    if ((tokens & 1L << seat) != 0) {
+                        drawToken(g2, seat, SPACE_BOUNDS[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Holds the fonts and laid out text of a board of one size, so that nothing is measured while it's drawn
+     *
+     * @author irswr
+     */
+    private static class BoardText {
+        //BoardText constants
+        private final float SPACE_LINE_HEIGHT; //The height of a line of a Space's name
+        private final TextBlock[] SPACE_NAMES; //The name of each Space
+        private final TextBlock[] SPACE_PRICES; //The price of each Space, or null if it isn't a Property
+        private final float DECK_LINE_HEIGHT; //The height of a line of a Deck's name
+        private final TextBlock[] DECK_NAMES; //The name of each Deck
+
+        /**
+         * Lays out the text of a board
+         *
+         * @param g      the Graphics Object the board will be drawn with
+         * @param game   the Game whose board is drawn
+         * @param width  the width of the board
+         * @param height the height of the board
+         * @throws IllegalArgumentException when a null parameter is passed
+         */
+        private BoardText(Graphics2D g, Game game, int width, int height) {
+            if (g != null && game != null) {
+                FontRenderContext context = g.getFontRenderContext();
+                Space[] spaces = game.getGAME_BOARD();
+                Font font = new Font("Kabel Heavy", Font.BOLD, 20);
+                font = font.deriveFont((float) Math.round((double) width / (spaces.length / 4 + 1) /
+                        g.getFontMetrics(font).stringWidth("    BOARDWALK    ") * font.getSize()));
+                Font priceFont = new Font(font.getName(), Font.PLAIN, (int) Math.round(font.getSize() / 1.25));
+                SPACE_LINE_HEIGHT = g.getFontMetrics(font).getHeight();
+                SPACE_NAMES = new TextBlock[spaces.length];
+                SPACE_PRICES = new TextBlock[spaces.length];
+                for (int i = 0; i < spaces.length; i++) {
+                    SPACE_NAMES[i] = new TextBlock(font, context, spaces[i].toString());
+                    if (spaces[i].getPROPERTY() != null) {
+                        SPACE_PRICES[i] = new TextBlock(priceFont, context, "$" + spaces[i].getPROPERTY().getPRICE());
+                    }
+                }
+
+                Deck[] decks = game.getDECKS();
+                Font deckFont = new Font("Kabel Heavy", Font.BOLD, 20);
+                deckFont = deckFont.deriveFont((float) getDeckWidth(width * 2 / 3, decks.length) /
+                        g.getFontMetrics(deckFont).stringWidth("  COMMUNITY  ") * 20);
+                DECK_LINE_HEIGHT = g.getFontMetrics(deckFont).getHeight();
+                DECK_NAMES = new TextBlock[decks.length];
+                for (int i = 0; i < decks.length; i++) {
+                    DECK_NAMES[i] = new TextBlock(deckFont, context, decks[i].getTYPE());
+                }
+            } else {
+                throw new IllegalArgumentException("A null parameter was passed");
+            }
+        }
+    }
+
+    /**
+     * Holds a name laid out into lines, breaking it at its last space the way the board always has
+     *
+     * @author irswr
+     */
+    private static class TextBlock {
+        //TextBlock constants
+        private final GlyphVector[] LINES; //The glyphs of each line
+        private final float[] WIDTHS; //The width of each line
+
+        /**
+         * Lays out a name
+         *
+         * @param font    the Font to lay the name out in
+         * @param context how the Font will be drawn
+         * @param text    the name to lay out
+         */
+        private TextBlock(Font font, FontRenderContext context, String text) {
+            int split = text.lastIndexOf(" ");
+            String[] lines = split == -1 ? new String[]{text} : new String[]{text.substring(0, split),
+                    text.substring(split)};
+            LINES = new GlyphVector[lines.length];
+            WIDTHS = new float[lines.length];
+            for (int i = 0; i < lines.length; i++) {
+                LINES[i] = font.createGlyphVector(context, lines[i]);
+                WIDTHS[i] = (float) LINES[i].getLogicalBounds().getWidth();
+            }
+        }
+
+        /**
+         * Draws the lines centered under each other
+         *
+         * @param g          the Graphics Object to draw with
+         * @param centerX    the x-coordinate to center the lines on
+         * @param y          the baseline of the first line
+         * @param lineHeight the distance between baselines
+         */
+        private void draw(Graphics2D g, double centerX, double y, double lineHeight) {
+            for (int i = 0; i < LINES.length; i++) {
+                g.drawGlyphVector(LINES[i], (float) (centerX - WIDTHS[i] / 2), (float) (y + lineHeight * i));
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,586 @@
+import java.awt.*;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hosts many Games at once in one program. Tables with only AIs share a fixed pool with one thread per core, and
+ * play a slice of turns at a time so that thousands of them take turns fairly. A HumanPlayer's prompt has to wait for
+ * an answer on the thread that asked it, so tables with a human seat are played on a pool that grows instead, and
+ * a waiting human never holds up an AI table. Prompts are queued on the host, where whoever is playing the seat,
+ * such as a scripted client, takes and answers them
+ *
+ * @author irswr
+ */
+public class GameHost implements Closeable {
+    //GameHost constants
+    private static final int TURNS_PER_SLICE = 25; //The most turns an AI table plays before it lets the next table have its thread
+    private final ExecutorService AI_TABLES; //Plays the tables with only AIs, one thread per core
+    private final ExecutorService HUMAN_TABLES; //Plays the tables with a human seat, with a thread for each one that is waiting
+    private final Set<Table> TABLES; //Stores the tables that haven't finished
+    private final LinkedBlockingQueue<Prompt> PROMPTS; //Stores the prompts that no one has taken yet
+    private final Set<Prompt> PENDING; //Stores every prompt that hasn't been answered, whether or not it has been taken
+    private final LongAdder TURNS; //Counts the turns played on every table
+    private final AtomicInteger NEXT_ID; //Stores the ID the next table is given
+    private final long START; //Stores when the host was made, in System.nanoTime()
+
+    //GameHost fields
+    private volatile boolean closed; //Stores whether the host has been closed, after which no table plays another turn
+
+    /**
+     * Constructor for GameHost
+     *
+     * @param numThreads the number of threads the AI tables share. This should be greater than 0
+     * @throws IllegalArgumentException when numThreads isn't greater than 0
+     */
+    public GameHost(int numThreads) {
+        if (numThreads > 0) {
+            AI_TABLES = Executors.newFixedThreadPool(numThreads, daemonThreads("AI table"));
+            HUMAN_TABLES = Executors.newCachedThreadPool(daemonThreads("Human table"));
+            TABLES = ConcurrentHashMap.newKeySet();
+            PROMPTS = new LinkedBlockingQueue<>();
+            PENDING = ConcurrentHashMap.newKeySet();
+            TURNS = new LongAdder();
+            NEXT_ID = new AtomicInteger();
+            START = System.nanoTime();
+        } else {
+            throw new IllegalArgumentException("An invalid number of threads was passed");
+        }
+    }
+
+    /**
+     * Makes the threads of one of the host's pools. They're daemons, so an unclosed host never keeps the program open
+     *
+     * @param name the name of the pool's threads
+     * @return the ThreadFactory
+     */
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + " " + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Starts a Game on the default board
+     *
+     * @param names    the names of the Players. This shouldn't be null
+     * @param types    the types of the Players, as GameCreator takes them. This shouldn't be null
+     * @param colors   the Colors of the Players. This shouldn't be null
+     * @param seed     the seed the Game is played with
+     * @param maxTurns the number of turns the Game can last before it is stopped. This should be greater than 0
+     * @return the table the Game is played at
+     * @throws IllegalArgumentException when a null or invalid parameter is passed
+     * @throws IllegalStateException    when the host has been closed
+     */
+    public Table host(String[] names, String[] types, Color[] colors, long seed, int maxTurns) {
+        if (names != null && types != null && colors != null && maxTurns > 0) {
+            if (closed) {
+                throw new IllegalStateException("The host has been closed");
+            }
+            boolean hasHuman = false;
+            for (String type : types) {
+                hasHuman |= "Human Player".equals(type);
+            }
+            Table table = new Table(names, types, colors, seed, maxTurns, hasHuman ? HUMAN_TABLES : AI_TABLES);
+            TABLES.add(table);
+            table.EXECUTOR.execute(table::playSlice);
+            return table;
+        } else {
+            throw new IllegalArgumentException("An invalid parameter was passed");
+        }
+    }
+
+    /**
+     * Takes the oldest prompt no one has taken, waiting for one if there aren't any
+     *
+     * @return the prompt
+     * @throws InterruptedException when the thread is interrupted while it waits
+     */
+    public Prompt takePrompt() throws InterruptedException {
+        return PROMPTS.take();
+    }
+
+    /**
+     * Takes the oldest prompt no one has taken, waiting a while for one if there aren't any
+     *
+     * @param timeout how long to wait
+     * @param unit    the unit of timeout
+     * @return the prompt, or null if none came in time
+     * @throws InterruptedException when the thread is interrupted while it waits
+     */
+    public Prompt pollPrompt(long timeout, TimeUnit unit) throws InterruptedException {
+        return PROMPTS.poll(timeout, unit);
+    }
+
+    /**
+     * Gets the number of Games that haven't finished
+     *
+     * @return the number of active Games
+     */
+    public int getNumActiveGames() {
+        return TABLES.size();
+    }
+
+    /**
+     * Gets the number of turns played on every table
+     *
+     * @return the number of turns
+     */
+    public long getNumTurns() {
+        return TURNS.sum();
+    }
+
+    /**
+     * Gets the number of turns played per second since the host was made
+     *
+     * @return the turns per second
+     */
+    public double getTurnsPerSecond() {
+        return TURNS.sum() / Math.max((System.nanoTime() - START) / 1e9, 1e-9);
+    }
+
+    /**
+     * Gets the number of prompts waiting on an answer
+     *
+     * @return the number of pending prompts
+     */
+    public int getNumPendingPrompts() {
+        return PENDING.size();
+    }
+
+    /**
+     * Stops every table after the turn it's playing. Pending prompts are cancelled, so the tables waiting on them
+     * stop straight away
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Prompt prompt : PENDING) {
+            prompt.ANSWER.cancel(false);
+        }
+        AI_TABLES.shutdown();
+        HUMAN_TABLES.shutdown();
+    }
+
+    /**
+     * Returns a String representation of the host's metrics
+     *
+     * @return the metrics
+     */
+    @Override
+    public String toString() {
+        return String.format("%d active games, %d turns, %.0f turns/s, %d pending prompts", getNumActiveGames(),
+                getNumTurns(), getTurnsPerSecond(), getNumPendingPrompts());
+    }
+
+    /**
+     * A Game being played on the host. The table is its Game's view, and the PromptView of its HumanPlayers
+     *
+     * @author irswr
+     */
+    public class Table extends HeadlessGameView implements PromptView {
+        //Table constants
+        private final int ID; //Stores the table's ID, unique within its host
+        private final Game GAME; //Stores the Game played at the table
+        private final Player[] SEATS; //Stores the Players the Game started with
+        private final int MAX_TURNS; //Stores the number of turns the Game can last
+        private final ExecutorService EXECUTOR; //Stores the pool the table's turns are played on
+        private final ArrayList<Integer> BANKRUPTCIES; //Stores the seats that have gone bankrupt, in order
+        private final CompletableFuture<GameResult> RESULT; //Completed with the Game's result once it finishes
+
+        //Table fields
+        private int numTurns; //Stores the number of turns that have been played. Only used by the thread playing the table
+
+        /**
+         * Constructor for Table
+         *
+         * @param names    the names of the Players
+         * @param types    the types of the Players
+         * @param colors   the Colors of the Players
+         * @param seed     the seed the Game is played with
+         * @param maxTurns the number of turns the Game can last
+         * @param executor the pool the table's turns are played on
+         */
+        private Table(String[] names, String[] types, Color[] colors, long seed, int maxTurns,
+                      ExecutorService executor) {
+            ID = NEXT_ID.getAndIncrement();
+            GAME = GameCreator.makeGame(names, types, colors, this, seed);
+            SEATS = GAME.getPLAYERS();
+            MAX_TURNS = maxTurns;
+            EXECUTOR = executor;
+            BANKRUPTCIES = new ArrayList<>();
+            RESULT = new CompletableFuture<>();
+        }
+
+        /**
+         * Plays turns until the Game finishes, or until the slice is used up and the table goes to the back of its
+         * pool's queue
+         */
+        private void playSlice() {
+            boolean requeued = false;
+            try {
+                for (int i = 0; i < TURNS_PER_SLICE && !closed && !GAME.isOver() && numTurns < MAX_TURNS; i++) {
+                    int numPlayers = GAME.getPLAYERS().length;
+                    GAME.doTurn();
+                    numTurns++;
+                    TURNS.increment();
+                    if (GAME.getPLAYERS().length != numPlayers) {
+                        SimulationRunner.addBankruptcies(GAME, SEATS, BANKRUPTCIES);
+                    }
+                }
+                if (GAME.isOver() || numTurns >= MAX_TURNS) {
+                    RESULT.complete(SimulationRunner.getResult(GAME, SEATS, numTurns, BANKRUPTCIES));
+                } else if (closed) {
+                    RESULT.cancel(false);
+                } else {
+                    EXECUTOR.execute(this::playSlice);
+                    requeued = true;
+                }
+            } catch (RuntimeException e) {
+                if (closed) { //The prompt was cancelled or the pool shut down by close, so this isn't a failure
+                    RESULT.cancel(false);
+                } else {
+                    RESULT.completeExceptionally(e);
+                }
+            } catch (Error e) {
+                RESULT.completeExceptionally(e);
+                throw e;
+            } finally {
+                if (!requeued) { //The table only stays active while another slice is queued
+                    finish();
+                }
+            }
+        }
+
+        /**
+         * Removes the table from its host's active tables
+         */
+        private void finish() {
+            TABLES.remove(this);
+        }
+
+        /**
+         * Queues a prompt on the host and waits for it to be answered
+         *
+         * @param prompt the prompt
+         * @return the answer
+         * @throws IllegalStateException when the prompt is cancelled or the thread is interrupted while it waits
+         */
+        private int ask(Prompt prompt) {
+            PENDING.add(prompt);
+            if (closed) { //The host may have cancelled its prompts before this one was added
+                prompt.ANSWER.cancel(false);
+            } else {
+                PROMPTS.add(prompt);
+            }
+            try {
+                return prompt.ANSWER.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("The table was interrupted while it waited for an answer");
+            } catch (CancellationException | ExecutionException e) {
+                throw new IllegalStateException("The prompt was cancelled", e);
+            } finally {
+                PENDING.remove(prompt);
+            }
+        }
+
+        /**
+         * Waits for the seat's answer to a yes or no prompt
+         *
+         * @param player      the Player being asked
+         * @param prompt      what the Player is being asked
+         * @param description the description that should be shown to the Player
+         * @param object      the object that is part of this prompt
+         * @return the Player's decision
+         */
+        @Override
+        public <T> boolean promptBoolean(Player player, PromptType prompt, String description, T object) {
+            return ask(new Prompt(this, SimulationRunner.indexOf(SEATS, player), prompt, description, 0, 1, 0,
+                    object, null)) == 1;
+        }
+
+        /**
+         * Waits for the seat's answer to a prompt for an integer
+         *
+         * @param player      the Player being asked
+         * @param prompt      what the Player is being asked
+         * @param description the description that should be shown to the Player
+         * @param min         the minimum value that the Player should be able to enter
+         * @param max         the maximum value that the Player should be able to enter
+         * @param none        the value the Player should enter for none
+         * @param object      the object that is part of this prompt
+         * @return the integer that the Player decides on
+         */
+        @Override
+        public <T> int promptInt(Player player, PromptType prompt, String description, int min, int max, int none,
+                                 T object) {
+            return ask(new Prompt(this, SimulationRunner.indexOf(SEATS, player), prompt, description, min,
+                    max < min ? Integer.MAX_VALUE : max, none, object, null)); //A maximum below the minimum means there isn't one
+        }
+
+        /**
+         * Waits for the seat to pick out of an Array
+         *
+         * @param player      the Player being asked
+         * @param prompt      what the Player is being asked
+         * @param description the description that should be shown to the Player
+         * @param objects     the Array that the Player should pick from
+         * @param extra       an additional Object that may be provided
+         * @return the index of the chosen Object, or -1 for none
+         */
+        @Override
+        public <T, S> int promptArray(Player player, PromptType prompt, String description, T[] objects, S extra) {
+            return ask(new Prompt(this, SimulationRunner.indexOf(SEATS, player), prompt, description, 0,
+                    objects.length - 1, -1, objects, extra));
+        }
+
+        /**
+         * Gets the table's ID
+         *
+         * @return the ID
+         */
+        public int getID() {
+            return ID;
+        }
+
+        /**
+         * Gets the Game played at the table. It's changed by the table's thread, so it should only be read once the
+         * Game has finished or from inside a prompt
+         *
+         * @return the Game
+         */
+        public Game getGAME() {
+            return GAME;
+        }
+
+        /**
+         * Gets the Game's result, which is completed once it finishes, or cancelled if the host is closed first
+         *
+         * @return the result
+         */
+        public CompletableFuture<GameResult> getRESULT() {
+            return RESULT;
+        }
+    }
+
+    /**
+     * A question a table is waiting on a human seat to answer. Every kind of prompt is answered with an int: yes or
+     * no prompts take 1 or 0, and Array prompts take an index, or -1 for none
+     *
+     * @author irswr
+     */
+    public static class Prompt {
+        //Prompt constants
+        private final Table TABLE; //Stores the table that is waiting
+        private final int SEAT; //Stores the seat of the Player being asked
+        private final PromptType PROMPT; //Stores what the Player is being asked
+        private final String DESCRIPTION; //Stores the description shown to a human
+        private final int MIN; //Stores the smallest answer
+        private final int MAX; //Stores the largest answer
+        private final int NONE; //Stores the answer that means none
+        private final Object OBJECT; //Stores the object that is part of the prompt, or the Array for Array prompts
+        private final Object EXTRA; //Stores the extra Object given with an Array prompt. This can be null
+        private final CompletableFuture<Integer> ANSWER; //Completed with the answer
+
+        /**
+         * Constructor for Prompt
+         *
+         * @param table       the table that is waiting
+         * @param seat        the seat of the Player being asked
+         * @param prompt      what the Player is being asked
+         * @param description the description shown to a human
+         * @param min         the smallest answer
+         * @param max         the largest answer
+         * @param none        the answer that means none
+         * @param object      the object that is part of the prompt
+         * @param extra       the extra Object given with an Array prompt
+         */
+        private Prompt(Table table, int seat, PromptType prompt, String description, int min, int max, int none,
+                       Object object, Object extra) {
+            TABLE = table;
+            SEAT = seat;
+            PROMPT = prompt;
+            DESCRIPTION = description;
+            MIN = min;
+            MAX = max;
+            NONE = none;
+            OBJECT = object;
+            EXTRA = extra;
+            ANSWER = new CompletableFuture<>();
+        }
+
+        /**
+         * Answers the prompt, letting its table carry on. Only the first answer counts
+         *
+         * @param answer the answer. This should be between the smallest and largest answers, or the answer for none
+         * @throws IllegalArgumentException when an answer out of bounds is passed
+         */
+        public void answer(int answer) {
+            if (answer == NONE || (answer >= MIN && answer <= MAX)) {
+                ANSWER.complete(answer);
+            } else {
+                throw new IllegalArgumentException("An answer out of bounds was passed");
+            }
+        }
+
+        /**
+         * Answers a yes or no prompt
+         *
+         * @param answer the answer
+         */
+        public void answer(boolean answer) {
+            answer(answer ? 1 : 0);
+        }
+
+        /**
+         * Gets the table that is waiting
+         *
+         * @return the table
+         */
+        public Table getTABLE() {
+            return TABLE;
+        }
+
+        /**
+         * Gets the seat of the Player being asked
+         *
+         * @return the seat
+         */
+        public int getSEAT() {
+            return SEAT;
+        }
+
+        /**
+         * Gets what the Player is being asked
+         *
+         * @return the PromptType
+         */
+        public PromptType getPROMPT() {
+            return PROMPT;
+        }
+
+        /**
+         * Gets the description shown to a human
+         *
+         * @return the description
+         */
+        public String getDESCRIPTION() {
+            return DESCRIPTION;
+        }
+
+        /**
+         * Gets the smallest answer
+         *
+         * @return the smallest answer
+         */
+        public int getMIN() {
+            return MIN;
+        }
+
+        /**
+         * Gets the largest answer
+         *
+         * @return the largest answer
+         */
+        public int getMAX() {
+            return MAX;
+        }
+
+        /**
+         * Gets the answer that means none
+         *
+         * @return the answer that means none
+         */
+        public int getNONE() {
+            return NONE;
+        }
+
+        /**
+         * Gets the object that is part of the prompt, which is the Array itself for Array prompts
+         *
+         * @return the object, which may be null
+         */
+        public Object getOBJECT() {
+            return OBJECT;
+        }
+
+        /**
+         * Gets the extra Object given with an Array prompt
+         *
+         * @return the extra Object, which may be null
+         */
+        public Object getEXTRA() {
+            return EXTRA;
+        }
+    }
+
+    /**
+     * Hosts tables on this machine, answering the human seats with a script that always declines, and prints the
+     * host's metrics every second until every Game has finished
+     *
+     * @param args the number of tables, how often a table has a human seat (every nth table, or 0 for never), the
+     *             maximum number of turns and the seed
+     * @throws InterruptedException when the main thread is interrupted
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int numTables = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int humanEvery = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int maxTurns = args.length > 2 ? Integer.parseInt(args[2]) : 300;
+        SplittableRandom seeder = new SplittableRandom(args.length > 3 ? Long.parseLong(args[3]) :
+                new SplittableRandom().nextLong());
+        String[] names = {"Seat 1", "Seat 2", "Seat 3", "Seat 4"};
+        Color[] colors = {Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW};
+        try (GameHost host = new GameHost(Runtime.getRuntime().availableProcessors())) {
+            Thread script = new Thread(() -> {
+                try {
+                    while (true) {
+                        Prompt prompt = host.takePrompt();
+                        prompt.answer(prompt.getNONE());
+                    }
+                } catch (InterruptedException e) {
+                    //The script stops when the host is done with it
+                }
+            }, "Script");
+            script.setDaemon(true);
+            script.start();
+
+            ArrayList<Table> tables = new ArrayList<>();
+            for (int i = 0; i < numTables; i++) {
+                String[] types = {"AI Player", "AI Player", "AI Player", "AI Player"};
+                if (humanEvery > 0 && i % humanEvery == 0) {
+                    types[0] = "Human Player";
+                }
+                tables.add(host.host(names, types, colors, seeder.nextLong(), maxTurns));
+            }
+            while (host.getNumActiveGames() > 0) {
+                Thread.sleep(1000);
+                System.out.println(host);
+            }
+            int finished = 0;
+            for (Table table : tables) {
+                GameResult result = table.getRESULT().getNow(null);
+                if (result != null && result.getWINNER() != -1) {
+                    finished++;
+                }
+            }
+            System.out.println(numTables + " games, " + finished + " finished, " + host);
+            script.interrupt();
+        }
+    }
+}
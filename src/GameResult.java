@@ -0,0 +1,90 @@
+/**
+ * Stores the outcome of a single simulated Game. Players are referred to by their seat, which is their index in the
+ * Game's Players when the Game was created
+ *
+ * @author irswr
+ */
+public class GameResult {
+    //GameResult constants
+    private final long SEED; //Stores the seed the Game was played with, so it can be played again
+    private final int WINNER; //Stores the seat of the winning Player. This is -1 if the Game hit the turn limit
+    private final int NUM_TURNS; //Stores the number of turns that were played
+    private final int[] BANKRUPTCIES; //Stores the seats of the Players that went bankrupt, in the order they went bankrupt
+    private final int[] OWNERS; //Stores the seat of the owner of each Space on the board. This is -1 for no owner or no Property
+
+    /**
+     * Constructor for GameResult
+     *
+     * @param seed         the seed the Game was played with
+     * @param winner       the seat of the winning Player, or -1 if there isn't one
+     * @param numTurns     the number of turns that were played. This shouldn't be negative
+     * @param bankruptcies the seats of the Players that went bankrupt, in order. This shouldn't be null
+     * @param owners       the seat of the owner of each Space, or -1 for none. This shouldn't be null
+     * @throws IllegalArgumentException when a null or invalid parameter is passed
+     */
+    public GameResult(long seed, int winner, int numTurns, int[] bankruptcies, int[] owners) {
+        if (winner >= -1 && numTurns >= 0 && bankruptcies != null && owners != null) {
+            SEED = seed;
+            WINNER = winner;
+            NUM_TURNS = numTurns;
+            BANKRUPTCIES = bankruptcies;
+            OWNERS = owners;
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Gets the seed the Game was played with
+     *
+     * @return the Game's seed
+     */
+    public long getSEED() {
+        return SEED;
+    }
+
+    /**
+     * Gets the seat of the winning Player
+     *
+     * @return the winner's seat, or -1 if the Game didn't finish
+     */
+    public int getWINNER() {
+        return WINNER;
+    }
+
+    /**
+     * Gets whether or not the Game finished before the turn limit
+     *
+     * @return whether or not the Game has a winner
+     */
+    public boolean isFinished() {
+        return WINNER != -1;
+    }
+
+    /**
+     * Gets the number of turns that were played
+     *
+     * @return the number of turns
+     */
+    public int getNUM_TURNS() {
+        return NUM_TURNS;
+    }
+
+    /**
+     * Gets the seats of the Players that went bankrupt, in the order they went bankrupt
+     *
+     * @return the bankrupt Players seats
+     */
+    public int[] getBANKRUPTCIES() {
+        return BANKRUPTCIES;
+    }
+
+    /**
+     * Gets the seat of the owner of each Space at the end of the Game
+     *
+     * @return the owners seats, with -1 for Spaces without an owner
+     */
+    public int[] getOWNERS() {
+        return OWNERS;
+    }
+}
@@ -0,0 +1,718 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A compact copy of the parts of a Game that change as it's played, kept in parallel primitive Arrays rather than in
+ * Property and Player objects. Players are referred to by their seat, which is their index in the Game's Players when
+ * the Game was created, and Cards by their index in their Deck's full set of Cards. A GameState is read from and
+ * written back to a board, its seats and its Decks, and can be copied into another GameState of the same size without
+ * allocating, so lookahead can save and restore a Game cheaply. Game.snapshot and Game.restore do all of this at once
+ *
+ * @author irswr
+ */
+public class GameState {
+    //GameState constants
+    private static final byte PROPERTY_CHANGE = 1; //Tags a change to one Property in putChanges
+    private static final byte SEAT_CHANGE = 2; //Tags a change to one seat in putChanges
+    private static final byte DECK_CHANGE = 3; //Tags a change to one Deck, or who holds its Cards, in putChanges
+    private static final byte TURN_CHANGE = 4; //Tags a change to whose turn it is in putChanges
+    private final int BOARD_SIZE; //Stores the number of Spaces on the board
+    private final int NUM_SEATS; //Stores the number of seats in the Game
+    private final byte[] OWNERS; //Stores the seat of the owner of each Space's Property. This is -1 for no owner or no Property
+    private final byte[] HOUSES; //Stores the number of houses on each Space's Property
+    private final long[] MORTGAGED; //Stores a bit for each Space that is set when its Property is mortgaged
+    private final int[] WALLETS; //Stores each seat's wallet
+    private final int[] POSITIONS; //Stores each seat's position on the board
+    private final int[] TURNS_IN_JAIL; //Stores the number of turns each seat has left in jail
+    private final boolean[] IN_GAME; //Stores whether each seat is still in the Game, meaning they haven't gone bankrupt
+    private final short[][] DECK_REMAINING; //Stores the Cards left to draw in each Deck, in order. Only the first NUM_REMAINING are used
+    private final int[] NUM_REMAINING; //Stores the number of Cards left to draw in each Deck
+    private final short[][] DECK_HELD; //Stores the held Cards in each Deck, in order. Only the first NUM_HELD are used
+    private final int[] NUM_HELD; //Stores the number of held Cards in each Deck
+    private final byte[][] CARD_OWNERS; //Stores the seat of the owner of each Card in each Deck. This is -1 for no owner
+
+    //GameState fields
+    private int currentPlayer; //Stores the index of the current Player among the seats still in the Game
+    private boolean shouldGoToNextPlayer; //Stores whether the next turn should move to the next Player
+
+    /**
+     * Constructor for a GameState without any Decks
+     *
+     * @param boardSize the number of Spaces on the board. This should be greater than 0
+     * @param numSeats  the number of seats in the Game. This should be between 1 and Byte.MAX_VALUE
+     */
+    public GameState(int boardSize, int numSeats) {
+        this(boardSize, numSeats, new int[0]);
+    }
+
+    /**
+     * Constructor for GameState. Every Property starts unowned with no houses, every seat starts with nothing and
+     * every Deck starts empty
+     *
+     * @param boardSize the number of Spaces on the board. This should be greater than 0
+     * @param numSeats  the number of seats in the Game. This should be between 1 and Byte.MAX_VALUE
+     * @param deckSizes the number of Cards in each of the Game's Decks. This shouldn't be null
+     * @throws IllegalArgumentException when an invalid size is passed
+     */
+    public GameState(int boardSize, int numSeats, int[] deckSizes) {
+        if (boardSize > 0 && numSeats > 0 && numSeats <= Byte.MAX_VALUE && deckSizes != null) {
+            BOARD_SIZE = boardSize;
+            NUM_SEATS = numSeats;
+            OWNERS = new byte[boardSize];
+            Arrays.fill(OWNERS, (byte) -1);
+            HOUSES = new byte[boardSize];
+            MORTGAGED = new long[(boardSize + 63) / 64];
+            WALLETS = new int[numSeats];
+            POSITIONS = new int[numSeats];
+            TURNS_IN_JAIL = new int[numSeats];
+            IN_GAME = new boolean[numSeats];
+            DECK_REMAINING = new short[deckSizes.length][];
+            NUM_REMAINING = new int[deckSizes.length];
+            DECK_HELD = new short[deckSizes.length][];
+            NUM_HELD = new int[deckSizes.length];
+            CARD_OWNERS = new byte[deckSizes.length][];
+            for (int i = 0; i < deckSizes.length; i++) {
+                DECK_REMAINING[i] = new short[deckSizes[i]];
+                DECK_HELD[i] = new short[deckSizes[i]];
+                CARD_OWNERS[i] = new byte[deckSizes[i]];
+            }
+            currentPlayer = 0;
+            shouldGoToNextPlayer = false;
+        } else {
+            throw new IllegalArgumentException("An invalid size was passed");
+        }
+    }
+
+    /**
+     * Finds a Player's seat
+     *
+     * @param seats  the Players in seat order
+     * @param player the Player that should be found. This can be null
+     * @return the Player's seat, or -1 if they aren't seated
+     */
+    private static int seatOf(Player[] seats, Player player) {
+        if (player != null) {
+            for (int seat = 0; seat < seats.length; seat++) {
+                if (seats[seat] == player) {
+                    return seat;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Copies a board and its Players into this GameState
+     *
+     * @param gameBoard the board to copy. This should have BOARD_SIZE Spaces
+     * @param seats     the Players in seat order. This should have NUM_SEATS Players, and every owner on the board
+     *                  should be one of them
+     * @throws IllegalArgumentException when a null or mismatched parameter is passed
+     */
+    public void read(Space[] gameBoard, Player[] seats) {
+        if (gameBoard != null && seats != null && gameBoard.length == BOARD_SIZE && seats.length == NUM_SEATS) {
+            Arrays.fill(MORTGAGED, 0);
+            for (int i = 0; i < BOARD_SIZE; i++) {
+                Property property = gameBoard[i].getPROPERTY();
+                if (property != null) {
+                    OWNERS[i] = (byte) seatOf(seats, property.getOwner());
+                    HOUSES[i] = (byte) property.getNumHouses();
+                    if (property.isMortgaged()) {
+                        MORTGAGED[i >> 6] |= 1L << i;
+                    }
+                } else {
+                    OWNERS[i] = -1;
+                    HOUSES[i] = 0;
+                }
+            }
+
+            for (int seat = 0; seat < NUM_SEATS; seat++) {
+                WALLETS[seat] = seats[seat].getWallet();
+                POSITIONS[seat] = seats[seat].getPosition();
+                TURNS_IN_JAIL[seat] = seats[seat].getTurnInJail();
+            }
+        } else {
+            throw new IllegalArgumentException("A null or mismatched parameter was passed");
+        }
+    }
+
+    /**
+     * Puts a board and its Players back into this GameState. Only Properties and Players that are different are
+     * changed, so writing a GameState back over a Game it was read from recently is cheap
+     *
+     * @param gameBoard the board to change. This should have BOARD_SIZE Spaces
+     * @param seats     the Players in seat order. This should have NUM_SEATS Players
+     * @throws IllegalArgumentException when a null or mismatched parameter is passed
+     */
+    public void write(Space[] gameBoard, Player[] seats) {
+        if (gameBoard != null && seats != null && gameBoard.length == BOARD_SIZE && seats.length == NUM_SEATS) {
+            for (int i = 0; i < BOARD_SIZE; i++) {
+                Property property = gameBoard[i].getPROPERTY();
+                if (property != null) {
+                    Player owner = OWNERS[i] != -1 ? seats[OWNERS[i]] : null;
+                    if (property.getOwner() != owner || property.getNumHouses() != HOUSES[i] ||
+                            property.isMortgaged() != isMortgaged(i)) {
+                        property.restoreState(owner, HOUSES[i], isMortgaged(i));
+                    }
+                }
+            }
+
+            for (int seat = 0; seat < NUM_SEATS; seat++) {
+                Player player = seats[seat];
+                if (player.getWallet() != WALLETS[seat] || player.getPosition() != POSITIONS[seat] ||
+                        player.getTurnInJail() != TURNS_IN_JAIL[seat]) {
+                    player.restoreState(WALLETS[seat], POSITIONS[seat], TURNS_IN_JAIL[seat]);
+                }
+            }
+        } else {
+            throw new IllegalArgumentException("A null or mismatched parameter was passed");
+        }
+    }
+
+    /**
+     * Copies Decks, and who holds their Cards, into this GameState
+     *
+     * @param decks the Decks to copy. These should have the sizes this GameState was made with
+     * @param seats the Players in seat order. This should have NUM_SEATS Players
+     * @throws IllegalArgumentException when a null or mismatched parameter is passed
+     */
+    public void readDecks(Deck[] decks, Player[] seats) {
+        if (decks != null && seats != null && matches(decks) && seats.length == NUM_SEATS) {
+            for (int d = 0; d < decks.length; d++) {
+                NUM_REMAINING[d] = decks[d].copyRemaining(DECK_REMAINING[d]);
+                NUM_HELD[d] = decks[d].copyHeld(DECK_HELD[d]);
+                for (int i = 0; i < CARD_OWNERS[d].length; i++) {
+                    CARD_OWNERS[d][i] = (byte) seatOf(seats, decks[d].getDefaultCard(i).getOwner());
+                }
+            }
+        } else {
+            throw new IllegalArgumentException("A null or mismatched parameter was passed");
+        }
+    }
+
+    /**
+     * Puts Decks, and who holds their Cards, back into this GameState
+     *
+     * @param decks the Decks to change. These should have the sizes this GameState was made with
+     * @param seats the Players in seat order. This should have NUM_SEATS Players
+     * @throws IllegalArgumentException when a null or mismatched parameter is passed
+     */
+    public void writeDecks(Deck[] decks, Player[] seats) {
+        if (decks != null && seats != null && matches(decks) && seats.length == NUM_SEATS) {
+            for (int d = 0; d < decks.length; d++) {
+                decks[d].restoreState(DECK_REMAINING[d], NUM_REMAINING[d], DECK_HELD[d], NUM_HELD[d]);
+                for (int i = 0; i < CARD_OWNERS[d].length; i++) {
+                    decks[d].getDefaultCard(i).setOwner(CARD_OWNERS[d][i] != -1 ? seats[CARD_OWNERS[d][i]] : null);
+                }
+            }
+        } else {
+            throw new IllegalArgumentException("A null or mismatched parameter was passed");
+        }
+    }
+
+    /**
+     * Determines whether or not Decks have the sizes this GameState was made with
+     *
+     * @param decks the Decks to check
+     * @return whether or not the Decks match
+     */
+    public boolean matches(Deck[] decks) {
+        if (decks.length != CARD_OWNERS.length) {
+            return false;
+        }
+        for (int d = 0; d < decks.length; d++) {
+            if (decks[d].getNumCards() != CARD_OWNERS[d].length) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines whether or not this GameState could be written to a board without breaking its rules. Every value
+     * get reads is in range on its own, but a damaged save can still mortgage an unowned Property, or build on one
+     * whose owner doesn't have a monopoly over its color group
+     *
+     * @param gameBoard the board to check against
+     * @return whether or not the board can hold this GameState
+     */
+    public boolean fits(Space[] gameBoard) {
+        if (gameBoard.length != BOARD_SIZE) {
+            return false;
+        }
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            Property property = gameBoard[i].getPROPERTY();
+            if (property != null) {
+                if (HOUSES[i] > property.getMAX_HOUSES() || (OWNERS[i] == -1 && (isMortgaged(i) || HOUSES[i] > 0))) {
+                    return false;
+                }
+                if (HOUSES[i] > 0 && !property.IS_SCALED()) { //Houses can only be built over a whole unmortgaged group
+                    for (int j = 0; j < BOARD_SIZE; j++) {
+                        Property other = gameBoard[j].getPROPERTY();
+                        if (other != null && other.getCOLOR_GROUP().equals(property.getCOLOR_GROUP()) &&
+                                (OWNERS[j] != OWNERS[i] || isMortgaged(j))) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies another GameState into this one without allocating
+     *
+     * @param other the GameState to copy. This should be the same size as this
+     * @throws IllegalArgumentException when a null or mismatched GameState is passed
+     */
+    public void copyFrom(GameState other) {
+        if (other != null && other.BOARD_SIZE == BOARD_SIZE && other.NUM_SEATS == NUM_SEATS &&
+                other.CARD_OWNERS.length == CARD_OWNERS.length) {
+            System.arraycopy(other.OWNERS, 0, OWNERS, 0, BOARD_SIZE);
+            System.arraycopy(other.HOUSES, 0, HOUSES, 0, BOARD_SIZE);
+            System.arraycopy(other.MORTGAGED, 0, MORTGAGED, 0, MORTGAGED.length);
+            System.arraycopy(other.WALLETS, 0, WALLETS, 0, NUM_SEATS);
+            System.arraycopy(other.POSITIONS, 0, POSITIONS, 0, NUM_SEATS);
+            System.arraycopy(other.TURNS_IN_JAIL, 0, TURNS_IN_JAIL, 0, NUM_SEATS);
+            System.arraycopy(other.IN_GAME, 0, IN_GAME, 0, NUM_SEATS);
+            for (int d = 0; d < CARD_OWNERS.length; d++) {
+                System.arraycopy(other.DECK_REMAINING[d], 0, DECK_REMAINING[d], 0, other.NUM_REMAINING[d]);
+                System.arraycopy(other.DECK_HELD[d], 0, DECK_HELD[d], 0, other.NUM_HELD[d]);
+                System.arraycopy(other.CARD_OWNERS[d], 0, CARD_OWNERS[d], 0, CARD_OWNERS[d].length);
+            }
+            System.arraycopy(other.NUM_REMAINING, 0, NUM_REMAINING, 0, NUM_REMAINING.length);
+            System.arraycopy(other.NUM_HELD, 0, NUM_HELD, 0, NUM_HELD.length);
+            currentPlayer = other.currentPlayer;
+            shouldGoToNextPlayer = other.shouldGoToNextPlayer;
+        } else {
+            throw new IllegalArgumentException("A null or mismatched GameState was passed");
+        }
+    }
+
+    /**
+     * Makes a copy of this GameState
+     *
+     * @return the copy
+     */
+    public GameState copy() {
+        int[] deckSizes = new int[CARD_OWNERS.length];
+        for (int d = 0; d < deckSizes.length; d++) {
+            deckSizes[d] = CARD_OWNERS[d].length;
+        }
+        GameState result = new GameState(BOARD_SIZE, NUM_SEATS, deckSizes);
+        result.copyFrom(this);
+        return result;
+    }
+
+    /**
+     * Gets the most bytes put can write. Decks are written at their full size, so this is also exactly what it writes
+     *
+     * @return the number of bytes
+     */
+    public int getNumBytes() {
+        int numBytes = 2 * BOARD_SIZE + Long.BYTES * MORTGAGED.length + (3 * Integer.BYTES + 1) * NUM_SEATS;
+        for (byte[] cardOwners : CARD_OWNERS) {
+            numBytes += 2 * Short.BYTES + 2 * Short.BYTES * cardOwners.length + cardOwners.length;
+        }
+        return numBytes + Integer.BYTES + 1;
+    }
+
+    /**
+     * Writes this GameState into a buffer without allocating. Cards past the end of a Deck's remaining and held Cards
+     * are written as 0, so two equal GameStates always write the same bytes
+     *
+     * @param buffer the buffer to write to. This should have at least getNumBytes bytes remaining
+     * @throws IllegalArgumentException when a null or too small buffer is passed
+     */
+    public void put(ByteBuffer buffer) {
+        if (buffer != null && buffer.remaining() >= getNumBytes()) {
+            buffer.put(OWNERS).put(HOUSES);
+            for (long bits : MORTGAGED) {
+                buffer.putLong(bits);
+            }
+            for (int seat = 0; seat < NUM_SEATS; seat++) {
+                buffer.putInt(WALLETS[seat]).putInt(POSITIONS[seat]).putInt(TURNS_IN_JAIL[seat]);
+                buffer.put((byte) (IN_GAME[seat] ? 1 : 0));
+            }
+            for (int d = 0; d < CARD_OWNERS.length; d++) {
+                putCards(buffer, DECK_REMAINING[d], NUM_REMAINING[d]);
+                putCards(buffer, DECK_HELD[d], NUM_HELD[d]);
+                buffer.put(CARD_OWNERS[d]);
+            }
+            buffer.putInt(currentPlayer);
+            buffer.put((byte) (shouldGoToNextPlayer ? 1 : 0));
+        } else {
+            throw new IllegalArgumentException("A null or too small buffer was passed");
+        }
+    }
+
+    /**
+     * Writes the first few Cards of a Deck's list, padded with 0 to the Deck's full size
+     *
+     * @param buffer   the buffer to write to
+     * @param cards    the Cards
+     * @param numCards the number of Cards that are used
+     */
+    private static void putCards(ByteBuffer buffer, short[] cards, int numCards) {
+        buffer.putShort((short) numCards);
+        for (int i = 0; i < cards.length; i++) {
+            buffer.putShort(i < numCards ? cards[i] : 0);
+        }
+    }
+
+    /**
+     * Reads a GameState written by put into this one without allocating. Everything read is checked against this
+     * GameState's sizes before it's kept, so a damaged buffer can't leave seats or Cards that don't exist
+     *
+     * @param buffer the buffer to read from. This should have at least getNumBytes bytes remaining
+     * @throws IllegalArgumentException when a null or too small buffer is passed, or the buffer holds an invalid
+     *                                  GameState. This GameState may be partly overwritten when this is thrown
+     */
+    public void get(ByteBuffer buffer) {
+        if (buffer != null && buffer.remaining() >= getNumBytes()) {
+            buffer.get(OWNERS).get(HOUSES);
+            for (int i = 0; i < BOARD_SIZE; i++) {
+                if (OWNERS[i] < -1 || OWNERS[i] >= NUM_SEATS || HOUSES[i] < 0) {
+                    throw new IllegalArgumentException("An invalid Property was read");
+                }
+            }
+            for (int i = 0; i < MORTGAGED.length; i++) {
+                MORTGAGED[i] = buffer.getLong();
+            }
+            for (int seat = 0; seat < NUM_SEATS; seat++) {
+                WALLETS[seat] = buffer.getInt();
+                POSITIONS[seat] = buffer.getInt();
+                TURNS_IN_JAIL[seat] = buffer.getInt();
+                IN_GAME[seat] = buffer.get() != 0;
+                if (POSITIONS[seat] < 0 || POSITIONS[seat] >= BOARD_SIZE || TURNS_IN_JAIL[seat] < 0) {
+                    throw new IllegalArgumentException("An invalid seat was read");
+                }
+            }
+            for (int d = 0; d < CARD_OWNERS.length; d++) {
+                NUM_REMAINING[d] = getCards(buffer, DECK_REMAINING[d]);
+                NUM_HELD[d] = getCards(buffer, DECK_HELD[d]);
+                buffer.get(CARD_OWNERS[d]);
+                for (byte owner : CARD_OWNERS[d]) {
+                    if (owner < -1 || owner >= NUM_SEATS) {
+                        throw new IllegalArgumentException("An invalid Card owner was read");
+                    }
+                }
+            }
+            currentPlayer = buffer.getInt();
+            shouldGoToNextPlayer = buffer.get() != 0;
+            if (currentPlayer < 0 || currentPlayer >= Math.max(numInGame(), 1)) {
+                throw new IllegalArgumentException("An invalid current Player was read");
+            }
+        } else {
+            throw new IllegalArgumentException("A null or too small buffer was passed");
+        }
+    }
+
+    /**
+     * Counts the seats that are still in the Game, which is how many Players the current Player is an index into
+     *
+     * @return the number of seats in the Game
+     */
+    private int numInGame() {
+        int numInGame = 0;
+        for (boolean inGame : IN_GAME) {
+            numInGame += inGame ? 1 : 0;
+        }
+        return numInGame;
+    }
+
+    /**
+     * Reads a list of Cards written by putCards
+     *
+     * @param buffer the buffer to read from
+     * @param cards  the Array the Cards are read into, which is the Deck's full size
+     * @return the number of Cards that are used
+     * @throws IllegalArgumentException when the list is longer than the Deck or holds a Card that isn't in it
+     */
+    private static int getCards(ByteBuffer buffer, short[] cards) {
+        int numCards = buffer.getShort();
+        if (numCards < 0 || numCards > cards.length) {
+            throw new IllegalArgumentException("An invalid number of Cards was read");
+        }
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = buffer.getShort();
+            if (cards[i] < 0 || cards[i] >= cards.length) {
+                throw new IllegalArgumentException("An invalid Card was read");
+            }
+        }
+        return numCards;
+    }
+
+    /**
+     * Gets the most bytes putChanges can write, which is when every Property, seat and Deck has changed
+     *
+     * @return the number of bytes
+     */
+    public int getMaxChangeBytes() {
+        int numBytes = (1 + Integer.BYTES + 3) * BOARD_SIZE + (2 + 3 * Integer.BYTES + 1) * NUM_SEATS;
+        for (byte[] cardOwners : CARD_OWNERS) {
+            numBytes += 1 + 1 + 2 * Short.BYTES + 2 * Short.BYTES * cardOwners.length + cardOwners.length;
+        }
+        return numBytes + 1 + Integer.BYTES + 1;
+    }
+
+    /**
+     * Writes everything that's different from another GameState into a buffer without allocating. Each change starts
+     * with a tag saying what it covers: a Property, a seat, a whole Deck, or whose turn it is. Applying the changes to
+     * a copy of the other GameState makes it equal to this one
+     *
+     * @param previous the GameState to compare to. This should be the same size as this
+     * @param buffer   the buffer to write to. This should have at least getMaxChangeBytes bytes remaining
+     * @return the number of changes written
+     * @throws IllegalArgumentException when a null or mismatched parameter is passed
+     */
+    public int putChanges(GameState previous, ByteBuffer buffer) {
+        if (previous != null && buffer != null && previous.BOARD_SIZE == BOARD_SIZE && previous.NUM_SEATS == NUM_SEATS &&
+                previous.CARD_OWNERS.length == CARD_OWNERS.length && buffer.remaining() >= getMaxChangeBytes()) {
+            int numChanges = 0;
+            for (int i = 0; i < BOARD_SIZE; i++) {
+                if (OWNERS[i] != previous.OWNERS[i] || HOUSES[i] != previous.HOUSES[i] ||
+                        isMortgaged(i) != previous.isMortgaged(i)) {
+                    buffer.put(PROPERTY_CHANGE).putInt(i).put(OWNERS[i]).put(HOUSES[i]);
+                    buffer.put((byte) (isMortgaged(i) ? 1 : 0));
+                    numChanges++;
+                }
+            }
+            for (int seat = 0; seat < NUM_SEATS; seat++) {
+                if (WALLETS[seat] != previous.WALLETS[seat] || POSITIONS[seat] != previous.POSITIONS[seat] ||
+                        TURNS_IN_JAIL[seat] != previous.TURNS_IN_JAIL[seat] || IN_GAME[seat] != previous.IN_GAME[seat]) {
+                    buffer.put(SEAT_CHANGE).put((byte) seat).putInt(WALLETS[seat]).putInt(POSITIONS[seat]);
+                    buffer.putInt(TURNS_IN_JAIL[seat]).put((byte) (IN_GAME[seat] ? 1 : 0));
+                    numChanges++;
+                }
+            }
+            for (int d = 0; d < CARD_OWNERS.length; d++) {
+                if (!deckEquals(previous, d)) {
+                    buffer.put(DECK_CHANGE).put((byte) d);
+                    putCards(buffer, DECK_REMAINING[d], NUM_REMAINING[d]);
+                    putCards(buffer, DECK_HELD[d], NUM_HELD[d]);
+                    buffer.put(CARD_OWNERS[d]);
+                    numChanges++;
+                }
+            }
+            if (currentPlayer != previous.currentPlayer || shouldGoToNextPlayer != previous.shouldGoToNextPlayer) {
+                buffer.put(TURN_CHANGE).putInt(currentPlayer).put((byte) (shouldGoToNextPlayer ? 1 : 0));
+                numChanges++;
+            }
+            return numChanges;
+        } else {
+            throw new IllegalArgumentException("A null or mismatched parameter was passed");
+        }
+    }
+
+    /**
+     * Determines whether or not one of this GameState's Decks is the same as in another GameState
+     *
+     * @param other the other GameState
+     * @param deck  the index of the Deck
+     * @return whether or not the Decks are the same
+     */
+    private boolean deckEquals(GameState other, int deck) {
+        return NUM_REMAINING[deck] == other.NUM_REMAINING[deck] && NUM_HELD[deck] == other.NUM_HELD[deck] &&
+                Arrays.equals(DECK_REMAINING[deck], 0, NUM_REMAINING[deck], other.DECK_REMAINING[deck], 0, NUM_REMAINING[deck]) &&
+                Arrays.equals(DECK_HELD[deck], 0, NUM_HELD[deck], other.DECK_HELD[deck], 0, NUM_HELD[deck]) &&
+                Arrays.equals(CARD_OWNERS[deck], other.CARD_OWNERS[deck]);
+    }
+
+    /**
+     * Applies changes written by putChanges to this GameState, reading until the buffer's limit. Every change is
+     * checked before it's kept, the same way get checks a whole GameState
+     *
+     * @param buffer the buffer to read from, whose limit should be the end of the changes. This shouldn't be null
+     * @throws IllegalArgumentException when a null buffer is passed or the buffer holds an invalid change. Changes
+     *                                  before the invalid one are kept
+     */
+    public void applyChanges(ByteBuffer buffer) {
+        if (buffer != null) {
+            while (buffer.hasRemaining()) {
+                byte tag = buffer.get();
+                if (tag == PROPERTY_CHANGE) {
+                    int space = buffer.getInt();
+                    byte owner = buffer.get();
+                    byte houses = buffer.get();
+                    boolean mortgaged = buffer.get() != 0;
+                    if (space < 0 || space >= BOARD_SIZE || owner < -1 || owner >= NUM_SEATS || houses < 0) {
+                        throw new IllegalArgumentException("An invalid Property was read");
+                    }
+                    OWNERS[space] = owner;
+                    HOUSES[space] = houses;
+                    if (mortgaged) {
+                        MORTGAGED[space >> 6] |= 1L << space;
+                    } else {
+                        MORTGAGED[space >> 6] &= ~(1L << space);
+                    }
+                } else if (tag == SEAT_CHANGE) {
+                    int seat = buffer.get();
+                    int wallet = buffer.getInt();
+                    int position = buffer.getInt();
+                    int turnsInJail = buffer.getInt();
+                    boolean inGame = buffer.get() != 0;
+                    if (seat < 0 || seat >= NUM_SEATS || position < 0 || position >= BOARD_SIZE || turnsInJail < 0) {
+                        throw new IllegalArgumentException("An invalid seat was read");
+                    }
+                    WALLETS[seat] = wallet;
+                    POSITIONS[seat] = position;
+                    TURNS_IN_JAIL[seat] = turnsInJail;
+                    IN_GAME[seat] = inGame;
+                } else if (tag == DECK_CHANGE) {
+                    int deck = buffer.get();
+                    if (deck < 0 || deck >= CARD_OWNERS.length) {
+                        throw new IllegalArgumentException("An invalid Deck was read");
+                    }
+                    NUM_REMAINING[deck] = getCards(buffer, DECK_REMAINING[deck]);
+                    NUM_HELD[deck] = getCards(buffer, DECK_HELD[deck]);
+                    buffer.get(CARD_OWNERS[deck]);
+                    for (byte owner : CARD_OWNERS[deck]) {
+                        if (owner < -1 || owner >= NUM_SEATS) {
+                            throw new IllegalArgumentException("An invalid Card owner was read");
+                        }
+                    }
+                } else if (tag == TURN_CHANGE) {
+                    int player = buffer.getInt();
+                    if (player < 0 || player >= Math.max(numInGame(), 1)) { //Seat changes come first, so IN_GAME is current
+                        throw new IllegalArgumentException("An invalid current Player was read");
+                    }
+                    currentPlayer = player;
+                    shouldGoToNextPlayer = buffer.get() != 0;
+                } else {
+                    throw new IllegalArgumentException("An invalid change was read");
+                }
+            }
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Gets the number of Spaces on the board
+     *
+     * @return the board's size
+     */
+    public int getBOARD_SIZE() {
+        return BOARD_SIZE;
+    }
+
+    /**
+     * Gets the number of seats in the Game
+     *
+     * @return the number of seats
+     */
+    public int getNUM_SEATS() {
+        return NUM_SEATS;
+    }
+
+    /**
+     * Gets the seat of the owner of a Space's Property
+     *
+     * @param index the index of the Space
+     * @return the owner's seat, or -1 for no owner or no Property
+     */
+    public int getOwner(int index) {
+        return OWNERS[index];
+    }
+
+    /**
+     * Gets the number of houses on a Space's Property
+     *
+     * @param index the index of the Space
+     * @return the number of houses
+     */
+    public int getNumHouses(int index) {
+        return HOUSES[index];
+    }
+
+    /**
+     * Gets whether or not a Space's Property is mortgaged
+     *
+     * @param index the index of the Space
+     * @return whether or not the Property is mortgaged
+     */
+    public boolean isMortgaged(int index) {
+        return (MORTGAGED[index >> 6] & 1L << index) != 0;
+    }
+
+    /**
+     * Gets a seat's wallet
+     *
+     * @param seat the seat
+     * @return the wallet
+     */
+    public int getWallet(int seat) {
+        return WALLETS[seat];
+    }
+
+    /**
+     * Gets a seat's position on the board
+     *
+     * @param seat the seat
+     * @return the position
+     */
+    public int getPosition(int seat) {
+        return POSITIONS[seat];
+    }
+
+    /**
+     * Gets the number of turns a seat has left in jail
+     *
+     * @param seat the seat
+     * @return the number of turns left in jail
+     */
+    public int getTurnsInJail(int seat) {
+        return TURNS_IN_JAIL[seat];
+    }
+
+    /**
+     * Gets whether or not a seat is still in the Game
+     *
+     * @param seat the seat
+     * @return whether or not the seat hasn't gone bankrupt
+     */
+    public boolean isInGame(int seat) {
+        return IN_GAME[seat];
+    }
+
+    /**
+     * Sets whether or not a seat is still in the Game
+     *
+     * @param seat   the seat
+     * @param inGame whether or not the seat hasn't gone bankrupt
+     */
+    public void setInGame(int seat, boolean inGame) {
+        IN_GAME[seat] = inGame;
+    }
+
+    /**
+     * Gets the index of the current Player among the seats still in the Game
+     *
+     * @return the current Player's index
+     */
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    /**
+     * Gets whether the next turn should move to the next Player
+     *
+     * @return whether the next turn moves on
+     */
+    public boolean isShouldGoToNextPlayer() {
+        return shouldGoToNextPlayer;
+    }
+
+    /**
+     * Sets whose turn it is
+     *
+     * @param currentPlayer        the index of the current Player among the seats still in the Game
+     * @param shouldGoToNextPlayer whether the next turn should move to the next Player
+     */
+    public void setTurn(int currentPlayer, boolean shouldGoToNextPlayer) {
+        this.currentPlayer = currentPlayer;
+        this.shouldGoToNextPlayer = shouldGoToNextPlayer;
+    }
+}
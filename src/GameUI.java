@@ -1,6 +1,7 @@
 import javax.swing.*;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
+import javax.swing.text.BadLocationException;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -8,27 +9,54 @@ import java.awt.font.LineBreakMeasurer;
 import java.awt.font.TextLayout;
 import java.awt.geom.Line2D;
 import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.text.AttributedCharacterIterator;
 import java.text.AttributedString;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
 
 /**
  * Manages the UI for the Game
  *
  * @author irswr
  */
-public class GameUI extends JPanel implements ActionListener {
+public class GameUI extends JPanel implements ActionListener, GameView, PromptView {
     //GameUI constants
+    private static final long FRAME_NANOS = 1_000_000_000L / 60; //How often the board is updated while fast-forwarding
+    private static final int MAX_EVENT_LINES = 500; //The most lines EVENTS keeps. The oldest are dropped first
+    private static final Path AUTOSAVE = Paths.get(System.getProperty("user.home"), ".monopoly", "autosave.sav"); //The file the Game is saved to after every turn
+    private static final Path EVENT_LOG_PATH = AUTOSAVE.resolveSibling("game.log"); //The file everything that happens in the Game is logged to
+    private static final Path OLD_EVENT_LOG_PATH = AUTOSAVE.resolveSibling("game.old.log"); //The file a log that couldn't be carried on is moved to
     private final MainUI MAIN_UI; //Stores the main UI that created this
     private final Game GAME; //Stores the Game Object
+    private final SaveFile SAVE_FILE; //Stores the SaveFile that autosaves the Game
+    private final EventLog EVENT_LOG; //Stores the log of the Game's events. This is null if the log couldn't be opened
     private final GameGraphics GAME_GRAPHICS; //Stores the Graphics for the Game
     private final JButton[] BUTTONS; //Stores the buttons for the menu
     private final JLabel CURRENT_PLAYER; //A button that simply displays the current player
     private final JLabel WALLET; //A button that simply displays the Players Wallet
+    private final JCheckBox AUTO_PLAY; //Whether the AIPlayers' turns are played one after another without a click
+    private final JCheckBox FAST_FORWARD; //Whether the AIPlayers' turns are played without dialogs, at a fixed frame rate
+    private final JTextArea EVENTS; //The latest messages the Game has shown, so the ones skipped by fast-forwarding can be read
+    private final ExecutorService GAME_THREAD; //The thread turns are played on, so the window keeps responding
+    //GameUI fields
+    private volatile boolean fastForward; //Whether FAST_FORWARD is checked, which the game thread reads
+    private long lastUpdate; //When the board was last updated, in System.nanoTime(). Only used on the game thread
+    private boolean turnRunning; //Whether a turn is being played on the game thread. Only used on the EDT
+    private boolean quitting; //Whether the user quit during a turn, so the Game should close once it ends
 
     /**
-     * Sets up a default Game
+     * Sets up a new default Game
      *
      * @param playerNames  the names of the Players
      * @param playerTypes  the types of the Players
@@ -37,8 +65,25 @@ public class GameUI extends JPanel implements ActionListener {
      * @throws IllegalArgumentException when a null MainUI Object is passed
      */
     public GameUI(String[] playerNames, String[] playerTypes, Color[] playerColors, MainUI mainUI) {
+        this(playerNames, playerTypes, playerColors, mainUI, false);
+    }
+
+    /**
+     * Sets up a default Game
+     *
+     * @param playerNames  the names of the Players
+     * @param playerTypes  the types of the Players
+     * @param playerColors the Colors of the Players
+     * @param mainUI       the MainUI Object that created this
+     * @param continuing   whether the autosave is about to be loaded into the Game, in which case the event log it
+     *                     was played with is carried on rather than started again
+     * @throws IllegalArgumentException when a null MainUI Object is passed
+     */
+    public GameUI(String[] playerNames, String[] playerTypes, Color[] playerColors, MainUI mainUI, boolean continuing) {
         if (mainUI != null) {
             GAME = GameCreator.makeGame(playerNames, playerTypes, playerColors, this);
+            SAVE_FILE = new SaveFile(GAME);
+            EVENT_LOG = openEventLog(GAME, continuing);
             GAME_GRAPHICS = new GameGraphics(GAME);
             setLayout(new BorderLayout());
             add(GAME_GRAPHICS, BorderLayout.CENTER);
@@ -71,8 +116,22 @@ public class GameUI extends JPanel implements ActionListener {
             WALLET = new JLabel("$" + GAME.getCurrentPlayer().getWallet());
             WALLET.setEnabled(false);
             buttonPanel.add(WALLET);
+            AUTO_PLAY = new JCheckBox("Auto-play AI Turns");
+            AUTO_PLAY.addActionListener(this);
+            buttonPanel.add(AUTO_PLAY);
+            FAST_FORWARD = new JCheckBox("Fast-forward AI Turns");
+            FAST_FORWARD.addActionListener(this);
+            buttonPanel.add(FAST_FORWARD);
             buttonPanel.add(BUTTONS[6]);
             add(buttonPanel, BorderLayout.SOUTH);
+            EVENTS = new JTextArea();
+            EVENTS.setEditable(false);
+            EVENTS.setLineWrap(true);
+            EVENTS.setWrapStyleWord(true);
+            JScrollPane eventPane = new JScrollPane(EVENTS);
+            eventPane.setPreferredSize(new Dimension(250, 0));
+            add(eventPane, BorderLayout.EAST);
+            GAME_THREAD = makeGameThread();
 
             MAIN_UI = mainUI;
         } else {
@@ -168,10 +227,13 @@ public class GameUI extends JPanel implements ActionListener {
                     spacePerHotels, spaceHaveProperty, propertyPrices, propertyMortgages, propertyMortgagePercent,
                     propertyBuildPrices, propertyColorGroups, propertyMaxHouses, propertyRents, propertyStartingHouses,
                     propertyAreDiceMultipliers, propertyAreScaled, propertyAreMortgaged, propertyOwners, colorGroups,
-                    jailPosition, bailCost, this, prompts, playerNames, playerTypes, playerWallets, playerPositions,
-                    playerJailTurns, playerSalaries, numTurnsInJail, playerColors, numDice, diceSides, cardTypes,
-                    cardDescriptions, cardMoneyLosses, cardPerPlayer, cardMovementLosses, cardSpaceLosses, cardColorGroup,
-                    cardRentMultiplier, cardRollMultiplier, cardPerHouses, cardPerHotels, cardGetOutJail, cardOwners);
+                    jailPosition, bailCost, this, prompts, new SplittableRandom().nextLong(), playerNames, playerTypes,
+                    playerWallets, playerPositions, playerJailTurns, playerSalaries, numTurnsInJail, playerColors, numDice,
+                    diceSides, cardTypes, cardDescriptions, cardMoneyLosses, cardPerPlayer, cardMovementLosses,
+                    cardSpaceLosses, cardColorGroup, cardRentMultiplier, cardRollMultiplier, cardPerHouses, cardPerHotels,
+                    cardGetOutJail, cardOwners);
+            SAVE_FILE = new SaveFile(GAME);
+            EVENT_LOG = openEventLog(GAME, false);
             GAME_GRAPHICS = new GameGraphics(GAME);
             setLayout(new BorderLayout());
             add(GAME_GRAPHICS, BorderLayout.CENTER);
@@ -204,8 +266,22 @@ public class GameUI extends JPanel implements ActionListener {
             WALLET = new JLabel("$" + GAME.getCurrentPlayer().getWallet());
             WALLET.setEnabled(false);
             buttonPanel.add(WALLET);
+            AUTO_PLAY = new JCheckBox("Auto-play AI Turns");
+            AUTO_PLAY.addActionListener(this);
+            buttonPanel.add(AUTO_PLAY);
+            FAST_FORWARD = new JCheckBox("Fast-forward AI Turns");
+            FAST_FORWARD.addActionListener(this);
+            buttonPanel.add(FAST_FORWARD);
             buttonPanel.add(BUTTONS[6]);
             add(buttonPanel, BorderLayout.SOUTH);
+            EVENTS = new JTextArea();
+            EVENTS.setEditable(false);
+            EVENTS.setLineWrap(true);
+            EVENTS.setWrapStyleWord(true);
+            JScrollPane eventPane = new JScrollPane(EVENTS);
+            eventPane.setPreferredSize(new Dimension(250, 0));
+            add(eventPane, BorderLayout.EAST);
+            GAME_THREAD = makeGameThread();
 
             MAIN_UI = mainUI;
         } else {
@@ -214,6 +290,84 @@ public class GameUI extends JPanel implements ActionListener {
     }
 
 
+    /**
+     * Saves the Game to the autosave, on whichever thread is playing it. A failed save is shown to the user but doesn't
+     * stop the Game
+     */
+    private void autosave() {
+        try {
+            SAVE_FILE.save(AUTOSAVE);
+        } catch (IOException e) { //This isn't something that happened in the Game, so it isn't logged
+            onEventThread(() -> {
+                showMessage("The game couldn't be saved: " + e.getMessage());
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Opens the log of a Game's events. The log is only used to look into a Game afterwards, so a Game without one
+     * is still played. A log that can't be carried on is moved aside rather than replaced, so it can still be read
+     *
+     * @param game   the Game to log
+     * @param append whether the log that's already there should be carried on, which is when a Game is continued
+     * @return the log, or null if it couldn't be opened
+     */
+    private static EventLog openEventLog(Game game, boolean append) {
+        try {
+            EventLog eventLog = null;
+            if (append && Files.exists(EVENT_LOG_PATH)) {
+                try {
+                    eventLog = new EventLog(game, EVENT_LOG_PATH, true);
+                } catch (IOException e) {
+                    Files.move(EVENT_LOG_PATH, OLD_EVENT_LOG_PATH, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            if (eventLog == null) {
+                eventLog = new EventLog(game, EVENT_LOG_PATH);
+            }
+            game.setEventLog(eventLog);
+            return eventLog;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the rest of the event log before the Game is closed
+     */
+    private void closeEventLog() {
+        if (EVENT_LOG != null) {
+            try {
+                EVENT_LOG.close();
+            } catch (IOException e) {
+                JOptionPane.showMessageDialog(MAIN_UI, "The game's event log couldn't be written: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Loads a save into this GameUI's Game and shows it. The save should have been made from a Game with the same
+     * board and number of Players
+     *
+     * @param path the save. This shouldn't be null
+     * @throws IOException when the save can't be loaded, in which case the Game is left as it was
+     */
+    public void load(Path path) throws IOException {
+        SAVE_FILE.load(path);
+        BUTTONS[0].setText("End Turn");
+        update();
+    }
+
+    /**
+     * Gets the file Games are autosaved to
+     *
+     * @return the autosave's path
+     */
+    public static Path getAUTOSAVE() {
+        return AUTOSAVE;
+    }
+
     /**
      * Invoked when an action occurs.
      *
@@ -223,7 +377,7 @@ public class GameUI extends JPanel implements ActionListener {
     public void actionPerformed(ActionEvent e) {
         if (e.getSource() == BUTTONS[0]) {
             BUTTONS[0].setText("End Turn");
-            GAME.doTurn();
+            playTurn();
         } else if (e.getSource() == BUTTONS[1]) {
             new PropertySelectionDialog(Game.getProperties(GAME.getGAME_BOARD()));
         } else if (e.getSource() == BUTTONS[2]) {
@@ -240,11 +394,215 @@ public class GameUI extends JPanel implements ActionListener {
             int n = JOptionPane.showConfirmDialog(MAIN_UI, "Are you sure you want to quit?",
                     "Are you sure you want to quit?", JOptionPane.YES_NO_OPTION);
             if (n == JOptionPane.YES_OPTION) {
-                System.exit(0);
+                if (turnRunning) { //The Game can't be saved halfway through a turn, so it closes when the turn ends
+                    quitting = true;
+                    BUTTONS[6].setEnabled(false);
+                } else {
+                    quit();
+                }
+            }
+        } else if (e.getSource() == AUTO_PLAY || e.getSource() == FAST_FORWARD) {
+            fastForward = FAST_FORWARD.isSelected();
+            if (isAutoPlaying() && !turnRunning && !BUTTONS[0].getText().equals("Begin!") &&
+                    GAME.getCurrentPlayer() instanceof AIPlayer) {
+                playTurn();
             }
         }
     }
 
+    /**
+     * Makes the thread turns are played on. It's a daemon, so it never keeps the program open by itself
+     *
+     * @return the game thread
+     */
+    private static ExecutorService makeGameThread() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Game");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Plays the current Player's turn on the game thread. The buttons that look at the Game are turned off until it
+     * ends, since the Game is changing underneath them
+     */
+    private void playTurn() {
+        turnRunning = true;
+        for (int i = 0; i < 6; i++) {
+            BUTTONS[i].setEnabled(false);
+        }
+        GAME_THREAD.execute(() -> {
+            try {
+                GAME.doTurn();
+                if (GAME.getPLAYERS().length > 1) {
+                    autosave();
+                }
+            } finally {
+                SwingUtilities.invokeLater(this::endTurn);
+            }
+        });
+    }
+
+    /**
+     * Hands control back to the user once a turn has been played, unless the next turn is an AIPlayer's and
+     * auto-play is on, in which case it's started straight away
+     */
+    private void endTurn() {
+        turnRunning = false;
+        showUpdate(); //Fast-forwarding may have skipped the last update of the turn
+        if (quitting) {
+            quit();
+        } else if (isAutoPlaying() && GAME.getPLAYERS().length > 1 && GAME.getCurrentPlayer() instanceof
+                AIPlayer) {
+            playTurn();
+        } else {
+            for (int i = 0; i < 6; i++) {
+                BUTTONS[i].setEnabled(true);
+            }
+        }
+    }
+
+    /**
+     * Gets whether the AIPlayers' turns should be started without waiting for a click. Fast-forwarding would be
+     * pointless if every turn still had to be started by hand, so it plays them too
+     *
+     * @return whether AIPlayers' turns are auto-played
+     */
+    private boolean isAutoPlaying() {
+        return AUTO_PLAY.isSelected() || FAST_FORWARD.isSelected();
+    }
+
+    /**
+     * Gets whether the turn being played should be fast-forwarded, skipping its dialogs and most of its updates
+     *
+     * @return whether the turn is being fast-forwarded
+     */
+    private boolean isFastForwarding() {
+        return fastForward && GAME.getCurrentPlayer() instanceof AIPlayer;
+    }
+
+    /**
+     * Adds a message to the event log, which is kept for every message whether or not a dialog is shown for it. This
+     * is only called on the game thread, which is the only thread that can read the current Player mid-turn. Once
+     * the log is over MAX_EVENT_LINES, its oldest lines are dropped
+     *
+     * @param message the message to add
+     */
+    private void logMessage(String message) {
+        String line = GAME.getCurrentPlayer() + ": " + message + "\n";
+        SwingUtilities.invokeLater(() -> {
+            EVENTS.append(line);
+            int extraLines = EVENTS.getLineCount() - 1 - MAX_EVENT_LINES; //The text ends with a newline, so the last line is always empty
+            if (extraLines > 0) {
+                try {
+                    EVENTS.replaceRange("", 0, EVENTS.getLineStartOffset(extraLines));
+                } catch (BadLocationException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            EVENTS.setCaretPosition(EVENTS.getDocument().getLength());
+        });
+    }
+
+    /**
+     * Saves the Game and closes the program
+     */
+    private void quit() {
+        autosave();
+        closeEventLog();
+        System.exit(0);
+    }
+
+    /**
+     * Runs something on the EDT and waits for its result. Swing can only be used from the EDT, so everything the
+     * game thread shows the user, including the dialogs HumanPlayers answer, goes through this
+     *
+     * @param task what should be run
+     * @return the task's result
+     * @throws IllegalStateException when the game thread is interrupted while it waits
+     */
+    private static <T> T onEventThread(Callable<T> task) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            try {
+                return task.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        } else {
+            FutureTask<T> future = new FutureTask<>(task);
+            SwingUtilities.invokeLater(future);
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("The game thread was interrupted while it waited for the user");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                } else if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                } else {
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        }
+    }
+
+    /**
+     * Shows a HumanPlayer's yes or no prompt. Every Player shares the one screen, so only the description is shown
+     *
+     * @param player      the Player being asked
+     * @param prompt      what the Player is being asked
+     * @param description the description that should be shown to the Player
+     * @param object      the object that is part of this prompt
+     * @return the Player's decision
+     */
+    @Override
+    public <T> boolean promptBoolean(Player player, PromptType prompt, String description, T object) {
+        return booleanDialog(description, object);
+    }
+
+    /**
+     * Shows a HumanPlayer's prompt for an integer. The bounds aren't shown, so an answer outside them is taken as none
+     *
+     * @param player      the Player being asked
+     * @param prompt      what the Player is being asked
+     * @param description the description that should be shown to the Player
+     * @param min         the minimum value that the Player should be able to enter
+     * @param max         the maximum value that the Player should be able to enter
+     * @param none        the value the Player should enter for none
+     * @param object      the object that is part of this prompt
+     * @return the integer that the Player decides on
+     */
+    @Override
+    public <T> int promptInt(Player player, PromptType prompt, String description, int min, int max, int none,
+                             T object) {
+        int answer = intDialog(description, object);
+        if (answer >= min && (answer <= max || max < min)) { //A maximum below the minimum means there isn't one
+            return answer;
+        } else {
+            return none;
+        }
+    }
+
+    /**
+     * Shows a HumanPlayer's prompt to pick out of an Array
+     *
+     * @param player      the Player being asked
+     * @param prompt      what the Player is being asked
+     * @param description the description that should be shown to the Player
+     * @param objects     the Array that the Player should pick from
+     * @param extra       an additional Object that may be provided
+     * @return the index of the chosen Object, or -1 for none
+     */
+    @Override
+    public <T, S> int promptArray(Player player, PromptType prompt, String description, T[] objects, S extra) {
+        return arrayDialog(description, objects, extra);
+    }
+
     /**
      * Prompts the user for a boolean
      *
@@ -254,6 +612,18 @@ public class GameUI extends JPanel implements ActionListener {
      * @throws IllegalArgumentException when a null description is passed
      */
     public <T> boolean booleanDialog(String description, T object) {
+        return onEventThread(() -> showBooleanDialog(description, object));
+    }
+
+    /**
+     * Shows the dialog for booleanDialog
+     *
+     * @param description the description that should be shown to the user
+     * @param object      a potential object that may be displayed as part of the message
+     * @return the users decision
+     * @throws IllegalArgumentException when a null description is passed
+     */
+    private <T> boolean showBooleanDialog(String description, T object) {
         if (description != null) {
             if (object instanceof Property) {
                 JPanel panel = new JPanel();
@@ -291,6 +661,18 @@ public class GameUI extends JPanel implements ActionListener {
      * @throws IllegalArgumentException when a null description is passed
      */
     public <T> int intDialog(String description, T object) {
+        return onEventThread(() -> showIntDialog(description, object));
+    }
+
+    /**
+     * Shows the dialog for intDialog
+     *
+     * @param description the description that should be shown to the user
+     * @param object      the Array the user is being prompted with
+     * @return the integer the user choose
+     * @throws IllegalArgumentException when a null description is passed
+     */
+    private <T> int showIntDialog(String description, T object) {
         if (description != null) {
             if (object != null && object.getClass() == Trade.class) {
                 JPanel panel = new JPanel();
@@ -347,6 +729,19 @@ public class GameUI extends JPanel implements ActionListener {
      * @throws IllegalArgumentException when a null description or Array is passed
      */
     public <T, S> int arrayDialog(String description, T[] objects, S extra) {
+        return onEventThread(() -> showArrayDialog(description, objects, extra));
+    }
+
+    /**
+     * Shows the dialog for arrayDialog
+     *
+     * @param description the description that should be shown to the user
+     * @param objects     the objects the user an pick from
+     * @param extra       an extra that can be shown to the user
+     * @return the index of the picked Object
+     * @throws IllegalArgumentException when a null description or Array is passed
+     */
+    private <T, S> int showArrayDialog(String description, T[] objects, S extra) {
         if (description != null && objects != null) {
             JPanel panel = new JPanel();
             if (extra instanceof Trade) {
@@ -420,25 +815,70 @@ public class GameUI extends JPanel implements ActionListener {
 
 
     /**
-     * Updates the board
+     * Updates the board. The game thread waits for this, so the board is never read while it's changing. While a turn
+     * is fast-forwarded, updates closer together than a frame are dropped, and the turn's end catches the board up
      */
+    @Override
     public void update() {
+        if (isFastForwarding() && !SwingUtilities.isEventDispatchThread()) {
+            long now = System.nanoTime();
+            if (now - lastUpdate < FRAME_NANOS) {
+                return;
+            }
+            lastUpdate = now;
+        }
+        onEventThread(() -> {
+            showUpdate();
+            return null;
+        });
+    }
+
+    /**
+     * Shows the current state of the Game, and announces the winner if there is one
+     */
+    private void showUpdate() {
         CURRENT_PLAYER.setText(GAME.getCurrentPlayer().toString());
         WALLET.setText("$" + GAME.getCurrentPlayer().getWallet());
-        GAME_GRAPHICS.repaint();
+        GAME_GRAPHICS.refresh();
         if (GAME.getPLAYERS().length == 1) { //If this is the case we have a winner!
             JOptionPane.showMessageDialog(MAIN_UI, GAME.getCurrentPlayer() + " has won!");
+            try {
+                Files.deleteIfExists(AUTOSAVE);
+            } catch (IOException e) {
+                //If the autosave is left behind, continuing it only shows the winner again
+            }
+            closeEventLog();
             System.exit(0);
         }
     }
 
     /**
-     * Shows a message to the user
+     * Shows a message from the Game to the user, and adds it to the event log. No dialog is shown while fast-forwarding
      *
      * @param message the message that should be displayed
      * @throws IllegalArgumentException when a null message is passed
      */
+    @Override
     public void displayMessage(String message) {
+        if (message != null) {
+            logMessage(message);
+        }
+        if (isFastForwarding() && message != null) {
+            return;
+        }
+        onEventThread(() -> {
+            showMessage(message);
+            return null;
+        });
+    }
+
+    /**
+     * Shows the dialog for displayMessage
+     *
+     * @param message the message that should be displayed
+     * @throws IllegalArgumentException when a null message is passed
+     */
+    private void showMessage(String message) {
         if (message != null) {
             JOptionPane.showMessageDialog(MAIN_UI, message);
         } else {
@@ -447,13 +887,35 @@ public class GameUI extends JPanel implements ActionListener {
     }
 
     /**
-     * Shows a Card to the user
+     * Shows a Card the Game has drawn to the user, and adds it to the event log. The buttons that let the user look
+     * at a Card show it directly instead, so they aren't logged
      *
      * @param card        the card that should be displayed
      * @param description the description that should be shown to the user, if any
      * @throws IllegalArgumentException when a null Card is passed
      */
+    @Override
     public void displayCard(Card card, String description) {
+        if (card != null) {
+            logMessage(description == null ? card.toString() : description + ": " + card);
+        }
+        if (isFastForwarding() && card != null) {
+            return;
+        }
+        onEventThread(() -> {
+            showCard(card, description);
+            return null;
+        });
+    }
+
+    /**
+     * Shows the dialog for displayCard
+     *
+     * @param card        the card that should be displayed
+     * @param description the description that should be shown to the user, if any
+     * @throws IllegalArgumentException when a null Card is passed
+     */
+    private void showCard(Card card, String description) {
         if (card != null) {
             JDialog dialog = new JDialog(MAIN_UI, card.toString(), true);
             JPanel panel = new JPanel(new BorderLayout());
@@ -473,13 +935,35 @@ public class GameUI extends JPanel implements ActionListener {
     }
 
     /**
-     * Shows a Property to the user
+     * Shows a Property the Game has landed on to the user, and adds it to the event log. The buttons that let the
+     * user look at a Property show it directly instead, so they aren't logged
      *
      * @param property    the Property that should be displayed
      * @param description the description that should be shown to the user, if any
      * @throws IllegalArgumentException when a null Property is passed
      */
+    @Override
     public void displayProperty(Property property, String description) {
+        if (property != null) {
+            logMessage(description == null ? property.toString() : description + ": " + property);
+        }
+        if (isFastForwarding() && property != null) {
+            return;
+        }
+        onEventThread(() -> {
+            showProperty(property, description);
+            return null;
+        });
+    }
+
+    /**
+     * Shows the dialog for displayProperty
+     *
+     * @param property    the Property that should be displayed
+     * @param description the description that should be shown to the user, if any
+     * @throws IllegalArgumentException when a null Property is passed
+     */
+    private void showProperty(Property property, String description) {
         if (property != null) {
             JDialog dialog = new JDialog(MAIN_UI, property.toString(), true);
             JPanel panel = new JPanel(new BorderLayout());
@@ -660,7 +1144,7 @@ public class GameUI extends JPanel implements ActionListener {
         @Override
         public void actionPerformed(ActionEvent e) {
             if (e.getSource() == BUTTONS[0]) {
-                displayProperty(PROPERTIES[PROPERTY_LIST.getSelectedIndex()], null);
+                showProperty(PROPERTIES[PROPERTY_LIST.getSelectedIndex()], null);
             } else if (e.getSource() == BUTTONS[1]) {
                 setVisible(false);
             }
@@ -701,7 +1185,7 @@ public class GameUI extends JPanel implements ActionListener {
         @Override
         public void paintComponent(Graphics g) {
             super.paintComponent(g);
-            drawProperty(g, PROPERTY, Game.propertiesInColorGroup(PROPERTY.getCOLOR_GROUP(), GAME.getGAME_BOARD()).length,
+            drawProperty(g, PROPERTY, GAME.propertiesInColorGroup(PROPERTY.getCOLOR_GROUP()).length,
                     0, 0, getWidth(), getHeight());
         }
 
@@ -881,7 +1365,7 @@ public class GameUI extends JPanel implements ActionListener {
         @Override
         public void actionPerformed(ActionEvent e) {
             if (e.getSource() == BUTTONS[0]) {
-                displayCard(CARDS[CARD_LIST.getSelectedIndex()], null);
+                showCard(CARDS[CARD_LIST.getSelectedIndex()], null);
             } else if (e.getSource() == BUTTONS[1]) {
                 setVisible(false);
             }
@@ -1128,15 +1612,15 @@ public class GameUI extends JPanel implements ActionListener {
         public void actionPerformed(ActionEvent e) {
             if (e.getSource() == BUTTONS[0]) {
                 if (SENDER_PROPERTIES.getSelectedIndex() >= 0) {
-                    displayProperty(TRADE.getSenderProperties().get(SENDER_PROPERTIES.getSelectedIndex()), null);
+                    showProperty(TRADE.getSenderProperties().get(SENDER_PROPERTIES.getSelectedIndex()), null);
                 } else if (RECEIVER_PROPERTIES.getSelectedIndex() >= 0) {
-                    displayProperty(TRADE.getReceiverProperties().get(RECEIVER_PROPERTIES.getSelectedIndex()), null);
+                    showProperty(TRADE.getReceiverProperties().get(RECEIVER_PROPERTIES.getSelectedIndex()), null);
                 }
             } else if (e.getSource() == BUTTONS[1]) {
                 if (SENDER_CARDS.getSelectedIndex() >= 0) {
-                    displayCard(TRADE.getSenderCards().get(SENDER_CARDS.getSelectedIndex()), null);
+                    showCard(TRADE.getSenderCards().get(SENDER_CARDS.getSelectedIndex()), null);
                 } else if (RECEIVER_CARDS.getSelectedIndex() >= 0) {
-                    displayCard(TRADE.getReceiverCards().get(RECEIVER_CARDS.getSelectedIndex()), null);
+                    showCard(TRADE.getReceiverCards().get(RECEIVER_CARDS.getSelectedIndex()), null);
                 }
             }
         }
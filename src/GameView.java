@@ -0,0 +1,45 @@
+/**
+ * Represents whatever is watching a Game. The Game reports every state change and message through this, so it never
+ * needs to know whether it is being shown on screen or run headless
+ *
+ * @author irswr
+ */
+public interface GameView {
+    /**
+     * Updates the view to reflect the current state of the Game
+     */
+    void update();
+
+    /**
+     * Gets whether or not anyone will read the messages this view is sent. The Game only builds messages out of its
+     * state when this is true, so views that throw messages away should return false
+     *
+     * @return whether or not messages are shown
+     */
+    default boolean isShowingMessages() {
+        return true;
+    }
+
+    /**
+     * Shows a message to the user
+     *
+     * @param message the message that should be displayed. This shouldn't be null
+     */
+    void displayMessage(String message);
+
+    /**
+     * Shows a Card to the user
+     *
+     * @param card        the Card that should be displayed. This shouldn't be null
+     * @param description the description that should be shown to the user, if any
+     */
+    void displayCard(Card card, String description);
+
+    /**
+     * Shows a Property to the user
+     *
+     * @param property    the Property that should be displayed. This shouldn't be null
+     * @param description the description that should be shown to the user, if any
+     */
+    void displayProperty(Property property, String description);
+}
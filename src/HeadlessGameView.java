@@ -0,0 +1,123 @@
+import java.util.ArrayList;
+
+/**
+ * A GameView that never blocks and never draws anything. Used to run Games without a display, such as AI only
+ * simulations. It can optionally record every message it is sent so that a Game can be inspected afterwards
+ *
+ * @author irswr
+ */
+public class HeadlessGameView implements GameView {
+    //HeadlessGameView constants
+    private final boolean IS_RECORDING; //Stores whether or not this view should keep the messages it is sent
+    private final ArrayList<String> MESSAGES; //Stores the recorded messages. This is empty when IS_RECORDING is false
+
+    //HeadlessGameView fields
+    private int numUpdates; //Stores the number of times the Game has asked this view to update
+
+    /**
+     * Constructor for HeadlessGameView
+     *
+     * @param isRecording whether or not the messages sent to this view should be recorded
+     */
+    public HeadlessGameView(boolean isRecording) {
+        IS_RECORDING = isRecording;
+        MESSAGES = new ArrayList<>();
+        numUpdates = 0;
+    }
+
+    /**
+     * Constructor for a HeadlessGameView that doesn't record anything
+     */
+    public HeadlessGameView() {
+        this(false);
+    }
+
+    /**
+     * Counts the update. There is nothing to redraw
+     */
+    @Override
+    public void update() {
+        numUpdates++;
+    }
+
+    /**
+     * Gets whether or not anyone will read the messages this view is sent, which is only the case when it's recording
+     *
+     * @return whether or not messages are recorded
+     */
+    @Override
+    public boolean isShowingMessages() {
+        return IS_RECORDING;
+    }
+
+    /**
+     * Records the message, if this view is recording
+     *
+     * @param message the message that should be displayed
+     * @throws IllegalArgumentException when a null message is passed
+     */
+    @Override
+    public void displayMessage(String message) {
+        if (message != null) {
+            if (IS_RECORDING) {
+                MESSAGES.add(message);
+            }
+        } else {
+            throw new IllegalArgumentException("A null message was passed");
+        }
+    }
+
+    /**
+     * Records the Card, if this view is recording
+     *
+     * @param card        the Card that should be displayed
+     * @param description the description that should be shown to the user, if any
+     * @throws IllegalArgumentException when a null Card is passed
+     */
+    @Override
+    public void displayCard(Card card, String description) {
+        if (card != null) {
+            if (IS_RECORDING) {
+                MESSAGES.add((description != null ? description + ": " : "") + card.getDESCRIPTION());
+            }
+        } else {
+            throw new IllegalArgumentException("A null Card was passed");
+        }
+    }
+
+    /**
+     * Records the Property, if this view is recording
+     *
+     * @param property    the Property that should be displayed
+     * @param description the description that should be shown to the user, if any
+     * @throws IllegalArgumentException when a null Property is passed
+     */
+    @Override
+    public void displayProperty(Property property, String description) {
+        if (property != null) {
+            if (IS_RECORDING) {
+                MESSAGES.add((description != null ? description + ": " : "") + property);
+            }
+        } else {
+            throw new IllegalArgumentException("A null Property was passed");
+        }
+    }
+
+    /**
+     * Gets the messages recorded by this view
+     *
+     * @return the recorded messages. This is empty if this view isn't recording
+     */
+    public ArrayList<String> getMessages() {
+        return MESSAGES;
+    }
+
+    /**
+     * Gets the number of times the Game asked this view to update
+     *
+     * @return the number of updates
+     */
+    public int getNumUpdates() {
+        return numUpdates;
+    }
+}
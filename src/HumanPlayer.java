@@ -12,7 +12,7 @@ public class HumanPlayer implements Player {
     private final int JAIL_POSITION; //Stores the position of the jail on the board
     private final int SALARY; //Stores the amount of money the Player should get for passing go
     private final int TURNS_IN_JAIL; //Stores the number of turns the Player should be in jail for
-    private final GameUI GAME_UI; //Stores the UI for the Game
+    private final PromptView PROMPT_VIEW; //Stores what this Player's prompts are shown through
     private final Color COLOR; //Stores the Color of this Player
 
     //HumanPlayer fields
@@ -31,15 +31,15 @@ public class HumanPlayer implements Player {
      * @param jailPosition     the position of the jail on the board. This must be on the board
      * @param salary           the salary the Player should be awarded for each turn
      * @param numTurnsInJail   the number of turns the Player should be in jail for when they go
-     * @param gameUI           the UI for the Game
+     * @param promptView       what this Player's prompts are shown through, such as the GameUI
      * @param color            the Players color
      * @throws IllegalArgumentException when invalid parameters are passed
      */
     public HumanPlayer(String name, int startingWallet, int startingPosition, int boardSize, int turnsJail,
-                       int jailPosition, int salary, int numTurnsInJail, GameUI gameUI, Color color) {
+                       int jailPosition, int salary, int numTurnsInJail, PromptView promptView, Color color) {
         if (name != null && startingWallet >= 0 && startingPosition >= 0 && startingPosition < boardSize &&
                 turnsJail >= 0 && jailPosition >= 0 && jailPosition < boardSize && salary >= 0 && numTurnsInJail >= 0 &&
-                !(turnsJail > 0 && startingPosition != jailPosition) && gameUI != null && color != null) {
+                !(turnsJail > 0 && startingPosition != jailPosition) && promptView != null && color != null) {
             NAME = name;
             wallet = startingWallet;
             position = startingPosition;
@@ -48,7 +48,7 @@ public class HumanPlayer implements Player {
             JAIL_POSITION = jailPosition;
             SALARY = salary;
             TURNS_IN_JAIL = numTurnsInJail;
-            this.GAME_UI = gameUI;
+            PROMPT_VIEW = promptView;
             COLOR = color;
         } else {
             throw new IllegalArgumentException("An invalid parameter was passed");
@@ -66,15 +66,39 @@ public class HumanPlayer implements Player {
     }
 
     /**
-     * Moves the Player forward by spaces
+     * Takes one turn off of the Players jail sentence
      *
-     * @param spaces the number of spaces to move the Player forward by
-     * @throws IllegalArgumentException when a negative or zero value is passed
+     * @throws IllegalStateException when the Player isn't in jail
+     */
+    @Override
+    public void serveTurnInJail() {
+        if (turnsInJail > 0) {
+            turnsInJail--;
+        } else {
+            throw new IllegalStateException("The Player isn't in jail");
+        }
+    }
+
+    /**
+     * Releases the Player from jail, clearing whatever is left of their sentence
+     */
+    @Override
+    public void releaseFromJail() {
+        turnsInJail = 0;
+    }
+
+    /**
+     * Moves the Player by spaces
+     *
+     * @param spaces the number of spaces to move the Player by. Negative values move the Player backwards
+     * @throws IllegalArgumentException when a zero value is passed
      */
     @Override
     public void move(int spaces) {
-        if (spaces > 0) {
-            if (position + spaces < BOARD_SIZE) {
+        if (spaces != 0) {
+            if (spaces < 0) { //Moving backwards never passes go
+                position = Math.floorMod(position + spaces, BOARD_SIZE);
+            } else if (position + spaces < BOARD_SIZE) {
                 position += spaces;
             } else {
                 position += spaces;
@@ -89,18 +113,20 @@ public class HumanPlayer implements Player {
     /**
      * Prompts the Player if they would like to do something
      *
+     * @param prompt      what the Player is being asked. Humans are only shown the description
      * @param description the description that should be shown to the Player
      * @param object      the object that is part of this prompt
      * @return the Players decision whether or not to buy the card
      */
     @Override
-    public <T> boolean promptBoolean(String description, T object) {
-        return GAME_UI.booleanDialog(description, object);
+    public <T> boolean promptBoolean(PromptType prompt, String description, T object) {
+        return PROMPT_VIEW.promptBoolean(this, prompt, description, object);
     }
 
     /**
      * Prompts the Player for an integer value
      *
+     * @param prompt      what the Player is being asked. Humans are only shown the description
      * @param description the description that should be shown to the Player
      * @param min         the minimum value that the Player should be able to enter. Should be equal to none for none
      * @param max         the maximum value that the Player should be able to enter. Should be equal to none for none
@@ -109,21 +135,22 @@ public class HumanPlayer implements Player {
      * @return the integer that the Player decides on
      */
     @Override
-    public <T> int promptInt(String description, int min, int max, int none, T object) {
-        return GAME_UI.intDialog(description, object);
+    public <T> int promptInt(PromptType prompt, String description, int min, int max, int none, T object) {
+        return PROMPT_VIEW.promptInt(this, prompt, description, min, max, none, object);
     }
 
     /**
      * Prompts the Player to pick an Object out of the provided Array
      *
+     * @param prompt      what the Player is being asked. Humans are only shown the description
      * @param description the description that should be shown to the Player
      * @param objects     the Array that the Player should pick from
      * @param extra       an additional Object that may be provided
      * @return the index of the chosen Object
      */
     @Override
-    public <T, S> int promptArray(String description, T[] objects, S extra) {
-        return GAME_UI.arrayDialog(description, objects, extra);
+    public <T, S> int promptArray(PromptType prompt, String description, T[] objects, S extra) {
+        return PROMPT_VIEW.promptArray(this, prompt, description, objects, extra);
     }
 
     /**
@@ -161,11 +188,11 @@ public class HumanPlayer implements Player {
      * Adds amount to the Players wallet. This also manages what happens when the Player has negative money
      *
      * @param amount the amount to add to the Players wallet
-     * @throws IllegalArgumentException when this would cause the Player to go into debt
+     * @throws IllegalArgumentException when a charge would put the Player into debt
      */
     @Override
     public void updateWallet(int amount) {
-        if (wallet + amount >= 0) {
+        if (wallet + amount >= 0 || amount >= 0) { //A Player in debt can always be paid
             wallet += amount;
         } else {
             throw new IllegalArgumentException("An invalid amount of money was passed");
@@ -239,4 +266,23 @@ public class HumanPlayer implements Player {
     public int getBOARD_SIZE() {
         return BOARD_SIZE;
     }
+
+    /**
+     * Puts the Player back into a saved state
+     *
+     * @param wallet      the Player's wallet
+     * @param position    the Player's position. This should be on the board
+     * @param turnsInJail the number of turns the Player has left in jail. This shouldn't be negative
+     * @throws IllegalArgumentException when an invalid position or number of turns is passed
+     */
+    @Override
+    public void restoreState(int wallet, int position, int turnsInJail) {
+        if (position >= 0 && position < BOARD_SIZE && turnsInJail >= 0) {
+            this.wallet = wallet;
+            this.position = position;
+            this.turnsInJail = turnsInJail;
+        } else {
+            throw new IllegalArgumentException("An invalid parameter was passed");
+        }
+    }
 }
@@ -0,0 +1,434 @@
+import java.util.Arrays;
+
+/**
+ * Works out how often a Player ends a roll on each Space in the long run, without playing any Games. The board is
+ * treated as a Markov chain, with one state for each Space and one for each turn left in jail, and a roll moves a
+ * Player between states the same way Game does: the Dice total, the Spaces that send Players elsewhere, the Cards that
+ * move them, and the jail rules. The stationary distribution of the chain is found by power iteration over a sparse
+ * transition matrix
+ *
+ * @author irswr
+ */
+public class LandingProbabilities {
+    //LandingProbabilities constants
+    private static final double TOLERANCE = 1e-12; //The power iteration stops once no probability moves by more than this in total
+    private static final int MAX_ITERATIONS = 100000; //The power iteration stops here if it hasn't converged
+    private static final int MAX_CHAIN = 64; //The most Spaces one roll can chain through. Only a board that sends Players around in a loop reaches this
+    private final Space[] GAME_BOARD; //Stores the game board. This is read-only for this Class
+    private final BoardIndex BOARD_INDEX; //Stores the index of the board's color groups, which Spaces and Cards send Players to
+    private final Deck[] DECKS; //Stores the Decks Cards are drawn from. Every Card in a Deck is treated as equally likely
+    private final int JAIL_SPACE; //Stores the index of the jail
+    private final int TURNS_IN_JAIL; //Stores the number of turns a Player is sent to jail for
+    private final boolean LEAVES_JAIL_EARLY; //Stores whether Players pay their bail on their first turn in jail rather than waiting for doubles
+    private final double[] ROLL_TOTALS; //Stores the chance of rolling each total without doubles
+    private final double[] DOUBLES_TOTALS; //Stores the chance of rolling each total with doubles
+    private final double[] STATIONARY; //Stores the long run chance of being in each state. Spaces come first, followed by the turns left in jail
+    private final int NUM_ITERATIONS; //Stores the number of iterations the power iteration took
+
+    //LandingProbabilities fields
+    private int[] rowStarts; //Stores where each state's row starts in columns and values
+    private int[] columns; //Stores the state each non-zero transition leads to
+    private double[] values; //Stores the chance of each non-zero transition
+    private int numValues; //Stores the number of non-zero transitions
+
+    /**
+     * Constructor for LandingProbabilities. The chain is built and solved here
+     *
+     * @param gameBoard       the game board. This shouldn't be null or empty, and its Spaces should be at their indexes
+     * @param boardIndex      the index of the game board's color groups. This shouldn't be null
+     * @param decks           the Decks the board's Spaces draw from. This shouldn't be null
+     * @param diceSides       the number of sides on each Dice. This shouldn't be null or empty, and every Dice should
+     *                        have at least one side
+     * @param jailSpace       the index of the jail. This must be on the board
+     * @param turnsInJail     the number of turns a Player is sent to jail for. This shouldn't be negative
+     * @param leavesJailEarly whether Players pay their bail straight away rather than waiting to roll doubles
+     * @throws IllegalArgumentException when a null or invalid parameter is passed
+     */
+    public LandingProbabilities(Space[] gameBoard, BoardIndex boardIndex, Deck[] decks, int[] diceSides, int jailSpace,
+                                int turnsInJail, boolean leavesJailEarly) {
+        if (gameBoard != null && gameBoard.length > 0 && boardIndex != null && decks != null && diceSides != null &&
+                diceSides.length > 0 && jailSpace >= 0 && jailSpace < gameBoard.length && turnsInJail >= 0) {
+            for (int sides : diceSides) {
+                if (sides <= 0) {
+                    throw new IllegalArgumentException("A Dice without any sides was passed");
+                }
+            }
+
+            GAME_BOARD = gameBoard;
+            BOARD_INDEX = boardIndex;
+            DECKS = decks;
+            JAIL_SPACE = jailSpace;
+            TURNS_IN_JAIL = turnsInJail;
+            LEAVES_JAIL_EARLY = leavesJailEarly;
+            int maxTotal = 0;
+            for (int sides : diceSides) {
+                maxTotal += sides;
+            }
+            ROLL_TOTALS = new double[maxTotal + 1];
+            DOUBLES_TOTALS = new double[maxTotal + 1];
+            calcRollTotals(diceSides, ROLL_TOTALS, DOUBLES_TOTALS);
+
+            buildTransitions();
+            STATIONARY = new double[gameBoard.length + turnsInJail];
+            NUM_ITERATIONS = solve(STATIONARY);
+            rowStarts = null; //The matrix is only needed to solve the chain
+            columns = null;
+            values = null;
+        } else {
+            throw new IllegalArgumentException("A null or invalid parameter was passed");
+        }
+    }
+
+    /**
+     * Builds and solves the chain for a Game's board, Decks and Dice
+     *
+     * @param game            the Game. This shouldn't be null
+     * @param turnsInJail     the number of turns the Game's Players are sent to jail for. This shouldn't be negative
+     * @param leavesJailEarly whether Players pay their bail straight away rather than waiting to roll doubles
+     * @return the solved LandingProbabilities
+     * @throws IllegalArgumentException when a null or invalid parameter is passed
+     */
+    public static LandingProbabilities of(Game game, int turnsInJail, boolean leavesJailEarly) {
+        if (game != null) {
+            Dice[] dice = game.getDICE();
+            int[] diceSides = new int[dice.length];
+            for (int i = 0; i < dice.length; i++) {
+                diceSides[i] = dice[i].getNUM_SIDES();
+            }
+            return new LandingProbabilities(game.getGAME_BOARD(), game.getBOARD_INDEX(), game.getDECKS(), diceSides,
+                    game.getJAIL_SPACE(), turnsInJail, leavesJailEarly);
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Works out the chance of every roll total, split by whether or not the roll is doubles. Rolls are doubles when
+     * every Dice shows the same value
+     *
+     * @param diceSides     the number of sides on each Dice
+     * @param rollTotals    the Array the chance of each total without doubles is written to
+     * @param doublesTotals the Array the chance of each total with doubles is written to
+     */
+    private static void calcRollTotals(int[] diceSides, double[] rollTotals, double[] doublesTotals) {
+        double[] totals = {1};
+        int minSides = Integer.MAX_VALUE;
+        for (int sides : diceSides) { //Each Dice is convolved into the distribution of the ones before it
+            double[] next = new double[totals.length + sides];
+            for (int total = 0; total < totals.length; total++) {
+                for (int value = 1; value <= sides; value++) {
+                    next[total + value] += totals[total] / sides;
+                }
+            }
+            totals = next;
+            minSides = Math.min(minSides, sides);
+        }
+
+        for (int value = 1; value <= minSides; value++) {
+            double chance = 1;
+            for (int sides : diceSides) {
+                chance /= sides;
+            }
+            doublesTotals[value * diceSides.length] += chance;
+        }
+        for (int total = 0; total < totals.length; total++) {
+            rollTotals[total] = totals[total] - doublesTotals[total];
+        }
+    }
+
+    /**
+     * Builds the sparse transition matrix, one state's row at a time
+     */
+    private void buildTransitions() {
+        int numStates = GAME_BOARD.length + TURNS_IN_JAIL;
+        double[] row = new double[numStates]; //Collects the current row before it's packed
+        int[] touched = new int[numStates]; //Stores the states the current row has reached, so only those are packed
+        int[] numTouched = new int[1];
+        rowStarts = new int[numStates + 1];
+        columns = new int[numStates * 8];
+        values = new double[numStates * 8];
+        numValues = 0;
+
+        for (int state = 0; state < numStates; state++) {
+            rowStarts[state] = numValues;
+            for (int total = 0; total < ROLL_TOTALS.length; total++) {
+                if (state < GAME_BOARD.length) { //Players who aren't in jail move by whatever they roll
+                    double chance = ROLL_TOTALS[total] + DOUBLES_TOTALS[total];
+                    if (chance > 0) {
+                        land(move(state, total), chance, row, touched, numTouched);
+                    }
+                } else { //Players in jail only move on doubles, when they pay, or when their sentence is up
+                    int turnsLeft = state - GAME_BOARD.length + 1;
+                    if (DOUBLES_TOTALS[total] > 0) {
+                        land(move(JAIL_SPACE, total), DOUBLES_TOTALS[total], row, touched, numTouched);
+                    }
+                    if (ROLL_TOTALS[total] > 0) {
+                        if (LEAVES_JAIL_EARLY || turnsLeft == 1) {
+                            land(move(JAIL_SPACE, total), ROLL_TOTALS[total], row, touched, numTouched);
+                        } else {
+                            add(jailState(turnsLeft - 1), ROLL_TOTALS[total], row, touched, numTouched);
+                        }
+                    }
+                }
+            }
+            for (int i = 0; i < numTouched[0]; i++) { //Packs the row, clearing it for the next one
+                if (numValues == columns.length) {
+                    columns = Arrays.copyOf(columns, columns.length * 2);
+                    values = Arrays.copyOf(values, values.length * 2);
+                }
+                columns[numValues] = touched[i];
+                values[numValues] = row[touched[i]];
+                numValues++;
+                row[touched[i]] = 0;
+            }
+            numTouched[0] = 0;
+        }
+        rowStarts[numStates] = numValues;
+    }
+
+    /**
+     * Follows a Player from the Space they rolled onto to where their roll ends, adding the chance of each end to a row
+     *
+     * @param space      the Space the Player moved onto
+     * @param chance     the chance of getting there
+     * @param row        the row being built
+     * @param touched    the states the row has reached
+     * @param numTouched the number of states in touched
+     */
+    private void land(int space, double chance, double[] row, int[] touched, int[] numTouched) {
+        follow(space, false, chance, 0, row, touched, numTouched);
+    }
+
+    /**
+     * Handles a Space the same way Game does, following the Player for as long as the Spaces and Cards keep moving
+     * them. A Space's money and per house penalties and a Card's payments don't move anyone, so they're skipped
+     *
+     * @param space      the Space the Player is on
+     * @param jailed     whether or not the Player has been sent to jail
+     * @param chance     the chance of being here
+     * @param depth      the number of Spaces the roll has already chained through
+     * @param row        the row being built
+     * @param touched    the states the row has reached
+     * @param numTouched the number of states in touched
+     */
+    private void follow(int space, boolean jailed, double chance, int depth, double[] row, int[] touched,
+                        int[] numTouched) {
+        Space current = GAME_BOARD[space];
+        if (depth >= MAX_CHAIN || current.getPROPERTY() != null || current.getMONEY_PENALTY() != 0) {
+            end(space, jailed, chance, row, touched, numTouched);
+        } else if (current.getMOVEMENT_PENALTY() != 0) { //This follows the movement penalty itself, which is what the Space is meant to do
+            step(space, move(space, current.getMOVEMENT_PENALTY()), false, chance, depth, row, touched,
+                    numTouched);
+        } else if (current.getSPACE_PENALTY() != -1) {
+            step(space, current.getSPACE_PENALTY(), true, chance, depth, row, touched, numTouched);
+        } else if (current.getCOLOR_GROUP() != null) {
+            int target = BOARD_INDEX.nearestInGroup(BOARD_INDEX.getGroupId(current.getCOLOR_GROUP()), space);
+            step(space, target, true, chance, depth, row, touched, numTouched);
+        } else if (current.getPRICE_PER_HOUSE() == 0 && current.getDECK_USED() >= 0 &&
+                current.getDECK_USED() < DECKS.length && DECKS[current.getDECK_USED()].getNumCards() > 0) {
+            Deck deck = DECKS[current.getDECK_USED()];
+            double cardChance = chance / deck.getNumCards();
+            for (int i = 0; i < deck.getNumCards(); i++) {
+                Card card = deck.getDefaultCard(i);
+                if (card.getMONEY() != 0) {
+                    end(space, jailed, cardChance, row, touched, numTouched);
+                } else if (card.getMOVEMENT() != 0) {
+                    step(space, move(space, card.getMOVEMENT()), false, cardChance, depth, row, touched,
+                            numTouched);
+                } else if (card.getSPACE() != -1) {
+                    step(space, card.getSPACE(), true, cardChance, depth, row, touched, numTouched);
+                } else if (card.getCOLOR_GROUP() != null) {
+                    int target = BOARD_INDEX.nearestInGroup(BOARD_INDEX.getGroupId(card.getCOLOR_GROUP()), space);
+                    step(space, target, true, cardChance, depth, row, touched, numTouched);
+                } else {
+                    end(space, jailed, cardChance, row, touched, numTouched);
+                }
+            }
+        } else {
+            end(space, jailed, chance, row, touched, numTouched);
+        }
+    }
+
+    /**
+     * Moves the Player to another Space and keeps following them, unless they didn't actually move, in which case
+     * Game stops handling Spaces and so does this
+     *
+     * @param from       the Space the Player was on
+     * @param to         the Space the Player is sent to
+     * @param isSent     whether the Player was sent straight there rather than moved, which can send them to jail
+     * @param chance     the chance of this happening
+     * @param depth      the number of Spaces the roll has already chained through
+     * @param row        the row being built
+     * @param touched    the states the row has reached
+     * @param numTouched the number of states in touched
+     */
+    private void step(int from, int to, boolean isSent, double chance, int depth, double[] row,
+                      int[] touched, int[] numTouched) {
+        boolean nowJailed = isSent && to == JAIL_SPACE && TURNS_IN_JAIL > 0; //Only being sent to the jail jails a Player, and moving frees them
+        if (to == from) {
+            end(to, nowJailed, chance, row, touched, numTouched);
+        } else {
+            follow(to, nowJailed, chance, depth + 1, row, touched, numTouched);
+        }
+    }
+
+    /**
+     * Adds the chance of a roll ending somewhere to a row
+     *
+     * @param space      the Space the roll ends on
+     * @param jailed     whether or not the Player ends in jail
+     * @param chance     the chance of ending there
+     * @param row        the row being built
+     * @param touched    the states the row has reached
+     * @param numTouched the number of states in touched
+     */
+    private void end(int space, boolean jailed, double chance, double[] row, int[] touched, int[] numTouched) {
+        add(jailed ? jailState(TURNS_IN_JAIL) : space, chance, row, touched, numTouched);
+    }
+
+    /**
+     * Adds a chance to one state of a row
+     *
+     * @param state      the state
+     * @param chance     the chance to add
+     * @param row        the row being built
+     * @param touched    the states the row has reached
+     * @param numTouched the number of states in touched
+     */
+    private static void add(int state, double chance, double[] row, int[] touched, int[] numTouched) {
+        if (row[state] == 0) {
+            touched[numTouched[0]++] = state;
+        }
+        row[state] += chance;
+    }
+
+    /**
+     * Finds where a Player ends up after moving a number of Spaces, wrapping around the board
+     *
+     * @param space  the Space the Player starts on
+     * @param spaces the number of Spaces they move. Negative values move them backwards
+     * @return the Space they end on
+     */
+    private int move(int space, int spaces) {
+        return Math.floorMod(space + spaces, GAME_BOARD.length);
+    }
+
+    /**
+     * Gets the state of a Player in jail
+     *
+     * @param turnsLeft the number of turns the Player has left in jail. This should be between 1 and TURNS_IN_JAIL
+     * @return the state
+     */
+    private int jailState(int turnsLeft) {
+        return GAME_BOARD.length + turnsLeft - 1;
+    }
+
+    /**
+     * Finds the stationary distribution of the chain by power iteration, starting from every state being equally
+     * likely. Each step pushes every state's chance along its row, so the cost is the number of non-zero transitions
+     *
+     * @param stationary the Array the distribution is written to
+     * @return the number of iterations it took
+     */
+    private int solve(double[] stationary) {
+        double[] next = new double[stationary.length];
+        Arrays.fill(stationary, 1.0 / stationary.length);
+        for (int iteration = 1; iteration <= MAX_ITERATIONS; iteration++) {
+            Arrays.fill(next, 0);
+            for (int state = 0; state < stationary.length; state++) {
+                double chance = stationary[state];
+                if (chance != 0) {
+                    for (int i = rowStarts[state]; i < rowStarts[state + 1]; i++) {
+                        next[columns[i]] += chance * values[i];
+                    }
+                }
+            }
+            double change = 0;
+            double total = 0;
+            for (int state = 0; state < next.length; state++) {
+                total += next[state];
+            }
+            for (int state = 0; state < next.length; state++) { //Normalizing keeps rounding errors from adding up
+                next[state] /= total;
+                change += Math.abs(next[state] - stationary[state]);
+            }
+            System.arraycopy(next, 0, stationary, 0, next.length);
+            if (change < TOLERANCE) {
+                return iteration;
+            }
+        }
+        return MAX_ITERATIONS;
+    }
+
+    /**
+     * Gets the long run chance of a roll ending on a Space. Players in jail count as being on the jail
+     *
+     * @param space the index of the Space. This should be on the board
+     * @return the chance
+     * @throws IllegalArgumentException when an index that is off the board is passed
+     */
+    public double getProbability(int space) {
+        if (space >= 0 && space < GAME_BOARD.length) {
+            return space == JAIL_SPACE ? STATIONARY[space] + getInJailProbability() : STATIONARY[space];
+        } else {
+            throw new IllegalArgumentException("An invalid index was passed");
+        }
+    }
+
+    /**
+     * Gets the long run chance of a roll ending on each Space. Players in jail count as being on the jail
+     *
+     * @return the chances, indexed by Space
+     */
+    public double[] getProbabilities() {
+        double[] probabilities = new double[GAME_BOARD.length];
+        for (int space = 0; space < probabilities.length; space++) {
+            probabilities[space] = getProbability(space);
+        }
+        return probabilities;
+    }
+
+    /**
+     * Gets the long run chance of a roll ending with the Player in jail, rather than just visiting
+     *
+     * @return the chance
+     */
+    public double getInJailProbability() {
+        double chance = 0;
+        for (int state = GAME_BOARD.length; state < STATIONARY.length; state++) {
+            chance += STATIONARY[state];
+        }
+        return chance;
+    }
+
+    /**
+     * Gets the average roll total, which is what a dice multiplier rent is multiplied by on average
+     *
+     * @return the average roll total
+     */
+    public double getExpectedRoll() {
+        double expected = 0;
+        for (int total = 0; total < ROLL_TOTALS.length; total++) {
+            expected += total * (ROLL_TOTALS[total] + DOUBLES_TOTALS[total]);
+        }
+        return expected;
+    }
+
+    /**
+     * Gets the number of iterations the power iteration took to converge
+     *
+     * @return the number of iterations
+     */
+    public int getNUM_ITERATIONS() {
+        return NUM_ITERATIONS;
+    }
+
+    /**
+     * Gets the size of the board the chain was built for
+     *
+     * @return the board's size
+     */
+    public int getBOARD_SIZE() {
+        return GAME_BOARD.length;
+    }
+}
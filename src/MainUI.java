@@ -2,6 +2,8 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.io.IOException;
+import java.nio.file.Files;
 
 /**
  * The main UI component of the monopoly game
@@ -28,14 +30,18 @@ public class MainUI extends JFrame implements ActionListener {
         menu.add(menuGraphics, BorderLayout.CENTER);
 
         JPanel buttonPanel = new JPanel();
-        BUTTONS = new JButton[3];
+        BUTTONS = new JButton[4];
         BUTTONS[0] = new JButton("Start");
         BUTTONS[0].addActionListener(this);
         BUTTONS[1] = new JButton("Custom Board");
         BUTTONS[1].addActionListener(this);
         BUTTONS[2] = new JButton("Quit");
         BUTTONS[2].addActionListener(this);
+        BUTTONS[3] = new JButton("Continue");
+        BUTTONS[3].addActionListener(this);
+        BUTTONS[3].setEnabled(Files.exists(GameUI.getAUTOSAVE()));
         buttonPanel.add(BUTTONS[0]);
+        buttonPanel.add(BUTTONS[3]);
         buttonPanel.add(BUTTONS[1]);
         buttonPanel.add(BUTTONS[2]);
         menu.add(buttonPanel, BorderLayout.SOUTH);
@@ -165,6 +171,22 @@ public class MainUI extends JFrame implements ActionListener {
         CARD_LAYOUT.show(this.getContentPane(), "game ui");
     }
 
+    /**
+     * Sets up the autosaved Game with the Players it was saved with and shows it. Only Games on the default board
+     * can be continued, and the user is told if the autosave can't be loaded
+     */
+    public void continueGame() {
+        try {
+            SaveFile.Roster roster = SaveFile.readRoster(GameUI.getAUTOSAVE());
+            GameUI gameUI = new GameUI(roster.getNAMES(), roster.getTYPES(), roster.getCOLORS(), this, true);
+            gameUI.load(GameUI.getAUTOSAVE());
+            add(gameUI, "game ui");
+            CARD_LAYOUT.show(this.getContentPane(), "game ui");
+        } catch (IOException | IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(this, "The saved game couldn't be loaded: " + e.getMessage());
+        }
+    }
+
     /**
      * Returns the user to the menu
      */
@@ -185,6 +207,8 @@ public class MainUI extends JFrame implements ActionListener {
             CARD_LAYOUT.show(this.getContentPane(), "custom game creator");
         } else if (e.getSource() == BUTTONS[2]) {
             System.exit(0);
+        } else if (e.getSource() == BUTTONS[3]) {
+            continueGame();
         }
     }
 
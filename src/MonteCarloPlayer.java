@@ -0,0 +1,481 @@
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * Represents an AI Player that decides by playing the Game forward. For buying, bidding, building, mortgaging and
+ * accepting Trades, every choice is tried in many short rollouts, where a copy of the Game is put into the current
+ * position, the choice is made, and AI Players play out a number of turns. The choice whose rollouts leave this Player
+ * with the biggest share of the net worth on the board is picked. Every other prompt is answered by the AIPlayer
+ * heuristics, which are also kept whenever no choice does better than them
+ *
+ * @author irswr
+ */
+public class MonteCarloPlayer extends AIPlayer {
+    //MonteCarloPlayer constants
+    private static final RolloutScheduler SHARED_SCHEDULER = new RolloutScheduler(); //Runs the rollouts of MonteCarloPlayers that aren't given a RolloutScheduler
+    private final RolloutScheduler SCHEDULER; //Runs this Player's rollouts and records how long its decisions take
+    private final LongFunction<Game> ROLLOUT_FACTORY; //Makes Games from the same parts as this Player's Game, where every Player is an AI Player
+    private final int MAX_ROLLOUTS; //The most rollouts that are played for one decision
+    private final long MAX_NANOS; //The most time that is spent on one decision
+    private final int ROLLOUT_TURNS; //The number of turns each rollout plays before it is scored
+    private final ConcurrentLinkedQueue<Game> ROLLOUT_GAMES; //Stores the Games that aren't playing a rollout. More are made when every one is busy
+    private final AtomicLong NUM_ROLLOUT_GAMES; //Stores the number of rollout Games that have been made, which is used to seed them
+
+    //MonteCarloPlayer fields
+    private Game game; //Stores the Game this Player is in. This is set by the Game
+    private GameState root; //Stores the position each rollout starts from. This is made the first time a decision is searched
+
+    /**
+     * Constructor for MonteCarloPlayer
+     *
+     * @param name             the Player's name
+     * @param startingWallet   the Player's wallet
+     * @param startingPosition the Player's position
+     * @param boardSize        the board's size. This shouldn't be negative or less than startingPosition
+     * @param turnsJail        the number of turns the Player has left in jail
+     * @param jailPosition     the position of the jail on the board. This must be on the board
+     * @param salary           the salary the Player should be awarded for each turn
+     * @param numTurnsInJail   the number of turns the Player should be sent to jail for when they are sent there
+     * @param gameBoard        the game board. This is read-only for this Class
+     * @param colorGroups      the color groups on the game board. This is read-only for this Class
+     * @param color            this Player's color
+     * @param rolloutFactory   makes a Game from the same parts as this Player's Game with a given seed. Every Player in
+     *                         it should be an AI Player. This shouldn't be null
+     * @param maxRollouts      the most rollouts that should be played for one decision. This should be greater than 0
+     * @param maxMillis        the most milliseconds that should be spent on one decision. This should be greater than 0
+     * @param rolloutTurns     the number of turns each rollout should play. This should be greater than 0
+     * @param scheduler        runs the rollouts. This can be shared between Players, and shouldn't be null
+     * @throws IllegalArgumentException when the passed parameters are invalid
+     */
+    public MonteCarloPlayer(String name, int startingWallet, int startingPosition, int boardSize, int turnsJail,
+                            int jailPosition, int salary, int numTurnsInJail, Space[] gameBoard,
+                            String[] colorGroups, Color color, LongFunction<Game> rolloutFactory, int maxRollouts,
+                            long maxMillis, int rolloutTurns, RolloutScheduler scheduler) {
+        super(name, startingWallet, startingPosition, boardSize, turnsJail, jailPosition, salary, numTurnsInJail,
+                gameBoard, colorGroups, color);
+        if (rolloutFactory != null && maxRollouts > 0 && maxMillis > 0 && rolloutTurns > 0 && scheduler != null) {
+            ROLLOUT_FACTORY = rolloutFactory;
+            MAX_ROLLOUTS = maxRollouts;
+            MAX_NANOS = TimeUnit.MILLISECONDS.toNanos(maxMillis);
+            ROLLOUT_TURNS = rolloutTurns;
+            SCHEDULER = scheduler;
+            ROLLOUT_GAMES = new ConcurrentLinkedQueue<>();
+            NUM_ROLLOUT_GAMES = new AtomicLong();
+            game = null;
+            root = null;
+        } else {
+            throw new IllegalArgumentException("An invalid parameter was passed");
+        }
+    }
+
+    /**
+     * Constructor for a MonteCarloPlayer that shares a RolloutScheduler with every other MonteCarloPlayer made this
+     * way, which plays as many rollouts at once as there are processors
+     *
+     * @param name             the Player's name
+     * @param startingWallet   the Player's wallet
+     * @param startingPosition the Player's position
+     * @param boardSize        the board's size. This shouldn't be negative or less than startingPosition
+     * @param turnsJail        the number of turns the Player has left in jail
+     * @param jailPosition     the position of the jail on the board. This must be on the board
+     * @param salary           the salary the Player should be awarded for each turn
+     * @param numTurnsInJail   the number of turns the Player should be sent to jail for when they are sent there
+     * @param gameBoard        the game board. This is read-only for this Class
+     * @param colorGroups      the color groups on the game board. This is read-only for this Class
+     * @param color            this Player's color
+     * @param rolloutFactory   makes a Game from the same parts as this Player's Game with a given seed. Every Player in
+     *                         it should be an AI Player. This shouldn't be null
+     * @param maxRollouts      the most rollouts that should be played for one decision. This should be greater than 0
+     * @param maxMillis        the most milliseconds that should be spent on one decision. This should be greater than 0
+     * @param rolloutTurns     the number of turns each rollout should play. This should be greater than 0
+     * @throws IllegalArgumentException when the passed parameters are invalid
+     */
+    public MonteCarloPlayer(String name, int startingWallet, int startingPosition, int boardSize, int turnsJail,
+                            int jailPosition, int salary, int numTurnsInJail, Space[] gameBoard,
+                            String[] colorGroups, Color color, LongFunction<Game> rolloutFactory, int maxRollouts,
+                            long maxMillis, int rolloutTurns) {
+        this(name, startingWallet, startingPosition, boardSize, turnsJail, jailPosition, salary, numTurnsInJail,
+                gameBoard, colorGroups, color, rolloutFactory, maxRollouts, maxMillis, rolloutTurns, SHARED_SCHEDULER);
+    }
+
+    /**
+     * Prompts the Player if they would like to do something. Whether or not to buy a Property is searched, and
+     * everything else is left to the AIPlayer
+     *
+     * @param prompt      what the Player is being asked. This is all the AI reads to decide
+     * @param description the description that should be shown to the Player
+     * @param object      the object that is part of this prompt
+     * @return the Players decision
+     * @throws IllegalArgumentException when a null or invalid prompt is passed
+     */
+    @Override
+    public <T> boolean promptBoolean(PromptType prompt, String description, T object) {
+        boolean heuristic = super.promptBoolean(prompt, description, object); //This also validates the prompt
+        if (prompt == PromptType.BUY_PROPERTY && canSearch() && canAfford(((Property) object).getPRICE())) {
+            int space = ((Property) object).getIndex();
+            int price = ((Property) object).getPRICE();
+            int seat = findSeat();
+            Consumer<Game> buy = rollout -> {
+                Player self = rollout.getSEATS()[seat];
+                self.updateWallet(-price);
+                rollout.getGAME_BOARD()[space].getPROPERTY().setOwner(self);
+            };
+            Consumer<Game> pass = rollout -> {
+            }; //The auction that follows isn't played out, so the Property stays with the bank
+            List<Consumer<Game>> choices = new ArrayList<>();
+            choices.add(heuristic ? buy : pass);
+            choices.add(heuristic ? pass : buy);
+            return search(prompt, choices) == 0 ? heuristic : !heuristic;
+        }
+        return heuristic;
+    }
+
+    /**
+     * Prompts the Player for an integer value. Auction bids and whether or not to accept a Trade are searched, and
+     * everything else is left to the AIPlayer
+     *
+     * @param prompt      what the Player is being asked. This is all the AI reads to decide
+     * @param description the description that should be shown to the Player
+     * @param min         the minimum value that the Player should be able to enter. Should be equal to none for none
+     * @param max         the maximum value that the Player should be able to enter. Should be equal to none for none
+     * @param none        the value the Player should enter for none
+     * @param object      the object that is part of this prompt
+     * @return the integer that the Player decides on
+     * @throws IllegalArgumentException when a null or invalid prompt is passed
+     */
+    @Override
+    public <T> int promptInt(PromptType prompt, String description, int min, int max, int none, T object) {
+        int heuristic = super.promptInt(prompt, description, min, max, none, object); //This also validates the prompt
+        if (prompt == PromptType.AUCTION_BID && canSearch() && canAfford(min)) { //Winning at the lowest bid is weighed against dropping out
+            int space = ((Auction) object).getPROPERTY().getIndex();
+            int seat = findSeat();
+            boolean heuristicBids = heuristic != none;
+            Consumer<Game> win = rollout -> {
+                Player self = rollout.getSEATS()[seat];
+                self.updateWallet(-min);
+                rollout.getGAME_BOARD()[space].getPROPERTY().setOwner(self);
+            };
+            Consumer<Game> drop = rollout -> {
+            };
+            List<Consumer<Game>> choices = new ArrayList<>();
+            choices.add(heuristicBids ? win : drop);
+            choices.add(heuristicBids ? drop : win);
+            boolean bids = (search(prompt, choices) == 0) == heuristicBids;
+            if (bids) {
+                return heuristicBids ? heuristic : min;
+            } else {
+                return none;
+            }
+        } else if (prompt == PromptType.CONFIRM_TRADE && canSearch()) {
+            Consumer<Game> accept = tradeAction((Trade) object);
+            Consumer<Game> decline = rollout -> {
+            };
+            boolean heuristicAccepts = heuristic == max;
+            List<Consumer<Game>> choices = new ArrayList<>();
+            choices.add(heuristicAccepts ? accept : decline);
+            choices.add(heuristicAccepts ? decline : accept);
+            boolean accepts = (search(prompt, choices) == 0) == heuristicAccepts;
+            if (accepts) {
+                return max;
+            } else {
+                return heuristicAccepts ? none : heuristic;
+            }
+        }
+        return heuristic;
+    }
+
+    /**
+     * Prompts the Player to pick an Object out of the provided Array. Which Property to build on, mortgage or
+     * un-mortgage is searched, with not picking one as one of the choices, and everything else is left to the AIPlayer
+     *
+     * @param prompt      what the Player is being asked. This is all the AI reads to decide
+     * @param description the description that should be shown to the Player
+     * @param objects     the Array that the Player should pick from
+     * @param extra       an additional Object that may be provided
+     * @return the index of the chosen Object
+     */
+    @Override
+    public <T, S> int promptArray(PromptType prompt, String description, T[] objects, S extra) {
+        int heuristic = super.promptArray(prompt, description, objects, extra); //This also validates the prompt
+        if ((prompt == PromptType.BUILD || prompt == PromptType.MORTGAGE || prompt == PromptType.UN_MORTGAGE) &&
+                canSearch()) {
+            int seat = findSeat();
+            List<Consumer<Game>> choices = new ArrayList<>();
+            List<Integer> picks = new ArrayList<>(); //Stores the index in objects that each choice stands for
+            choices.add(propertyAction(prompt, heuristic < 0 ? null : (Property) objects[heuristic], seat));
+            picks.add(heuristic);
+            if (heuristic >= 0) { //Not picking anything is always a choice
+                choices.add(propertyAction(prompt, null, seat));
+                picks.add(-1);
+            }
+            for (int i = 0; i < objects.length; i++) {
+                Property property = (Property) objects[i];
+                if (i != heuristic && (prompt != PromptType.BUILD || canAfford(property.getBUILD_PRICE())) &&
+                        (prompt != PromptType.UN_MORTGAGE || canAfford(property.getUnMORTGAGE()))) {
+                    choices.add(propertyAction(prompt, property, seat));
+                    picks.add(i);
+                }
+            }
+            return picks.get(search(prompt, choices));
+        }
+        return heuristic;
+    }
+
+    /**
+     * Makes the change a building, mortgage or un-mortgage choice makes to a rollout Game
+     *
+     * @param prompt   what the Player is being asked
+     * @param property the Property that is picked, or null if none is picked
+     * @param seat     this Player's seat
+     * @return the change
+     */
+    private static Consumer<Game> propertyAction(PromptType prompt, Property property, int seat) {
+        if (property == null) {
+            return rollout -> {
+            };
+        }
+        int space = property.getIndex();
+        return rollout -> {
+            Player self = rollout.getSEATS()[seat];
+            Property copy = rollout.getGAME_BOARD()[space].getPROPERTY();
+            if (prompt == PromptType.BUILD) {
+                self.updateWallet(copy.buyHouse());
+            } else if (prompt == PromptType.MORTGAGE) {
+                self.updateWallet(copy.mortgage());
+            } else {
+                self.updateWallet(copy.unMortgage());
+            }
+        };
+    }
+
+    /**
+     * Makes the change accepting a Trade makes to a rollout Game. The Trade's Properties, Cards and Players are found
+     * in the rollout by their indexes, so the rollout never touches this Player's Game
+     *
+     * @param trade the Trade that would be accepted
+     * @return the change
+     */
+    private Consumer<Game> tradeAction(Trade trade) {
+        int sender = findSeat(trade.getSENDER());
+        int receiver = findSeat(trade.getRECEIVER());
+        int[] senderSpaces = trade.getSenderProperties().stream().mapToInt(Property::getIndex).toArray();
+        int[] receiverSpaces = trade.getReceiverProperties().stream().mapToInt(Property::getIndex).toArray();
+        int[][] senderCards = findCards(trade.getSenderCards());
+        int[][] receiverCards = findCards(trade.getReceiverCards());
+        int senderMoney = trade.getSenderMoney();
+        int receiverMoney = trade.getReceiverMoney();
+        return rollout -> {
+            Player[] seats = rollout.getSEATS();
+            Space[] board = rollout.getGAME_BOARD();
+            Deck[] decks = rollout.getDECKS();
+            for (int space : senderSpaces) {
+                board[space].getPROPERTY().setOwner(seats[receiver]);
+            }
+            for (int[] card : senderCards) {
+                decks[card[0]].getDefaultCard(card[1]).setOwner(seats[receiver]);
+            }
+            seats[sender].updateWallet(receiverMoney - senderMoney);
+            seats[receiver].updateWallet(senderMoney - receiverMoney);
+            for (int space : receiverSpaces) {
+                board[space].getPROPERTY().setOwner(seats[sender]);
+            }
+            for (int[] card : receiverCards) {
+                decks[card[0]].getDefaultCard(card[1]).setOwner(seats[sender]);
+            }
+        };
+    }
+
+    /**
+     * Finds where Cards are kept in this Player's Game
+     *
+     * @param cards the Cards to look for
+     * @return the index of each Card's Deck, followed by its index in that Deck
+     * @throws IllegalStateException when a Card isn't from any of the Game's Decks
+     */
+    private int[][] findCards(ArrayList<Card> cards) {
+        Deck[] decks = game.getDECKS();
+        int[][] found = new int[cards.size()][];
+        for (int i = 0; i < found.length; i++) {
+            for (int deck = 0; deck < decks.length && found[i] == null; deck++) {
+                for (int card = 0; card < decks[deck].getNumCards(); card++) {
+                    if (decks[deck].getDefaultCard(card) == cards.get(i)) {
+                        found[i] = new int[]{deck, card};
+                        break;
+                    }
+                }
+            }
+            if (found[i] == null) {
+                throw new IllegalStateException("A Card that isn't from the Game was traded");
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Picks the best of a set of choices. The RolloutScheduler plays the rollouts, each in a rollout Game that is put
+     * into the current position and has the choice made in it, and a rollout that runs out of time part way through
+     * isn't scored
+     *
+     * @param prompt  what the Player is being asked
+     * @param choices the changes each choice makes to a rollout Game. The first should be what the AIPlayer would
+     *                pick, as it wins ties
+     * @return the index of the best choice, which is the AIPlayer's pick when the rollouts can't be played or fail
+     */
+    private int search(PromptType prompt, List<Consumer<Game>> choices) {
+        if (root == null) {
+            root = game.newState();
+        }
+        game.snapshot(root);
+        for (int i = 0; i < root.getNUM_SEATS(); i++) {
+            if (root.isInGame(i) && root.getWallet(i) < 0) { //Someone is mid-bankruptcy, and no turn can be played until it's settled
+                return 0;
+            }
+        }
+        root.setTurn(root.getCurrentPlayer(), true); //Rollouts start with the next Player, as this one is mid-turn
+        try {
+            return rollOut(prompt, choices, findSeat());
+        } catch (RuntimeException e) { //Anything a rollout Game throws is this Player's problem, so it never reaches the real Game
+            return 0;
+        }
+    }
+
+    /**
+     * Plays the rollouts of a search from the root state
+     *
+     * @param prompt  what the Player is being asked
+     * @param choices the changes each choice makes to a rollout Game
+     * @param seat    this Player's seat
+     * @return the index of the best choice
+     * @throws IllegalStateException when a rollout fails
+     */
+    private int rollOut(PromptType prompt, List<Consumer<Game>> choices, int seat) {
+        return SCHEDULER.search(prompt, choices.size(), MAX_ROLLOUTS, MAX_NANOS, (choice, deadline) -> {
+            Game rollout = ROLLOUT_GAMES.poll();
+            if (rollout == null) {
+                rollout = ROLLOUT_FACTORY.apply(game.getSEED() + NUM_ROLLOUT_GAMES.incrementAndGet());
+            }
+            try {
+                rollout.restore(root);
+                choices.get(choice).accept(rollout);
+                for (int turn = 0; turn < ROLLOUT_TURNS && !rollout.isOver(); turn++) {
+                    if (System.nanoTime() >= deadline) {
+                        return Double.NaN;
+                    }
+                    rollout.doTurn();
+                }
+                return score(rollout, seat);
+            } finally {
+                ROLLOUT_GAMES.offer(rollout);
+            }
+        });
+    }
+
+    /**
+     * Scores how well a Player is doing in a rollout, as their share of the net worth of the Players left in it
+     *
+     * @param rollout the rollout Game
+     * @param seat    the Player's seat
+     * @return 0 if the Player has gone bankrupt, 1 if they've won, and their share of the net worth otherwise
+     */
+    private static double score(Game rollout, int seat) {
+        Player self = rollout.getSEATS()[seat];
+        double total = 0;
+        double own = -1;
+        for (Player player : rollout.getPLAYERS()) {
+            double netWorth = netWorth(rollout, player);
+            total += netWorth;
+            if (player == self) {
+                own = netWorth;
+            }
+        }
+        if (own < 0) { //If this is the case the Player has gone bankrupt
+            return 0;
+        }
+        return total > 0 ? own / total : 0;
+    }
+
+    /**
+     * Calculates what a Player is worth, counting their Properties at price, or at their mortgage if mortgaged, and
+     * their buildings at build price
+     *
+     * @param rollout the Game the Player is in
+     * @param player  the Player
+     * @return the Player's net worth. This is never negative
+     */
+    private static double netWorth(Game rollout, Player player) {
+        double netWorth = Math.max(player.getWallet(), 0);
+        BoardIndex index = rollout.getBOARD_INDEX();
+        BitSet slots = index.getOwnedSlots(player);
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            Property property = index.getSlotProperty(slot);
+            netWorth += property.isMortgaged() ? property.getMORTGAGE() :
+                    property.getPRICE() + property.getNumHouses() * property.getBUILD_PRICE();
+        }
+        return netWorth;
+    }
+
+    /**
+     * Gets whether or not this Player can search a decision, which they can only do once they've joined a Game
+     *
+     * @return whether or not the decision can be searched
+     */
+    private boolean canSearch() {
+        return game != null;
+    }
+
+    /**
+     * Finds this Player's seat in their Game
+     *
+     * @return the seat
+     */
+    private int findSeat() {
+        return findSeat(this);
+    }
+
+    /**
+     * Finds a Player's seat in this Player's Game
+     *
+     * @param player the Player to look for
+     * @return the seat
+     * @throws IllegalStateException when the Player isn't in the Game
+     */
+    private int findSeat(Player player) {
+        Player[] seats = game.getSEATS();
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (seats[seat] == player) {
+                return seat;
+            }
+        }
+        throw new IllegalStateException("The Player isn't in the Game");
+    }
+
+    /**
+     * Gets the RolloutScheduler that runs this Player's rollouts, which holds how long its decisions have taken
+     *
+     * @return the RolloutScheduler
+     */
+    public RolloutScheduler getSCHEDULER() {
+        return SCHEDULER;
+    }
+
+    /**
+     * Sets the Game this Player is in, which is what the rollouts start from. Games call this when they're made
+     *
+     * @param game the Game. This shouldn't be null
+     * @throws IllegalArgumentException when a null Game is passed
+     */
+    public void setGame(Game game) {
+        if (game != null) {
+            this.game = game;
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+}
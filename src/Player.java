@@ -14,9 +14,19 @@ public interface Player {
     int getTurnInJail();
 
     /**
-     * Moves the Player forward by spaces
+     * Takes one turn off of the Players jail sentence
+     */
+    void serveTurnInJail();
+
+    /**
+     * Releases the Player from jail, clearing whatever is left of their sentence
+     */
+    void releaseFromJail();
+
+    /**
+     * Moves the Player by spaces
      *
-     * @param spaces the number of spaces to move the Player forward by
+     * @param spaces the number of spaces to move the Player by. Negative values move the Player backwards
      */
     void move(int spaces);
 
@@ -24,16 +34,18 @@ public interface Player {
      * Prompts the Player if they would like to do something
      *
      * @param <T>         the type of the potential Object being passed
+     * @param prompt      what the Player is being asked
      * @param description the description that should be shown to the Player
      * @param object      the object that is part of this prompt
      * @return the Players decision whether or not to buy the card
      */
-    <T> boolean promptBoolean(String description, T object);
+    <T> boolean promptBoolean(PromptType prompt, String description, T object);
 
     /**
      * Prompts the Player for an integer value
      *
      * @param <T>         the type of the potential Object being passed
+     * @param prompt      what the Player is being asked
      * @param description the description that should be shown to the Player
      * @param min         the minimum value that the Player should be able to enter. Should be equal to none for none
      * @param max         the maximum value that the Player should be able to enter. Should be equal to none for none
@@ -41,18 +53,19 @@ public interface Player {
      * @param object      the object that is part of this prompt
      * @return the integer that the Player decides on
      */
-    <T> int promptInt(String description, int min, int max, int none, T object);
+    <T> int promptInt(PromptType prompt, String description, int min, int max, int none, T object);
 
     /**
      * Prompts the Player to pick an Object out of the provided Array
      *
      * @param <T>         the type of the Array
+     * @param prompt      what the Player is being asked
      * @param description the description that should be shown to the Player
      * @param objects     the Array that the Player should pick from
      * @param extra       an additional Object that may be provided
      * @return the index of the chosen Object
      */
-    <T, S> int promptArray(String description, T[] objects, S extra);
+    <T, S> int promptArray(PromptType prompt, String description, T[] objects, S extra);
 
     /**
      * Gets the Players name
@@ -77,7 +90,8 @@ public interface Player {
     int getWallet();
 
     /**
-     * Adds amount to the Players wallet. This also manages what happens when the Player has negative money
+     * Adds amount to the Players wallet. A charge can't take the wallet below 0, which only doBankruptcy can do, but
+     * a Player who is already in debt can always be paid, so they can sell their way out of it
      *
      * @param amount the amount to add to the Players wallet
      */
@@ -117,4 +131,14 @@ public interface Player {
      * @return the game board's size
      */
     int getBOARD_SIZE();
+
+    /**
+     * Puts the Player back into a saved state. Unlike the other methods this doesn't follow the rules, as it's only
+     * used to restore a GameState
+     *
+     * @param wallet      the Player's wallet
+     * @param position    the Player's position. This should be on the board
+     * @param turnsInJail the number of turns the Player has left in jail. This shouldn't be negative
+     */
+    void restoreState(int wallet, int position, int turnsInJail);
 }
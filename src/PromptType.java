@@ -0,0 +1,46 @@
+/**
+ * Identifies what a Player is being prompted for. Game passes one of these alongside the prompt's text, so AIPlayers
+ * can decide what to do without reading the text, while HumanPlayers are still shown the text. The constants are in
+ * the same order as the Game's prompts, so a PromptType's ordinal is the index of its text in the prompts Array
+ *
+ * @author irswr
+ */
+public enum PromptType {
+    USE_JAIL_CARD, //Whether the Player would like to use a get out of jail free Card
+    TRADE_FOR_JAIL_CARD, //Which Player the Player would like to Trade with for a get out of jail free Card
+    PAY_BAIL, //Whether the Player would like to pay their bail
+    JOIN_AUCTION, //Whether the Player would like to participate in an auction for a Property
+    BUY_PROPERTY, //Whether the Player would like to buy a Property
+    SELL_BUILDINGS, //Which Property the Player would like to sell a building from
+    MORTGAGE, //Which Property the Player would like to mortgage
+    UN_MORTGAGE, //Which Property the Player would like to un-mortgage
+    BUILD, //Which Property the Player would like to build on
+    SENDER_OFFER_PROPERTY, //Which Property the sender in a Trade should offer
+    SENDER_REMOVE_PROPERTY, //Which Property the sender in a Trade should stop offering
+    SENDER_OFFER_CARD, //Which Card the sender in a Trade should offer
+    SENDER_REMOVE_CARD, //Which Card the sender in a Trade should stop offering
+    SENDER_OFFER_MONEY, //How much more money the sender in a Trade should offer
+    SENDER_REMOVE_MONEY, //How much less money the sender in a Trade should offer
+    RECEIVER_OFFER_PROPERTY, //Which Property the receiver in a Trade should offer
+    RECEIVER_REMOVE_PROPERTY, //Which Property the receiver in a Trade should stop offering
+    RECEIVER_OFFER_CARD, //Which Card the receiver in a Trade should offer
+    RECEIVER_REMOVE_CARD, //Which Card the receiver in a Trade should stop offering
+    RECEIVER_OFFER_MONEY, //How much more money the receiver in a Trade should offer
+    RECEIVER_REMOVE_MONEY, //How much less money the receiver in a Trade should offer
+    CONFIRM_TRADE, //Whether the Player accepts, rejects or wants to keep negotiating a Trade
+    START_TRADE, //Which Player the Player would like to Trade with, and whether that Player will hear it out
+    BANKRUPT_SELL_BUILDINGS, //Which Property the Player would like to sell a building from to pay off their debt
+    BANKRUPT_MORTGAGE, //Which Property the Player would like to mortgage to pay off their debt
+    INHERIT_UN_MORTGAGE, //Whether the Player would like to un-mortgage a Property they inherit from a bankrupt Player
+    AUCTION_BID; //How much the Player would like to bid in an Auction
+
+    /**
+     * Gets the text of this prompt out of a Game's prompts
+     *
+     * @param prompts the Game's prompts. This should have a text for every PromptType
+     * @return the text of this prompt
+     */
+    public String getText(String[] prompts) {
+        return prompts[ordinal()];
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Answers the prompts of HumanPlayers on their behalf. A GameUI shows each prompt as a dialog, while a GameHost hands
+ * it to whoever is playing the seat and waits for their answer
+ *
+ * @author irswr
+ */
+public interface PromptView {
+    /**
+     * Asks a Player whether they would like to do something
+     *
+     * @param player      the Player being asked
+     * @param prompt      what the Player is being asked
+     * @param description the description that should be shown to the Player
+     * @param object      the object that is part of this prompt
+     * @return the Player's decision
+     */
+    <T> boolean promptBoolean(Player player, PromptType prompt, String description, T object);
+
+    /**
+     * Asks a Player for an integer value
+     *
+     * @param player      the Player being asked
+     * @param prompt      what the Player is being asked
+     * @param description the description that should be shown to the Player
+     * @param min         the minimum value that the Player should be able to enter
+     * @param max         the maximum value that the Player should be able to enter
+     * @param none        the value the Player should enter for none
+     * @param object      the object that is part of this prompt
+     * @return the integer that the Player decides on
+     */
+    <T> int promptInt(Player player, PromptType prompt, String description, int min, int max, int none, T object);
+
+    /**
+     * Asks a Player to pick an Object out of an Array
+     *
+     * @param player      the Player being asked
+     * @param prompt      what the Player is being asked
+     * @param description the description that should be shown to the Player
+     * @param objects     the Array that the Player should pick from
+     * @param extra       an additional Object that may be provided
+     * @return the index of the chosen Object, or -1 for none
+     */
+    <T, S> int promptArray(Player player, PromptType prompt, String description, T[] objects, S extra);
+}
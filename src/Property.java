@@ -21,6 +21,9 @@ public class Property {
     private int numHouses; //Stores the number of houses on this Property
     private Player owner; //Stores the Player who owns this Property. This can be null
     private boolean isMortgaged; //Stores whether this Property is mortgaged
+    private BoardIndex boardIndex; //Stores the index that is told whenever this Property changes. This can be null
+    private int colorGroupId; //Stores the id of this Property's color group in boardIndex
+    private int index; //Stores the index of this Property's Space on the board. This is -1 until it is placed on a board
 
     /**
      * Constructor for Property. Validates the conditions outlined here
@@ -65,6 +68,9 @@ public class Property {
             isMortgaged = mortgaged;
             owner = propertyOwner;
             NAME = name;
+            boardIndex = null;
+            colorGroupId = -1;
+            index = -1;
         } else {
             throw new IllegalArgumentException("An invalid parameter was passed");
         }
@@ -96,7 +102,9 @@ public class Property {
      */
     public void setOwner(Player newOwner) {
         if (canSell()) {
+            Player oldOwner = owner;
             owner = newOwner;
+            ownerChanged(oldOwner);
         } else {
             throw new IllegalStateException("Cannot sell this Property");
         }
@@ -249,12 +257,13 @@ public class Property {
     }
 
     /**
-     * Gets the price of un-mortgaging this Property
+     * Gets the price of un-mortgaging this Property, which is the mortgage plus its interest. This is what unMortgage
+     * charges
      *
      * @return the price of un-mortgaging this Property
      */
     public int getUnMORTGAGE() {
-        return (int) Math.round(MORTGAGE * MORTGAGE_PERCENT);
+        return (int) Math.round(MORTGAGE * (1 + MORTGAGE_PERCENT));
     }
 
     /**
@@ -275,6 +284,7 @@ public class Property {
     public int buyHouse() {
         if (canBuild() && validateProperty() && owner != null && owner.canAfford(BUILD_PRICE)) {
             numHouses++;
+            housesChanged(numHouses - 1);
             return -BUILD_PRICE;
         } else {
             throw new IllegalStateException("Property is in an illegal state for construction");
@@ -290,6 +300,7 @@ public class Property {
     public int sellHouse() {
         if (numHouses > 0 && validateProperty()) {
             numHouses--;
+            housesChanged(numHouses + 1);
             return BUILD_PRICE / 2;
         } else {
             throw new IllegalStateException("Property is in an illegal state for construction removal");
@@ -305,6 +316,7 @@ public class Property {
     public int mortgage() {
         if (canSell() && validateProperty() && owner != null) {
             isMortgaged = true;
+            markChanged();
             return MORTGAGE;
         } else {
             throw new IllegalStateException("Property is in an un-mortgageable state");
@@ -313,19 +325,25 @@ public class Property {
 
     /**
      * Transfers a mortgaged Property to a new owner. This bypasses the standard requirements that prevent a mortgaged
-     * Property from being transferred. The new Player should've already been charged for interest, if applicable
+     * Property from being transferred. The new Player should've already been charged for interest, if applicable. A
+     * null Player hands the Property back to the bank, un-mortgaged and with no owner, so it can be auctioned
      *
-     * @param player the new owner of the Property. This can be null
-     * @return the value that the new owner owes, if applicable
+     * @param player the new owner of the Property. This can be null for the bank
+     * @return the value that the new owner owes, if applicable. The bank owes nothing
      * @throws IllegalStateException when the owner isn't bankrupt or the Property is in an illegal state
      */
     public int bankruptTransfer(Player player) {
         if (owner.getWallet() < 0 && validateProperty() && isMortgaged) {
-            if (player == null) {
+            if (player == null) { //If this is the case the Property is going back to the bank
+                Player oldOwner = owner;
                 isMortgaged = false;
+                owner = null;
+                ownerChanged(oldOwner);
                 return 0;
             }
+            Player oldOwner = owner;
             owner = player;
+            ownerChanged(oldOwner);
             return (int) Math.round((MORTGAGE * MORTGAGE_PERCENT));
         } else {
             throw new IllegalStateException("Owner isn't bankrupt or the Property is in an illegal state");
@@ -341,12 +359,106 @@ public class Property {
     public int unMortgage() {
         if (isMortgaged && validateProperty()) {
             isMortgaged = false;
-            return (int) Math.round((-MORTGAGE * (1 + MORTGAGE_PERCENT)));
+            markChanged();
+            return -getUnMORTGAGE();
         } else {
             throw new IllegalStateException("Property is in an un-un-mortgageable state");
         }
     }
 
+    /**
+     * Puts this Property back into a saved state. Unlike the other methods this doesn't follow the rules, as it's
+     * only used to restore a GameState. The attached index is told about every change, so rents are recalculated
+     *
+     * @param newOwner  the Property's owner. This can be null
+     * @param houses    the number of houses on the Property. This should be between 0 and MAX_HOUSES
+     * @param mortgaged whether or not the Property is mortgaged
+     * @throws IllegalArgumentException when an invalid number of houses is passed
+     */
+    public void restoreState(Player newOwner, int houses, boolean mortgaged) {
+        if (houses >= 0 && houses <= MAX_HOUSES) {
+            int oldHouses = numHouses;
+            if (newOwner != owner) { //The old owner's buildings are taken away before the Property changes hands
+                Player oldOwner = owner;
+                numHouses = 0;
+                housesChanged(oldHouses);
+                owner = newOwner;
+                ownerChanged(oldOwner);
+                oldHouses = 0;
+            }
+            if (houses != oldHouses) {
+                numHouses = houses;
+                housesChanged(oldHouses);
+            }
+            if (mortgaged != isMortgaged) {
+                isMortgaged = mortgaged;
+                markChanged();
+            }
+        } else {
+            throw new IllegalArgumentException("An invalid number of houses was passed");
+        }
+    }
+
+    /**
+     * Sets the index that should be told whenever this Property's owner, mortgage or houses change
+     *
+     * @param boardIndex   the index to tell. This can be null to stop telling an index
+     * @param colorGroupId the id of this Property's color group in boardIndex
+     */
+    public void setBoardIndex(BoardIndex boardIndex, int colorGroupId) {
+        this.boardIndex = boardIndex;
+        this.colorGroupId = colorGroupId;
+    }
+
+    /**
+     * Gets the index of this Property's Space on the board
+     *
+     * @return the index, or -1 if this Property hasn't been placed on a board
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Places this Property at an index on the board. This should only be called by its Space
+     *
+     * @param index the index of this Property's Space on the board
+     */
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Marks this Property's color group as changed in the attached index, if there is one
+     */
+    private void markChanged() {
+        if (boardIndex != null) {
+            boardIndex.markDirty(colorGroupId);
+        }
+    }
+
+    /**
+     * Tells the attached index, if there is one, that this Property has a new owner
+     *
+     * @param oldOwner the Player who owned this Property before. This can be null
+     */
+    private void ownerChanged(Player oldOwner) {
+        if (boardIndex != null) {
+            boardIndex.ownerChanged(index, oldOwner, owner);
+        }
+    }
+
+    /**
+     * Tells the attached index, if there is one, that the number of houses on this Property has changed
+     *
+     * @param oldHouses the number of houses on this Property before the change
+     */
+    private void housesChanged(int oldHouses) {
+        if (boardIndex != null) {
+            boardIndex.housesChanged(index, owner, oldHouses);
+        }
+    }
+
     /**
      * Gets this Properties name
      *
@@ -0,0 +1,211 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Works out how much rent each Property can be expected to bring in. Every entry of a Property's RENTS table is
+ * weighted by how often opponents land on it, so the tables are built once per board, and reading the current or a
+ * potential expected rent is a lookup. The current rent comes from the Property itself, which Game keeps up to date as
+ * owners and houses change, so nothing here has to be recalculated during a Game. Nothing here reads a Game's state
+ * either, so every Game made from the same parts shares one RentAnalytics
+ *
+ * @author irswr
+ */
+public class RentAnalytics {
+    //RentAnalytics constants
+    private static final double MIN_WEIGHT = .5; //The lowest income weight a Property can be given, so a bad landing spot never makes a Property worthless
+    private static final double MAX_WEIGHT = 2.0; //The highest income weight a Property can be given
+    private static final int MAX_CACHED_BOARDS = 16; //The most boards whose analytics are kept at once
+    private static final Map<Long, RentAnalytics> CACHE = new ConcurrentHashMap<>(); //Stores the analytics of each board, by its key
+    private final double[] LANDING; //Stores the chance of a roll ending on each Space
+    private final double[] DICE_FACTORS; //Stores what each Space's rents are multiplied by, which is the average roll for dice multipliers and 1 otherwise
+    private final double[][] EXPECTED_RENTS; //Stores each Space's RENTS, weighted by LANDING and DICE_FACTORS. This is null for Spaces without a Property
+    private final double[] INCOME_WEIGHTS; //Stores how each Space's color group's expected income for its price compares to the board's average
+
+    /**
+     * Constructor for RentAnalytics
+     *
+     * @param gameBoard  the game board. This shouldn't be null
+     * @param boardIndex the index of the game board's color groups. This shouldn't be null
+     * @param landing    the landing probabilities for the same board. This shouldn't be null
+     * @throws IllegalArgumentException when a null or mismatched parameter is passed
+     */
+    public RentAnalytics(Space[] gameBoard, BoardIndex boardIndex, LandingProbabilities landing) {
+        if (gameBoard != null && boardIndex != null && landing != null && landing.getBOARD_SIZE() == gameBoard.length) {
+            LANDING = landing.getProbabilities();
+            DICE_FACTORS = new double[gameBoard.length];
+            EXPECTED_RENTS = new double[gameBoard.length][];
+            double expectedRoll = landing.getExpectedRoll();
+            for (int space = 0; space < gameBoard.length; space++) {
+                Property property = gameBoard[space].getPROPERTY();
+                if (property != null) {
+                    DICE_FACTORS[space] = property.IS_DICE_MULTIPLIER() ? expectedRoll : 1;
+                    int[] rents = property.getRENTS();
+                    EXPECTED_RENTS[space] = new double[rents.length];
+                    for (int i = 0; i < rents.length; i++) {
+                        EXPECTED_RENTS[space][i] = LANDING[space] * rents[i] * DICE_FACTORS[space];
+                    }
+                }
+            }
+
+            double[] groupYields = new double[boardIndex.getNumGroups()]; //Stores each group's expected income when one Player owns all of it, for every dollar it costs
+            double totalYield = 0;
+            int numYields = 0;
+            for (int group = 0; group < groupYields.length; group++) {
+                int[] slots = boardIndex.getGroupSlots(group);
+                double income = 0;
+                double price = 0;
+                for (int slot : slots) {
+                    income += getFullGroupRent(gameBoard[slot].getPROPERTY(), EXPECTED_RENTS[slot], slots.length);
+                    price += gameBoard[slot].getPROPERTY().getPRICE();
+                }
+                if (slots.length > 0 && price > 0) {
+                    groupYields[group] = income / price;
+                    totalYield += groupYields[group];
+                    numYields++;
+                }
+            }
+            double averageYield = numYields > 0 ? totalYield / numYields : 0;
+            INCOME_WEIGHTS = new double[gameBoard.length];
+            for (int space = 0; space < gameBoard.length; space++) {
+                if (EXPECTED_RENTS[space] != null && averageYield > 0) {
+                    double weight = groupYields[boardIndex.getSpaceGroup(space)] / averageYield;
+                    INCOME_WEIGHTS[space] = Math.max(MIN_WEIGHT, Math.min(MAX_WEIGHT, weight));
+                } else {
+                    INCOME_WEIGHTS[space] = 1;
+                }
+            }
+        } else {
+            throw new IllegalArgumentException("A null or mismatched parameter was passed");
+        }
+    }
+
+    /**
+     * Gets the analytics for a Game's board. They're only built the first time a board is seen, and Games made from
+     * the same parts, such as rollout Games, are given the same analytics
+     *
+     * @param game        the Game. This shouldn't be null
+     * @param turnsInJail the number of turns the Game's Players are sent to jail for. This shouldn't be negative
+     * @return the analytics
+     * @throws IllegalArgumentException when a null or invalid parameter is passed
+     */
+    public static RentAnalytics of(Game game, int turnsInJail) {
+        if (game != null) {
+            long key = keyOf(game, turnsInJail);
+            RentAnalytics analytics = CACHE.get(key);
+            if (analytics == null) {
+                analytics = new RentAnalytics(game.getGAME_BOARD(), game.getBOARD_INDEX(),
+                        LandingProbabilities.of(game, turnsInJail, false));
+                if (CACHE.size() >= MAX_CACHED_BOARDS) { //Boards are rarely changed, so the oldest aren't worth tracking
+                    CACHE.clear();
+                }
+                RentAnalytics cached = CACHE.putIfAbsent(key, analytics);
+                if (cached != null) {
+                    analytics = cached;
+                }
+            }
+            return analytics;
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Hashes everything about a Game that its analytics depend on: its board and Decks, how its Properties are
+     * grouped and charged, its Dice, and its jail
+     *
+     * @param game        the Game
+     * @param turnsInJail the number of turns the Game's Players are sent to jail for
+     * @return the key
+     */
+    private static long keyOf(Game game, int turnsInJail) {
+        long key = SaveFile.fingerprint(game.getGAME_BOARD(), game.getDECKS());
+        for (Space space : game.getGAME_BOARD()) {
+            Property property = space.getPROPERTY();
+            if (property != null) {
+                key = 31 * key + property.getCOLOR_GROUP().hashCode();
+                key = 31 * key + (property.IS_SCALED() ? 1 : 0) + (property.IS_DICE_MULTIPLIER() ? 2 : 0);
+            }
+        }
+        for (Dice die : game.getDICE()) {
+            key = 31 * key + die.getNUM_SIDES();
+        }
+        return 31 * (31 * key + game.getJAIL_SPACE()) + turnsInJail;
+    }
+
+    /**
+     * Gets the expected rent of a Property when one Player owns its whole color group and hasn't built on it
+     *
+     * @param property  the Property
+     * @param rents     the Property's expected rents
+     * @param groupSize the number of Properties in the color group
+     * @return the expected rent per opponent roll
+     */
+    private static double getFullGroupRent(Property property, double[] rents, int groupSize) {
+        if (property.IS_SCALED()) {
+            return rents[Math.min(groupSize, rents.length) - 1];
+        } else {
+            return rents[Math.min(1, rents.length - 1)];
+        }
+    }
+
+    /**
+     * Gets the rent a Property is expected to bring in each time an opponent rolls, at its current rent
+     *
+     * @param property the Property. This should be on a board made from the same parts as these analytics'
+     * @return the expected rent
+     */
+    public double getExpectedRent(Property property) {
+        return LANDING[property.getIndex()] * property.getRent() * DICE_FACTORS[property.getIndex()];
+    }
+
+    /**
+     * Gets the rent a Property is expected to bring in each time an opponent rolls, at one of the entries of its RENTS
+     * table. For scaled Properties the entry is the number of Properties owned in the group minus one, and for others
+     * it's 0 without a monopoly and the number of houses plus one with one
+     *
+     * @param space the index of the Property's Space. This should be on the board
+     * @param entry the entry of the RENTS table
+     * @return the expected rent, or 0 if the Space doesn't have a Property or the entry is off the table
+     */
+    public double getExpectedRent(int space, int entry) {
+        double[] rents = EXPECTED_RENTS[space];
+        return rents != null && entry >= 0 && entry < rents.length ? rents[entry] : 0;
+    }
+
+    /**
+     * Gets how much more rent building one more house on a Property is expected to bring in each time an opponent
+     * rolls, for every dollar the house costs
+     *
+     * @param property the Property. This should be on a board made from the same parts as these analytics'
+     * @return the return on the next house, or 0 if a house can't be added to the Property's rent
+     */
+    public double getHouseReturn(Property property) {
+        int space = property.getIndex();
+        if (!property.IS_SCALED() && property.canBuild() && property.getBUILD_PRICE() > 0) {
+            int entry = property.getNumHouses() + 1; //This is the entry the Property's rent comes from once it has a monopoly
+            return (getExpectedRent(space, entry + 1) - getExpectedRent(space, entry)) / property.getBUILD_PRICE();
+        }
+        return 0;
+    }
+
+    /**
+     * Gets how a Property's color group's expected income for its price compares to the rest of the board's. A weight
+     * of 1 is average, and weights are kept between MIN_WEIGHT and MAX_WEIGHT
+     *
+     * @param space the index of the Property's Space. This should be on the board
+     * @return the weight, or 1 if the Space doesn't have a Property
+     */
+    public double getIncomeWeight(int space) {
+        return INCOME_WEIGHTS[space];
+    }
+
+    /**
+     * Gets the chance of a roll ending on a Space that these analytics were built with
+     *
+     * @param space the index of the Space. This should be on the board
+     * @return the chance
+     */
+    public double getLandingProbability(int space) {
+        return LANDING[space];
+    }
+}
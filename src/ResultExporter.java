@@ -0,0 +1,448 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams the results of a simulation to files as it runs: one row per Game, and one row per turn with every seat's
+ * wallet, position, Properties, buildings and rent. Each simulation worker fills chunks through its own Writer, and a
+ * single thread writes full chunks out. There's a fixed pool of chunks, so a worker that gets ahead of the disk waits
+ * for a chunk to come back, and a simulation of any number of Games uses the same memory
+ *
+ * @author irswr
+ */
+public class ResultExporter implements Closeable {
+    //ResultExporter constants
+    private static final int MAGIC = 0x4D4F5258; //The first four bytes of every binary file, which are "MORX"
+    private static final short VERSION = 1; //The version of the binary format. Raise this when the format changes
+    private static final int MIN_CHUNK_BYTES = 1 << 16; //The smallest chunk rows are gathered in
+    private static final int CHUNKS_PER_WRITER = 4; //The number of chunks in the pool for each Writer. Each Writer holds at most 2, so the rest can be in flight
+    private static final int MAX_DIGITS = 20; //The most characters a long takes in a CSV, including its sign
+    private final Format FORMAT; //Stores the format the files are written in
+    private final int NUM_SEATS; //Stores the number of seats in each Game
+    private final int BOARD_SIZE; //Stores the number of Spaces on each Game's board
+    private final int MAX_WRITERS; //Stores the most Writers that can be open at once
+    private final int MAX_ROW_BYTES; //Stores the most bytes a row can take
+    private final FileChannel GAMES; //Stores the channel the Game rows are written to
+    private final FileChannel TURNS; //Stores the channel the turn rows are written to
+    private final ArrayBlockingQueue<Chunk> FREE; //Stores the chunks that are ready to be filled
+    private final ArrayBlockingQueue<Chunk> FULL; //Stores the chunks that are waiting to be written
+    private final Chunk END; //Stores the chunk that tells the writing thread to stop
+    private final Thread WRITER_THREAD; //Stores the thread that writes the full chunks
+    private final AtomicInteger NUM_WRITERS; //Stores the number of Writers that have been made
+
+    //ResultExporter fields
+    private volatile IOException failure; //Stores why writing the files failed. Once this is set nothing else is written
+
+    /**
+     * The formats results can be exported in
+     */
+    public enum Format {
+        CSV, //Text with a header row and one row per line
+        BINARY //Big-endian rows of fixed width after a short header, which is smaller and faster to read back
+    }
+
+    /**
+     * A buffer of rows for one of the files
+     */
+    private static class Chunk {
+        //Chunk constants
+        private final ByteBuffer BUFFER; //Stores the rows
+
+        //Chunk fields
+        private FileChannel channel; //Stores the channel the rows are written to
+
+        /**
+         * Constructor for Chunk
+         *
+         * @param numBytes the size of the buffer
+         */
+        private Chunk(int numBytes) {
+            BUFFER = ByteBuffer.allocateDirect(numBytes);
+        }
+    }
+
+    /**
+     * Adds the rows of one simulation worker. A Writer should only be used by one thread, and should be finished
+     * before the ResultExporter is closed
+     */
+    public class Writer {
+        //Writer constants
+        private final byte[] DIGITS; //Stores the characters of the number being written to a CSV
+
+        //Writer fields
+        private Chunk games; //Stores the chunk being filled with Game rows. This is null until there is a row
+        private Chunk turns; //Stores the chunk being filled with turn rows. This is null until there is a row
+
+        /**
+         * Constructor for Writer
+         */
+        private Writer() {
+            DIGITS = new byte[MAX_DIGITS];
+        }
+
+        /**
+         * Adds a row for a turn that was just played. Every seat's wallet, position, number of Properties, houses,
+         * hotels, rent paid and rent received are written, in seat order
+         *
+         * @param game the Game. This should have NUM_SEATS seats
+         * @param seed the Game's seed
+         * @param turn the number of turns that have been played
+         * @throws IllegalArgumentException when a null or mismatched Game is passed
+         * @throws IllegalStateException    when the files can't be written
+         */
+        public void addTurn(Game game, long seed, int turn) {
+            if (game != null && game.getSEATS().length == NUM_SEATS) {
+                turns = reserve(turns, TURNS);
+                ByteBuffer row = turns.BUFFER;
+                Player[] seats = game.getSEATS();
+                BoardIndex boardIndex = game.getBOARD_INDEX();
+                putLong(row, seed, true);
+                putLong(row, turn, false);
+                for (int seat = 0; seat < NUM_SEATS; seat++) {
+                    BitSet owned = boardIndex.getOwnedSlots(seats[seat]);
+                    putInt(row, seats[seat].getWallet());
+                    putInt(row, seats[seat].getPosition());
+                    putInt(row, owned.cardinality());
+                    putInt(row, boardIndex.getNumHouses(seats[seat]));
+                    putInt(row, boardIndex.getNumHotels(seats[seat]));
+                    putLong(row, game.getRentPaid(seat), false);
+                    putLong(row, game.getRentReceived(seat), false);
+                }
+                endRow(row);
+            } else {
+                throw new IllegalArgumentException("A null or mismatched Game was passed");
+            }
+        }
+
+        /**
+         * Adds a row for a Game that's over: its seed, winner, number of turns, bankruptcies in order, and the owner
+         * of every Space
+         *
+         * @param result the Game's result. This should have BOARD_SIZE owners
+         * @throws IllegalArgumentException when a null or mismatched result is passed
+         * @throws IllegalStateException    when the files can't be written
+         */
+        public void addGame(GameResult result) {
+            int[] owners = result != null ? result.getOWNERS() : null;
+            if (owners != null && owners.length == BOARD_SIZE) {
+                games = reserve(games, GAMES);
+                ByteBuffer row = games.BUFFER;
+                putLong(row, result.getSEED(), true);
+                putLong(row, result.getWINNER(), false);
+                putLong(row, result.getNUM_TURNS(), false);
+                int[] bankruptcies = result.getBANKRUPTCIES();
+                if (FORMAT == Format.CSV) { //The bankruptcies share one column, as there are a different number each Game
+                    row.put((byte) ',');
+                    for (int i = 0; i < bankruptcies.length; i++) {
+                        if (i > 0) {
+                            row.put((byte) ';');
+                        }
+                        putDigits(row, bankruptcies[i]);
+                    }
+                } else {
+                    for (int i = 0; i < NUM_SEATS; i++) {
+                        row.put((byte) (i < bankruptcies.length ? bankruptcies[i] : -1));
+                    }
+                }
+                for (int owner : owners) {
+                    if (FORMAT == Format.CSV) {
+                        putLong(row, owner, false);
+                    } else {
+                        row.put((byte) owner);
+                    }
+                }
+                endRow(row);
+            } else {
+                throw new IllegalArgumentException("A null or mismatched result was passed");
+            }
+        }
+
+        /**
+         * Hands this Writer's chunks to be written. The Writer shouldn't be used after this
+         *
+         * @throws IllegalStateException when the files can't be written
+         */
+        public void finish() {
+            if (games != null) {
+                submit(games);
+                games = null;
+            }
+            if (turns != null) {
+                submit(turns);
+                turns = null;
+            }
+        }
+
+        /**
+         * Makes sure a chunk has room for another row, handing it to be written and taking another if it doesn't
+         *
+         * @param chunk   the chunk. This can be null if the Writer doesn't have one yet
+         * @param channel the channel the chunk's rows are written to
+         * @return the chunk the row should go in
+         * @throws IllegalStateException when the files can't be written
+         */
+        private Chunk reserve(Chunk chunk, FileChannel channel) {
+            if (chunk != null && chunk.BUFFER.remaining() >= MAX_ROW_BYTES) {
+                return chunk;
+            }
+            if (chunk != null) {
+                submit(chunk);
+            }
+            try {
+                Chunk result = FREE.take(); //This waits for the writing thread when every chunk is full or in use
+                result.channel = channel;
+                return result;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Exporting was interrupted", e);
+            }
+        }
+
+        /**
+         * Writes a long as the first or a later column of a row
+         *
+         * @param row   the row
+         * @param value the value
+         * @param first whether or not this is the row's first column
+         */
+        private void putLong(ByteBuffer row, long value, boolean first) {
+            if (FORMAT == Format.CSV) {
+                if (!first) {
+                    row.put((byte) ',');
+                }
+                putDigits(row, value);
+            } else if (first) {
+                row.putLong(value);
+            } else {
+                row.putInt((int) value);
+            }
+        }
+
+        /**
+         * Writes an int as a later column of a row
+         *
+         * @param row   the row
+         * @param value the value
+         */
+        private void putInt(ByteBuffer row, int value) {
+            putLong(row, value, false);
+        }
+
+        /**
+         * Writes the characters of a long without allocating
+         *
+         * @param row   the row
+         * @param value the value
+         */
+        private void putDigits(ByteBuffer row, long value) {
+            int start = MAX_DIGITS;
+            long remaining = value > 0 ? -value : value; //This works in negatives, so Long.MIN_VALUE can be written
+            do {
+                DIGITS[--start] = (byte) ('0' - remaining % 10);
+                remaining /= 10;
+            } while (remaining != 0);
+            if (value < 0) {
+                DIGITS[--start] = '-';
+            }
+            row.put(DIGITS, start, MAX_DIGITS - start);
+        }
+
+        /**
+         * Ends a row
+         *
+         * @param row the row
+         */
+        private void endRow(ByteBuffer row) {
+            if (FORMAT == Format.CSV) {
+                row.put((byte) '\n');
+            }
+        }
+    }
+
+    /**
+     * Constructor for ResultExporter. This makes games.csv and turns.csv, or games.bin and turns.bin, in the
+     * directory, replacing any that are there
+     *
+     * @param directory  the directory the files should be written to, which is made if it doesn't exist. This
+     *                   shouldn't be null
+     * @param format     the format the files should be written in. This shouldn't be null
+     * @param numSeats   the number of seats in each Game. This should be between 1 and Byte.MAX_VALUE
+     * @param boardSize  the number of Spaces on each Game's board. This should be greater than 0
+     * @param maxWriters the most Writers that will be open at once, which is usually the number of workers. This
+     *                   should be greater than 0
+     * @throws IOException              when the files can't be opened
+     * @throws IllegalArgumentException when a null or invalid parameter is passed
+     */
+    public ResultExporter(Path directory, Format format, int numSeats, int boardSize, int maxWriters)
+            throws IOException {
+        if (directory != null && format != null && numSeats > 0 && numSeats <= Byte.MAX_VALUE && boardSize > 0 &&
+                maxWriters > 0) {
+            FORMAT = format;
+            NUM_SEATS = numSeats;
+            BOARD_SIZE = boardSize;
+            MAX_WRITERS = maxWriters;
+            MAX_ROW_BYTES = (MAX_DIGITS + 1) * (3 + 7 * numSeats + boardSize) + 1;
+            int chunkBytes = Math.max(MIN_CHUNK_BYTES, 2 * MAX_ROW_BYTES);
+            FREE = new ArrayBlockingQueue<>(CHUNKS_PER_WRITER * maxWriters);
+            for (int i = 0; i < CHUNKS_PER_WRITER * maxWriters; i++) {
+                FREE.add(new Chunk(chunkBytes));
+            }
+            FULL = new ArrayBlockingQueue<>(CHUNKS_PER_WRITER * maxWriters + 1);
+            END = new Chunk(0);
+            NUM_WRITERS = new AtomicInteger(0);
+
+            Files.createDirectories(directory);
+            String extension = format == Format.CSV ? ".csv" : ".bin";
+            GAMES = FileChannel.open(directory.resolve("games" + extension), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            try {
+                TURNS = FileChannel.open(directory.resolve("turns" + extension), StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            } catch (IOException e) {
+                GAMES.close();
+                throw e;
+            }
+            try {
+                writeHeaders();
+            } catch (IOException e) {
+                GAMES.close();
+                TURNS.close();
+                throw e;
+            }
+            WRITER_THREAD = new Thread(this::drain, "Result exporter");
+            WRITER_THREAD.setDaemon(true);
+            WRITER_THREAD.start();
+        } else {
+            throw new IllegalArgumentException("A null or invalid parameter was passed");
+        }
+    }
+
+    /**
+     * Writes the header of each file. CSVs get a row of column names, and binary files get a magic number, version,
+     * which file they are and the sizes their rows depend on
+     *
+     * @throws IOException when the headers can't be written
+     */
+    private void writeHeaders() throws IOException {
+        if (FORMAT == Format.CSV) {
+            StringBuilder games = new StringBuilder("seed,winner,turns,bankruptcies");
+            for (int space = 0; space < BOARD_SIZE; space++) {
+                games.append(",owner_").append(space);
+            }
+            StringBuilder turns = new StringBuilder("seed,turn");
+            for (int seat = 0; seat < NUM_SEATS; seat++) {
+                for (String column : new String[]{"wallet", "position", "properties", "houses", "hotels", "rent_paid",
+                        "rent_received"}) {
+                    turns.append(',').append(column).append('_').append(seat);
+                }
+            }
+            write(GAMES, ByteBuffer.wrap(games.append('\n').toString().getBytes(StandardCharsets.UTF_8)));
+            write(TURNS, ByteBuffer.wrap(turns.append('\n').toString().getBytes(StandardCharsets.UTF_8)));
+        } else {
+            for (int kind = 0; kind < 2; kind++) {
+                ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + 2 * Short.BYTES + Integer.BYTES);
+                header.putInt(MAGIC).putShort(VERSION).put((byte) kind).put((byte) NUM_SEATS).putInt(BOARD_SIZE);
+                header.flip();
+                write(kind == 0 ? GAMES : TURNS, header);
+            }
+        }
+    }
+
+    /**
+     * Writes all of a buffer to a channel
+     *
+     * @param channel the channel
+     * @param buffer  the buffer
+     * @throws IOException when the buffer can't be written
+     */
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Makes a Writer for a simulation worker
+     *
+     * @return the Writer
+     * @throws IllegalStateException when MAX_WRITERS Writers have already been made
+     */
+    public Writer newWriter() {
+        if (NUM_WRITERS.incrementAndGet() <= MAX_WRITERS) {
+            return new Writer();
+        } else {
+            NUM_WRITERS.decrementAndGet();
+            throw new IllegalStateException("Too many Writers were made");
+        }
+    }
+
+    /**
+     * Hands a chunk to the writing thread
+     *
+     * @param chunk the chunk
+     * @throws IllegalStateException when the files can't be written
+     */
+    private void submit(Chunk chunk) {
+        if (failure != null) {
+            throw new IllegalStateException("The results couldn't be exported", failure);
+        }
+        FULL.add(chunk); //This never waits, as FULL can hold every chunk
+    }
+
+    /**
+     * Writes full chunks until it's told to stop, then hands each one back to be filled again. After a failure the
+     * chunks are still handed back, so the workers never wait forever
+     */
+    private void drain() {
+        try {
+            Chunk chunk;
+            while ((chunk = FULL.take()) != END) {
+                if (failure == null) {
+                    try {
+                        chunk.BUFFER.flip();
+                        write(chunk.channel, chunk.BUFFER);
+                    } catch (IOException e) {
+                        failure = e;
+                    }
+                }
+                chunk.BUFFER.clear();
+                FREE.add(chunk);
+            }
+        } catch (InterruptedException e) {
+            failure = new InterruptedIOException("Exporting was interrupted");
+        }
+    }
+
+    /**
+     * Writes everything that's been handed over and closes the files. Every Writer should be finished first
+     *
+     * @throws IOException when the files couldn't be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (GAMES.isOpen()) {
+            try {
+                FULL.add(END);
+                WRITER_THREAD.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Closing was interrupted");
+            } finally {
+                GAMES.close();
+                TURNS.close();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
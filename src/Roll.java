@@ -0,0 +1,100 @@
+/**
+ * Represents a roll of a Game's Dice. A Game keeps its Rolls and rolls them again every turn instead of making new
+ * ones, and the total and whether the roll was doubles are worked out once when the Dice are rolled
+ *
+ * @author irswr
+ */
+public class Roll {
+    //Roll constants
+    private final Dice[] DICE; //Stores the Dice that are rolled. This shouldn't be null or contain any null Dice
+    private final int[] VALUES; //Stores the value of each Dice from the last roll
+
+    //Roll fields
+    private int total; //Stores the sum of VALUES
+    private boolean isDoubles; //Stores whether or not every value in VALUES is the same
+
+    /**
+     * Constructor for Roll. The Roll has no values until it is first rolled
+     *
+     * @param dice the Dice that should be rolled. This shouldn't be null, empty or contain any null Dice
+     * @throws IllegalArgumentException when a null or empty Dice Array is passed
+     */
+    public Roll(Dice[] dice) {
+        if (dice != null && dice.length > 0) {
+            for (Dice die : dice) { //Validates that there are no null Dice
+                if (die == null) {
+                    throw new IllegalArgumentException("A null Dice was passed");
+                }
+            }
+
+            DICE = dice;
+            VALUES = new int[dice.length];
+            total = 0;
+            isDoubles = false;
+        } else {
+            throw new IllegalArgumentException("A null or empty Dice Array was passed");
+        }
+    }
+
+    /**
+     * Rolls every Dice, replacing the last roll's values
+     *
+     * @return the total of the new roll
+     */
+    public int roll() {
+        total = 0;
+        isDoubles = true;
+        for (int i = 0; i < DICE.length; i++) {
+            VALUES[i] = DICE[i].getRoll();
+            total += VALUES[i];
+            isDoubles &= VALUES[i] == VALUES[0];
+        }
+        return total;
+    }
+
+    /**
+     * Gets the Dice that are rolled. This is shared and shouldn't be modified
+     *
+     * @return the Dice
+     */
+    public Dice[] getDICE() {
+        return DICE;
+    }
+
+    /**
+     * Gets the number of Dice that are rolled
+     *
+     * @return the number of Dice
+     */
+    public int getNumDice() {
+        return VALUES.length;
+    }
+
+    /**
+     * Gets the value of one of the Dice from the last roll
+     *
+     * @param index the index of the Dice. This should be between 0 and getNumDice() - 1
+     * @return the value of that Dice
+     */
+    public int getValue(int index) {
+        return VALUES[index];
+    }
+
+    /**
+     * Gets the total value of the last roll
+     *
+     * @return the total
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Gets whether or not every Dice rolled the same value last roll
+     *
+     * @return whether or not the last roll was doubles
+     */
+    public boolean isDoubles() {
+        return isDoubles;
+    }
+}
@@ -0,0 +1,319 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Runs the rollouts for a decision on a work-stealing pool and picks the best choice. Each decision has a wall-clock
+ * deadline, and whatever is known when it passes is the answer, so a slow decision never holds up a Game for longer
+ * than its budget. How long every decision took is kept per PromptType, so percentiles can be read back
+ *
+ * @author irswr
+ */
+public class RolloutScheduler {
+    //RolloutScheduler constants
+    private static final double EXPLORATION = .25; //Scales how much the search favors choices that have been tried less
+    private static final int SUB_BUCKETS = 4; //The number of latency buckets each power of two is split into. Higher is more precise
+    private static final int NUM_BUCKETS = 64 * SUB_BUCKETS; //The number of latency buckets, which is enough for any long
+    private final ForkJoinPool POOL; //Runs the rollouts
+    private final int PARALLELISM; //The number of rollouts that are played at once for a decision
+    private final AtomicLongArray[] LATENCIES; //Stores the latency histogram of each PromptType, indexed by ordinal
+
+    /**
+     * Represents one rollout of a decision
+     */
+    public interface Rollout {
+        /**
+         * Plays a rollout of a choice. This is called from several threads at once
+         *
+         * @param choice   the index of the choice
+         * @param deadline the System.nanoTime() the decision has to be made by
+         * @return the rollout's score, where higher is better, or NaN if it ran out of time before it could be scored
+         */
+        double play(int choice, long deadline);
+    }
+
+    /**
+     * Constructor for RolloutScheduler
+     *
+     * @param parallelism the number of rollouts that can be played at once. This should be greater than 0
+     * @throws IllegalArgumentException when an invalid parallelism is passed
+     */
+    public RolloutScheduler(int parallelism) {
+        if (parallelism > 0) {
+            POOL = new ForkJoinPool(parallelism);
+            PARALLELISM = parallelism;
+            LATENCIES = new AtomicLongArray[PromptType.values().length];
+            for (int i = 0; i < LATENCIES.length; i++) {
+                LATENCIES[i] = new AtomicLongArray(NUM_BUCKETS);
+            }
+        } else {
+            throw new IllegalArgumentException("An invalid parallelism was passed");
+        }
+    }
+
+    /**
+     * Constructor for a RolloutScheduler that plays as many rollouts at once as there are processors
+     */
+    public RolloutScheduler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Picks the best of a set of choices. Rollouts are shared between the choices with UCB1, so the choices that are
+     * doing well are played more. Rollouts stop once maxRollouts have been started or the budget runs out, and the
+     * choice with the best average score so far is returned
+     *
+     * @param prompt      the decision's prompt, which its latency is recorded under. This shouldn't be null
+     * @param numChoices  the number of choices. This should be greater than 0
+     * @param maxRollouts the most rollouts that should be played. This should be greater than 0
+     * @param budgetNanos the most time the decision can take. This should be greater than 0
+     * @param rollout     plays a rollout of a choice. This shouldn't be null
+     * @return the index of the best choice. Ties, and choices that were never scored, go to the lowest index
+     * @throws IllegalArgumentException when a null or invalid parameter is passed
+     * @throws IllegalStateException    when a rollout fails, once every other rollout has stopped
+     */
+    public int search(PromptType prompt, int numChoices, int maxRollouts, long budgetNanos, Rollout rollout) {
+        if (prompt != null && numChoices > 0 && maxRollouts > 0 && budgetNanos > 0 && rollout != null) {
+            long start = System.nanoTime();
+            try {
+                if (numChoices == 1) {
+                    return 0;
+                }
+                long deadline = start + budgetNanos;
+                int[] counts = new int[numChoices]; //Stores the number of rollouts started for each choice
+                double[] totals = new double[numChoices]; //Stores the sum of each choice's rollout scores
+                int[] finished = new int[numChoices]; //Stores the number of scored rollouts for each choice
+                boolean[] failed = {false}; //Stores whether a rollout has failed, which stops every worker
+
+                List<ForkJoinTask<?>> workers = new ArrayList<>();
+                for (int i = 0; i < Math.min(PARALLELISM, maxRollouts); i++) {
+                    workers.add(POOL.submit(() -> {
+                        while (System.nanoTime() < deadline) {
+                            int choice;
+                            synchronized (counts) {
+                                int started = 0;
+                                for (int count : counts) {
+                                    started += count;
+                                }
+                                if (failed[0] || started >= maxRollouts) {
+                                    break;
+                                }
+                                choice = selectChoice(counts, totals, started);
+                                counts[choice]++;
+                            }
+                            double score;
+                            try {
+                                score = rollout.play(choice, deadline);
+                            } catch (RuntimeException | Error e) {
+                                synchronized (counts) {
+                                    failed[0] = true;
+                                }
+                                throw e;
+                            }
+                            synchronized (counts) {
+                                if (!Double.isNaN(score)) {
+                                    totals[choice] += score;
+                                    finished[choice]++;
+                                } else { //A rollout that ran out of time doesn't count for or against its choice
+                                    counts[choice]--;
+                                }
+                            }
+                        }
+                    }));
+                }
+                for (ForkJoinTask<?> worker : workers) { //Every worker is waited for, so none is still playing once this returns
+                    worker.quietlyJoin();
+                }
+                for (ForkJoinTask<?> worker : workers) {
+                    if (worker.getException() != null) {
+                        throw new IllegalStateException("A rollout failed", worker.getException());
+                    }
+                }
+
+                int best = 0;
+                synchronized (counts) {
+                    for (int i = 1; i < numChoices; i++) {
+                        if (finished[i] > 0 && (finished[best] == 0 ||
+                                totals[i] / finished[i] > totals[best] / finished[best])) {
+                            best = i;
+                        }
+                    }
+                }
+                return best;
+            } finally { //A failed decision still took this long
+                recordLatency(prompt, System.nanoTime() - start);
+            }
+        } else {
+            throw new IllegalArgumentException("A null or invalid parameter was passed");
+        }
+    }
+
+    /**
+     * Picks which choice the next rollout should play with UCB1. Every choice is played once before any is played
+     * twice, and rollouts that have started but haven't been scored count as losses, so workers spread out
+     *
+     * @param counts  the number of rollouts started for each choice
+     * @param totals  the sum of each choice's rollout scores
+     * @param started the number of rollouts started in total
+     * @return the index of the choice
+     */
+    private static int selectChoice(int[] counts, double[] totals, int started) {
+        int best = 0;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                return i;
+            }
+            double value = totals[i] / counts[i] + EXPLORATION * Math.sqrt(Math.log(started) / counts[i]);
+            if (value > bestValue) {
+                best = i;
+                bestValue = value;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Records how long a decision took. This doesn't allocate and can be called from any thread
+     *
+     * @param prompt the decision's prompt. This shouldn't be null
+     * @param nanos  how long the decision took
+     * @throws IllegalArgumentException when a null prompt is passed
+     */
+    public void recordLatency(PromptType prompt, long nanos) {
+        if (prompt != null) {
+            LATENCIES[prompt.ordinal()].incrementAndGet(bucketOf(Math.max(nanos, 0)));
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Finds the histogram bucket a latency falls in. Each power of two is split into SUB_BUCKETS even buckets, so a
+     * bucket's bounds are never more than 25% apart
+     *
+     * @param nanos the latency. This shouldn't be negative
+     * @return the index of the bucket
+     */
+    private static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int power = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (power - 2)) & (SUB_BUCKETS - 1);
+        return power * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Finds the largest latency that falls in a histogram bucket
+     *
+     * @param bucket the index of the bucket
+     * @return the bucket's upper bound in nanoseconds
+     */
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int power = bucket / SUB_BUCKETS;
+        long sub = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + sub + 1) << (power - 2)) - 1;
+    }
+
+    /**
+     * Gets the number of decisions that have been recorded for a PromptType
+     *
+     * @param prompt the PromptType. This shouldn't be null
+     * @return the number of decisions
+     */
+    public long getNumDecisions(PromptType prompt) {
+        AtomicLongArray histogram = LATENCIES[prompt.ordinal()];
+        long total = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            total += histogram.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Gets a latency percentile for a PromptType. This is the upper bound of the bucket the percentile falls in, so it
+     * can be up to 25% over the real value
+     *
+     * @param prompt     the PromptType. This shouldn't be null
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in nanoseconds, or 0 if no decisions have been recorded
+     * @throws IllegalArgumentException when a null prompt or invalid percentile is passed
+     */
+    public long getLatencyPercentile(PromptType prompt, double percentile) {
+        if (prompt != null && percentile >= 0 && percentile <= 100) {
+            AtomicLongArray histogram = LATENCIES[prompt.ordinal()];
+            long total = getNumDecisions(prompt);
+            if (total == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+            long seen = 0;
+            for (int i = 0; i < NUM_BUCKETS; i++) {
+                seen += histogram.get(i);
+                if (seen >= rank) {
+                    return upperBoundOf(i);
+                }
+            }
+            return Long.MAX_VALUE;
+        } else {
+            throw new IllegalArgumentException("A null prompt or invalid percentile was passed");
+        }
+    }
+
+    /**
+     * Makes a report of the median, 90th, 99th percentile and worst latency of every PromptType that has had a
+     * decision recorded
+     *
+     * @return the report, one line per PromptType
+     */
+    public String getLatencyReport() {
+        StringBuilder report = new StringBuilder();
+        for (PromptType prompt : PromptType.values()) {
+            long decisions = getNumDecisions(prompt);
+            if (decisions > 0) {
+                report.append(String.format("%-24s %8d decisions  p50 %8.2fms  p90 %8.2fms  p99 %8.2fms  max %8.2fms%n",
+                        prompt, decisions, toMillis(getLatencyPercentile(prompt, 50)),
+                        toMillis(getLatencyPercentile(prompt, 90)), toMillis(getLatencyPercentile(prompt, 99)),
+                        toMillis(getLatencyPercentile(prompt, 100))));
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Converts nanoseconds to fractional milliseconds
+     *
+     * @param nanos the nanoseconds
+     * @return the milliseconds
+     */
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Clears every recorded latency
+     */
+    public void resetLatencies() {
+        for (AtomicLongArray histogram : LATENCIES) {
+            for (int i = 0; i < NUM_BUCKETS; i++) {
+                histogram.set(i, 0);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of rollouts that are played at once for a decision
+     *
+     * @return the parallelism
+     */
+    public int getPARALLELISM() {
+        return PARALLELISM;
+    }
+}
@@ -0,0 +1,382 @@
+import java.awt.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Saves a Game to a file and loads it back. A save is a small versioned binary file: a header with the board's
+ * fingerprint and sizes, the roster of Players, the Game's GameState, and a CRC32 of everything before it. The
+ * GameState and the buffer it's encoded in are made once per Game, so saving is a snapshot, a copy into a direct
+ * buffer and one channel write, and can be done after every turn. Saves are written to a temporary file that's then
+ * moved over the old save, so a save that's cut short never replaces a good one
+ *
+ * @author irswr
+ */
+public class SaveFile {
+    //SaveFile constants
+    private static final int MAGIC = 0x4D4F4E4F; //The first four bytes of every save, which are "MONO"
+    private static final short VERSION = 1; //The version of the format saves are written in. Raise this when the format changes
+    private static final int HEADER_BYTES = Integer.BYTES + 2 * Short.BYTES + Long.BYTES + Integer.BYTES + Short.BYTES; //The number of bytes in the header before the Deck sizes
+    private final Game GAME; //Stores the Game that's saved and loaded
+    private final GameState STATE; //Stores the GameState that the Game is snapshot into and restored from
+    private final long FINGERPRINT; //Stores a hash of the Game's board and Decks, so a save can't be loaded into a different board
+    private final int[] DECK_SIZES; //Stores the number of Cards in each of the Game's Decks
+    private final byte[][] NAMES; //Stores the UTF-8 name of each seat's Player
+    private final byte[][] TYPES; //Stores the UTF-8 type of each seat's Player, as used by GameCreator
+    private final int[] COLORS; //Stores the RGB of each seat's Player's Color
+    private final CRC32 CHECKSUM; //Stores the checksum that's reused for every save and load
+
+    //SaveFile fields
+    private ByteBuffer buffer; //Stores the buffer saves are encoded in. This only grows if a larger save is loaded
+
+    /**
+     * The Players a save was made with, which is enough to set up a default Game to load it into
+     */
+    public static class Roster {
+        //Roster constants
+        private final String[] NAMES; //Stores the name of each seat's Player
+        private final String[] TYPES; //Stores the type of each seat's Player
+        private final Color[] COLORS; //Stores the Color of each seat's Player
+
+        /**
+         * Constructor for Roster
+         *
+         * @param names  the name of each seat's Player
+         * @param types  the type of each seat's Player
+         * @param colors the Color of each seat's Player
+         */
+        private Roster(String[] names, String[] types, Color[] colors) {
+            NAMES = names;
+            TYPES = types;
+            COLORS = colors;
+        }
+
+        /**
+         * Gets the name of each seat's Player
+         *
+         * @return the names
+         */
+        public String[] getNAMES() {
+            return NAMES.clone();
+        }
+
+        /**
+         * Gets the type of each seat's Player
+         *
+         * @return the types
+         */
+        public String[] getTYPES() {
+            return TYPES.clone();
+        }
+
+        /**
+         * Gets the Color of each seat's Player
+         *
+         * @return the Colors
+         */
+        public Color[] getCOLORS() {
+            return COLORS.clone();
+        }
+    }
+
+    /**
+     * Constructor for SaveFile
+     *
+     * @param game the Game that should be saved and loaded. This shouldn't be null
+     * @throws IllegalArgumentException when a null Game is passed
+     */
+    public SaveFile(Game game) {
+        if (game != null) {
+            GAME = game;
+            STATE = game.newState();
+            Deck[] decks = game.getDECKS();
+            DECK_SIZES = new int[decks.length];
+            for (int d = 0; d < decks.length; d++) {
+                DECK_SIZES[d] = decks[d].getNumCards();
+            }
+            FINGERPRINT = fingerprint(game.getGAME_BOARD(), decks);
+
+            Player[] seats = game.getSEATS();
+            NAMES = new byte[seats.length][];
+            TYPES = new byte[seats.length][];
+            COLORS = new int[seats.length];
+            for (int seat = 0; seat < seats.length; seat++) {
+                NAMES[seat] = seats[seat].toString().getBytes(StandardCharsets.UTF_8);
+                TYPES[seat] = typeOf(seats[seat]).getBytes(StandardCharsets.UTF_8);
+                COLORS[seat] = seats[seat].getCOLOR().getRGB();
+            }
+            CHECKSUM = new CRC32();
+            buffer = ByteBuffer.allocateDirect(getNumBytes());
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Finds the type GameCreator would have been given to make a Player
+     *
+     * @param player the Player
+     * @return the Player's type
+     */
+    private static String typeOf(Player player) {
+        if (player instanceof MonteCarloPlayer) {
+            return "Monte Carlo Player";
+        } else if (player instanceof AIPlayer) {
+            return "AI Player";
+        } else {
+            return "Human Player";
+        }
+    }
+
+    /**
+     * Hashes the parts of a board and its Decks that never change during a Game, so files written from one Game can
+     * be checked against the Game they're read into
+     *
+     * @param gameBoard the board
+     * @param decks     the Decks
+     * @return the hash
+     */
+    public static long fingerprint(Space[] gameBoard, Deck[] decks) {
+        long hash = 1125899906842597L;
+        for (Space space : gameBoard) {
+            hash = 31 * hash + space.toString().hashCode();
+            Property property = space.getPROPERTY();
+            if (property != null) {
+                hash = 31 * hash + property.getPRICE();
+                hash = 31 * hash + property.getMAX_HOUSES();
+                for (int rent : property.getRENTS()) {
+                    hash = 31 * hash + rent;
+                }
+            }
+        }
+        for (Deck deck : decks) {
+            for (int i = 0; i < deck.getNumCards(); i++) {
+                hash = 31 * hash + deck.getDefaultCard(i).getDESCRIPTION().hashCode();
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Gets the number of bytes in this Game's saves
+     *
+     * @return the number of bytes
+     */
+    public int getNumBytes() {
+        int numBytes = HEADER_BYTES + Short.BYTES * DECK_SIZES.length;
+        for (int seat = 0; seat < NAMES.length; seat++) {
+            numBytes += 2 * Short.BYTES + NAMES[seat].length + TYPES[seat].length + Integer.BYTES;
+        }
+        return numBytes + STATE.getNumBytes() + Integer.BYTES;
+    }
+
+    /**
+     * Saves the Game. Apart from opening and moving the file, nothing is allocated
+     *
+     * @param path the file the Game should be saved to. Its directory is made if it doesn't exist. This shouldn't be
+     *             null
+     * @throws IOException              when the save can't be written
+     * @throws IllegalArgumentException when a null path is passed
+     */
+    public void save(Path path) throws IOException {
+        if (path != null) {
+            GAME.snapshot(STATE);
+            buffer.clear();
+            buffer.putInt(MAGIC).putShort(VERSION).putShort((short) NAMES.length).putLong(FINGERPRINT);
+            buffer.putInt(STATE.getBOARD_SIZE()).putShort((short) DECK_SIZES.length);
+            for (int deckSize : DECK_SIZES) {
+                buffer.putShort((short) deckSize);
+            }
+            for (int seat = 0; seat < NAMES.length; seat++) {
+                buffer.putShort((short) NAMES[seat].length).put(NAMES[seat]);
+                buffer.putShort((short) TYPES[seat].length).put(TYPES[seat]);
+                buffer.putInt(COLORS[seat]);
+            }
+            STATE.put(buffer);
+            buffer.flip();
+            CHECKSUM.reset();
+            CHECKSUM.update(buffer);
+            buffer.limit(buffer.limit() + Integer.BYTES);
+            buffer.putInt((int) CHECKSUM.getValue());
+            buffer.flip();
+
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Loads a save into the Game. The save has to have been made from a Game with the same board, Decks and number
+     * of Players, but the Players themselves can be different. The Game is left as it was if the save can't be loaded
+     *
+     * @param path the save. This shouldn't be null
+     * @throws IOException              when the save can't be read, is damaged, or was made from a different board
+     * @throws IllegalArgumentException when a null path is passed
+     */
+    public void load(Path path) throws IOException {
+        if (path != null) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException("The save is too large");
+                }
+                if (size > buffer.capacity()) {
+                    buffer = ByteBuffer.allocateDirect((int) size);
+                }
+                buffer.clear().limit((int) size);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) {
+                        throw new IOException("The save ended early");
+                    }
+                }
+            }
+            buffer.flip();
+            checkHeader(buffer, CHECKSUM);
+            try {
+                if (buffer.getShort() != NAMES.length || buffer.getLong() != FINGERPRINT ||
+                        buffer.getInt() != STATE.getBOARD_SIZE() || buffer.getShort() != DECK_SIZES.length) {
+                    throw new IOException("The save was made from a different board");
+                }
+                for (int deckSize : DECK_SIZES) {
+                    if (buffer.getShort() != deckSize) {
+                        throw new IOException("The save was made from a different board");
+                    }
+                }
+                for (int seat = 0; seat < NAMES.length; seat++) { //The roster is only needed to set a Game up, so it's skipped
+                    skip(buffer, buffer.getShort() & 0xFFFF);
+                    skip(buffer, (buffer.getShort() & 0xFFFF) + Integer.BYTES);
+                }
+                STATE.get(buffer);
+                if (!STATE.fits(GAME.getGAME_BOARD())) {
+                    throw new IOException("The save is damaged");
+                }
+            } catch (RuntimeException e) {
+                throw new IOException("The save is damaged", e);
+            }
+            GAME.restore(STATE);
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Reads which Players a save was made with, without loading it
+     *
+     * @param path the save. This shouldn't be null
+     * @return the save's Players
+     * @throws IOException              when the save can't be read or is damaged
+     * @throws IllegalArgumentException when a null path is passed
+     */
+    public static Roster readRoster(Path path) throws IOException {
+        if (path != null) {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            checkHeader(buffer, new CRC32());
+            try {
+                int numSeats = buffer.getShort();
+                skip(buffer, Long.BYTES + Integer.BYTES);
+                int numDecks = buffer.getShort();
+                if (numSeats <= 0 || numDecks < 0) {
+                    throw new IOException("The save is damaged");
+                }
+                skip(buffer, Short.BYTES * numDecks);
+                if (numSeats > buffer.remaining() / (2 * Short.BYTES + Integer.BYTES)) {
+                    throw new IOException("The save ended early");
+                }
+                String[] names = new String[numSeats];
+                String[] types = new String[numSeats];
+                Color[] colors = new Color[numSeats];
+                for (int seat = 0; seat < numSeats; seat++) {
+                    names[seat] = readString(buffer);
+                    types[seat] = readString(buffer);
+                    colors[seat] = new Color(buffer.getInt());
+                }
+                return new Roster(names, types, colors);
+            } catch (RuntimeException e) {
+                throw new IOException("The save is damaged", e);
+            }
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Checks a save's checksum, magic number and version. The checksum is left out of the buffer's limit, and the
+     * buffer is left just after the version
+     *
+     * @param buffer   the whole save, from its start to its limit
+     * @param checksum the checksum to check with
+     * @throws IOException when the save is damaged, isn't a save, or is from a newer version
+     */
+    private static void checkHeader(ByteBuffer buffer, CRC32 checksum) throws IOException {
+        if (buffer.remaining() < HEADER_BYTES + Integer.BYTES) {
+            throw new IOException("The file isn't a save");
+        }
+        int end = buffer.limit() - Integer.BYTES;
+        int expected = buffer.getInt(end);
+        buffer.limit(end);
+        checksum.reset();
+        checksum.update(buffer);
+        buffer.rewind();
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("The file isn't a save");
+        } else if ((int) checksum.getValue() != expected) {
+            throw new IOException("The save is damaged");
+        } else if (buffer.getShort() > VERSION) {
+            throw new IOException("The save is from a newer version");
+        }
+    }
+
+    /**
+     * Moves a buffer forward, checking the save is long enough first
+     *
+     * @param buffer   the buffer to move
+     * @param numBytes the number of bytes to skip
+     * @throws IOException when the save ends before them
+     */
+    private static void skip(ByteBuffer buffer, int numBytes) throws IOException {
+        if (numBytes > buffer.remaining()) {
+            throw new IOException("The save ended early");
+        }
+        buffer.position(buffer.position() + numBytes);
+    }
+
+    /**
+     * Reads a UTF-8 String with a two byte length in front of it
+     *
+     * @param buffer the buffer to read from
+     * @return the String
+     * @throws IOException when the save ends before the String does
+     */
+    private static String readString(ByteBuffer buffer) throws IOException {
+        int length = buffer.getShort() & 0xFFFF;
+        if (length > buffer.remaining()) {
+            throw new IOException("The save ended early");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
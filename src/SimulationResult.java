@@ -0,0 +1,216 @@
+/**
+ * Aggregates the GameResults of many simulated Games. Each worker in a SimulationRunner keeps its own
+ * SimulationResult, and they are merged together once every Game is done, so this doesn't need to be thread safe
+ *
+ * @author irswr
+ */
+public class SimulationResult {
+    //SimulationResult constants
+    private final int NUM_PLAYERS; //Stores the number of seats in each Game
+    private final int BOARD_SIZE; //Stores the number of Spaces on each Game's board
+    private final int[] WINS; //Stores the number of Games won by each seat
+    private final int[] BANKRUPTCIES; //Stores the number of times each seat went bankrupt
+    private final int[] FIRST_BANKRUPTCIES; //Stores the number of times each seat was the first to go bankrupt
+    private final int[][] OWNERSHIP; //Stores the number of Games where each seat owned each Space at the end. This is [seat][space]
+
+    //SimulationResult fields
+    private int numGames; //Stores the number of Games added
+    private int numFinished; //Stores the number of Games that finished before the turn limit
+    private long totalTurns; //Stores the number of turns played over all of the Games
+    private int minTurns; //Stores the fewest turns a finished Game took
+    private int maxTurns; //Stores the most turns a finished Game took
+
+    /**
+     * Constructor for SimulationResult
+     *
+     * @param numPlayers the number of seats in each Game. This should be greater than 0
+     * @param boardSize  the number of Spaces on each Game's board. This should be greater than 0
+     * @throws IllegalArgumentException when an invalid parameter is passed
+     */
+    public SimulationResult(int numPlayers, int boardSize) {
+        if (numPlayers > 0 && boardSize > 0) {
+            NUM_PLAYERS = numPlayers;
+            BOARD_SIZE = boardSize;
+            WINS = new int[numPlayers];
+            BANKRUPTCIES = new int[numPlayers];
+            FIRST_BANKRUPTCIES = new int[numPlayers];
+            OWNERSHIP = new int[numPlayers][boardSize];
+            numGames = 0;
+            numFinished = 0;
+            totalTurns = 0;
+            minTurns = Integer.MAX_VALUE;
+            maxTurns = 0;
+        } else {
+            throw new IllegalArgumentException("An invalid parameter was passed");
+        }
+    }
+
+    /**
+     * Adds a single Game's result
+     *
+     * @param result the result that should be added. This should have the same board size as this
+     * @throws IllegalArgumentException when a null or mismatched result is passed
+     */
+    public void add(GameResult result) {
+        if (result != null && result.getOWNERS().length == BOARD_SIZE && result.getWINNER() < NUM_PLAYERS) {
+            numGames++;
+            totalTurns += result.getNUM_TURNS();
+            if (result.isFinished()) {
+                numFinished++;
+                WINS[result.getWINNER()]++;
+                minTurns = Math.min(minTurns, result.getNUM_TURNS());
+                maxTurns = Math.max(maxTurns, result.getNUM_TURNS());
+            }
+
+            int[] bankruptcies = result.getBANKRUPTCIES();
+            for (int seat : bankruptcies) {
+                BANKRUPTCIES[seat]++;
+            }
+            if (bankruptcies.length > 0) {
+                FIRST_BANKRUPTCIES[bankruptcies[0]]++;
+            }
+
+            int[] owners = result.getOWNERS();
+            for (int i = 0; i < owners.length; i++) {
+                if (owners[i] != -1) {
+                    OWNERSHIP[owners[i]][i]++;
+                }
+            }
+        } else {
+            throw new IllegalArgumentException("An invalid GameResult was passed");
+        }
+    }
+
+    /**
+     * Adds all of another SimulationResult's Games to this one
+     *
+     * @param other the SimulationResult that should be merged in. This should have the same dimensions as this
+     * @throws IllegalArgumentException when a null or mismatched SimulationResult is passed
+     */
+    public void merge(SimulationResult other) {
+        if (other != null && other.NUM_PLAYERS == NUM_PLAYERS && other.BOARD_SIZE == BOARD_SIZE) {
+            numGames += other.numGames;
+            numFinished += other.numFinished;
+            totalTurns += other.totalTurns;
+            minTurns = Math.min(minTurns, other.minTurns);
+            maxTurns = Math.max(maxTurns, other.maxTurns);
+            for (int seat = 0; seat < NUM_PLAYERS; seat++) {
+                WINS[seat] += other.WINS[seat];
+                BANKRUPTCIES[seat] += other.BANKRUPTCIES[seat];
+                FIRST_BANKRUPTCIES[seat] += other.FIRST_BANKRUPTCIES[seat];
+                for (int i = 0; i < BOARD_SIZE; i++) {
+                    OWNERSHIP[seat][i] += other.OWNERSHIP[seat][i];
+                }
+            }
+        } else {
+            throw new IllegalArgumentException("An invalid SimulationResult was passed");
+        }
+    }
+
+    /**
+     * Gets the number of Games added
+     *
+     * @return the number of Games
+     */
+    public int getNumGames() {
+        return numGames;
+    }
+
+    /**
+     * Gets the number of Games that finished before the turn limit
+     *
+     * @return the number of finished Games
+     */
+    public int getNumFinished() {
+        return numFinished;
+    }
+
+    /**
+     * Gets the number of turns played over all of the Games
+     *
+     * @return the total number of turns
+     */
+    public long getTotalTurns() {
+        return totalTurns;
+    }
+
+    /**
+     * Gets the average number of turns per Game, including the Games that hit the turn limit
+     *
+     * @return the average number of turns, or 0 if there are no Games
+     */
+    public double getAverageTurns() {
+        return numGames > 0 ? (double) totalTurns / numGames : 0;
+    }
+
+    /**
+     * Gets the fewest turns a finished Game took
+     *
+     * @return the fewest turns, or 0 if no Games finished
+     */
+    public int getMinTurns() {
+        return numFinished > 0 ? minTurns : 0;
+    }
+
+    /**
+     * Gets the most turns a finished Game took
+     *
+     * @return the most turns
+     */
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * Gets the number of Games won by each seat
+     *
+     * @return the wins, indexed by seat
+     */
+    public int[] getWINS() {
+        return WINS;
+    }
+
+    /**
+     * Gets the number of times each seat went bankrupt
+     *
+     * @return the bankruptcies, indexed by seat
+     */
+    public int[] getBANKRUPTCIES() {
+        return BANKRUPTCIES;
+    }
+
+    /**
+     * Gets the number of times each seat was the first to go bankrupt
+     *
+     * @return the first bankruptcies, indexed by seat
+     */
+    public int[] getFIRST_BANKRUPTCIES() {
+        return FIRST_BANKRUPTCIES;
+    }
+
+    /**
+     * Gets the number of Games where each seat owned each Space at the end
+     *
+     * @return the ownership counts, indexed by [seat][space]
+     */
+    public int[][] getOWNERSHIP() {
+        return OWNERSHIP;
+    }
+
+    /**
+     * Gets a short summary of the results
+     *
+     * @return the summary
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append(numGames).append(" games, ").append(numFinished).append(" finished, ")
+                .append(String.format("%.1f", getAverageTurns())).append(" average turns");
+        for (int seat = 0; seat < NUM_PLAYERS; seat++) {
+            result.append("\nSeat ").append(seat).append(": ").append(WINS[seat]).append(" wins, ")
+                    .append(BANKRUPTCIES[seat]).append(" bankruptcies");
+        }
+        return result.toString();
+    }
+}
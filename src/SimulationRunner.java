@@ -0,0 +1,334 @@
+import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+
+/**
+ * Plays many AI only Games in parallel and aggregates their results. Every Game is made by the factory on the worker
+ * that plays it, and every worker keeps its own SimulationResult until the end, so Games never share any mutable state.
+ * Each Game's seed comes from the simulation's seed, so a simulation, or any one of its Games, can be played again
+ *
+ * @author irswr
+ */
+public class SimulationRunner {
+    //SimulationRunner constants
+    private final LongFunction<Game> GAME_FACTORY; //Makes each Game from its seed. Every call should return a new Game with its own HeadlessGameView
+    private final int NUM_GAMES; //Stores the number of Games that should be played
+    private final int MAX_TURNS; //Stores the number of turns a Game can last before it is stopped without a winner
+    private final int NUM_THREADS; //Stores the number of worker threads
+    private final long SEED; //Stores the seed that every Game's seed is drawn from
+    private final Path LOG_DIRECTORY; //Stores the directory each Game's event log is written to, named after its seed. This is null for no logs
+
+    /**
+     * Constructor for SimulationRunner
+     *
+     * @param gameFactory makes each Game from its seed. Every call should return a new, AI only Game with its own
+     *                    HeadlessGameView that uses the seed it is given. This shouldn't be null
+     * @param numGames    the number of Games that should be played. This should be greater than 0
+     * @param maxTurns    the number of turns a Game can last before it is stopped. This should be greater than 0
+     * @param numThreads  the number of worker threads. This should be greater than 0
+     * @param seed        the seed that every Game's seed is drawn from
+     * @throws IllegalArgumentException when a null or invalid parameter is passed
+     */
+    public SimulationRunner(LongFunction<Game> gameFactory, int numGames, int maxTurns, int numThreads, long seed) {
+        this(gameFactory, numGames, maxTurns, numThreads, seed, null);
+    }
+
+    /**
+     * Constructor for a SimulationRunner that writes an event log of every Game, so any Game can be looked into or
+     * rebuilt at any turn with EventLog afterwards
+     *
+     * @param gameFactory  makes each Game from its seed. Every call should return a new, AI only Game with its own
+     *                     HeadlessGameView that uses the seed it is given. This shouldn't be null
+     * @param numGames     the number of Games that should be played. This should be greater than 0
+     * @param maxTurns     the number of turns a Game can last before it is stopped. This should be greater than 0
+     * @param numThreads   the number of worker threads. This should be greater than 0
+     * @param seed         the seed that every Game's seed is drawn from
+     * @param logDirectory the directory the logs should be written to, which is made if it doesn't exist. This can be
+     *                     null for no logs
+     * @throws IllegalArgumentException when a null or invalid parameter is passed
+     */
+    public SimulationRunner(LongFunction<Game> gameFactory, int numGames, int maxTurns, int numThreads, long seed,
+                            Path logDirectory) {
+        if (gameFactory != null && numGames > 0 && maxTurns > 0 && numThreads > 0) {
+            GAME_FACTORY = gameFactory;
+            NUM_GAMES = numGames;
+            MAX_TURNS = maxTurns;
+            NUM_THREADS = numThreads;
+            SEED = seed;
+            LOG_DIRECTORY = logDirectory;
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Constructor for a SimulationRunner that plays the default board with AI Players, using every available core
+     *
+     * @param playerNames the names of the AI Players. This shouldn't be null or empty
+     * @param numGames    the number of Games that should be played. This should be greater than 0
+     * @param maxTurns    the number of turns a Game can last before it is stopped. This should be greater than 0
+     * @param seed        the seed that every Game's seed is drawn from
+     */
+    public SimulationRunner(String[] playerNames, int numGames, int maxTurns, long seed) {
+        this(defaultGameFactory(playerNames), numGames, maxTurns, Runtime.getRuntime().availableProcessors(), seed);
+    }
+
+    /**
+     * Makes a factory for seeded default Games where every Player is an AI Player
+     *
+     * @param playerNames the names of the AI Players. This shouldn't be null or empty
+     * @return the factory
+     * @throws IllegalArgumentException when a null or empty Array is passed
+     */
+    public static LongFunction<Game> defaultGameFactory(String[] playerNames) {
+        if (playerNames != null && playerNames.length > 0) {
+            String[] names = playerNames.clone();
+            String[] types = new String[names.length];
+            Arrays.fill(types, "AI Player");
+            Color[] colors = new Color[names.length];
+            for (int i = 0; i < colors.length; i++) { //The colors are only used for drawing, so they just need to be different
+                colors[i] = Color.getHSBColor((float) i / colors.length, 1, 1);
+            }
+            return seed -> GameCreator.makeGame(names, types, colors, new HeadlessGameView(), seed);
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Plays a Game until it has a winner or reaches the turn limit
+     *
+     * @param game     the Game that should be played. This shouldn't be null and should only have AI Players
+     * @param maxTurns the number of turns the Game can last. This should be greater than 0
+     * @return the Game's result
+     * @throws IllegalArgumentException when a null or invalid parameter is passed
+     */
+    public static GameResult playGame(Game game, int maxTurns) {
+        return playGame(game, maxTurns, null);
+    }
+
+    /**
+     * Plays a Game until it has a winner or reaches the turn limit, exporting a row for every turn and one for the
+     * Game as it goes
+     *
+     * @param game     the Game that should be played. This shouldn't be null and should only have AI Players
+     * @param maxTurns the number of turns the Game can last. This should be greater than 0
+     * @param writer   the Writer the rows should be added to. This can be null for no rows
+     * @return the Game's result
+     * @throws IllegalArgumentException when a null or invalid parameter is passed
+     * @throws IllegalStateException    when the rows can't be exported
+     */
+    public static GameResult playGame(Game game, int maxTurns, ResultExporter.Writer writer) {
+        if (game != null && maxTurns > 0) {
+            Player[] seats = game.getPLAYERS();
+            ArrayList<Integer> bankruptcies = new ArrayList<>();
+            int numPlayers = seats.length;
+            int numTurns = 0;
+            while (!game.isOver() && numTurns < maxTurns) {
+                game.doTurn();
+                numTurns++;
+                if (writer != null) {
+                    writer.addTurn(game, game.getSEED(), numTurns);
+                }
+                if (game.getPLAYERS().length != numPlayers) { //Someone went bankrupt this turn, so we'll find out who
+                    addBankruptcies(game, seats, bankruptcies);
+                    numPlayers = game.getPLAYERS().length;
+                }
+            }
+
+            GameResult result = getResult(game, seats, numTurns, bankruptcies);
+            if (writer != null) {
+                writer.addGame(result);
+            }
+            return result;
+        } else {
+            throw new IllegalArgumentException("A null parameter was passed");
+        }
+    }
+
+    /**
+     * Adds the seats of any Players who have left a Game since it was last checked to its bankruptcies
+     *
+     * @param game         the Game
+     * @param seats        the Players the Game started with
+     * @param bankruptcies the seats that have gone bankrupt so far, in the order they did
+     */
+    static void addBankruptcies(Game game, Player[] seats, ArrayList<Integer> bankruptcies) {
+        Player[] players = game.getPLAYERS();
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (!bankruptcies.contains(seat) && indexOf(players, seats[seat]) == -1) {
+                bankruptcies.add(seat);
+            }
+        }
+    }
+
+    /**
+     * Sums up a Game that has been played as far as it will be
+     *
+     * @param game         the Game
+     * @param seats        the Players the Game started with
+     * @param numTurns     the number of turns that were played
+     * @param bankruptcies the seats that went bankrupt, in the order they did
+     * @return the Game's result
+     */
+    static GameResult getResult(Game game, Player[] seats, int numTurns, ArrayList<Integer> bankruptcies) {
+        Space[] board = game.getGAME_BOARD();
+        int[] owners = new int[board.length];
+        for (int i = 0; i < board.length; i++) {
+            Property property = board[i].getPROPERTY();
+            owners[i] = property != null ? indexOf(seats, property.getOwner()) : -1;
+        }
+        int winner = game.isOver() ? indexOf(seats, game.getPLAYERS()[0]) : -1;
+        return new GameResult(game.getSEED(), winner, numTurns, bankruptcies.stream().mapToInt(Integer::intValue).toArray(), owners);
+    }
+
+    /**
+     * Makes and plays one of the simulation's Games, logging it if the simulation has a log directory
+     *
+     * @param seed   the Game's seed
+     * @param writer the Writer the Game's rows should be added to. This can be null for no rows
+     * @return the Game's result
+     * @throws IOException when the Game's event log can't be written
+     */
+    private GameResult playGame(long seed, ResultExporter.Writer writer) throws IOException {
+        Game game = GAME_FACTORY.apply(seed);
+        if (LOG_DIRECTORY != null) {
+            try (EventLog eventLog = new EventLog(game, LOG_DIRECTORY.resolve(seed + ".log"))) {
+                game.setEventLog(eventLog);
+                return playGame(game, MAX_TURNS, writer);
+            }
+        }
+        return playGame(game, MAX_TURNS, writer);
+    }
+
+    /**
+     * Finds a Player in an Array of Players
+     *
+     * @param players the Players that should be searched
+     * @param player  the Player that should be found. This can be null
+     * @return the index of the Player, or -1 if they aren't there
+     */
+    static int indexOf(Player[] players, Player player) {
+        for (int i = 0; i < players.length; i++) {
+            if (players[i] == player) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Plays every Game and aggregates the results
+     *
+     * @return the aggregated results
+     * @throws IllegalStateException when a Game fails or the simulation is interrupted
+     */
+    public SimulationResult run() {
+        return run(null);
+    }
+
+    /**
+     * Plays every Game and aggregates the results, streaming each Game's rows to an exporter. Workers take the next
+     * Game whenever they finish one, so long Games don't leave the other workers idle. Each Game's seed is drawn in
+     * order as it's taken, so the results don't depend on which worker plays which Game, and nothing is kept per Game
+     *
+     * @param exporter the exporter the rows should be streamed to. This should allow NUM_THREADS Writers, and can be
+     *                 null for no rows. It isn't closed
+     * @return the aggregated results
+     * @throws IllegalStateException when a Game fails or the simulation is interrupted
+     */
+    public SimulationResult run(ResultExporter exporter) {
+        SplittableRandom seeder = new SplittableRandom(SEED);
+        Game sample = GAME_FACTORY.apply(new SplittableRandom(SEED).nextLong()); //This is only used to size the results
+        int numPlayers = sample.getPLAYERS().length;
+        int boardSize = sample.getGAME_BOARD().length;
+        int[] nextGame = {0}; //Stores the index of the next Game. This is guarded by seeder
+        ExecutorService workers = Executors.newFixedThreadPool(NUM_THREADS);
+        try {
+            ArrayList<Future<SimulationResult>> futures = new ArrayList<>();
+            for (int i = 0; i < NUM_THREADS; i++) {
+                futures.add(workers.submit(() -> {
+                    SimulationResult partial = new SimulationResult(numPlayers, boardSize);
+                    ResultExporter.Writer writer = exporter != null ? exporter.newWriter() : null;
+                    try {
+                        while (true) {
+                            long seed;
+                            synchronized (seeder) {
+                                if (nextGame[0] >= NUM_GAMES) {
+                                    break;
+                                }
+                                nextGame[0]++;
+                                seed = seeder.nextLong();
+                            }
+                            partial.add(playGame(seed, writer));
+                        }
+                    } finally {
+                        if (writer != null) {
+                            writer.finish();
+                        }
+                    }
+                    return partial;
+                }));
+            }
+
+            SimulationResult result = new SimulationResult(numPlayers, boardSize);
+            for (Future<SimulationResult> future : futures) {
+                result.merge(future.get());
+            }
+            return result;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A simulated Game failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The simulation was interrupted", e);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs a simulation of the default board from the command line
+     *
+     * @param args the number of Games, the turn limit, the number of Players, the seed, a directory to write each
+     *             Game's event log to or - for none, a directory to export the results to, and csv or binary for the
+     *             export's format, all optional
+     * @throws IOException when the results can't be exported
+     */
+    public static void main(String[] args) throws IOException {
+        int numGames = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int maxTurns = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        String[] names = new String[args.length > 2 ? Integer.parseInt(args[2]) : 4];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "AI " + (i + 1);
+        }
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : new SplittableRandom().nextLong();
+        Path logDirectory = args.length > 4 && !args[4].equals("-") ? Paths.get(args[4]) : null;
+        int numThreads = Runtime.getRuntime().availableProcessors();
+        long start = System.nanoTime();
+        SimulationRunner runner = new SimulationRunner(defaultGameFactory(names), numGames, maxTurns, numThreads, seed,
+                logDirectory);
+        SimulationResult result;
+        if (args.length > 5) {
+            ResultExporter.Format format = args.length > 6 && args[6].equalsIgnoreCase("binary") ?
+                    ResultExporter.Format.BINARY : ResultExporter.Format.CSV;
+            try (ResultExporter exporter = new ResultExporter(Paths.get(args[5]), format, names.length,
+                    Defaults.getSpaceNames().length, numThreads)) {
+                result = runner.run(exporter);
+            }
+        } else {
+            result = runner.run();
+        }
+        System.out.println("Seed " + seed);
+        System.out.println(result);
+        System.out.printf("%.1f seconds%n", (System.nanoTime() - start) / 1e9);
+    }
+}
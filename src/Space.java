@@ -18,6 +18,9 @@ public class Space {
     private final int DECK_USED; //Stores the index of the Deck this Space uses. Shouldn't be less than -1, which represents no Deck
     private final Property PROPERTY; //Stores this Space's Property. This can be null
 
+    //Space fields
+    private int index; //Stores this Space's index on the board. This is -1 until it is placed on a board
+
     /**
      * Constructor for Space. Validates the conditions outlined here
      *
@@ -63,6 +66,7 @@ public class Space {
             PRICE_PER_HOTEL = perHotel;
             DECK_USED = deckUsed;
             PROPERTY = property;
+            index = -1;
         } else {
             throw new IllegalArgumentException("An invalid parameter was passed");
         }
@@ -167,5 +171,36 @@ public class Space {
     public int getDECK_USED() {
         return DECK_USED;
     }
-}
 
+    /**
+     * Gets this Space's index on the board
+     *
+     * @return this Space's index, or -1 if it hasn't been placed on a board
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Places this Space, and its Property if it has one, at an index on the board. A Space can only ever be placed at
+     * one index
+     *
+     * @param index the index of this Space on the board. This shouldn't be negative
+     * @throws IllegalArgumentException when a negative index is passed
+     * @throws IllegalStateException    when this Space has already been placed at a different index
+     */
+    public void setIndex(int index) {
+        if (index >= 0) {
+            if (this.index == -1 || this.index == index) {
+                this.index = index;
+                if (PROPERTY != null) {
+                    PROPERTY.setIndex(index);
+                }
+            } else {
+                throw new IllegalStateException("This Space has already been placed on a board");
+            }
+        } else {
+            throw new IllegalArgumentException("A negative index was passed");
+        }
+    }
+}